@@ -14,7 +14,9 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
@@ -27,9 +29,13 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 /**
  * AOP aspect that intercepts methods annotated with @Auditable and automatically
  * generates audit logs.
+ *
+ * <p>The aspect wraps the conflict retries of @RetryOnConflict methods, so a
+ * call is logged once however many attempts it takes.</p>
  */
 @Aspect
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
 @RequiredArgsConstructor
 @Slf4j
 public class AuditAspect {
@@ -0,0 +1,344 @@
+package com.sigrap.bulkimport;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigrap.audit.Auditable;
+import com.sigrap.customer.CustomerImportHandler;
+import com.sigrap.product.ProductImportHandler;
+import com.sigrap.supplier.SupplierImportHandler;
+import com.sigrap.supplier.SupplierProductImportHandler;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service running bulk imports of products, customers, suppliers and
+ * supplier price lists.
+ *
+ * <p>Input is processed as a stream: records are read, converted to the
+ * entity's {@code Data} type and validated with its bean validation
+ * constraints one at a time, then grouped into chunks of
+ * {@code app.import.batch-size} rows. For each chunk the
+ * {@link ImportHandler} resolves references with batched queries and inserts
+ * the accepted rows with a single JDBC batch in its own transaction.</p>
+ *
+ * <p>Fields that do not belong to the {@code Data} type are ignored, which
+ * lets handlers read extra lookup columns such as a category name.</p>
+ *
+ * <p>Invalid rows never stop the import; each one is reported with its row
+ * number and reason. If a batch insert fails, its rows are retried one by one
+ * so that only the offending rows are rejected.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportService {
+
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final ProductImportHandler productImportHandler;
+  private final CustomerImportHandler customerImportHandler;
+  private final SupplierImportHandler supplierImportHandler;
+  private final SupplierProductImportHandler supplierProductImportHandler;
+
+  @Value("${app.import.batch-size:1000}")
+  private int batchSize;
+
+  @Value("${app.import.max-reported-errors:1000}")
+  private int maxReportedErrors;
+
+  /**
+   * Imports products.
+   * Rows may reference their category by {@code categoryId} or
+   * {@code categoryName}.
+   *
+   * @param input The input to read, closed when the import finishes
+   * @param format The input format
+   * @return The import summary
+   */
+  @Auditable(action = "IMPORTAR", entity = "PRODUCTO")
+  public ImportResultInfo importProducts(
+    InputStream input,
+    ImportFormat format
+  ) {
+    return importRecords(input, format, productImportHandler);
+  }
+
+  /**
+   * Imports customers.
+   * Rows whose email already exists, in the database or earlier in the same
+   * chunk, are rejected.
+   *
+   * @param input The input to read, closed when the import finishes
+   * @param format The input format
+   * @return The import summary
+   */
+  @Auditable(action = "IMPORTAR", entity = "CLIENTE")
+  public ImportResultInfo importCustomers(
+    InputStream input,
+    ImportFormat format
+  ) {
+    return importRecords(input, format, customerImportHandler);
+  }
+
+  /**
+   * Imports suppliers.
+   *
+   * @param input The input to read, closed when the import finishes
+   * @param format The input format
+   * @return The import summary
+   */
+  @Auditable(action = "IMPORTAR", entity = "PROVEEDOR")
+  public ImportResultInfo importSuppliers(
+    InputStream input,
+    ImportFormat format
+  ) {
+    return importRecords(input, format, supplierImportHandler);
+  }
+
+  /**
+   * Imports supplier price list lines.
+   * Rows for a supplier and product that already have a line replace its
+   * terms.
+   *
+   * @param input The input to read, closed when the import finishes
+   * @param format The input format
+   * @return The import summary
+   */
+  @Auditable(action = "IMPORTAR", entity = "LISTA_PRECIOS_PROVEEDOR")
+  public ImportResultInfo importSupplierProducts(
+    InputStream input,
+    ImportFormat format
+  ) {
+    return importRecords(input, format, supplierProductImportHandler);
+  }
+
+  /**
+   * Runs the import pipeline for a handler.
+   *
+   * @param <D> The data type records are converted to
+   * @param input The input to read, closed when the import finishes
+   * @param format The input format
+   * @param handler The entity-specific handler
+   * @return The import summary
+   * @throws IllegalArgumentException if the input is not in the given format
+   * @throws UncheckedIOException if the input cannot be read
+   */
+  <D> ImportResultInfo importRecords(
+    InputStream input,
+    ImportFormat format,
+    ImportHandler<D> handler
+  ) {
+    long start = System.nanoTime();
+    ImportReport report = new ImportReport(maxReportedErrors);
+    List<ImportRow<D>> chunk = new ArrayList<>(batchSize);
+    ObjectMapper recordMapper = objectMapper
+      .copy()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    try (
+      ImportRecordReader reader = ImportRecordReader.open(
+        input,
+        format,
+        objectMapper
+      )
+    ) {
+      while (true) {
+        Map<String, Object> values;
+        try {
+          values = reader.next();
+        } catch (ImportRecordException e) {
+          report.read();
+          report.reject(reader.recordNumber(), e.getMessage());
+          continue;
+        }
+        if (values == null) {
+          break;
+        }
+        report.read();
+
+        ImportRow<D> row = toRow(
+          recordMapper,
+          reader.recordNumber(),
+          values,
+          handler.dataType()
+        );
+        if (row.isRejected()) {
+          report.reject(row.getRowNumber(), row.getError());
+          continue;
+        }
+        chunk.add(row);
+        if (chunk.size() >= batchSize) {
+          flush(chunk, handler, report);
+          chunk.clear();
+        }
+      }
+      flush(chunk, handler, report);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read import input", e);
+    } finally {
+      if (report.imported > 0) {
+        handler.afterImport((int) report.imported);
+      }
+    }
+
+    long durationMs = (System.nanoTime() - start) / 1_000_000;
+    log.info(
+      "Imported {} of {} {} rows in {} ms",
+      report.imported,
+      report.total,
+      handler.dataType().getSimpleName(),
+      durationMs
+    );
+    return ImportResultInfo.builder()
+      .totalRows(report.total)
+      .imported(report.imported)
+      .failed(report.failed)
+      .durationMs(durationMs)
+      .errors(
+        report.errors
+          .stream()
+          .sorted(Comparator.comparingLong(ImportRowErrorInfo::getRowNumber))
+          .toList()
+      )
+      .errorsTruncated(report.failed > report.errors.size())
+      .build();
+  }
+
+  private <D> ImportRow<D> toRow(
+    ObjectMapper recordMapper,
+    long rowNumber,
+    Map<String, Object> values,
+    Class<D> dataType
+  ) {
+    D data;
+    try {
+      data = recordMapper.convertValue(values, dataType);
+    } catch (IllegalArgumentException e) {
+      ImportRow<D> row = new ImportRow<>(rowNumber, values, null);
+      row.reject(conversionMessage(e));
+      return row;
+    }
+
+    ImportRow<D> row = new ImportRow<>(rowNumber, values, data);
+    Set<ConstraintViolation<D>> violations = validator.validate(data);
+    if (!violations.isEmpty()) {
+      row.reject(
+        violations
+          .stream()
+          .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+          .map(BulkImportService::violationMessage)
+          .collect(Collectors.joining("; "))
+      );
+    }
+    return row;
+  }
+
+  private <D> void flush(
+    List<ImportRow<D>> chunk,
+    ImportHandler<D> handler,
+    ImportReport report
+  ) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    handler.resolve(chunk);
+
+    List<ImportRow<D>> accepted = new ArrayList<>(chunk.size());
+    for (ImportRow<D> row : chunk) {
+      if (row.isRejected()) {
+        report.reject(row.getRowNumber(), row.getError());
+      } else {
+        accepted.add(row);
+      }
+    }
+    if (accepted.isEmpty()) {
+      return;
+    }
+
+    try {
+      handler.insert(accepted);
+      report.imported += accepted.size();
+    } catch (DataAccessException e) {
+      log.debug("Batch insert failed, retrying rows individually", e);
+      for (ImportRow<D> row : accepted) {
+        try {
+          handler.insert(List.of(row));
+          report.imported++;
+        } catch (DataAccessException rowException) {
+          report.reject(
+            row.getRowNumber(),
+            NestedExceptionUtils.getMostSpecificCause(
+              rowException
+            ).getMessage()
+          );
+        }
+      }
+    }
+  }
+
+  private static String conversionMessage(IllegalArgumentException e) {
+    if (e.getCause() instanceof JsonMappingException mappingException) {
+      String field = mappingException
+        .getPath()
+        .stream()
+        .map(JsonMappingException.Reference::getFieldName)
+        .collect(Collectors.joining("."));
+      return field.isEmpty()
+        ? mappingException.getOriginalMessage()
+        : field + ": invalid value";
+    }
+    return e.getMessage();
+  }
+
+  private static String violationMessage(ConstraintViolation<?> violation) {
+    return violation.getPropertyPath() + ": " + violation.getMessage();
+  }
+
+  /**
+   * Mutable counters and error list for a running import.
+   */
+  private static final class ImportReport {
+
+    private final int maxErrors;
+    private final List<ImportRowErrorInfo> errors = new ArrayList<>();
+    private long total;
+    private long imported;
+    private long failed;
+
+    private ImportReport(int maxErrors) {
+      this.maxErrors = maxErrors;
+    }
+
+    private void read() {
+      total++;
+    }
+
+    private void reject(long rowNumber, String message) {
+      failed++;
+      if (errors.size() < maxErrors) {
+        errors.add(
+          ImportRowErrorInfo.builder()
+            .rowNumber(rowNumber)
+            .message(message)
+            .build()
+        );
+      }
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.sigrap.bulkimport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming RFC 4180 CSV reader.
+ *
+ * <p>The first row names the fields. Quoted values may contain commas,
+ * escaped quotes ({@code ""}) and line breaks. Empty values are read as
+ * null so that optional fields can be left blank.</p>
+ */
+class CsvRecordReader implements ImportRecordReader {
+
+  private static final char SEPARATOR = ',';
+  private static final char QUOTE = '"';
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+  private final BufferedReader reader;
+  private final List<String> header;
+  private long recordNumber;
+
+  /**
+   * Creates a reader and consumes the header row.
+   *
+   * @param reader The character input
+   * @throws IOException if the input cannot be read
+   * @throws IllegalArgumentException if the header row is missing
+   */
+  CsvRecordReader(BufferedReader reader) throws IOException {
+    this.reader = reader;
+    List<String> headerRow;
+    try {
+      headerRow = readRow();
+    } catch (ImportRecordException e) {
+      throw new IllegalArgumentException(
+        "Invalid CSV header: " + e.getMessage()
+      );
+    }
+    if (headerRow == null || headerRow.isEmpty()) {
+      throw new IllegalArgumentException("CSV input has no header row");
+    }
+    this.header = headerRow
+      .stream()
+      .map(name -> name == null ? "" : name.trim())
+      .toList();
+  }
+
+  @Override
+  public Map<String, Object> next() throws IOException {
+    List<String> row;
+    do {
+      try {
+        row = readRow();
+      } catch (ImportRecordException e) {
+        recordNumber++;
+        throw e;
+      }
+      if (row == null) {
+        return null;
+      }
+    } while (row.size() == 1 && row.get(0) == null);
+
+    recordNumber++;
+    if (row.size() != header.size()) {
+      throw new ImportRecordException(
+        "Expected " + header.size() + " columns but found " + row.size()
+      );
+    }
+    Map<String, Object> record = new LinkedHashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      record.put(header.get(i), row.get(i));
+    }
+    return record;
+  }
+
+  @Override
+  public long recordNumber() {
+    return recordNumber;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private List<String> readRow() throws IOException {
+    int c = reader.read();
+    if (c == BYTE_ORDER_MARK) {
+      c = reader.read();
+    }
+    if (c == -1) {
+      return null;
+    }
+
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    boolean wasQuoted = false;
+
+    while (c != -1) {
+      char ch = (char) c;
+      if (quoted) {
+        if (ch == QUOTE) {
+          reader.mark(1);
+          int following = reader.read();
+          if (following == QUOTE) {
+            value.append(QUOTE);
+          } else {
+            quoted = false;
+            if (following != -1) {
+              reader.reset();
+            }
+          }
+        } else {
+          value.append(ch);
+        }
+      } else if (ch == QUOTE && value.isEmpty()) {
+        quoted = true;
+        wasQuoted = true;
+      } else if (ch == SEPARATOR) {
+        values.add(toValue(value, wasQuoted));
+        value.setLength(0);
+        wasQuoted = false;
+      } else if (ch == '\n') {
+        break;
+      } else if (ch != '\r') {
+        value.append(ch);
+      }
+      c = reader.read();
+    }
+
+    if (quoted) {
+      throw new ImportRecordException("Unterminated quoted value");
+    }
+    values.add(toValue(value, wasQuoted));
+    return values;
+  }
+
+  private static String toValue(StringBuilder value, boolean wasQuoted) {
+    if (value.isEmpty() && !wasQuoted) {
+      return null;
+    }
+    String text = value.toString();
+    return wasQuoted ? text : text.trim();
+  }
+}
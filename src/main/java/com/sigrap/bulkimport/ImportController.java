@@ -0,0 +1,210 @@
+package com.sigrap.bulkimport;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * REST controller for bulk imports.
+ *
+ * <p>Each endpoint accepts a multipart file upload in CSV (with a header row)
+ * or JSON-lines format. Field names match the corresponding create request
+ * body, e.g. {@code ProductData} for products. The format is taken from the
+ * {@code format} parameter or, if absent, from the file extension
+ * ({@code .csv}, {@code .jsonl}, {@code .ndjson}).</p>
+ *
+ * <p>Usage Example:
+ * <pre>
+ * POST /api/imports/products (multipart, field "file")
+ * name,description,costPrice,salePrice,stock,minimumStockThreshold,categoryName
+ * Blue Pen,Ballpoint pen,0.50,1.20,500,50,Pens
+ * </pre></p>
+ *
+ * @see BulkImportService
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Tag(
+  name = "Bulk Import",
+  description = "Operations for importing products, customers and suppliers from files"
+)
+public class ImportController {
+
+  private final BulkImportService bulkImportService;
+
+  /**
+   * Imports products from a file.
+   *
+   * @param file The uploaded file
+   * @param format Optional explicit format ({@code csv} or {@code jsonl})
+   * @return The import summary with per-row errors
+   * @throws IOException if the upload cannot be read
+   */
+  @Operation(
+    summary = "Import products",
+    description = "Creates products in bulk from a CSV or JSON-lines file"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Import completed"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Unsupported or malformed file",
+        content = @Content
+      ),
+    }
+  )
+  @PostMapping(
+    value = "/products",
+    consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+  )
+  public ImportResultInfo importProducts(
+    @Parameter(
+      description = "CSV or JSON-lines file",
+      required = true
+    ) @RequestParam("file") MultipartFile file,
+    @Parameter(description = "File format (csv or jsonl)") @RequestParam(
+      required = false
+    ) String format
+  ) throws IOException {
+    return bulkImportService.importProducts(
+      file.getInputStream(),
+      ImportFormat.resolve(format, file.getOriginalFilename())
+    );
+  }
+
+  /**
+   * Imports customers from a file.
+   *
+   * @param file The uploaded file
+   * @param format Optional explicit format ({@code csv} or {@code jsonl})
+   * @return The import summary with per-row errors
+   * @throws IOException if the upload cannot be read
+   */
+  @Operation(
+    summary = "Import customers",
+    description = "Creates customers in bulk from a CSV or JSON-lines file"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Import completed"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Unsupported or malformed file",
+        content = @Content
+      ),
+    }
+  )
+  @PostMapping(
+    value = "/customers",
+    consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+  )
+  public ImportResultInfo importCustomers(
+    @Parameter(
+      description = "CSV or JSON-lines file",
+      required = true
+    ) @RequestParam("file") MultipartFile file,
+    @Parameter(description = "File format (csv or jsonl)") @RequestParam(
+      required = false
+    ) String format
+  ) throws IOException {
+    return bulkImportService.importCustomers(
+      file.getInputStream(),
+      ImportFormat.resolve(format, file.getOriginalFilename())
+    );
+  }
+
+  /**
+   * Imports suppliers from a file.
+   *
+   * @param file The uploaded file
+   * @param format Optional explicit format ({@code csv} or {@code jsonl})
+   * @return The import summary with per-row errors
+   * @throws IOException if the upload cannot be read
+   */
+  @Operation(
+    summary = "Import suppliers",
+    description = "Creates suppliers in bulk from a CSV or JSON-lines file"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Import completed"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Unsupported or malformed file",
+        content = @Content
+      ),
+    }
+  )
+  @PostMapping(
+    value = "/suppliers",
+    consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+  )
+  public ImportResultInfo importSuppliers(
+    @Parameter(
+      description = "CSV or JSON-lines file",
+      required = true
+    ) @RequestParam("file") MultipartFile file,
+    @Parameter(description = "File format (csv or jsonl)") @RequestParam(
+      required = false
+    ) String format
+  ) throws IOException {
+    return bulkImportService.importSuppliers(
+      file.getInputStream(),
+      ImportFormat.resolve(format, file.getOriginalFilename())
+    );
+  }
+
+  /**
+   * Imports supplier price list lines from a file.
+   *
+   * @param file The uploaded file
+   * @param format Optional explicit format ({@code csv} or {@code jsonl})
+   * @return The import summary with per-row errors
+   * @throws IOException if the upload cannot be read
+   */
+  @Operation(
+    summary = "Import supplier price lists",
+    description = "Creates or updates supplier price list lines in bulk from a CSV or JSON-lines file"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Import completed"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Unsupported or malformed file",
+        content = @Content
+      ),
+    }
+  )
+  @PostMapping(
+    value = "/supplier-products",
+    consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+  )
+  public ImportResultInfo importSupplierProducts(
+    @Parameter(
+      description = "CSV or JSON-lines file",
+      required = true
+    ) @RequestParam("file") MultipartFile file,
+    @Parameter(description = "File format (csv or jsonl)") @RequestParam(
+      required = false
+    ) String format
+  ) throws IOException {
+    return bulkImportService.importSupplierProducts(
+      file.getInputStream(),
+      ImportFormat.resolve(format, file.getOriginalFilename())
+    );
+  }
+}
@@ -0,0 +1,53 @@
+package com.sigrap.bulkimport;
+
+import java.util.Locale;
+
+/**
+ * Supported file formats for bulk imports.
+ */
+public enum ImportFormat {
+  /**
+   * Comma-separated values with a header row naming the fields.
+   */
+  CSV,
+
+  /**
+   * One JSON object per line (also known as NDJSON).
+   */
+  JSON_LINES;
+
+  /**
+   * Resolves the format from an explicit value or, failing that, from the
+   * extension of the uploaded file name.
+   *
+   * @param format Explicit format name, may be null
+   * @param filename Name of the uploaded file, may be null
+   * @return The resolved format
+   * @throws IllegalArgumentException if the format cannot be determined
+   */
+  public static ImportFormat resolve(String format, String filename) {
+    if (format != null && !format.isBlank()) {
+      String normalized = format.trim().toUpperCase(Locale.ROOT);
+      if (normalized.equals("JSONL") || normalized.equals("NDJSON")) {
+        return JSON_LINES;
+      }
+      try {
+        return valueOf(normalized);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+          "Unsupported import format: " + format
+        );
+      }
+    }
+    String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+    if (name.endsWith(".csv")) {
+      return CSV;
+    }
+    if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+      return JSON_LINES;
+    }
+    throw new IllegalArgumentException(
+      "Cannot determine import format for file: " + filename
+    );
+  }
+}
@@ -0,0 +1,47 @@
+package com.sigrap.bulkimport;
+
+import java.util.List;
+
+/**
+ * Entity-specific steps of the bulk import pipeline.
+ *
+ * <p>The pipeline reads, converts and validates records, then hands them to
+ * the handler one chunk at a time. Handlers resolve references for the whole
+ * chunk with a single query per lookup and insert the accepted rows with a
+ * JDBC batch.</p>
+ *
+ * @param <D> The data type records are converted to and validated as
+ * @see BulkImportService
+ */
+public interface ImportHandler<D> {
+  /**
+   * Returns the data type records are converted to.
+   * Bean validation constraints declared on this type are applied to every row.
+   *
+   * @return The data type
+   */
+  Class<D> dataType();
+
+  /**
+   * Resolves references and checks uniqueness for a chunk of valid rows.
+   * Rows that cannot be imported must be {@link ImportRow#reject rejected}.
+   *
+   * @param rows The rows of the current chunk
+   */
+  void resolve(List<ImportRow<D>> rows);
+
+  /**
+   * Inserts the given rows in a single transaction.
+   * Either every row is inserted or none is.
+   *
+   * @param rows The accepted rows to insert
+   */
+  void insert(List<ImportRow<D>> rows);
+
+  /**
+   * Called once after the whole input has been processed.
+   *
+   * @param imported The number of rows inserted
+   */
+  default void afterImport(int imported) {}
+}
@@ -0,0 +1,17 @@
+package com.sigrap.bulkimport;
+
+/**
+ * Thrown when a single import record cannot be parsed.
+ * The import reports the record as failed and continues with the next one.
+ */
+class ImportRecordException extends RuntimeException {
+
+  /**
+   * Creates a new exception for a malformed record.
+   *
+   * @param message Description of the problem
+   */
+  ImportRecordException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,60 @@
+package com.sigrap.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Streaming reader producing one record at a time from an import file.
+ *
+ * <p>Records are returned as field name to value maps so that the same
+ * conversion and validation pipeline applies to every format. Only the
+ * current record is held in memory.</p>
+ */
+interface ImportRecordReader extends Closeable {
+  /**
+   * Reads the next record.
+   *
+   * @return The next record, or null when the input is exhausted
+   * @throws IOException if the input cannot be read
+   * @throws ImportRecordException if the record is malformed; reading may
+   *         continue with the following record
+   */
+  Map<String, Object> next() throws IOException;
+
+  /**
+   * Returns the 1-based number of the record last returned by {@link #next()}.
+   * Header rows are not counted.
+   *
+   * @return The current record number
+   */
+  long recordNumber();
+
+  /**
+   * Opens a reader for the given format.
+   *
+   * @param input The raw input, read as UTF-8
+   * @param format The input format
+   * @param objectMapper Mapper used to parse JSON records
+   * @return A reader positioned before the first record
+   * @throws IOException if the input cannot be read
+   */
+  static ImportRecordReader open(
+    InputStream input,
+    ImportFormat format,
+    ObjectMapper objectMapper
+  ) throws IOException {
+    BufferedReader reader = new BufferedReader(
+      new InputStreamReader(input, StandardCharsets.UTF_8)
+    );
+    return switch (format) {
+      case CSV -> new CsvRecordReader(reader);
+      case JSON_LINES -> new JsonLinesRecordReader(reader, objectMapper);
+    };
+  }
+}
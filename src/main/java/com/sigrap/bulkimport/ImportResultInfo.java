@@ -0,0 +1,55 @@
+package com.sigrap.bulkimport;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of a completed bulk import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a bulk import")
+public class ImportResultInfo {
+
+  /**
+   * Number of records read from the input.
+   */
+  @Schema(description = "Number of records read", example = "1000")
+  private long totalRows;
+
+  /**
+   * Number of records inserted.
+   */
+  @Schema(description = "Number of records imported", example = "998")
+  private long imported;
+
+  /**
+   * Number of records rejected.
+   */
+  @Schema(description = "Number of records rejected", example = "2")
+  private long failed;
+
+  /**
+   * Time taken by the import in milliseconds.
+   */
+  @Schema(description = "Import duration in milliseconds", example = "850")
+  private long durationMs;
+
+  /**
+   * Errors for rejected rows, ordered by row number.
+   */
+  @Schema(description = "Errors for rejected rows")
+  private List<ImportRowErrorInfo> errors;
+
+  /**
+   * Whether more rows failed than are listed in {@link #errors}.
+   */
+  @Schema(description = "Whether the error list was truncated")
+  private boolean errorsTruncated;
+}
@@ -0,0 +1,84 @@
+package com.sigrap.bulkimport;
+
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * A single parsed record travelling through the import pipeline.
+ *
+ * <p>Holds the raw field values, the converted and validated data object and,
+ * once a stage has rejected it, the reason the row will not be imported.</p>
+ *
+ * @param <D> The data type the record converts to
+ */
+@Getter
+public class ImportRow<D> {
+
+  /**
+   * 1-based position of the record in the input, excluding header rows.
+   */
+  private final long rowNumber;
+
+  /**
+   * Raw field values as read from the input.
+   */
+  private final Map<String, Object> values;
+
+  /**
+   * The converted data, or null if conversion failed.
+   */
+  private final D data;
+
+  /**
+   * Reason the row was rejected, or null while it is still accepted.
+   */
+  private String error;
+
+  /**
+   * Creates a row.
+   *
+   * @param rowNumber Position of the record in the input
+   * @param values Raw field values
+   * @param data Converted data, may be null
+   */
+  public ImportRow(long rowNumber, Map<String, Object> values, D data) {
+    this.rowNumber = rowNumber;
+    this.values = values;
+    this.data = data;
+  }
+
+  /**
+   * Returns a raw field value as text.
+   *
+   * @param field The field name
+   * @return The trimmed value, or null if absent or blank
+   */
+  public String getText(String field) {
+    Object value = values.get(field);
+    if (value == null) {
+      return null;
+    }
+    String text = value.toString().trim();
+    return text.isEmpty() ? null : text;
+  }
+
+  /**
+   * Rejects the row. Only the first reason is kept.
+   *
+   * @param message Why the row cannot be imported
+   */
+  public void reject(String message) {
+    if (error == null) {
+      error = message;
+    }
+  }
+
+  /**
+   * Whether the row has been rejected.
+   *
+   * @return true if the row will not be imported
+   */
+  public boolean isRejected() {
+    return error != null;
+  }
+}
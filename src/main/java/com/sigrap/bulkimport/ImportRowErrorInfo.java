@@ -0,0 +1,33 @@
+package com.sigrap.bulkimport;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Describes why a single input row was not imported.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Error for a single rejected import row")
+public class ImportRowErrorInfo {
+
+  /**
+   * 1-based position of the record in the input, excluding header rows.
+   */
+  @Schema(description = "Row number in the input file", example = "42")
+  private long rowNumber;
+
+  /**
+   * Reason the row was rejected.
+   */
+  @Schema(
+    description = "Reason the row was rejected",
+    example = "salePrice: Sale price cannot be null"
+  )
+  private String message;
+}
@@ -0,0 +1,67 @@
+package com.sigrap.bulkimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Streaming JSON-lines reader.
+ * Each non-blank line must hold a single JSON object.
+ */
+class JsonLinesRecordReader implements ImportRecordReader {
+
+  private static final TypeReference<Map<String, Object>> RECORD_TYPE =
+    new TypeReference<>() {};
+
+  private final BufferedReader reader;
+  private final ObjectMapper objectMapper;
+  private long recordNumber;
+
+  /**
+   * Creates a reader over the given input.
+   *
+   * @param reader The character input
+   * @param objectMapper Mapper used to parse each line
+   */
+  JsonLinesRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+    this.reader = reader;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Map<String, Object> next() throws IOException {
+    String line;
+    do {
+      line = reader.readLine();
+      if (line == null) {
+        return null;
+      }
+    } while (line.isBlank());
+
+    recordNumber++;
+    try {
+      Map<String, Object> record = objectMapper.readValue(line, RECORD_TYPE);
+      if (record == null) {
+        throw new ImportRecordException("Line does not contain a JSON object");
+      }
+      return record;
+    } catch (JsonProcessingException e) {
+      throw new ImportRecordException(
+        "Invalid JSON: " + e.getOriginalMessage()
+      );
+    }
+  }
+
+  @Override
+  public long recordNumber() {
+    return recordNumber;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
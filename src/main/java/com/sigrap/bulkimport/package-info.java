@@ -0,0 +1,16 @@
+/**
+ * Bulk import package for SIGRAP.
+ *
+ * <p>This package contains the file import pipeline used to onboard stores:
+ * <ul>
+ *   <li>Streaming CSV and JSON-lines readers</li>
+ *   <li>Conversion and bean validation against the existing {@code Data} DTOs</li>
+ *   <li>Chunked reference resolution and JDBC batch inserts</li>
+ *   <li>Per-row error reporting</li>
+ * </ul></p>
+ *
+ * <p>Entity-specific steps are implemented by
+ * {@link com.sigrap.bulkimport.ImportHandler} components living in the
+ * owning feature packages.</p>
+ */
+package com.sigrap.bulkimport;
@@ -1,31 +1,36 @@
 package com.sigrap.category;
 
-import com.sigrap.product.Product;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 /**
  * Entity class representing a product category in the system.
  * Categories are used to organize and classify products.
+ *
+ * <p>Products reference their category lazily; when several category proxies
+ * are pending in a persistence context they are initialized together.</p>
+ *
+ * <p>The association is mapped on the product side only. Product counts and
+ * stock totals are aggregated with a grouped query, and deleting a category
+ * moves or deletes its products with bulk statements.</p>
  */
 @Entity
 @Table(name = "categories")
+@BatchSize(size = 50)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -70,11 +75,4 @@ public class Category {
   @UpdateTimestamp
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
-
-  @OneToMany(
-    mappedBy = "category",
-    cascade = CascadeType.ALL,
-    orphanRemoval = true
-  )
-  private List<Product> products;
 }
@@ -18,8 +18,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * REST controller for managing product categories.
@@ -86,18 +88,40 @@ public class CategoryController {
    *   <li>Product categorization</li>
    * </ul></p>
    *
-   * @return List of all categories with their details
+   * <p>Each category includes its product count, total stock and number of
+   * products below their minimum stock, computed with one grouped query.</p>
+   *
+   * <p>Responses carry an {@code ETag} and {@code Last-Modified} header so
+   * clients can revalidate their copy; an unchanged list costs a 304 without
+   * any database access.</p>
+   *
+   * @param webRequest The current request, used for conditional GET handling
+   * @return List of all categories with their details, or null when not modified
    */
   @Operation(
     summary = "Get all categories",
     description = "Retrieves a list of all categories"
   )
-  @ApiResponse(
-    responseCode = "200",
-    description = "Categories retrieved successfully"
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Categories retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "304",
+        description = "Categories not modified",
+        content = @Content
+      ),
+    }
   )
   @GetMapping
-  public List<CategoryInfo> findAll() {
+  public List<CategoryInfo> findAll(
+    @Parameter(hidden = true) ServletWebRequest webRequest
+  ) {
+    if (categoryService.currentVersion().checkNotModified(webRequest)) {
+      return null;
+    }
     return categoryService.findAll();
   }
 
@@ -249,16 +273,16 @@ public class CategoryController {
    * <p>This endpoint:
    * <ul>
    *   <li>Verifies category existence</li>
-   *   <li>Checks for associated products</li>
+   *   <li>Moves its products to {@code reassignTo}, or deletes them</li>
    *   <li>Removes the category</li>
    * </ul></p>
    *
-   * <p>Note: Categories with associated products cannot be deleted
-   * until all products are reassigned or deleted.</p>
+   * <p>Products are moved or deleted with a single bulk statement.</p>
    *
    * @param id The ID of the category to delete
-   * @throws EntityNotFoundException if category not found
-   * @throws IllegalStateException if category has associated products
+   * @param reassignTo Optional ID of the category that receives the products
+   * @throws EntityNotFoundException if either category is not found
+   * @throws IllegalArgumentException if reassignTo is the deleted category
    */
   @Operation(
     summary = "Delete a category",
@@ -270,6 +294,11 @@ public class CategoryController {
         responseCode = "204",
         description = "Category deleted successfully"
       ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid reassignment target",
+        content = @Content
+      ),
       @ApiResponse(
         responseCode = "404",
         description = "Category not found",
@@ -282,9 +311,13 @@ public class CategoryController {
   public void delete(
     @Parameter(
       description = "ID of the category to delete"
-    ) @PathVariable Long id
+    ) @PathVariable Long id,
+    @Parameter(
+      description = "ID of the category that receives the products; " +
+      "when omitted the products are deleted"
+    ) @RequestParam(required = false) Long reassignTo
   ) {
-    categoryService.delete(id);
+    categoryService.delete(id, reassignTo);
   }
 
   /**
@@ -293,19 +326,17 @@ public class CategoryController {
    * <p>This endpoint:
    * <ul>
    *   <li>Validates all category IDs</li>
-   *   <li>Checks for associated products</li>
+   *   <li>Moves their products to {@code reassignTo}, or deletes them</li>
    *   <li>Performs bulk deletion</li>
    * </ul></p>
    *
-   * <p>Note: The operation will fail if any category:
-   * <ul>
-   *   <li>Does not exist</li>
-   *   <li>Has associated products</li>
-   * </ul></p>
+   * <p>Note: The operation will fail if any category does not exist, or if
+   * {@code reassignTo} is one of the deleted categories.</p>
    *
    * @param ids List of category IDs to delete
+   * @param reassignTo Optional ID of the category that receives the products
    * @throws EntityNotFoundException if any category not found
-   * @throws IllegalStateException if any category has associated products
+   * @throws IllegalArgumentException if reassignTo is a deleted category
    */
   @Operation(
     summary = "Delete multiple categories",
@@ -321,8 +352,12 @@ public class CategoryController {
     @Parameter(
       description = "List of category IDs to delete",
       required = true
-    ) @RequestBody List<Long> ids
+    ) @RequestBody List<Long> ids,
+    @Parameter(
+      description = "ID of the category that receives the products; " +
+      "when omitted the products are deleted"
+    ) @RequestParam(required = false) Long reassignTo
   ) {
-    categoryService.deleteAllById(ids);
+    categoryService.deleteAllById(ids, reassignTo);
   }
 }
@@ -120,4 +120,29 @@ public class CategoryInfo {
     example = "2023-01-20T14:45:00"
   )
   private LocalDateTime updatedAt;
+
+  /**
+   * The number of products in the category.
+   */
+  @Schema(description = "Number of products in the category", example = "12")
+  private Long productCount;
+
+  /**
+   * The sum of the stock of every product in the category.
+   */
+  @Schema(
+    description = "Total stock of the products in the category",
+    example = "340"
+  )
+  private Long totalStock;
+
+  /**
+   * The number of products in the category whose stock is below their
+   * minimum threshold.
+   */
+  @Schema(
+    description = "Number of products below their minimum stock threshold",
+    example = "2"
+  )
+  private Long lowStockCount;
 }
@@ -20,6 +20,9 @@ public interface CategoryMapper {
    * @return CategoryInfo containing the category data
    */
   @EntityToInfo
+  @Mapping(target = "productCount", ignore = true)
+  @Mapping(target = "totalStock", ignore = true)
+  @Mapping(target = "lowStockCount", ignore = true)
   CategoryInfo toInfo(Category category);
 
   /**
@@ -29,7 +32,6 @@ public interface CategoryMapper {
    * @return A new Category entity
    */
   @DataToEntity
-  @Mapping(target = "products", ignore = true)
   Category toEntity(CategoryData categoryData);
 
   /**
@@ -39,7 +41,6 @@ public interface CategoryMapper {
    * @param category The existing Category entity to update
    */
   @DataToEntity
-  @Mapping(target = "products", ignore = true)
   void updateEntityFromData(
     CategoryData categoryData,
     @MappingTarget Category category
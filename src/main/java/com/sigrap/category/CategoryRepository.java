@@ -1,6 +1,13 @@
 package com.sigrap.category;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -8,4 +15,40 @@ import org.springframework.stereotype.Repository;
  * Provides basic CRUD operations for managing categories in the database.
  */
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {}
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+  /**
+   * Finds categories by their exact names.
+   *
+   * @param names The category names to look up
+   * @return The categories whose name is in the given collection
+   */
+  List<Category> findByNameIn(Collection<String> names);
+
+  /**
+   * Finds the most recent modification time of any category.
+   *
+   * @return The latest {@code updatedAt}, empty if there are no categories
+   */
+  @Query("SELECT MAX(c.updatedAt) FROM Category c")
+  Optional<LocalDateTime> findLastUpdatedAt();
+
+  /**
+   * Finds which of the given IDs belong to an existing category.
+   *
+   * @param ids The category IDs to check
+   * @return The IDs that exist
+   */
+  @Query("SELECT c.id FROM Category c WHERE c.id IN :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Deletes the given categories in a single statement.
+   * Their products must have been reassigned or deleted beforehand.
+   *
+   * @param ids IDs of the categories to delete
+   * @return Number of categories deleted
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM Category c WHERE c.id IN :ids")
+  int deleteByIds(@Param("ids") Collection<Long> ids);
+}
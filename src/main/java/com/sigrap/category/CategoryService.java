@@ -1,26 +1,58 @@
 package com.sigrap.category;
 
 import com.sigrap.audit.Auditable;
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.common.ResourceVersion;
+import com.sigrap.common.ResourceVersions;
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductChangedEvent;
+import com.sigrap.product.ProductRepository;
+import com.sigrap.product.ProductSpecifications;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Service class for managing category operations.
  * Handles business logic for creating, reading, updating, and deleting categories.
+ *
+ * <p>Category responses carry product counts and stock totals, which are
+ * read with one grouped query over the products table instead of loading
+ * the products. Deleting categories moves or deletes their products with
+ * bulk statements.</p>
  */
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
+  /**
+   * Name of the category collection in {@link ResourceVersions}.
+   */
+  public static final String RESOURCE = "categories";
+
   /**
    * Repository for database operations on categories.
    * Provides CRUD functionality and custom queries for category entities.
    */
   private final CategoryRepository categoryRepository;
 
+  /**
+   * Repository for product aggregates and bulk product changes.
+   */
+  private final ProductRepository productRepository;
+
   /**
    * Mapper for converting between Category entities and DTOs.
    * Handles object transformation for API responses and database operations.
@@ -28,16 +60,66 @@ public class CategoryService {
   private final CategoryMapper categoryMapper;
 
   /**
-   * Retrieves all categories from the database.
+   * Publisher for change notifications.
+   * Category edits change how every product in the catalog is rendered.
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Version counters used for conditional GET requests.
+   */
+  private final ResourceVersions resourceVersions;
+
+  /**
+   * Returns the current version of the category collection.
+   * Does not access the database once the version is known.
+   * Since the listing includes product aggregates, product writes count as
+   * modifications too.
+   *
+   * @return The current version
+   */
+  public ResourceVersion currentVersion() {
+    return resourceVersions.current(RESOURCE, () -> {
+      LocalDateTime categories = categoryRepository
+        .findLastUpdatedAt()
+        .orElse(null);
+      LocalDateTime products = productRepository
+        .findLastUpdatedAt()
+        .orElse(null);
+      if (categories == null || products == null) {
+        return categories != null ? categories : products;
+      }
+      return categories.isAfter(products) ? categories : products;
+    });
+  }
+
+  /**
+   * Bumps the category collection version once a product write has
+   * committed, because it changes the product aggregates of the listing.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  public void onProductChanged(ProductChangedEvent event) {
+    resourceVersions.bump(RESOURCE);
+  }
+
+  /**
+   * Retrieves all categories from the database, with the product count,
+   * total stock and low-stock count of each one.
    *
    * @return List of all categories mapped to CategoryInfo objects
    */
   @Transactional(readOnly = true)
   public List<CategoryInfo> findAll() {
-    return categoryRepository
-      .findAll()
+    List<Category> categories = categoryRepository.findAll();
+    Map<Long, Object[]> summaries = summarize(null);
+    return categories
       .stream()
-      .map(categoryMapper::toInfo)
+      .map(category -> toInfo(category, summaries))
       .toList();
   }
 
@@ -53,7 +135,7 @@ public class CategoryService {
     Category category = categoryRepository
       .findById(id)
       .orElseThrow(EntityNotFoundException::new);
-    return categoryMapper.toInfo(category);
+    return toInfo(category, summarize(ProductSpecifications.inCategory(id)));
   }
 
   /**
@@ -67,6 +149,7 @@ public class CategoryService {
   public CategoryInfo create(CategoryData categoryData) {
     Category category = categoryMapper.toEntity(categoryData);
     Category savedCategory = categoryRepository.save(category);
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
     return categoryMapper.toInfo(savedCategory);
   }
 
@@ -91,30 +174,43 @@ public class CategoryService {
       .orElseThrow(EntityNotFoundException::new);
     categoryMapper.updateEntityFromData(categoryData, category);
     Category updatedCategory = categoryRepository.save(category);
+    eventPublisher.publishEvent(ProductChangedEvent.catalog());
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
     return categoryMapper.toInfo(updatedCategory);
   }
 
   /**
    * Deletes a category by its ID.
+   * Its products are moved to another category when one is given, and
+   * deleted otherwise.
    *
    * @param id The ID of the category to delete
-   * @throws EntityNotFoundException if the category is not found
+   * @param reassignTo ID of the category that receives the products, or null
+   *        to delete them
+   * @throws EntityNotFoundException if either category is not found
+   * @throws IllegalArgumentException if the products would be reassigned to
+   *         the category being deleted
    */
   @Transactional
   @Auditable(action = "ELIMINAR", entity = "CATEGORIA", entityIdParam = "id")
-  public void delete(Long id) {
-    Category category = categoryRepository
-      .findById(id)
-      .orElseThrow(EntityNotFoundException::new);
-    categoryRepository.delete(category);
+  public void delete(Long id, Long reassignTo) {
+    if (!categoryRepository.existsById(id)) {
+      throw new EntityNotFoundException();
+    }
+    deleteWithProducts(List.of(id), reassignTo);
   }
 
   /**
    * Deletes multiple categories by their IDs.
-   * Validates all IDs exist before performing the deletion.
+   * Validates all IDs exist before performing the deletion, then moves or
+   * deletes their products and the categories with one statement each.
    *
    * @param ids List of category IDs to delete
+   * @param reassignTo ID of the category that receives the products, or null
+   *        to delete them
    * @throws EntityNotFoundException if any of the categories is not found
+   * @throws IllegalArgumentException if the products would be reassigned to
+   *         a category being deleted
    */
   @Transactional
   @Auditable(
@@ -122,14 +218,67 @@ public class CategoryService {
     entity = "CATEGORIA",
     captureDetails = true
   )
-  public void deleteAllById(List<Long> ids) {
+  public void deleteAllById(List<Long> ids, Long reassignTo) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    Set<Long> existing = new HashSet<>(categoryRepository.findExistingIds(ids));
     ids.forEach(id -> {
-      if (!categoryRepository.existsById(id)) {
+      if (!existing.contains(id)) {
         throw new EntityNotFoundException(
           "Category with id " + id + " not found"
         );
       }
     });
-    categoryRepository.deleteAllById(ids);
+    deleteWithProducts(ids, reassignTo);
+  }
+
+  private void deleteWithProducts(Collection<Long> ids, Long reassignTo) {
+    if (reassignTo == null) {
+      productRepository.deleteByCategoryIds(ids);
+    } else {
+      if (ids.contains(reassignTo)) {
+        throw new IllegalArgumentException(
+          "Products cannot be reassigned to a category being deleted"
+        );
+      }
+      if (!categoryRepository.existsById(reassignTo)) {
+        throw new EntityNotFoundException(
+          "Category with id " + reassignTo + " not found"
+        );
+      }
+      productRepository.reassignCategory(
+        ids,
+        categoryRepository.getReferenceById(reassignTo),
+        LocalDateTime.now()
+      );
+    }
+    categoryRepository.deleteByIds(ids);
+    eventPublisher.publishEvent(ProductChangedEvent.catalog());
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
+  }
+
+  private Map<Long, Object[]> summarize(Specification<Product> spec) {
+    Map<Long, Object[]> summaries = new HashMap<>();
+    for (Object[] row : productRepository.summarizeByCategory(spec)) {
+      summaries.put((Long) row[0], row);
+    }
+    return summaries;
+  }
+
+  private CategoryInfo toInfo(
+    Category category,
+    Map<Long, Object[]> summaries
+  ) {
+    CategoryInfo info = categoryMapper.toInfo(category);
+    Object[] summary = summaries.get(category.getId());
+    info.setProductCount(summary == null ? 0L : longValue(summary[1]));
+    info.setTotalStock(summary == null ? 0L : longValue(summary[2]));
+    info.setLowStockCount(summary == null ? 0L : longValue(summary[3]));
+    return info;
+  }
+
+  private static long longValue(Object value) {
+    return value == null ? 0L : ((Number) value).longValue();
   }
 }
@@ -0,0 +1,190 @@
+package com.sigrap.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AOP aspect that runs methods annotated with @RetryOnConflict again when
+ * they fail on an optimistic locking conflict.
+ *
+ * <p>The aspect is ordered before the transaction interceptor, so every
+ * attempt runs in a transaction of its own. Attempts are separated by an
+ * exponential backoff with full jitter, so writers racing for the same row do
+ * not collide again in lockstep.</p>
+ *
+ * <p>Every conflict is counted in the {@value #CONFLICTS_METRIC} counter,
+ * tagged with the operation, the entity involved and the outcome:
+ * {@code retried}, {@code exhausted} when no attempt is left, or
+ * {@code stale} when the client sent an outdated version, which is never
+ * retried. Hot rows show up as a high rate for one entity and operation.</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class ConflictRetryAspect {
+
+  /**
+   * Name of the counter of optimistic locking conflicts.
+   */
+  public static final String CONFLICTS_METRIC = "sigrap.optimistic.conflicts";
+
+  /**
+   * Registry the conflict counter is registered in.
+   */
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Attempts made when the annotation does not set its own.
+   */
+  @Value("${app.concurrency.retry.max-attempts:3}")
+  private int maxAttempts;
+
+  /**
+   * Upper bound of the wait before the second attempt, in milliseconds.
+   */
+  @Value("${app.concurrency.retry.initial-backoff-ms:25}")
+  private long initialBackoffMs;
+
+  /**
+   * Upper bound of the wait before any attempt, in milliseconds.
+   */
+  @Value("${app.concurrency.retry.max-backoff-ms:250}")
+  private long maxBackoffMs;
+
+  /**
+   * Around advice that retries methods annotated with @RetryOnConflict.
+   *
+   * @param joinPoint The join point for the intercepted method
+   * @param retryOnConflict The RetryOnConflict annotation on the method
+   * @return The result of the first successful attempt
+   * @throws Throwable If an attempt fails with anything but a conflict, or
+   *         the last attempt fails
+   */
+  @Around("@annotation(retryOnConflict)")
+  public Object retry(
+    ProceedingJoinPoint joinPoint,
+    RetryOnConflict retryOnConflict
+  ) throws Throwable {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+
+    String operation =
+      joinPoint.getSignature().getDeclaringType().getSimpleName() +
+      "." +
+      joinPoint.getSignature().getName();
+    int attempts = retryOnConflict.maxAttempts() > 0
+      ? retryOnConflict.maxAttempts()
+      : maxAttempts;
+
+    for (int attempt = 1;; attempt++) {
+      try {
+        return joinPoint.proceed();
+      } catch (StaleVersionException ex) {
+        count(operation, ex, "stale");
+        throw ex;
+      } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+        if (attempt >= attempts) {
+          count(operation, ex, "exhausted");
+          log.warn(
+            "Giving up {} on {} after {} conflicting attempts",
+            operation,
+            describe(ex),
+            attempt
+          );
+          throw ex;
+        }
+        count(operation, ex, "retried");
+        log.debug(
+          "Retrying {} on {} after conflict (attempt {} of {})",
+          operation,
+          describe(ex),
+          attempt,
+          attempts
+        );
+        if (!pause(attempt)) {
+          throw ex;
+        }
+      }
+    }
+  }
+
+  private void count(String operation, Exception ex, String outcome) {
+    meterRegistry
+      .counter(
+        CONFLICTS_METRIC,
+        "operation",
+        operation,
+        "entity",
+        entityOf(ex),
+        "outcome",
+        outcome
+      )
+      .increment();
+  }
+
+  /**
+   * Waits a random time between zero and an exponentially growing bound.
+   *
+   * @param attempt The attempt that just failed
+   * @return false if the thread was interrupted while waiting
+   */
+  private boolean pause(int attempt) {
+    long bound = Math.min(
+      maxBackoffMs,
+      initialBackoffMs << Math.min(attempt - 1, 20)
+    );
+    if (bound <= 0) {
+      return true;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static String entityOf(Exception ex) {
+    if (
+      ex instanceof ObjectOptimisticLockingFailureException objectFailure &&
+      objectFailure.getPersistentClassName() != null
+    ) {
+      String className = objectFailure.getPersistentClassName();
+      return className.substring(className.lastIndexOf('.') + 1);
+    }
+    if (
+      ex instanceof OptimisticLockException lockException &&
+      lockException.getEntity() != null
+    ) {
+      return lockException.getEntity().getClass().getSimpleName();
+    }
+    return "unknown";
+  }
+
+  private static String describe(Exception ex) {
+    if (
+      ex instanceof ObjectOptimisticLockingFailureException objectFailure &&
+      objectFailure.getIdentifier() != null
+    ) {
+      return entityOf(ex) + " " + objectFailure.getIdentifier();
+    }
+    return entityOf(ex);
+  }
+}
@@ -0,0 +1,34 @@
+package com.sigrap.common;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event published whenever a versioned resource collection is written.
+ *
+ * <p>Writers publish this event inside their transaction;
+ * {@link ResourceVersions} bumps the collection version once the transaction
+ * has committed.</p>
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResourceChangedEvent {
+
+  /**
+   * Name of the changed collection.
+   */
+  private final String resource;
+
+  /**
+   * Creates an event for the given collection.
+   *
+   * @param resource Name of the changed collection
+   * @return The event
+   */
+  public static ResourceChangedEvent of(String resource) {
+    return new ResourceChangedEvent(resource);
+  }
+}
@@ -0,0 +1,57 @@
+package com.sigrap.common;
+
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Immutable snapshot of the version of a resource collection.
+ *
+ * <p>The entity tag changes on every committed write to the collection, so
+ * clients can revalidate a cached copy with {@code If-None-Match} and receive
+ * a {@code 304 Not Modified} without the server touching the database.</p>
+ *
+ * @see ResourceVersions
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ResourceVersion {
+
+  /**
+   * Strong entity tag, including the surrounding quotes.
+   */
+  private final String eTag;
+
+  /**
+   * Time of the last known modification, or null if unknown.
+   */
+  private final Instant lastModified;
+
+  /**
+   * Checks a request's conditional headers against this version.
+   *
+   * <p>Always sets {@code ETag}, {@code Last-Modified} and a
+   * {@code Cache-Control} header asking clients to revalidate before reusing
+   * their copy. When the client's copy is current the response status is set
+   * to 304 and the caller should return without a body.</p>
+   *
+   * @param request The current request
+   * @return True if the client's copy is still current
+   */
+  public boolean checkNotModified(ServletWebRequest request) {
+    if (request.getResponse() != null) {
+      request
+        .getResponse()
+        .setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+    }
+    return request.checkNotModified(
+      eTag,
+      lastModified != null ? lastModified.toEpochMilli() : -1
+    );
+  }
+}
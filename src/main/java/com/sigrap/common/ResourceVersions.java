@@ -0,0 +1,122 @@
+package com.sigrap.common;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory version counters for resource collections served with HTTP
+ * validators.
+ *
+ * <p>Each collection has a counter that is incremented after every committed
+ * write, and a last-modified time. The entity tag combines the collection
+ * name, the time this instance started and the counter, so tags never repeat
+ * across restarts. The last-modified time is read from the database only
+ * the first time a collection is requested; afterwards it is advanced on
+ * every write, by at least one second so that second-resolution
+ * {@code If-Modified-Since} checks always observe the change.</p>
+ *
+ * <p>Counters live in the memory of one instance. Behind a load balancer
+ * each instance issues its own tags, which only costs an extra full
+ * response when a client switches instance.</p>
+ *
+ * @see ResourceVersion
+ * @see ResourceChangedEvent
+ */
+@Component
+@Slf4j
+public class ResourceVersions {
+
+  private final String instanceTag = Long.toString(
+    System.currentTimeMillis(),
+    36
+  );
+
+  private final ConcurrentMap<String, State> states =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Returns the current version of a collection.
+   *
+   * @param resource Name of the collection
+   * @param lastModifiedLoader Loads the latest modification time from the
+   *        database; only called the first time the collection is requested
+   * @return The current version
+   */
+  public ResourceVersion current(
+    String resource,
+    Supplier<LocalDateTime> lastModifiedLoader
+  ) {
+    State state = states.computeIfAbsent(resource, key ->
+      new State(0, toInstant(lastModifiedLoader.get()))
+    );
+    return new ResourceVersion(
+      "\"" + resource + "-" + instanceTag + "-" + state.counter + "\"",
+      state.lastModified
+    );
+  }
+
+  /**
+   * Marks a collection as modified now.
+   *
+   * @param resource Name of the collection
+   */
+  public void bump(String resource) {
+    Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    State state = states.compute(resource, (key, previous) -> {
+      if (previous == null) {
+        return new State(1, now);
+      }
+      Instant lastModified = previous.lastModified;
+      if (lastModified == null || lastModified.isBefore(now)) {
+        lastModified = now;
+      } else {
+        lastModified = lastModified.plusSeconds(1);
+      }
+      return new State(previous.counter + 1, lastModified);
+    });
+    log.debug("Resource {} is now at version {}", resource, state.counter);
+  }
+
+  /**
+   * Bumps the version of a collection once a write has committed.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  public void onResourceChanged(ResourceChangedEvent event) {
+    bump(event.getResource());
+  }
+
+  private static Instant toInstant(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      return null;
+    }
+    return dateTime
+      .atZone(ZoneId.systemDefault())
+      .toInstant()
+      .truncatedTo(ChronoUnit.SECONDS);
+  }
+
+  private static final class State {
+
+    private final long counter;
+    private final Instant lastModified;
+
+    private State(long counter, Instant lastModified) {
+      this.counter = counter;
+      this.lastModified = lastModified;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.sigrap.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a write method to be run again when its transaction loses an
+ * optimistic locking race against a concurrent one.
+ *
+ * <p>This annotation works with the ConflictRetryAspect, which wraps the
+ * method's transaction: each attempt runs in a new transaction, after a
+ * randomized exponential backoff. Calls made inside an already running
+ * transaction are not retried, since the outer transaction is already
+ * lost.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@literal @}Transactional
+ * {@literal @}RetryOnConflict
+ * public ProductInfo update(Integer id, ProductData productData) {
+ *     // Business logic...
+ * }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+  /**
+   * Maximum number of attempts, including the first one.
+   * Zero or less uses {@code app.concurrency.retry.max-attempts}.
+   */
+  int maxAttempts() default 0;
+}
@@ -0,0 +1,67 @@
+package com.sigrap.common;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Thrown when an update is based on a version of an entity older than the one
+ * stored, meaning someone else changed it after the client read it.
+ *
+ * <p>Unlike a conflict between two concurrent transactions, retrying cannot
+ * resolve this one: the client has to read the entity again. It is reported
+ * as {@code 409 Conflict}.</p>
+ */
+public class StaleVersionException
+  extends ObjectOptimisticLockingFailureException {
+
+  /**
+   * Creates the exception for an entity whose stored version differs from the
+   * expected one.
+   *
+   * @param type Class of the entity
+   * @param id ID of the entity
+   * @param expected Version the client based the update on
+   * @param actual Version currently stored
+   */
+  public StaleVersionException(
+    Class<?> type,
+    Object id,
+    long expected,
+    long actual
+  ) {
+    super(
+      type,
+      id,
+      type.getSimpleName() +
+      " " +
+      id +
+      " was modified by someone else (version " +
+      actual +
+      ", expected " +
+      expected +
+      ")",
+      null
+    );
+  }
+
+  /**
+   * Checks the version a client based an update on against the stored one.
+   *
+   * @param type Class of the entity
+   * @param id ID of the entity
+   * @param expected Version the client based the update on, or null to skip
+   *        the check
+   * @param actual Version currently stored
+   * @throws StaleVersionException if a version is given and differs from the
+   *         stored one
+   */
+  public static void check(
+    Class<?> type,
+    Object id,
+    Long expected,
+    long actual
+  ) {
+    if (expected != null && expected != actual) {
+      throw new StaleVersionException(type, id, expected, actual);
+    }
+  }
+}
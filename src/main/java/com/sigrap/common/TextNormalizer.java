@@ -0,0 +1,74 @@
+package com.sigrap.common;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization helpers used by the in-memory search indexes.
+ *
+ * <p>Normalized text is lower case, has diacritics removed and keeps only
+ * letters and digits separated by single spaces, so that Spanish input such as
+ * {@code "Cuadérno Pequeño"} and {@code "cuaderno pequeno"} compare equal.</p>
+ */
+public final class TextNormalizer {
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern NON_ALPHANUMERIC = Pattern.compile(
+    "[^\\p{Alnum}]+"
+  );
+
+  private TextNormalizer() {}
+
+  /**
+   * Normalizes text for accent and case insensitive comparison.
+   *
+   * @param text The text to normalize, may be null
+   * @return The normalized text, empty when the input is null or blank
+   */
+  public static String normalize(String text) {
+    if (text == null || text.isBlank()) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    String withoutMarks = DIACRITICS.matcher(decomposed).replaceAll("");
+    return NON_ALPHANUMERIC.matcher(withoutMarks.toLowerCase(Locale.ROOT))
+      .replaceAll(" ")
+      .trim();
+  }
+
+  /**
+   * Splits text into normalized words.
+   *
+   * @param text The text to tokenize, may be null
+   * @return The normalized words in order of appearance
+   */
+  public static List<String> tokens(String text) {
+    String normalized = normalize(text);
+    if (normalized.isEmpty()) {
+      return List.of();
+    }
+    return Arrays.asList(normalized.split(" "));
+  }
+
+  /**
+   * Computes the trigrams of a normalized word.
+   * The word is padded with a leading and trailing space so that word
+   * boundaries contribute to similarity.
+   *
+   * @param word A normalized word
+   * @return The distinct trigrams of the word
+   */
+  public static Set<String> trigrams(String word) {
+    String padded = " " + word + " ";
+    Set<String> trigrams = new LinkedHashSet<>();
+    for (int i = 0; i + 3 <= padded.length(); i++) {
+      trigrams.add(padded.substring(i, i + 3));
+    }
+    return trigrams;
+  }
+}
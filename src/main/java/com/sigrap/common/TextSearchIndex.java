@@ -0,0 +1,482 @@
+package com.sigrap.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Base of the in-memory text indexes kept over a table.
+ *
+ * <p>Entries are indexed by their words after
+ * {@link TextNormalizer#normalize(String) normalization}, so lookups are case
+ * and accent insensitive. Two structures back the lookups:
+ * <ul>
+ *   <li>a sorted word map used for exact and prefix matches</li>
+ *   <li>trigram postings used for typo-tolerant matches</li>
+ * </ul>
+ * Subclasses load the entries, decide which words and trigrams each one
+ * contributes and how well a query word matches it, and rank the matches.</p>
+ *
+ * <p>The index is built when the application starts and refreshed entry by
+ * entry afterwards. Readers never block: writers mutate concurrent structures
+ * under the index lock, and full rebuilds swap in a freshly built state.</p>
+ *
+ * @param <K> Type of the IDs of the indexed rows
+ * @param <E> Type of the index entries
+ */
+@Slf4j
+public abstract class TextSearchIndex<K, E extends TextSearchIndex.Entry<K>> {
+
+  /**
+   * Maximum number of results returned by a single lookup.
+   */
+  public static final int MAX_RESULTS = 100;
+
+  protected static final double EXACT_MATCH = 1.0;
+  protected static final double PREFIX_MATCH = 0.8;
+  protected static final double SUBSTRING_MATCH = 0.6;
+  protected static final double FUZZY_MATCH = 0.5;
+  protected static final double MIN_TRIGRAM_SIMILARITY = 0.5;
+  protected static final double NAME_PREFIX_BONUS = 0.1;
+  protected static final int MIN_FUZZY_LENGTH = 3;
+
+  private volatile IndexState<K, E> state = new IndexState<>();
+
+  /**
+   * Rebuilds the whole index from the database.
+   * Runs once the application has started and after bulk changes.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    long start = System.nanoTime();
+    IndexState<K, E> fresh = new IndexState<>();
+    loadAll().forEach(fresh::put);
+    state = fresh;
+    log.info(
+      "{} built with {} entries in {} ms",
+      getClass().getSimpleName(),
+      fresh.entries.size(),
+      (System.nanoTime() - start) / 1_000_000
+    );
+  }
+
+  /**
+   * Reloads the given rows into the index, removing those that no longer
+   * exist.
+   *
+   * @param ids IDs of the rows to reload
+   */
+  public synchronized void refresh(Collection<K> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    Set<K> missing = new HashSet<>(ids);
+    for (E entry : load(ids)) {
+      state.put(entry);
+      missing.remove(entry.getId());
+    }
+    missing.forEach(state::remove);
+  }
+
+  /**
+   * Returns the number of rows currently indexed.
+   *
+   * @return The indexed row count
+   */
+  public int size() {
+    return state.entries.size();
+  }
+
+  /**
+   * Builds the entries of every row.
+   *
+   * @return The entries
+   */
+  protected abstract List<E> loadAll();
+
+  /**
+   * Builds the entries of the given rows, leaving out those that do not
+   * exist.
+   *
+   * @param ids IDs of the rows
+   * @return The entries of the existing rows
+   */
+  protected abstract List<E> load(Collection<K> ids);
+
+  /**
+   * Finds the entries that every word of a query matches, either through a
+   * word prefix or, from {@value #MIN_FUZZY_LENGTH} characters on, through
+   * shared trigrams. The relevance of a match is the mean
+   * {@link Entry#quality(String, Set) quality} of the query words, plus
+   * {@value #NAME_PREFIX_BONUS} when the entry name starts with the query.
+   *
+   * @param query The search text
+   * @return The matches, unordered
+   */
+  protected List<Match<E>> match(String query) {
+    List<String> tokens = tokensOf(query);
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+    IndexState<K, E> current = state;
+    String normalizedQuery = String.join(" ", tokens);
+    List<Set<String>> tokenTrigrams = tokens
+      .stream()
+      .map(TextNormalizer::trigrams)
+      .toList();
+
+    Set<K> candidates = null;
+    for (int i = 0; i < tokens.size(); i++) {
+      Set<K> matches = current.candidates(tokens.get(i), tokenTrigrams.get(i));
+      if (candidates == null) {
+        candidates = matches;
+      } else {
+        candidates.retainAll(matches);
+      }
+      if (candidates.isEmpty()) {
+        return List.of();
+      }
+    }
+
+    List<Match<E>> matches = new ArrayList<>();
+    for (K id : candidates) {
+      E entry = current.entries.get(id);
+      if (entry == null) {
+        continue;
+      }
+      double relevance = 0;
+      boolean allMatched = true;
+      for (int i = 0; i < tokens.size() && allMatched; i++) {
+        double quality = entry.quality(tokens.get(i), tokenTrigrams.get(i));
+        relevance += quality;
+        allMatched = quality > 0;
+      }
+      if (!allMatched) {
+        continue;
+      }
+      relevance /= tokens.size();
+      if (entry.getName().startsWith(normalizedQuery)) {
+        relevance += NAME_PREFIX_BONUS;
+      }
+      matches.add(new Match<>(entry, relevance));
+    }
+    return matches;
+  }
+
+  /**
+   * Finds the entries having, for every given word, an indexed word that
+   * starts with it.
+   *
+   * @param tokens The normalized words
+   * @return The matching entries, unordered
+   */
+  protected List<E> withWordPrefixes(List<String> tokens) {
+    IndexState<K, E> current = state;
+    Set<K> candidates = null;
+    for (String token : tokens) {
+      Set<K> matches = current.withWordPrefix(token);
+      if (candidates == null) {
+        candidates = matches;
+      } else {
+        candidates.retainAll(matches);
+      }
+      if (candidates.isEmpty()) {
+        return List.of();
+      }
+    }
+    if (candidates == null) {
+      return List.of();
+    }
+    return candidates
+      .stream()
+      .map(current.entries::get)
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
+  /**
+   * Splits a query into its distinct normalized words.
+   *
+   * @param query The query
+   * @return The words, in order of first appearance
+   */
+  protected static List<String> tokensOf(String query) {
+    return TextNormalizer.tokens(query).stream().distinct().toList();
+  }
+
+  /**
+   * Caps a requested result count to between one and {@link #MAX_RESULTS}.
+   *
+   * @param limit The requested count
+   * @return The capped count
+   */
+  protected static int clamp(int limit) {
+    return Math.max(1, Math.min(limit, MAX_RESULTS));
+  }
+
+  /**
+   * Collects the trigrams of a list of words.
+   *
+   * @param words The normalized words
+   * @return Their trigrams
+   */
+  protected static Set<String> trigramsOf(List<String> words) {
+    Set<String> trigrams = new HashSet<>();
+    words.forEach(word -> trigrams.addAll(TextNormalizer.trigrams(word)));
+    return trigrams;
+  }
+
+  /**
+   * Scores the best match of a query word against a list of words: exact,
+   * prefix or, from {@value #MIN_FUZZY_LENGTH} characters on, substring.
+   *
+   * @param token The normalized query word
+   * @param words The normalized words of a field
+   * @return The match quality, 0 if no word matches
+   */
+  protected static double wordMatch(String token, List<String> words) {
+    double best = 0;
+    for (String word : words) {
+      if (word.equals(token)) {
+        return EXACT_MATCH;
+      }
+      if (word.startsWith(token)) {
+        best = Math.max(best, PREFIX_MATCH);
+      } else if (
+        token.length() >= MIN_FUZZY_LENGTH && word.contains(token)
+      ) {
+        best = Math.max(best, SUBSTRING_MATCH);
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Scores a query word against a field, falling back to trigram similarity
+   * when no word of the field matches.
+   *
+   * @param token The normalized query word
+   * @param tokenTrigrams The trigrams of the query word
+   * @param words The normalized words of the field
+   * @param fieldTrigrams The trigrams of the field
+   * @return The match quality, 0 if the word does not match the field
+   */
+  protected static double fieldQuality(
+    String token,
+    Set<String> tokenTrigrams,
+    List<String> words,
+    Set<String> fieldTrigrams
+  ) {
+    double wordMatch = wordMatch(token, words);
+    if (wordMatch > 0 || token.length() < MIN_FUZZY_LENGTH) {
+      return wordMatch;
+    }
+    int shared = 0;
+    for (String trigram : tokenTrigrams) {
+      if (fieldTrigrams.contains(trigram)) {
+        shared++;
+      }
+    }
+    double similarity = (double) shared / tokenTrigrams.size();
+    return similarity >= MIN_TRIGRAM_SIMILARITY ? FUZZY_MATCH * similarity : 0;
+  }
+
+  /**
+   * Indexed representation of a single row.
+   *
+   * @param <K> Type of the row ID
+   */
+  protected abstract static class Entry<K> {
+
+    private final K id;
+    private final String name;
+
+    /**
+     * Creates an entry.
+     *
+     * @param id The ID of the row
+     * @param nameWords The normalized words of the row's name
+     */
+    protected Entry(K id, List<String> nameWords) {
+      this.id = id;
+      this.name = String.join(" ", nameWords);
+    }
+
+    /**
+     * Returns the ID of the row.
+     *
+     * @return The ID
+     */
+    public K getId() {
+      return id;
+    }
+
+    /**
+     * Returns the normalized name of the row.
+     *
+     * @return The name, words separated by single spaces
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the words posted in the word map for this entry.
+     *
+     * @return The normalized words
+     */
+    protected abstract Set<String> words();
+
+    /**
+     * Returns the trigrams posted for typo-tolerant matches of this entry.
+     *
+     * @return The trigrams
+     */
+    protected abstract Set<String> trigrams();
+
+    /**
+     * Scores how well a query word matches this entry.
+     *
+     * @param token The normalized query word
+     * @param tokenTrigrams The trigrams of the query word
+     * @return The match quality, 0 if the word does not match
+     */
+    protected abstract double quality(String token, Set<String> tokenTrigrams);
+  }
+
+  /**
+   * Entry matched by a query, paired with its relevance.
+   *
+   * @param <E> Type of the entry
+   */
+  protected static final class Match<E> {
+
+    private final E entry;
+    private final double relevance;
+
+    private Match(E entry, double relevance) {
+      this.entry = entry;
+      this.relevance = relevance;
+    }
+
+    /**
+     * Returns the matched entry.
+     *
+     * @return The entry
+     */
+    public E entry() {
+      return entry;
+    }
+
+    /**
+     * Returns the relevance of the match.
+     *
+     * @return The relevance
+     */
+    public double relevance() {
+      return relevance;
+    }
+  }
+
+  /**
+   * Postings and entries making up one generation of the index.
+   */
+  private static final class IndexState<K, E extends Entry<K>> {
+
+    private final Map<K, E> entries = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<K>> wordPostings =
+      new ConcurrentSkipListMap<>();
+    private final Map<String, Set<K>> trigramPostings =
+      new ConcurrentHashMap<>();
+
+    private void put(E entry) {
+      K id = entry.getId();
+      E previous = entries.get(id);
+      entry.words().forEach(word -> post(wordPostings, word, id));
+      entry.trigrams().forEach(trigram -> post(trigramPostings, trigram, id));
+      entries.put(id, entry);
+      if (previous != null) {
+        Set<String> staleWords = previous.words();
+        staleWords.removeAll(entry.words());
+        staleWords.forEach(word -> unpost(wordPostings, word, id));
+        Set<String> staleTrigrams = previous.trigrams();
+        staleTrigrams.removeAll(entry.trigrams());
+        staleTrigrams.forEach(trigram -> unpost(trigramPostings, trigram, id));
+      }
+    }
+
+    private void remove(K id) {
+      E previous = entries.remove(id);
+      if (previous != null) {
+        previous.words().forEach(word -> unpost(wordPostings, word, id));
+        previous.trigrams().forEach(trigram ->
+          unpost(trigramPostings, trigram, id)
+        );
+      }
+    }
+
+    private Set<K> withWordPrefix(String prefix) {
+      Set<K> ids = new HashSet<>();
+      wordPostings
+        .subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+        .values()
+        .forEach(ids::addAll);
+      return ids;
+    }
+
+    private Set<K> candidates(String token, Set<String> tokenTrigrams) {
+      Set<K> ids = withWordPrefix(token);
+      if (token.length() < MIN_FUZZY_LENGTH) {
+        return ids;
+      }
+      Map<K, Integer> hits = new HashMap<>();
+      for (String trigram : tokenTrigrams) {
+        Set<K> postings = trigramPostings.get(trigram);
+        if (postings != null) {
+          postings.forEach(id -> hits.merge(id, 1, Integer::sum));
+        }
+      }
+      int required = (int) Math.ceil(
+        tokenTrigrams.size() * MIN_TRIGRAM_SIMILARITY
+      );
+      hits.forEach((id, count) -> {
+        if (count >= required) {
+          ids.add(id);
+        }
+      });
+      return ids;
+    }
+
+    private static <K> void post(
+      Map<String, Set<K>> postings,
+      String key,
+      K id
+    ) {
+      postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private static <K> void unpost(
+      Map<String, Set<K>> postings,
+      String key,
+      K id
+    ) {
+      postings.computeIfPresent(key, (k, ids) -> {
+        ids.remove(id);
+        return ids.isEmpty() ? null : ids;
+      });
+    }
+  }
+}
@@ -12,6 +12,8 @@
  * <ul>
  *   <li>{@code @DataToEntity} - Custom annotation for DTO to entity mapping</li>
  *   <li>{@code @EntityToInfo} - Custom annotation for entity to DTO mapping</li>
+ *   <li>{@code @RetryOnConflict} - Retries writes that lose an optimistic
+ *       locking race, with jittered backoff and conflict metrics</li>
  *   <li>Common mapping interfaces and implementations</li>
  * </ul></p>
  *
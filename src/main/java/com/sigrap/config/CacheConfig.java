@@ -0,0 +1,13 @@
+package com.sigrap.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for application-level caching.
+ * Cache names, sizes and eviction policy are defined through the
+ * {@code spring.cache.*} properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {}
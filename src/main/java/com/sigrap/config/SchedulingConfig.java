@@ -0,0 +1,13 @@
+package com.sigrap.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling scheduled background jobs.
+ * Each job reads its cron expression from an {@code app.*} property; setting
+ * the property to {@code -} disables the job.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
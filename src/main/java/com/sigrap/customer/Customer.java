@@ -2,6 +2,7 @@ package com.sigrap.customer;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,7 +11,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,9 +29,18 @@ import lombok.NoArgsConstructor;
  *   <li>Address information</li>
  *   <li>Audit timestamps</li>
  * </ul></p>
+ *
+ * <p>Document ID and phone number are indexed for exact lookups at checkout;
+ * the email address is unique and indexed by its constraint.</p>
  */
 @Entity
-@Table(name = "customers")
+@Table(
+  name = "customers",
+  indexes = {
+    @Index(name = "idx_customers_document_id", columnList = "document_id"),
+    @Index(name = "idx_customers_phone_number", columnList = "phone_number"),
+  }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -84,4 +96,14 @@ public class Customer {
   @UpdateTimestamp
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
+
+  /**
+   * Version used for optimistic locking.
+   * Incremented on every update, so a write based on a stale copy of the
+   * customer fails instead of overwriting a concurrent change.
+   */
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
 }
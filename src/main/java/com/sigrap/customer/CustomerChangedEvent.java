@@ -0,0 +1,72 @@
+package com.sigrap.customer;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event published whenever customers are created, modified or removed.
+ *
+ * <p>Writers publish this event inside their transaction; listeners such as
+ * {@link CustomerSearchIndex} and {@link CustomerLookupCache} react to it once
+ * the transaction has committed.</p>
+ *
+ * <p>An event either targets a specific set of customer IDs or, after a bulk
+ * import, every customer.</p>
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CustomerChangedEvent {
+
+  /**
+   * IDs of the customers affected by the change.
+   * Empty when {@link #isAll()} is true.
+   */
+  private final Set<Long> customerIds;
+
+  /**
+   * Whether the change may affect any customer.
+   */
+  private final boolean all;
+
+  /**
+   * Creates an event targeting the given customers.
+   *
+   * @param customerIds IDs of the affected customers
+   * @return The event
+   */
+  public static CustomerChangedEvent of(Collection<Long> customerIds) {
+    return new CustomerChangedEvent(
+      customerIds
+        .stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableSet()),
+      false
+    );
+  }
+
+  /**
+   * Creates an event targeting a single customer.
+   *
+   * @param customerId ID of the affected customer
+   * @return The event
+   */
+  public static CustomerChangedEvent of(Long customerId) {
+    return of(Set.of(customerId));
+  }
+
+  /**
+   * Creates an event signalling that any customer may have changed.
+   *
+   * @return The event
+   */
+  public static CustomerChangedEvent all() {
+    return new CustomerChangedEvent(Set.of(), true);
+  }
+}
@@ -8,6 +8,10 @@ import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -35,6 +39,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class CustomerController {
 
   private final CustomerService customerService;
+  private final CustomerStatsService customerStatsService;
+  private final CustomerDeduplicationService customerDeduplicationService;
+  private final CustomerSegmentationService customerSegmentationService;
 
   /**
    * Retrieves all customers.
@@ -187,16 +194,260 @@ public class CustomerController {
     customerService.delete(id);
   }
 
+  /**
+   * Retrieves a customer's profile: lifetime purchase totals and one page of
+   * their purchase history, newest first.
+   *
+   * @param id The ID of the customer
+   * @param cursor The cursor returned with the previous page, if any
+   * @param size Maximum number of purchases per page
+   * @return The customer's profile
+   */
+  @GetMapping("/{id}/profile")
+  @Operation(
+    summary = "Get customer profile",
+    description = "Retrieves lifetime purchase totals and a page of purchase history",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Successfully retrieved profile"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid page size or cursor"
+      ),
+      @ApiResponse(responseCode = "404", description = "Customer not found"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public CustomerProfileInfo findProfile(
+    @Parameter(
+      description = "ID of the customer",
+      required = true
+    ) @PathVariable Long id,
+    @Parameter(
+      description = "Cursor of the next page, from the previous response"
+    ) @RequestParam(required = false) String cursor,
+    @Parameter(
+      description = "Number of purchases per page (up to 100)"
+    ) @RequestParam(defaultValue = "20") int size
+  ) {
+    return customerStatsService.findProfile(id, cursor, size);
+  }
+
+  /**
+   * Retrieves the proposed merges of duplicate customers awaiting review.
+   *
+   * @param pageable Page number, size and sort order
+   * @return Page of pending merge proposals
+   */
+  @GetMapping("/duplicates")
+  @Operation(
+    summary = "Find duplicate customers",
+    description = "Retrieves the proposed merges of duplicate customers awaiting review",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Successfully retrieved proposals"
+      ),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public Page<CustomerMergeProposalInfo> findDuplicates(
+    @PageableDefault(
+      size = 20,
+      sort = "score",
+      direction = Sort.Direction.DESC
+    ) Pageable pageable
+  ) {
+    return customerDeduplicationService.findProposals(pageable);
+  }
+
+  /**
+   * Scans the customers for duplicates now instead of waiting for the
+   * nightly run.
+   *
+   * @return The summary of the scan
+   */
+  @PostMapping("/duplicates/scan")
+  @Operation(
+    summary = "Scan for duplicate customers",
+    description = "Replaces the pending merge proposals with the duplicates found now",
+    responses = {
+      @ApiResponse(responseCode = "200", description = "Scan completed"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public CustomerDeduplicationInfo scanDuplicates() {
+    return customerDeduplicationService.scan();
+  }
+
+  /**
+   * Approves a merge proposal, merging the duplicate customer into the
+   * survivor.
+   *
+   * @param id The ID of the merge proposal
+   * @return The surviving customer
+   */
+  @PostMapping("/duplicates/{id}/approve")
+  @Operation(
+    summary = "Approve a customer merge",
+    description = "Moves the duplicate's sales and returns to the survivor and deletes the duplicate",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Customers successfully merged"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Proposal already reviewed"
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Proposal or customer not found"
+      ),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public CustomerInfo approveMerge(
+    @Parameter(
+      description = "ID of the merge proposal",
+      required = true
+    ) @PathVariable Long id
+  ) {
+    return customerDeduplicationService.approve(id);
+  }
+
+  /**
+   * Rejects a merge proposal so the pair is not proposed again.
+   *
+   * @param id The ID of the merge proposal
+   */
+  @PostMapping("/duplicates/{id}/reject")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @Operation(
+    summary = "Reject a customer merge",
+    description = "Marks the customers of a proposal as distinct",
+    responses = {
+      @ApiResponse(
+        responseCode = "204",
+        description = "Proposal successfully rejected"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Proposal already reviewed"
+      ),
+      @ApiResponse(responseCode = "404", description = "Proposal not found"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public void rejectMerge(
+    @Parameter(
+      description = "ID of the merge proposal",
+      required = true
+    ) @PathVariable Long id
+  ) {
+    customerDeduplicationService.reject(id);
+  }
+
+  /**
+   * Retrieves the number of customers in each RFM segment.
+   *
+   * @return The size of every segment
+   */
+  @GetMapping("/segments")
+  @Operation(
+    summary = "Find customer segments",
+    description = "Retrieves the number of customers in each recency, frequency and monetary segment",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Successfully retrieved segments"
+      ),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public List<CustomerSegmentInfo> findSegments() {
+    return customerSegmentationService.findSegments();
+  }
+
+  /**
+   * Retrieves the customers of an RFM segment.
+   *
+   * @param segment The segment
+   * @param pageable Page number, size and sort order
+   * @return Page of segment members with their scores
+   */
+  @GetMapping("/segments/{segment}")
+  @Operation(
+    summary = "Find customers in a segment",
+    description = "Retrieves the customers of a segment with their RFM scores",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Successfully retrieved segment members"
+      ),
+      @ApiResponse(responseCode = "400", description = "Unknown segment"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public Page<CustomerSegmentMemberInfo> findSegmentMembers(
+    @Parameter(
+      description = "The segment",
+      required = true
+    ) @PathVariable RfmSegment segment,
+    @PageableDefault(
+      size = 20,
+      sort = "totalSpend",
+      direction = Sort.Direction.DESC
+    ) Pageable pageable
+  ) {
+    return customerSegmentationService.findMembers(segment, pageable);
+  }
+
+  /**
+   * Recomputes the RFM segments now instead of waiting for the nightly run.
+   *
+   * @return The summary of the run
+   */
+  @PostMapping("/segments/recompute")
+  @Operation(
+    summary = "Recompute customer segments",
+    description = "Recomputes the segment of every customer with sales",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Segments recomputed"
+      ),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public CustomerSegmentationInfo recomputeSegments() {
+    return customerSegmentationService.run();
+  }
+
   /**
    * Searches for customers by name.
    *
+   * <p>Names are matched word by word as prefixes, ignoring case and accents
+   * and tolerating small typos.</p>
+   *
    * @param query The search term to match against customer names
-   * @return List of matching customers
+   * @param limit Maximum number of results
+   * @return List of matching customers, best matches first
    */
   @GetMapping("/search")
   @Operation(
     summary = "Search customers by name",
-    description = "Searches for customers whose first name or last name contains the search term",
+    description = "Searches for customers whose name words start with or resemble the search terms",
     responses = {
       @ApiResponse(
         responseCode = "200",
@@ -210,9 +461,41 @@ public class CustomerController {
     @Parameter(
       description = "Search term to match against names",
       required = true
-    ) @RequestParam String query
+    ) @RequestParam String query,
+    @Parameter(
+      description = "Maximum number of results (up to 100)"
+    ) @RequestParam(defaultValue = "20") int limit
+  ) {
+    return customerService.searchByName(query, limit);
+  }
+
+  /**
+   * Finds customers by exact document ID, email address or phone number.
+   *
+   * @param value The document ID, email address or phone number
+   * @return Matching customers, empty if none
+   */
+  @GetMapping("/lookup")
+  @Operation(
+    summary = "Look up customers at checkout",
+    description = "Finds customers whose document ID, email address or phone number equals the given value",
+    responses = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Lookup completed successfully"
+      ),
+      @ApiResponse(responseCode = "400", description = "Blank value"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Forbidden"),
+    }
+  )
+  public List<CustomerInfo> lookup(
+    @Parameter(
+      description = "Document ID, email address or phone number",
+      required = true
+    ) @RequestParam String value
   ) {
-    return customerService.searchByName(query);
+    return customerService.lookup(value);
   }
 
   /**
@@ -81,4 +81,14 @@ public class CustomerData {
     example = "123 Main St, Anytown"
   )
   private String address;
+
+  /**
+   * Version of the customer the update is based on, as last read by the client.
+   * When given, the update is rejected if the customer has changed since.
+   */
+  @Schema(
+    description = "Version the update is based on, to detect conflicts",
+    example = "3"
+  )
+  private Long version;
 }
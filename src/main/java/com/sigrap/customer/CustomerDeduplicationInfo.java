@@ -0,0 +1,38 @@
+package com.sigrap.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) summarizing a customer deduplication scan.
+ *
+ * @see CustomerDeduplicationService#scan()
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a customer deduplication scan")
+public class CustomerDeduplicationInfo {
+
+  /**
+   * Number of customers scanned.
+   */
+  @Schema(description = "Number of customers scanned", example = "5400")
+  private int customerCount;
+
+  /**
+   * Number of candidate pairs compared.
+   */
+  @Schema(description = "Number of candidate pairs compared", example = "830")
+  private int comparisonCount;
+
+  /**
+   * Number of merges proposed.
+   */
+  @Schema(description = "Number of merges proposed", example = "42")
+  private int proposalCount;
+}
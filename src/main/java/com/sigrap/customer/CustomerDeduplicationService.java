@@ -0,0 +1,275 @@
+package com.sigrap.customer;
+
+import com.sigrap.audit.Auditable;
+import com.sigrap.common.RetryOnConflict;
+import com.sigrap.sale.SaleRepository;
+import com.sigrap.sale.SaleReturnRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service finding duplicate customers and merging them once reviewed.
+ *
+ * <p>A nightly scan runs the {@link CustomerDuplicateDetector} over every
+ * customer and replaces the pending {@link CustomerMergeProposal}s with its
+ * findings. Pairs a reviewer has rejected are not proposed again. Nothing is
+ * merged automatically.</p>
+ *
+ * <p>Approving a proposal moves the sales and sales returns of the duplicate
+ * to the surviving customer with one bulk update per table, folds the
+ * duplicate's purchase totals into the survivor's, copies over any contact
+ * details the survivor lacks and deletes the duplicate together with its
+ * segment and any other pending proposal involving it. Both customers are
+ * locked for the duration, in ID order.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerDeduplicationService {
+
+  private final CustomerRepository customerRepository;
+  private final CustomerMergeProposalRepository customerMergeProposalRepository;
+  private final CustomerStatsService customerStatsService;
+  private final CustomerSegmentRepository customerSegmentRepository;
+  private final SaleRepository saleRepository;
+  private final SaleReturnRepository saleReturnRepository;
+  private final CustomerMapper customerMapper;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${app.customers.dedup.max-block-size:50}")
+  private int maxBlockSize;
+
+  @Value("${app.customers.dedup.min-score:0.6}")
+  private double minScore;
+
+  @Value("${app.customers.dedup.chunk-size:10000}")
+  private int chunkSize;
+
+  @Value("${app.customers.dedup.parallelism:4}")
+  private int parallelism;
+
+  /**
+   * Looks for duplicate customers and replaces the pending proposals with
+   * the ones found.
+   *
+   * @return The summary of the scan
+   */
+  @Scheduled(cron = "${app.customers.dedup.cron:0 15 3 * * *}")
+  @Transactional
+  public synchronized CustomerDeduplicationInfo scan() {
+    long start = System.nanoTime();
+    List<Customer> customers = customerRepository.findAll();
+    CustomerDuplicateDetector detector = new CustomerDuplicateDetector(
+      maxBlockSize,
+      minScore,
+      chunkSize,
+      parallelism
+    );
+    CustomerDuplicateDetector.Detection detection = detector.detect(
+      customers
+    );
+
+    Set<String> rejected = new HashSet<>();
+    for (Object[] row : customerMergeProposalRepository.findRejectedPairs()) {
+      rejected.add(pairKey((Long) row[0], (Long) row[1]));
+    }
+    List<CustomerMergeProposal> proposals = detection
+      .proposals()
+      .stream()
+      .filter(proposal ->
+        !rejected.contains(
+          pairKey(proposal.getSurvivorId(), proposal.getDuplicateId())
+        )
+      )
+      .toList();
+
+    customerMergeProposalRepository.deleteByStatus(CustomerMergeStatus.PENDING);
+    customerMergeProposalRepository.saveAll(proposals);
+    log.info(
+      "Customer deduplication compared {} pairs of {} customers and proposed {} merges in {} ms",
+      detection.comparisons(),
+      customers.size(),
+      proposals.size(),
+      (System.nanoTime() - start) / 1_000_000
+    );
+    return CustomerDeduplicationInfo.builder()
+      .customerCount(customers.size())
+      .comparisonCount(detection.comparisons())
+      .proposalCount(proposals.size())
+      .build();
+  }
+
+  /**
+   * Retrieves the merge proposals awaiting review.
+   *
+   * @param pageable Page number, size and sort order
+   * @return Page of pending proposals with both customers
+   */
+  @Transactional(readOnly = true)
+  public Page<CustomerMergeProposalInfo> findProposals(Pageable pageable) {
+    Page<CustomerMergeProposal> page =
+      customerMergeProposalRepository.findByStatus(
+        CustomerMergeStatus.PENDING,
+        pageable
+      );
+    Set<Long> customerIds = new HashSet<>();
+    page.forEach(proposal -> {
+      customerIds.add(proposal.getSurvivorId());
+      customerIds.add(proposal.getDuplicateId());
+    });
+    Map<Long, Customer> customers = customerRepository
+      .findAllById(customerIds)
+      .stream()
+      .collect(Collectors.toMap(Customer::getId, Function.identity()));
+    return page.map(proposal ->
+      CustomerMergeProposalInfo.builder()
+        .id(proposal.getId())
+        .survivor(
+          customerMapper.toCustomerInfo(
+            customers.get(proposal.getSurvivorId())
+          )
+        )
+        .duplicate(
+          customerMapper.toCustomerInfo(
+            customers.get(proposal.getDuplicateId())
+          )
+        )
+        .score(proposal.getScore())
+        .reasons(Arrays.asList(proposal.getReasons().split(",")))
+        .status(proposal.getStatus())
+        .createdAt(proposal.getCreatedAt())
+        .build()
+    );
+  }
+
+  /**
+   * Merges the duplicate customer of a proposal into its survivor.
+   *
+   * @param id The ID of the proposal
+   * @return The surviving customer
+   * @throws EntityNotFoundException if the proposal or either customer does
+   *         not exist
+   * @throws IllegalArgumentException if the proposal was already reviewed
+   */
+  @Transactional
+  @RetryOnConflict
+  @Auditable(action = "FUSIONAR", entity = "CLIENTE", entityIdParam = "id")
+  public CustomerInfo approve(Long id) {
+    CustomerMergeProposal proposal = findPending(id);
+    Long survivorId = proposal.getSurvivorId();
+    Long duplicateId = proposal.getDuplicateId();
+    lock(Math.min(survivorId, duplicateId));
+    lock(Math.max(survivorId, duplicateId));
+    int superseded = customerMergeProposalRepository.deletePendingInvolving(
+      duplicateId,
+      id
+    );
+    customerSegmentRepository.deleteByCustomerId(duplicateId);
+
+    customerStatsService.merge(survivorId, duplicateId);
+    Customer survivorRef = customerRepository.getReferenceById(survivorId);
+    Customer duplicateRef = customerRepository.getReferenceById(duplicateId);
+    int sales = saleRepository.reassignCustomer(duplicateRef, survivorRef);
+    int returns = saleReturnRepository.reassignCustomer(
+      duplicateRef,
+      survivorRef
+    );
+
+    Customer survivor = lock(survivorId);
+    Customer duplicate = lock(duplicateId);
+    if (isBlank(survivor.getDocumentId())) {
+      survivor.setDocumentId(duplicate.getDocumentId());
+    }
+    if (isBlank(survivor.getPhoneNumber())) {
+      survivor.setPhoneNumber(duplicate.getPhoneNumber());
+    }
+    if (isBlank(survivor.getAddress())) {
+      survivor.setAddress(duplicate.getAddress());
+    }
+    customerRepository.delete(duplicate);
+    Customer saved = customerRepository.save(survivor);
+
+    proposal = customerMergeProposalRepository.findById(id).orElseThrow();
+    proposal.setStatus(CustomerMergeStatus.APPROVED);
+    proposal.setResolvedAt(LocalDateTime.now());
+    customerMergeProposalRepository.save(proposal);
+    eventPublisher.publishEvent(
+      CustomerChangedEvent.of(List.of(survivorId, duplicateId))
+    );
+    log.info(
+      "Customer {} merged into {}: {} sales and {} returns moved, " +
+      "{} pending proposals dropped",
+      duplicateId,
+      survivorId,
+      sales,
+      returns,
+      superseded
+    );
+    return customerMapper.toCustomerInfo(saved);
+  }
+
+  /**
+   * Rejects a merge proposal, so the pair is not proposed again.
+   *
+   * @param id The ID of the proposal
+   * @throws EntityNotFoundException if the proposal does not exist
+   * @throws IllegalArgumentException if the proposal was already reviewed
+   */
+  @Transactional
+  @RetryOnConflict
+  public void reject(Long id) {
+    CustomerMergeProposal proposal = findPending(id);
+    proposal.setStatus(CustomerMergeStatus.REJECTED);
+    proposal.setResolvedAt(LocalDateTime.now());
+    customerMergeProposalRepository.save(proposal);
+  }
+
+  private CustomerMergeProposal findPending(Long id) {
+    CustomerMergeProposal proposal = customerMergeProposalRepository
+      .findById(id)
+      .orElseThrow(() ->
+        new EntityNotFoundException("Merge proposal not found with id: " + id)
+      );
+    if (proposal.getStatus() != CustomerMergeStatus.PENDING) {
+      throw new IllegalArgumentException(
+        "Merge proposal " + id + " was already " +
+        proposal.getStatus().name().toLowerCase()
+      );
+    }
+    return proposal;
+  }
+
+  private Customer lock(Long customerId) {
+    return customerRepository
+      .findByIdForUpdate(customerId)
+      .orElseThrow(() ->
+        new EntityNotFoundException(
+          "Customer not found with id: " + customerId
+        )
+      );
+  }
+
+  private static String pairKey(Long survivorId, Long duplicateId) {
+    return survivorId + ":" + duplicateId;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+}
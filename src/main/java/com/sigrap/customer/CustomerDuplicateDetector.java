@@ -0,0 +1,423 @@
+package com.sigrap.customer;
+
+import com.sigrap.common.TextNormalizer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Duplicate customer detection used by the deduplication job.
+ *
+ * <p>Every customer is reduced to normalized keys: the email in lower case,
+ * the document ID and phone number without punctuation (phones keep their
+ * last ten digits, dropping country codes), and the accent-folded words of
+ * the name in alphabetical order. Customers are grouped into blocks by a
+ * 64-bit hash of each key, and only customers sharing a block are compared,
+ * so the work grows with the size of the blocks rather than with the square
+ * of the number of customers. Blocks larger than the configured maximum,
+ * such as a placeholder phone number shared by many customers, carry no
+ * signal and are skipped.</p>
+ *
+ * <p>Candidate pairs are scored in chunks on a small thread pool. Matching
+ * document IDs, emails and phones each add to the score, as does the
+ * trigram similarity of the names; different document IDs count against
+ * it. Pairs reaching the minimum score are joined into clusters, and every
+ * member of a cluster is proposed for merging into its earliest registered
+ * customer.</p>
+ *
+ * <p>The detector holds no state between runs.</p>
+ */
+final class CustomerDuplicateDetector {
+
+  static final String DOCUMENT = "DOCUMENT";
+  static final String EMAIL = "EMAIL";
+  static final String PHONE = "PHONE";
+  static final String NAME = "NAME";
+
+  private static final double DOCUMENT_WEIGHT = 0.45;
+  private static final double EMAIL_WEIGHT = 0.35;
+  private static final double PHONE_WEIGHT = 0.25;
+  private static final double NAME_WEIGHT = 0.35;
+  private static final double DOCUMENT_CONFLICT_PENALTY = 0.5;
+  private static final double NAME_MATCH_SIMILARITY = 0.8;
+  private static final int PHONE_DIGITS = 10;
+  private static final int MIN_PHONE_DIGITS = 7;
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final int maxBlockSize;
+  private final double minScore;
+  private final int chunkSize;
+  private final int parallelism;
+
+  CustomerDuplicateDetector(
+    int maxBlockSize,
+    double minScore,
+    int chunkSize,
+    int parallelism
+  ) {
+    this.maxBlockSize = maxBlockSize;
+    this.minScore = minScore;
+    this.chunkSize = Math.max(1, chunkSize);
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * Finds the duplicates among the given customers.
+   *
+   * @param customers The customers to compare
+   * @return The merge proposals and the number of pairs compared
+   */
+  Detection detect(List<Customer> customers) {
+    List<Candidate> candidates = customers
+      .stream()
+      .map(Candidate::new)
+      .toList();
+    long[] pairs = candidatePairs(candidates);
+    List<Match> matches = score(candidates, pairs);
+    return new Detection(propose(candidates, matches), pairs.length);
+  }
+
+  /**
+   * Collects the distinct pairs of candidates that share at least one block.
+   * A pair of candidate indexes {@code i < j} is packed into one long.
+   */
+  private long[] candidatePairs(List<Candidate> candidates) {
+    Map<Long, List<Integer>> blocks = new HashMap<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      for (long key : candidates.get(i).blockKeys()) {
+        blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+      }
+    }
+    Set<Long> pairs = new HashSet<>();
+    for (List<Integer> block : blocks.values()) {
+      if (block.size() < 2 || block.size() > maxBlockSize) {
+        continue;
+      }
+      for (int a = 0; a < block.size(); a++) {
+        for (int b = a + 1; b < block.size(); b++) {
+          pairs.add(((long) block.get(a) << 32) | block.get(b));
+        }
+      }
+    }
+    return pairs.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  private List<Match> score(List<Candidate> candidates, long[] pairs) {
+    List<long[]> chunks = new ArrayList<>();
+    for (int from = 0; from < pairs.length; from += chunkSize) {
+      chunks.add(
+        Arrays.copyOfRange(
+          pairs,
+          from,
+          Math.min(from + chunkSize, pairs.length)
+        )
+      );
+    }
+    if (chunks.isEmpty()) {
+      return List.of();
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(
+      Math.min(parallelism, chunks.size())
+    );
+    List<Match> matches = new ArrayList<>();
+    try {
+      List<Future<List<Match>>> tasks = new ArrayList<>(chunks.size());
+      for (long[] chunk : chunks) {
+        tasks.add(executor.submit(() -> scoreChunk(candidates, chunk)));
+      }
+      for (Future<List<Match>> task : tasks) {
+        matches.addAll(task.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Customer deduplication interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(
+        "Customer deduplication failed",
+        e.getCause()
+      );
+    } finally {
+      executor.shutdownNow();
+    }
+    return matches;
+  }
+
+  private List<Match> scoreChunk(List<Candidate> candidates, long[] pairs) {
+    List<Match> matches = new ArrayList<>();
+    for (long pair : pairs) {
+      int first = (int) (pair >>> 32);
+      int second = (int) pair;
+      Match match = compare(
+        first,
+        candidates.get(first),
+        second,
+        candidates.get(second)
+      );
+      if (match.score >= minScore) {
+        matches.add(match);
+      }
+    }
+    return matches;
+  }
+
+  private static Match compare(
+    int firstIndex,
+    Candidate first,
+    int secondIndex,
+    Candidate second
+  ) {
+    double score = 0;
+    List<String> reasons = new ArrayList<>();
+    if (!first.document.isEmpty() && !second.document.isEmpty()) {
+      if (first.document.equals(second.document)) {
+        score += DOCUMENT_WEIGHT;
+        reasons.add(DOCUMENT);
+      } else {
+        score -= DOCUMENT_CONFLICT_PENALTY;
+      }
+    }
+    if (!first.email.isEmpty() && first.email.equals(second.email)) {
+      score += EMAIL_WEIGHT;
+      reasons.add(EMAIL);
+    }
+    if (!first.phone.isEmpty() && first.phone.equals(second.phone)) {
+      score += PHONE_WEIGHT;
+      reasons.add(PHONE);
+    }
+    double nameSimilarity = first.nameSimilarity(second);
+    score += NAME_WEIGHT * nameSimilarity;
+    if (nameSimilarity >= NAME_MATCH_SIMILARITY) {
+      reasons.add(NAME);
+    }
+    return new Match(
+      firstIndex,
+      secondIndex,
+      Math.max(0, Math.min(1, score)),
+      String.join(",", reasons)
+    );
+  }
+
+  /**
+   * Joins the matched pairs into clusters and proposes every member of a
+   * cluster for merging into the member with the lowest ID, with the best
+   * match the member took part in.
+   */
+  private static List<CustomerMergeProposal> propose(
+    List<Candidate> candidates,
+    List<Match> matches
+  ) {
+    int[] parent = new int[candidates.size()];
+    for (int i = 0; i < parent.length; i++) {
+      parent[i] = i;
+    }
+    Map<Integer, Match> best = new HashMap<>();
+    for (Match match : matches) {
+      union(parent, candidates, match.first, match.second);
+      for (int member : new int[] { match.first, match.second }) {
+        best.merge(member, match, (current, candidate) ->
+          candidate.score > current.score ? candidate : current
+        );
+      }
+    }
+    List<CustomerMergeProposal> proposals = new ArrayList<>();
+    for (Map.Entry<Integer, Match> entry : best.entrySet()) {
+      int member = entry.getKey();
+      int root = find(parent, member);
+      if (root == member) {
+        continue;
+      }
+      Match match = entry.getValue();
+      proposals.add(
+        CustomerMergeProposal.builder()
+          .survivorId(candidates.get(root).id)
+          .duplicateId(candidates.get(member).id)
+          .score(
+            BigDecimal.valueOf(match.score).setScale(3, RoundingMode.HALF_UP)
+          )
+          .reasons(match.reasons)
+          .status(CustomerMergeStatus.PENDING)
+          .build()
+      );
+    }
+    return proposals;
+  }
+
+  private static int find(int[] parent, int index) {
+    while (parent[index] != index) {
+      parent[index] = parent[parent[index]];
+      index = parent[index];
+    }
+    return index;
+  }
+
+  private static void union(
+    int[] parent,
+    List<Candidate> candidates,
+    int first,
+    int second
+  ) {
+    int firstRoot = find(parent, first);
+    int secondRoot = find(parent, second);
+    if (firstRoot == secondRoot) {
+      return;
+    }
+    if (candidates.get(firstRoot).id < candidates.get(secondRoot).id) {
+      parent[secondRoot] = firstRoot;
+    } else {
+      parent[firstRoot] = secondRoot;
+    }
+  }
+
+  static String normalizeEmail(String email) {
+    return email == null ? "" : email.strip().toLowerCase(Locale.ROOT);
+  }
+
+  static String normalizePhone(String phone) {
+    if (phone == null) {
+      return "";
+    }
+    String digits = phone.replaceAll("\\D", "");
+    if (digits.length() < MIN_PHONE_DIGITS) {
+      return "";
+    }
+    return digits.length() > PHONE_DIGITS
+      ? digits.substring(digits.length() - PHONE_DIGITS)
+      : digits;
+  }
+
+  static String normalizeDocument(String documentId) {
+    return TextNormalizer.normalize(documentId).replace(" ", "");
+  }
+
+  static String normalizeName(String fullName) {
+    return String.join(
+      " ",
+      TextNormalizer.tokens(fullName).stream().sorted().toList()
+    );
+  }
+
+  /**
+   * Computes the 64-bit FNV-1a hash of a blocking key.
+   */
+  private static long hash(String field, String value) {
+    long hash = FNV_OFFSET;
+    for (byte b : (field + ':' + value).getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /**
+   * Result of a detection run.
+   */
+  static final class Detection {
+
+    private final List<CustomerMergeProposal> proposals;
+    private final int comparisons;
+
+    private Detection(List<CustomerMergeProposal> proposals, int comparisons) {
+      this.proposals = proposals;
+      this.comparisons = comparisons;
+    }
+
+    List<CustomerMergeProposal> proposals() {
+      return proposals;
+    }
+
+    int comparisons() {
+      return comparisons;
+    }
+  }
+
+  /**
+   * Normalized keys of one customer.
+   */
+  private static final class Candidate {
+
+    private final long id;
+    private final String email;
+    private final String phone;
+    private final String document;
+    private final String name;
+    private final Set<String> nameTrigrams = new HashSet<>();
+
+    private Candidate(Customer customer) {
+      this.id = customer.getId();
+      this.email = normalizeEmail(customer.getEmail());
+      this.phone = normalizePhone(customer.getPhoneNumber());
+      this.document = normalizeDocument(customer.getDocumentId());
+      this.name = normalizeName(customer.getFullName());
+      for (String word : name.split(" ")) {
+        if (!word.isEmpty()) {
+          nameTrigrams.addAll(TextNormalizer.trigrams(word));
+        }
+      }
+    }
+
+    private List<Long> blockKeys() {
+      List<Long> keys = new ArrayList<>(4);
+      if (!email.isEmpty()) {
+        keys.add(hash(EMAIL, email));
+      }
+      if (!phone.isEmpty()) {
+        keys.add(hash(PHONE, phone));
+      }
+      if (!document.isEmpty()) {
+        keys.add(hash(DOCUMENT, document));
+      }
+      if (!name.isEmpty()) {
+        keys.add(hash(NAME, name));
+      }
+      return keys;
+    }
+
+    private double nameSimilarity(Candidate other) {
+      if (name.isEmpty() || other.name.isEmpty()) {
+        return 0;
+      }
+      if (name.equals(other.name)) {
+        return 1;
+      }
+      int shared = 0;
+      for (String trigram : nameTrigrams) {
+        if (other.nameTrigrams.contains(trigram)) {
+          shared++;
+        }
+      }
+      int union = nameTrigrams.size() + other.nameTrigrams.size() - shared;
+      return union == 0 ? 0 : (double) shared / union;
+    }
+  }
+
+  /**
+   * A pair of candidates scoring at least the minimum.
+   */
+  private static final class Match {
+
+    private final int first;
+    private final int second;
+    private final double score;
+    private final String reasons;
+
+    private Match(int first, int second, double score, String reasons) {
+      this.first = first;
+      this.second = second;
+      this.score = score;
+      this.reasons = reasons;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.sigrap.customer;
+
+import com.sigrap.bulkimport.ImportHandler;
+import com.sigrap.bulkimport.ImportRow;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk import steps for customers.
+ *
+ * <p>Email addresses must be unique. Existing addresses are checked for a
+ * whole chunk with a single query; repeated addresses within the chunk keep
+ * only their first occurrence. Rows in later chunks are checked against the
+ * rows already committed.</p>
+ *
+ * @see com.sigrap.bulkimport.BulkImportService
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerImportHandler implements ImportHandler<CustomerData> {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO customers (full_name, document_id, email, phone_number, " +
+    "address, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final CustomerRepository customerRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public Class<CustomerData> dataType() {
+    return CustomerData.class;
+  }
+
+  @Override
+  public void resolve(List<ImportRow<CustomerData>> rows) {
+    Set<String> emails = new HashSet<>();
+    rows.forEach(row -> emails.add(row.getData().getEmail()));
+    Set<String> taken = new HashSet<>(
+      customerRepository.findExistingEmails(emails)
+    );
+
+    for (ImportRow<CustomerData> row : rows) {
+      String email = row.getData().getEmail();
+      if (!taken.add(email)) {
+        row.reject("Customer with email already exists: " + email);
+      }
+    }
+  }
+
+  @Override
+  @Transactional
+  public void insert(List<ImportRow<CustomerData>> rows) {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL,
+      rows.stream().map(ImportRow::getData).toList(),
+      rows.size(),
+      (ps, data) -> {
+        ps.setString(1, data.getFullName());
+        ps.setString(2, data.getDocumentId());
+        ps.setString(3, data.getEmail());
+        ps.setString(4, data.getPhoneNumber());
+        ps.setString(5, data.getAddress());
+        ps.setObject(6, now);
+        ps.setObject(7, now);
+      }
+    );
+  }
+
+  /**
+   * Rebuilds the customer name index and clears cached lookups once the
+   * import has finished.
+   *
+   * @param imported The number of customers inserted
+   */
+  @Override
+  public void afterImport(int imported) {
+    eventPublisher.publishEvent(CustomerChangedEvent.all());
+  }
+}
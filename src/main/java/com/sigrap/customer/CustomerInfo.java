@@ -88,4 +88,10 @@ public class CustomerInfo {
     example = "2023-01-10T15:30:00"
   )
   private LocalDateTime updatedAt;
+
+  /**
+   * Version of the customer, sent back on update to detect concurrent changes.
+   */
+  @Schema(description = "Version of the customer", example = "3")
+  private Long version;
 }
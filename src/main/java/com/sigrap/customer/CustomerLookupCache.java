@@ -0,0 +1,50 @@
+package com.sigrap.customer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the customer lookup cache consistent with the database.
+ *
+ * <p>{@link CustomerService#lookup(String)} results are cached in
+ * {@value #LOOKUP}, keyed by the value typed at checkout. Size and expiry are
+ * bounded by {@code spring.cache.caffeine.spec}.</p>
+ *
+ * <p>Entries are keyed by document ID, email or phone rather than by
+ * customer, so any committed customer change clears the whole cache; a new
+ * customer must also replace cached empty results.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerLookupCache {
+
+  /**
+   * Cache holding lookup results keyed by the searched value.
+   */
+  public static final String LOOKUP = "customerLookup";
+
+  private final CacheManager cacheManager;
+
+  /**
+   * Clears cached lookups after a committed customer change.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  public void onCustomerChanged(CustomerChangedEvent event) {
+    Cache lookup = cacheManager.getCache(LOOKUP);
+    if (lookup != null) {
+      lookup.clear();
+    }
+    log.debug("Customer lookup cache cleared for {}", event);
+  }
+}
@@ -41,6 +41,7 @@ public class CustomerMapper {
       .address(customer.getAddress())
       .createdAt(customer.getCreatedAt())
       .updatedAt(customer.getUpdatedAt())
+      .version(customer.getVersion())
       .build();
   }
 
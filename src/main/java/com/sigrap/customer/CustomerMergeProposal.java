@@ -0,0 +1,91 @@
+package com.sigrap.customer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * Entity class for a proposal to merge a duplicate customer into another.
+ * Proposals are created by the deduplication job and reviewed by a person.
+ * Customers are referenced by ID without a foreign key, so the history of
+ * approved merges survives the deletion of the duplicate.
+ *
+ * @see CustomerDeduplicationService
+ */
+@Entity
+@Table(
+  name = "customer_merge_proposals",
+  indexes = {
+    @Index(name = "idx_customer_merge_proposals_status", columnList = "status"),
+  }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerMergeProposal {
+
+  /**
+   * Unique identifier of the proposal.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * ID of the customer that is kept.
+   */
+  @Column(name = "survivor_id", nullable = false)
+  private Long survivorId;
+
+  /**
+   * ID of the customer that is merged into the survivor and removed.
+   */
+  @Column(name = "duplicate_id", nullable = false)
+  private Long duplicateId;
+
+  /**
+   * Similarity of the two customers, from 0 to 1.
+   */
+  @Column(nullable = false, precision = 4, scale = 3)
+  private BigDecimal score;
+
+  /**
+   * Comma-separated fields that matched: DOCUMENT, EMAIL, PHONE, NAME.
+   */
+  @Column(nullable = false)
+  private String reasons;
+
+  /**
+   * Review status of the proposal.
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private CustomerMergeStatus status;
+
+  /**
+   * Timestamp of when the proposal was created.
+   */
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  /**
+   * Timestamp of when the proposal was approved or rejected.
+   */
+  @Column(name = "resolved_at")
+  private LocalDateTime resolvedAt;
+}
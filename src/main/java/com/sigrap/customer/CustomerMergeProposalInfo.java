@@ -0,0 +1,68 @@
+package com.sigrap.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a proposal to merge duplicate customers.
+ *
+ * @see CustomerDeduplicationService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Proposal to merge a duplicate customer into another")
+public class CustomerMergeProposalInfo {
+
+  /**
+   * ID of the proposal.
+   */
+  @Schema(description = "ID of the proposal", example = "7")
+  private Long id;
+
+  /**
+   * Customer that is kept.
+   */
+  @Schema(description = "Customer that is kept")
+  private CustomerInfo survivor;
+
+  /**
+   * Customer that is merged into the survivor and removed.
+   */
+  @Schema(description = "Customer that is merged and removed")
+  private CustomerInfo duplicate;
+
+  /**
+   * Similarity of the two customers, from 0 to 1.
+   */
+  @Schema(description = "Similarity of the customers (0-1)", example = "0.950")
+  private BigDecimal score;
+
+  /**
+   * Fields that matched.
+   */
+  @Schema(
+    description = "Fields that matched",
+    example = "[\"EMAIL\", \"NAME\"]"
+  )
+  private List<String> reasons;
+
+  /**
+   * Review status of the proposal.
+   */
+  @Schema(description = "Review status of the proposal", example = "PENDING")
+  private CustomerMergeStatus status;
+
+  /**
+   * Date and time the proposal was created.
+   */
+  @Schema(description = "Date and time the proposal was created")
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,70 @@
+package com.sigrap.customer;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for CustomerMergeProposal entity operations.
+ */
+@Repository
+public interface CustomerMergeProposalRepository
+  extends JpaRepository<CustomerMergeProposal, Long> {
+  /**
+   * Finds the proposals with the given status.
+   *
+   * @param status The status of the proposals
+   * @param pageable Pagination and sorting parameters
+   * @return A page of proposals
+   */
+  Page<CustomerMergeProposal> findByStatus(
+    CustomerMergeStatus status,
+    Pageable pageable
+  );
+
+  /**
+   * Finds the customer pairs whose merge was rejected.
+   *
+   * @return Rows of [survivorId, duplicateId]
+   */
+  @Query(
+    "SELECT p.survivorId, p.duplicateId FROM CustomerMergeProposal p " +
+    "WHERE p.status = com.sigrap.customer.CustomerMergeStatus.REJECTED"
+  )
+  List<Object[]> findRejectedPairs();
+
+  /**
+   * Deletes every proposal with the given status in a single statement.
+   *
+   * @param status The status of the proposals to delete
+   * @return The number of proposals deleted
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM CustomerMergeProposal p WHERE p.status = :status")
+  int deleteByStatus(@Param("status") CustomerMergeStatus status);
+
+  /**
+   * Deletes the pending proposals, other than the given one, that involve a
+   * customer on either side.
+   *
+   * @param customerId The ID of the customer
+   * @param excludedId The ID of the proposal to keep
+   * @return The number of proposals deleted
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+    "DELETE FROM CustomerMergeProposal p " +
+    "WHERE p.status = com.sigrap.customer.CustomerMergeStatus.PENDING " +
+    "AND p.id <> :excludedId " +
+    "AND (p.survivorId = :customerId OR p.duplicateId = :customerId)"
+  )
+  int deletePendingInvolving(
+    @Param("customerId") Long customerId,
+    @Param("excludedId") Long excludedId
+  );
+}
@@ -0,0 +1,21 @@
+package com.sigrap.customer;
+
+/**
+ * Enum defining the possible statuses of a customer merge proposal.
+ */
+public enum CustomerMergeStatus {
+  /**
+   * Proposed by the deduplication job and awaiting review.
+   */
+  PENDING,
+
+  /**
+   * Approved and carried out; the duplicate no longer exists.
+   */
+  APPROVED,
+
+  /**
+   * Rejected by a reviewer; the pair is not proposed again.
+   */
+  REJECTED,
+}
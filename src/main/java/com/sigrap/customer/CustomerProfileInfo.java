@@ -0,0 +1,88 @@
+package com.sigrap.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a customer's profile: their details,
+ * lifetime purchase totals and one page of their purchase history.
+ * Averages are null while the customer has no purchases.
+ *
+ * @see CustomerStatsService#findProfile(Long, String, int)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Customer details with lifetime purchase totals")
+public class CustomerProfileInfo {
+
+  /**
+   * Details of the customer.
+   */
+  @Schema(description = "Details of the customer")
+  private CustomerInfo customer;
+
+  /**
+   * Date and time of the customer's first purchase.
+   */
+  @Schema(description = "Date and time of the first purchase")
+  private LocalDateTime firstPurchaseAt;
+
+  /**
+   * Date and time of the customer's latest purchase.
+   */
+  @Schema(description = "Date and time of the latest purchase")
+  private LocalDateTime lastPurchaseAt;
+
+  /**
+   * Number of purchases made by the customer.
+   */
+  @Schema(description = "Number of purchases", example = "12")
+  private int visits;
+
+  /**
+   * Sum of the amounts paid for all purchases.
+   */
+  @Schema(description = "Total amount spent", example = "1540.00")
+  private BigDecimal lifetimeSpend;
+
+  /**
+   * Average amount paid per purchase.
+   */
+  @Schema(description = "Average amount per purchase", example = "128.33")
+  private BigDecimal averageTicket;
+
+  /**
+   * Number of returns made by the customer.
+   */
+  @Schema(description = "Number of returns", example = "1")
+  private int returnCount;
+
+  /**
+   * Sum of the amounts of all returns.
+   */
+  @Schema(description = "Total amount returned", example = "35.00")
+  private BigDecimal returnsTotal;
+
+  /**
+   * Purchases of the requested page, newest first.
+   */
+  @Schema(description = "Purchases of the requested page, newest first")
+  private List<CustomerPurchaseInfo> purchases;
+
+  /**
+   * Cursor to pass back for the next page, or null on the last page.
+   */
+  @Schema(
+    description = "Cursor of the next page, absent on the last page",
+    example = "MjAyNC0wNS0wMVQxMDowMDoxMn4xMjM"
+  )
+  private String nextCursor;
+}
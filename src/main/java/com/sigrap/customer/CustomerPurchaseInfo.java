@@ -0,0 +1,52 @@
+package com.sigrap.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for one entry of a customer's purchase history.
+ * Summarizes a sale without its items; the full sale is available from the
+ * sales API.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a sale in a customer's purchase history")
+public class CustomerPurchaseInfo {
+
+  /**
+   * ID of the sale.
+   */
+  @Schema(description = "ID of the sale", example = "42")
+  private Integer saleId;
+
+  /**
+   * Date and time of the sale.
+   */
+  @Schema(description = "Date and time of the sale")
+  private LocalDateTime createdAt;
+
+  /**
+   * Amount paid for the sale.
+   */
+  @Schema(description = "Amount paid for the sale", example = "119.00")
+  private BigDecimal finalAmount;
+
+  /**
+   * Number of lines in the sale.
+   */
+  @Schema(description = "Number of lines in the sale", example = "3")
+  private int itemCount;
+
+  /**
+   * Name of the employee who processed the sale.
+   */
+  @Schema(description = "Employee who processed the sale", example = "Ana")
+  private String employeeName;
+}
@@ -1,9 +1,14 @@
 package com.sigrap.customer;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,7 +19,7 @@ import org.springframework.stereotype.Repository;
  * <ul>
  *   <li>Basic CRUD operations</li>
  *   <li>Custom search methods</li>
- *   <li>Email-based lookup</li>
+ *   <li>Exact lookups by email, document ID and phone number</li>
  * </ul></p>
  */
 @Repository
@@ -36,12 +41,29 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
   boolean existsByEmail(String email);
 
   /**
-   * Finds customers whose full name contains the search term (case insensitive).
+   * Returns which of the given email addresses already belong to a customer.
    *
-   * @param searchTerm The search term to match against the full name
+   * @param emails The email addresses to check
+   * @return The subset of emails that are already registered
+   */
+  @Query("SELECT c.email FROM Customer c WHERE c.email IN :emails")
+  List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+  /**
+   * Finds the customers registered with a document ID.
+   *
+   * @param documentId The document ID to search for
    * @return List of matching customers
    */
-  List<Customer> findByFullNameContainingIgnoreCase(String searchTerm);
+  List<Customer> findByDocumentId(String documentId);
+
+  /**
+   * Finds the customers registered with a phone number.
+   *
+   * @param phoneNumber The phone number to search for
+   * @return List of matching customers
+   */
+  List<Customer> findByPhoneNumber(String phoneNumber);
 
   /**
    * Finds customers created between the specified dates.
@@ -54,4 +76,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     LocalDateTime startDate,
     LocalDateTime endDate
   );
+
+  /**
+   * Finds a customer by ID and locks its row until the end of the current
+   * transaction, serializing updates of the customer's purchase totals.
+   *
+   * @param id The ID of the customer
+   * @return The locked customer, if found
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM Customer c WHERE c.id = :id")
+  Optional<Customer> findByIdForUpdate(@Param("id") Long id);
 }
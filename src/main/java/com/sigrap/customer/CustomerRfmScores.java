@@ -0,0 +1,128 @@
+package com.sigrap.customer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Recency, frequency and monetary (RFM) scores of every customer with sales.
+ *
+ * <p>Inputs and results are held in parallel primitive arrays indexed by the
+ * position of the customer, so scoring a couple of hundred thousand customers
+ * needs no per-customer objects. Each measure is turned into a score from 1
+ * to 5 by its quintile among all customers: a sorted copy of the values is
+ * searched for the first occurrence of each value, so customers with equal
+ * values always get the same score.</p>
+ */
+final class CustomerRfmScores {
+
+  static final int QUINTILES = 5;
+
+  final long[] customerIds;
+  final LocalDateTime[] lastPurchases;
+
+  /**
+   * Time of the last purchase in epoch seconds; higher is more recent.
+   */
+  final long[] recency;
+
+  final long[] frequency;
+
+  /**
+   * Total spent in cents.
+   */
+  final long[] monetary;
+
+  final int[] recencyScores;
+  final int[] frequencyScores;
+  final int[] monetaryScores;
+  final RfmSegment[] segments;
+
+  CustomerRfmScores(int size) {
+    customerIds = new long[size];
+    lastPurchases = new LocalDateTime[size];
+    recency = new long[size];
+    frequency = new long[size];
+    monetary = new long[size];
+    recencyScores = new int[size];
+    frequencyScores = new int[size];
+    monetaryScores = new int[size];
+    segments = new RfmSegment[size];
+  }
+
+  int size() {
+    return customerIds.length;
+  }
+
+  /**
+   * Fills the scores and segments from the loaded measures.
+   */
+  void score() {
+    quintiles(recency, recencyScores);
+    quintiles(frequency, frequencyScores);
+    quintiles(monetary, monetaryScores);
+    for (int i = 0; i < size(); i++) {
+      segments[i] = segment(
+        recencyScores[i],
+        frequencyScores[i],
+        monetaryScores[i]
+      );
+    }
+  }
+
+  /**
+   * Assigns every value the quintile of its first occurrence in ascending
+   * order, from 1 to {@link #QUINTILES}.
+   *
+   * @param values The values to rank
+   * @param scores The array receiving the score of each value
+   */
+  static void quintiles(long[] values, int[] scores) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < values.length; i++) {
+      long rank = firstIndexOf(sorted, values[i]);
+      scores[i] = 1 + (int) (rank * QUINTILES / sorted.length);
+    }
+  }
+
+  /**
+   * Maps a combination of scores to its segment.
+   *
+   * @param recency The recency score
+   * @param frequency The frequency score
+   * @param monetary The monetary score
+   * @return The segment of the customer
+   */
+  static RfmSegment segment(int recency, int frequency, int monetary) {
+    if (recency >= 4 && frequency >= 4 && monetary >= 4) {
+      return RfmSegment.CHAMPIONS;
+    }
+    if (recency >= 3 && frequency >= 4) {
+      return RfmSegment.LOYAL;
+    }
+    if (recency >= 4 && frequency <= 2) {
+      return RfmSegment.NEW;
+    }
+    if (recency >= 3) {
+      return RfmSegment.PROMISING;
+    }
+    if (frequency >= 3) {
+      return RfmSegment.AT_RISK;
+    }
+    return recency == 2 ? RfmSegment.HIBERNATING : RfmSegment.LOST;
+  }
+
+  private static int firstIndexOf(long[] sorted, long value) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sorted[mid] < value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -0,0 +1,135 @@
+package com.sigrap.customer;
+
+import com.sigrap.common.TextNormalizer;
+import com.sigrap.common.TextSearchIndex;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory name index over the customers.
+ *
+ * <p>Full names are indexed so that lookups are case and accent insensitive:
+ * {@code "jose pena"} finds {@code "José Peña"}. No query scans the customers
+ * table.</p>
+ *
+ * <p>The index is updated from {@link CustomerChangedEvent}s once the writing
+ * transaction commits.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerSearchIndex
+  extends TextSearchIndex<Long, CustomerSearchIndex.Entry> {
+
+  private final CustomerRepository customerRepository;
+  private final CustomerMapper customerMapper;
+
+  /**
+   * Applies a committed customer change to the index.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onCustomerChanged(CustomerChangedEvent event) {
+    try {
+      if (event.isAll()) {
+        rebuild();
+      } else {
+        refresh(event.getCustomerIds());
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to update customer search index for {}", event, e);
+    }
+  }
+
+  /**
+   * Searches customers by name.
+   * Every word of the query must match a word of the name or, from three
+   * characters on, closely resemble one.
+   *
+   * @param query The search text
+   * @param limit Maximum number of results, capped at {@link #MAX_RESULTS}
+   * @return Matching customers, best matches first
+   */
+  public List<CustomerInfo> search(String query, int limit) {
+    return match(query)
+      .stream()
+      .sorted(
+        Comparator.comparingDouble((Match<Entry> match) -> match.relevance())
+          .reversed()
+          .thenComparing(match -> match.entry().getName())
+          .thenComparing(match -> match.entry().getId())
+      )
+      .limit(clamp(limit))
+      .map(match -> match.entry().info)
+      .toList();
+  }
+
+  @Override
+  protected List<Entry> loadAll() {
+    return customerRepository.findAll().stream().map(this::toEntry).toList();
+  }
+
+  @Override
+  protected List<Entry> load(Collection<Long> customerIds) {
+    return customerRepository
+      .findAllById(customerIds)
+      .stream()
+      .map(this::toEntry)
+      .toList();
+  }
+
+  private Entry toEntry(Customer customer) {
+    return new Entry(
+      customer.getId(),
+      customerMapper.toCustomerInfo(customer),
+      TextNormalizer.tokens(customer.getFullName())
+    );
+  }
+
+  /**
+   * Indexed representation of a single customer.
+   */
+  static final class Entry extends TextSearchIndex.Entry<Long> {
+
+    private final CustomerInfo info;
+    private final List<String> words;
+    private final Set<String> trigrams;
+
+    private Entry(Long id, CustomerInfo info, List<String> words) {
+      super(id, words);
+      this.info = info;
+      this.words = words;
+      this.trigrams = trigramsOf(words);
+    }
+
+    @Override
+    protected Set<String> words() {
+      return new HashSet<>(words);
+    }
+
+    @Override
+    protected Set<String> trigrams() {
+      return new HashSet<>(trigrams);
+    }
+
+    @Override
+    protected double quality(String token, Set<String> tokenTrigrams) {
+      return fieldQuality(token, tokenTrigrams, words, trigrams);
+    }
+  }
+}
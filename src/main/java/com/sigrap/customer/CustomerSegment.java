@@ -0,0 +1,95 @@
+package com.sigrap.customer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the latest RFM segment of a customer.
+ * The table is rewritten by each segmentation run, one row per customer with
+ * sales.
+ *
+ * @see CustomerSegmentationService
+ */
+@Entity
+@Table(
+  name = "customer_segments",
+  indexes = {
+    @Index(
+      name = "idx_customer_segments_segment",
+      columnList = "segment, customer_id"
+    ),
+  }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSegment {
+
+  /**
+   * ID of the segmented customer.
+   */
+  @Id
+  @Column(name = "customer_id")
+  private Long customerId;
+
+  /**
+   * Segment the customer was placed in.
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private RfmSegment segment;
+
+  /**
+   * Recency score, from 1 to 5.
+   */
+  @Column(name = "recency_score", nullable = false)
+  private int recencyScore;
+
+  /**
+   * Frequency score, from 1 to 5.
+   */
+  @Column(name = "frequency_score", nullable = false)
+  private int frequencyScore;
+
+  /**
+   * Monetary score, from 1 to 5.
+   */
+  @Column(name = "monetary_score", nullable = false)
+  private int monetaryScore;
+
+  /**
+   * Timestamp of the customer's last purchase.
+   */
+  @Column(name = "last_purchase_at", nullable = false)
+  private LocalDateTime lastPurchaseAt;
+
+  /**
+   * Number of purchases made by the customer.
+   */
+  @Column(name = "purchase_count", nullable = false)
+  private long purchaseCount;
+
+  /**
+   * Total spent by the customer.
+   */
+  @Column(name = "total_spend", nullable = false, precision = 14, scale = 2)
+  private BigDecimal totalSpend;
+
+  /**
+   * Timestamp of when the segment was calculated.
+   */
+  @Column(name = "calculated_at", nullable = false)
+  private LocalDateTime calculatedAt;
+}
@@ -0,0 +1,49 @@
+package com.sigrap.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) with the size of an RFM segment.
+ *
+ * @see CustomerSegmentationService#findSegments()
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Size of a customer RFM segment")
+public class CustomerSegmentInfo {
+
+  /**
+   * The segment.
+   */
+  @Schema(description = "The segment", example = "CHAMPIONS")
+  private RfmSegment segment;
+
+  /**
+   * Number of customers in the segment.
+   */
+  @Schema(description = "Number of customers in the segment", example = "820")
+  private long customerCount;
+
+  /**
+   * Total spent by the customers of the segment.
+   */
+  @Schema(
+    description = "Total spent by the customers of the segment",
+    example = "51200.00"
+  )
+  private BigDecimal totalSpend;
+
+  /**
+   * Date and time the segment was last calculated; null if it is empty.
+   */
+  @Schema(description = "Date and time the segment was last calculated")
+  private LocalDateTime calculatedAt;
+}
@@ -0,0 +1,71 @@
+package com.sigrap.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a customer in an RFM segment.
+ *
+ * @see CustomerSegmentationService#findMembers(RfmSegment,
+ *      org.springframework.data.domain.Pageable)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Customer in an RFM segment with their scores")
+public class CustomerSegmentMemberInfo {
+
+  /**
+   * The customer.
+   */
+  @Schema(description = "The customer")
+  private CustomerInfo customer;
+
+  /**
+   * Segment the customer was placed in.
+   */
+  @Schema(description = "Segment of the customer", example = "LOYAL")
+  private RfmSegment segment;
+
+  /**
+   * Recency score, from 1 to 5.
+   */
+  @Schema(description = "Recency score (1-5)", example = "4")
+  private int recencyScore;
+
+  /**
+   * Frequency score, from 1 to 5.
+   */
+  @Schema(description = "Frequency score (1-5)", example = "5")
+  private int frequencyScore;
+
+  /**
+   * Monetary score, from 1 to 5.
+   */
+  @Schema(description = "Monetary score (1-5)", example = "3")
+  private int monetaryScore;
+
+  /**
+   * Date and time of the customer's last purchase.
+   */
+  @Schema(description = "Date and time of the last purchase")
+  private LocalDateTime lastPurchaseAt;
+
+  /**
+   * Number of purchases made by the customer.
+   */
+  @Schema(description = "Number of purchases", example = "12")
+  private long purchaseCount;
+
+  /**
+   * Total spent by the customer.
+   */
+  @Schema(description = "Total spent", example = "640.00")
+  private BigDecimal totalSpend;
+}
@@ -0,0 +1,58 @@
+package com.sigrap.customer;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for CustomerSegment entity operations.
+ */
+@Repository
+public interface CustomerSegmentRepository
+  extends JpaRepository<CustomerSegment, Long> {
+  /**
+   * Summarizes the sales of every customer in a single grouped scan.
+   *
+   * @return Rows of [customerId, lastPurchaseAt, purchaseCount, totalSpend]
+   */
+  @Query(
+    "SELECT s.customer.id, MAX(s.createdAt), COUNT(s), SUM(s.finalAmount) " +
+    "FROM Sale s GROUP BY s.customer.id"
+  )
+  List<Object[]> summarizeSales();
+
+  /**
+   * Counts the customers of each segment.
+   *
+   * @return Rows of [segment, customerCount, totalSpend, lastCalculatedAt]
+   */
+  @Query(
+    "SELECT cs.segment, COUNT(cs), SUM(cs.totalSpend), MAX(cs.calculatedAt) " +
+    "FROM CustomerSegment cs GROUP BY cs.segment"
+  )
+  List<Object[]> countBySegment();
+
+  /**
+   * Finds the customers of a segment.
+   *
+   * @param segment The segment
+   * @param pageable Pagination and sorting parameters
+   * @return A page of segment rows
+   */
+  Page<CustomerSegment> findBySegment(RfmSegment segment, Pageable pageable);
+
+  /**
+   * Removes a customer from its segment.
+   *
+   * @param customerId The ID of the customer
+   * @return The number of rows deleted
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM CustomerSegment cs WHERE cs.customerId = :customerId")
+  int deleteByCustomerId(@Param("customerId") Long customerId);
+}
@@ -0,0 +1,81 @@
+package com.sigrap.customer;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores the results of a segmentation run.
+ *
+ * <p>The segment table is replaced in a single transaction with JDBC batch
+ * inserts straight from the primitive arrays of {@link CustomerRfmScores},
+ * so readers see either the previous run or the new one.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerSegmentWriter {
+
+  private static final String DELETE_SQL = "DELETE FROM customer_segments";
+
+  private static final String INSERT_SQL =
+    "INSERT INTO customer_segments (customer_id, segment, recency_score, " +
+    "frequency_score, monetary_score, last_purchase_at, purchase_count, " +
+    "total_spend, calculated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Replaces every stored segment with the given scores.
+   *
+   * @param scores The scored customers
+   * @param calculatedAt When the scores were calculated
+   */
+  @Transactional
+  public void replaceAll(CustomerRfmScores scores, LocalDateTime calculatedAt) {
+    jdbcTemplate.update(DELETE_SQL);
+    for (int from = 0; from < scores.size(); from += BATCH_SIZE) {
+      int to = Math.min(from + BATCH_SIZE, scores.size());
+      insert(scores, from, to, calculatedAt);
+    }
+  }
+
+  private void insert(
+    CustomerRfmScores scores,
+    int from,
+    int to,
+    LocalDateTime calculatedAt
+  ) {
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL,
+      new BatchPreparedStatementSetter() {
+        @Override
+        public void setValues(PreparedStatement ps, int batchIndex)
+          throws SQLException {
+          int i = from + batchIndex;
+          ps.setLong(1, scores.customerIds[i]);
+          ps.setString(2, scores.segments[i].name());
+          ps.setInt(3, scores.recencyScores[i]);
+          ps.setInt(4, scores.frequencyScores[i]);
+          ps.setInt(5, scores.monetaryScores[i]);
+          ps.setObject(6, scores.lastPurchases[i]);
+          ps.setLong(7, scores.frequency[i]);
+          ps.setBigDecimal(8, BigDecimal.valueOf(scores.monetary[i], 2));
+          ps.setObject(9, calculatedAt);
+        }
+
+        @Override
+        public int getBatchSize() {
+          return to - from;
+        }
+      }
+    );
+  }
+}
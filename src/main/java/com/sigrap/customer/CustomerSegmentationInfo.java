@@ -0,0 +1,35 @@
+package com.sigrap.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) summarizing a customer segmentation run.
+ *
+ * @see CustomerSegmentationService#run()
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a customer segmentation run")
+public class CustomerSegmentationInfo {
+
+  /**
+   * Number of customers segmented.
+   */
+  @Schema(description = "Number of customers segmented", example = "200000")
+  private int customerCount;
+
+  /**
+   * Time taken by the run, in milliseconds.
+   */
+  @Schema(
+    description = "Time taken by the run in milliseconds",
+    example = "2400"
+  )
+  private long durationMs;
+}
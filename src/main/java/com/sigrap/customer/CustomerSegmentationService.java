@@ -0,0 +1,145 @@
+package com.sigrap.customer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service placing customers in recency, frequency and monetary (RFM)
+ * segments for promotions.
+ *
+ * <p>A nightly run reads the last purchase, number of purchases and total
+ * spent of every customer with a single grouped scan of the sales, scores
+ * each measure by quintile in {@link CustomerRfmScores} and replaces the
+ * stored {@link CustomerSegment}s through {@link CustomerSegmentWriter}.
+ * Customers without sales are not segmented.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerSegmentationService {
+
+  private final CustomerSegmentRepository customerSegmentRepository;
+  private final CustomerSegmentWriter customerSegmentWriter;
+  private final CustomerRepository customerRepository;
+  private final CustomerMapper customerMapper;
+
+  /**
+   * Recomputes the segment of every customer with sales.
+   * Runs are serialized so that a scheduled and an on-demand run never
+   * write the segment table at the same time.
+   *
+   * @return The summary of the run
+   */
+  @Scheduled(cron = "${app.customers.segments.cron:0 45 3 * * *}")
+  public synchronized CustomerSegmentationInfo run() {
+    long start = System.nanoTime();
+    List<Object[]> rows = customerSegmentRepository.summarizeSales();
+    CustomerRfmScores scores = new CustomerRfmScores(rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      Object[] row = rows.get(i);
+      LocalDateTime lastPurchase = (LocalDateTime) row[1];
+      scores.customerIds[i] = ((Number) row[0]).longValue();
+      scores.lastPurchases[i] = lastPurchase;
+      scores.recency[i] = lastPurchase.toEpochSecond(ZoneOffset.UTC);
+      scores.frequency[i] = ((Number) row[2]).longValue();
+      scores.monetary[i] = cents((BigDecimal) row[3]);
+    }
+    scores.score();
+    customerSegmentWriter.replaceAll(scores, LocalDateTime.now());
+
+    long durationMs = (System.nanoTime() - start) / 1_000_000;
+    log.info(
+      "Customer segments computed for {} customers in {} ms",
+      scores.size(),
+      durationMs
+    );
+    return CustomerSegmentationInfo.builder()
+      .customerCount(scores.size())
+      .durationMs(durationMs)
+      .build();
+  }
+
+  /**
+   * Retrieves the size of every segment, in segment order. Empty segments
+   * are included with a count of zero.
+   *
+   * @return The size of each segment
+   */
+  @Transactional(readOnly = true)
+  public List<CustomerSegmentInfo> findSegments() {
+    Map<RfmSegment, Object[]> counts = new EnumMap<>(RfmSegment.class);
+    for (Object[] row : customerSegmentRepository.countBySegment()) {
+      counts.put((RfmSegment) row[0], row);
+    }
+    List<CustomerSegmentInfo> segments = new ArrayList<>();
+    for (RfmSegment segment : RfmSegment.values()) {
+      Object[] row = counts.get(segment);
+      segments.add(
+        CustomerSegmentInfo.builder()
+          .segment(segment)
+          .customerCount(row != null ? ((Number) row[1]).longValue() : 0)
+          .totalSpend(row != null ? (BigDecimal) row[2] : BigDecimal.ZERO)
+          .calculatedAt(row != null ? (LocalDateTime) row[3] : null)
+          .build()
+      );
+    }
+    return segments;
+  }
+
+  /**
+   * Retrieves the customers of a segment with their scores.
+   *
+   * @param segment The segment
+   * @param pageable Page number, size and sort order
+   * @return Page of segment members
+   */
+  @Transactional(readOnly = true)
+  public Page<CustomerSegmentMemberInfo> findMembers(
+    RfmSegment segment,
+    Pageable pageable
+  ) {
+    Page<CustomerSegment> page = customerSegmentRepository.findBySegment(
+      segment,
+      pageable
+    );
+    Map<Long, Customer> customers = customerRepository
+      .findAllById(page.map(CustomerSegment::getCustomerId).getContent())
+      .stream()
+      .collect(Collectors.toMap(Customer::getId, Function.identity()));
+    return page.map(member ->
+      CustomerSegmentMemberInfo.builder()
+        .customer(
+          customerMapper.toCustomerInfo(customers.get(member.getCustomerId()))
+        )
+        .segment(member.getSegment())
+        .recencyScore(member.getRecencyScore())
+        .frequencyScore(member.getFrequencyScore())
+        .monetaryScore(member.getMonetaryScore())
+        .lastPurchaseAt(member.getLastPurchaseAt())
+        .purchaseCount(member.getPurchaseCount())
+        .totalSpend(member.getTotalSpend())
+        .build()
+    );
+  }
+
+  private static long cents(BigDecimal amount) {
+    return amount == null
+      ? 0
+      : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+  }
+}
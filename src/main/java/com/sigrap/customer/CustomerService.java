@@ -1,10 +1,17 @@
 package com.sigrap.customer;
 
 import com.sigrap.audit.Auditable;
+import com.sigrap.common.RetryOnConflict;
+import com.sigrap.common.StaleVersionException;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +25,9 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>Customer search functionality</li>
  *   <li>Data validation</li>
  * </ul></p>
+ *
+ * <p>Every write publishes a {@link CustomerChangedEvent}, which keeps the
+ * name index and the lookup cache up to date once it commits.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -25,6 +35,8 @@ public class CustomerService {
 
   private final CustomerRepository customerRepository;
   private final CustomerMapper customerMapper;
+  private final CustomerSearchIndex customerSearchIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Retrieves all customers.
@@ -71,6 +83,9 @@ public class CustomerService {
 
     Customer customer = customerMapper.toCustomer(customerData);
     Customer savedCustomer = customerRepository.save(customer);
+    eventPublisher.publishEvent(
+      CustomerChangedEvent.of(savedCustomer.getId())
+    );
     return customerMapper.toCustomerInfo(savedCustomer);
   }
 
@@ -82,8 +97,11 @@ public class CustomerService {
    * @return The updated customer information DTO
    * @throws EntityNotFoundException if customer with the ID is not found
    * @throws IllegalArgumentException if trying to update to an email that's already taken by another customer
+   * @throws StaleVersionException if the customer changed since the given
+   *         version
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ACTUALIZAR",
     entity = "CLIENTE",
@@ -96,6 +114,12 @@ public class CustomerService {
       .orElseThrow(() ->
         new EntityNotFoundException("Customer not found with ID: " + id)
       );
+    StaleVersionException.check(
+      Customer.class,
+      id,
+      customerData.getVersion(),
+      customer.getVersion()
+    );
 
     if (
       !customer.getEmail().equals(customerData.getEmail()) &&
@@ -107,7 +131,8 @@ public class CustomerService {
     }
 
     customerMapper.updateCustomerFromDto(customer, customerData);
-    Customer updatedCustomer = customerRepository.save(customer);
+    Customer updatedCustomer = customerRepository.saveAndFlush(customer);
+    eventPublisher.publishEvent(CustomerChangedEvent.of(id));
     return customerMapper.toCustomerInfo(updatedCustomer);
   }
 
@@ -118,25 +143,65 @@ public class CustomerService {
    * @throws EntityNotFoundException if customer with the ID is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "ELIMINAR", entity = "CLIENTE", entityIdParam = "id")
   public void delete(Long id) {
     if (!customerRepository.existsById(id)) {
       throw new EntityNotFoundException("Customer not found with ID: " + id);
     }
     customerRepository.deleteById(id);
+    eventPublisher.publishEvent(CustomerChangedEvent.of(id));
   }
 
   /**
    * Searches for customers by name.
+   * Served from the in-memory name index, ignoring case and accents and
+   * tolerating small typos.
    *
    * @param searchTerm The search term to match against names
-   * @return List of matching customer information DTOs
+   * @param limit Maximum number of results
+   * @return List of matching customer information DTOs, best matches first
+   */
+  public List<CustomerInfo> searchByName(String searchTerm, int limit) {
+    return customerSearchIndex.search(searchTerm, limit);
+  }
+
+  /**
+   * Finds customers by the exact document ID, email address or phone number
+   * typed or scanned at checkout.
+   * Values containing {@code @} are matched against email addresses, any other
+   * value against document IDs and then phone numbers. Results are cached
+   * until a customer changes.
+   *
+   * @param value The document ID, email address or phone number
+   * @return Matching customers, document ID matches first; empty if none
+   * @throws IllegalArgumentException if the value is blank
    */
   @Transactional(readOnly = true)
-  public List<CustomerInfo> searchByName(String searchTerm) {
-    return customerMapper.toCustomerInfoList(
-      customerRepository.findByFullNameContainingIgnoreCase(searchTerm)
-    );
+  @Cacheable(cacheNames = CustomerLookupCache.LOOKUP, key = "#value.strip()")
+  public List<CustomerInfo> lookup(String value) {
+    String key = value.strip();
+    if (key.isEmpty()) {
+      throw new IllegalArgumentException("Lookup value cannot be blank");
+    }
+
+    List<Customer> matches;
+    if (key.indexOf('@') >= 0) {
+      matches = customerRepository
+        .findByEmail(key)
+        .map(List::of)
+        .orElseGet(List::of);
+    } else {
+      Map<Long, Customer> byId = new LinkedHashMap<>();
+      customerRepository
+        .findByDocumentId(key)
+        .forEach(customer -> byId.put(customer.getId(), customer));
+      customerRepository
+        .findByPhoneNumber(key)
+        .forEach(customer -> byId.putIfAbsent(customer.getId(), customer));
+      matches = new ArrayList<>(byId.values());
+    }
+    return customerMapper.toCustomerInfoList(matches);
   }
 
   /**
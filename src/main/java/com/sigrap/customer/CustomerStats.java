@@ -0,0 +1,83 @@
+package com.sigrap.customer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * Entity class holding the running purchase totals of a customer.
+ * One row per customer, updated whenever one of their sales or returns is
+ * created, changed or deleted, so that a customer's profile never needs to
+ * scan their purchase history.
+ * Stored without a foreign key so that stale rows never block deletions.
+ *
+ * @see CustomerStatsService
+ */
+@Entity
+@Table(name = "customer_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerStats {
+
+  /**
+   * ID of the customer.
+   */
+  @Id
+  @Column(name = "customer_id")
+  private Long customerId;
+
+  /**
+   * Number of sales made to the customer.
+   */
+  @Column(name = "visits", nullable = false)
+  private int visits;
+
+  /**
+   * Sum of the final amounts of those sales.
+   */
+  @Column(name = "lifetime_spend", nullable = false, precision = 14, scale = 2)
+  @Builder.Default
+  private BigDecimal lifetimeSpend = BigDecimal.ZERO;
+
+  /**
+   * Number of returns made by the customer.
+   */
+  @Column(name = "return_count", nullable = false)
+  private int returnCount;
+
+  /**
+   * Sum of the amounts of those returns.
+   */
+  @Column(name = "returns_total", nullable = false, precision = 14, scale = 2)
+  @Builder.Default
+  private BigDecimal returnsTotal = BigDecimal.ZERO;
+
+  /**
+   * Timestamp of the customer's first sale.
+   */
+  @Column(name = "first_purchase_at")
+  private LocalDateTime firstPurchaseAt;
+
+  /**
+   * Timestamp of the customer's latest sale.
+   */
+  @Column(name = "last_purchase_at")
+  private LocalDateTime lastPurchaseAt;
+
+  /**
+   * Timestamp of when the totals were last updated.
+   */
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,153 @@
+package com.sigrap.customer;
+
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for CustomerStats entity operations.
+ */
+@Repository
+public interface CustomerStatsRepository
+  extends JpaRepository<CustomerStats, Long> {
+  /**
+   * Summarizes the sales of every customer that has no totals yet.
+   *
+   * @return Rows of [customerId, visits, lifetimeSpend, firstPurchaseAt,
+   *         lastPurchaseAt]
+   */
+  @Query(
+    "SELECT s.customer.id, COUNT(s), SUM(s.finalAmount), MIN(s.createdAt), " +
+    "MAX(s.createdAt) FROM Sale s WHERE NOT EXISTS (" +
+    "SELECT 1 FROM CustomerStats cs WHERE cs.customerId = s.customer.id) " +
+    "GROUP BY s.customer.id"
+  )
+  List<Object[]> summarizeSalesWithoutStats();
+
+  /**
+   * Summarizes the returns of every customer that has no totals yet.
+   *
+   * @return Rows of [customerId, returnCount, returnsTotal]
+   */
+  @Query(
+    "SELECT r.customer.id, COUNT(r), SUM(r.totalReturnAmount) " +
+    "FROM SaleReturn r WHERE NOT EXISTS (" +
+    "SELECT 1 FROM CustomerStats cs WHERE cs.customerId = r.customer.id) " +
+    "GROUP BY r.customer.id"
+  )
+  List<Object[]> summarizeReturnsWithoutStats();
+
+  /**
+   * Finds the totals of a customer and locks their row until the end of the
+   * transaction, so that relative updates wait until they are written back.
+   *
+   * @param customerId The ID of the customer
+   * @return The totals, if the customer has any
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT cs FROM CustomerStats cs WHERE cs.customerId = :customerId")
+  Optional<CustomerStats> findByIdForUpdate(
+    @Param("customerId") Long customerId
+  );
+
+  /**
+   * Creates empty totals for a customer without loading them into the
+   * persistence context.
+   *
+   * @param customerId The ID of the customer
+   * @param now Timestamp recorded as the totals' last update
+   * @return The number of rows inserted
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+    "INSERT INTO CustomerStats (customerId, visits, lifetimeSpend, " +
+    "returnCount, returnsTotal, updatedAt) " +
+    "VALUES (:customerId, 0, 0, 0, 0, :now)"
+  )
+  int createEmpty(
+    @Param("customerId") Long customerId,
+    @Param("now") LocalDateTime now
+  );
+
+  /**
+   * Counts a sale towards a customer's totals with a relative update,
+   * widening the purchase range to include it.
+   *
+   * @param customerId The ID of the customer
+   * @param amount Final amount of the sale
+   * @param purchasedAt Creation time of the sale
+   * @param now Timestamp recorded as the totals' last update
+   * @return 1, or 0 if the customer has no totals yet
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+    "UPDATE CustomerStats cs SET cs.visits = cs.visits + 1, " +
+    "cs.lifetimeSpend = cs.lifetimeSpend + :amount, " +
+    "cs.firstPurchaseAt = CASE WHEN cs.firstPurchaseAt IS NULL " +
+    "OR cs.firstPurchaseAt > :purchasedAt THEN :purchasedAt " +
+    "ELSE cs.firstPurchaseAt END, " +
+    "cs.lastPurchaseAt = CASE WHEN cs.lastPurchaseAt IS NULL " +
+    "OR cs.lastPurchaseAt < :purchasedAt THEN :purchasedAt " +
+    "ELSE cs.lastPurchaseAt END, " +
+    "cs.updatedAt = :now WHERE cs.customerId = :customerId"
+  )
+  int addSale(
+    @Param("customerId") Long customerId,
+    @Param("amount") BigDecimal amount,
+    @Param("purchasedAt") LocalDateTime purchasedAt,
+    @Param("now") LocalDateTime now
+  );
+
+  /**
+   * Adds an amount to a customer's lifetime spend with a relative update.
+   *
+   * @param customerId The ID of the customer
+   * @param amount Amount to add, negative to subtract
+   * @param now Timestamp recorded as the totals' last update
+   * @return 1, or 0 if the customer has no totals yet
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+    "UPDATE CustomerStats cs " +
+    "SET cs.lifetimeSpend = cs.lifetimeSpend + :amount, " +
+    "cs.updatedAt = :now WHERE cs.customerId = :customerId"
+  )
+  int addSpend(
+    @Param("customerId") Long customerId,
+    @Param("amount") BigDecimal amount,
+    @Param("now") LocalDateTime now
+  );
+
+  /**
+   * Adds returns to a customer's totals with a relative update. The return
+   * count never drops below zero.
+   *
+   * @param customerId The ID of the customer
+   * @param count Number of returns to add, negative to subtract
+   * @param amount Amount to add, negative to subtract
+   * @param now Timestamp recorded as the totals' last update
+   * @return 1, or 0 if the customer has no totals yet
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+    "UPDATE CustomerStats cs SET cs.returnCount = CASE " +
+    "WHEN cs.returnCount + :count < 0 THEN 0 " +
+    "ELSE cs.returnCount + :count END, " +
+    "cs.returnsTotal = cs.returnsTotal + :amount, " +
+    "cs.updatedAt = :now WHERE cs.customerId = :customerId"
+  )
+  int addReturns(
+    @Param("customerId") Long customerId,
+    @Param("count") int count,
+    @Param("amount") BigDecimal amount,
+    @Param("now") LocalDateTime now
+  );
+}
@@ -0,0 +1,572 @@
+package com.sigrap.customer;
+
+import com.sigrap.sale.Sale;
+import com.sigrap.sale.SaleRepository;
+import com.sigrap.sale.SaleReturn;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining and reporting the purchase totals of customers.
+ *
+ * <p>Totals are kept as running sums in {@link CustomerStats}, updated by the
+ * sale and sale return services in the same transaction as each change.
+ * New sales and returns are applied with relative updates, so checkouts of
+ * the same customer never wait on each other. The first totals of a customer
+ * are inserted empty under the customer lock before the update is applied.
+ * Only the rare changes that may have to look up the first or last purchase
+ * again, and merges, read and write the row back; they lock the customer and
+ * the totals rows first, in customer ID order when several customers are
+ * involved.</p>
+ *
+ * <p>A profile is a primary key lookup for the totals plus one page of the
+ * purchase history, read with keyset pagination over the
+ * {@code (customer_id, created_at, id)} index of the sales. Its cost does not
+ * depend on how many purchases the customer has made.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerStatsService {
+
+  /**
+   * Maximum number of purchases returned in one page of history.
+   */
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private static final char CURSOR_SEPARATOR = '~';
+
+  /**
+   * Repository for the running totals of each customer.
+   */
+  private final CustomerStatsRepository customerStatsRepository;
+
+  /**
+   * Repository used to load and lock customers.
+   */
+  private final CustomerRepository customerRepository;
+
+  /**
+   * Repository used to read the purchase history.
+   */
+  private final SaleRepository saleRepository;
+
+  private final CustomerMapper customerMapper;
+
+  /**
+   * Creates the totals of customers who purchased before they were
+   * maintained, from one grouped query over their sales and one over their
+   * returns. Customers that already have totals are left untouched.
+   *
+   * @return The number of customers whose totals were created
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public int backfill() {
+    Map<Long, CustomerStats> created = new HashMap<>();
+    for (Object[] row : customerStatsRepository.summarizeSalesWithoutStats()) {
+      Long customerId = (Long) row[0];
+      created.put(
+        customerId,
+        CustomerStats.builder()
+          .customerId(customerId)
+          .visits(((Number) row[1]).intValue())
+          .lifetimeSpend(amount((BigDecimal) row[2]))
+          .firstPurchaseAt((LocalDateTime) row[3])
+          .lastPurchaseAt((LocalDateTime) row[4])
+          .build()
+      );
+    }
+    List<Object[]> returns =
+      customerStatsRepository.summarizeReturnsWithoutStats();
+    for (Object[] row : returns) {
+      CustomerStats stats = created.computeIfAbsent((Long) row[0], id ->
+        CustomerStats.builder().customerId(id).build()
+      );
+      stats.setReturnCount(((Number) row[1]).intValue());
+      stats.setReturnsTotal(amount((BigDecimal) row[2]));
+    }
+    if (!created.isEmpty()) {
+      customerStatsRepository.saveAll(created.values());
+      log.info("Purchase totals backfilled for {} customers", created.size());
+    }
+    return created.size();
+  }
+
+  /**
+   * Counts a new sale towards its customer's totals.
+   *
+   * @param sale The created sale
+   */
+  @Transactional
+  public void recordSale(Sale sale) {
+    Long customerId = sale.getCustomer().getId();
+    LocalDateTime purchasedAt = purchasedAt(sale);
+    update(customerId, () ->
+      customerStatsRepository.addSale(
+        customerId,
+        amount(sale.getFinalAmount()),
+        purchasedAt,
+        LocalDateTime.now()
+      )
+    );
+  }
+
+  /**
+   * Applies an updated sale to the totals. When the sale moved to another
+   * customer it is taken off the previous customer's totals and counted
+   * towards the new one's.
+   *
+   * @param previousCustomerId ID of the customer the sale belonged to
+   * @param previousAmount Final amount of the sale before the update
+   * @param sale The updated sale
+   */
+  @Transactional
+  public void recordSaleChange(
+    Long previousCustomerId,
+    BigDecimal previousAmount,
+    Sale sale
+  ) {
+    Long customerId = sale.getCustomer().getId();
+    if (customerId.equals(previousCustomerId)) {
+      BigDecimal difference = amount(sale.getFinalAmount()).subtract(
+        amount(previousAmount)
+      );
+      update(customerId, () ->
+        customerStatsRepository.addSpend(
+          customerId,
+          difference,
+          LocalDateTime.now()
+        )
+      );
+      return;
+    }
+    Map<Long, CustomerStats> locked = lockAll(
+      List.of(previousCustomerId, customerId)
+    );
+    CustomerStats previous = locked.get(previousCustomerId);
+    removeSales(previous, List.of(sale), amount(previousAmount));
+    CustomerStats current = locked.get(customerId);
+    addSale(current, sale);
+    customerStatsRepository.saveAll(List.of(previous, current));
+  }
+
+  /**
+   * Takes deleted sales off their customers' totals.
+   *
+   * @param sales The sales being deleted
+   */
+  @Transactional
+  public void removeSales(Collection<Sale> sales) {
+    Map<Long, List<Sale>> byCustomer = new TreeMap<>();
+    for (Sale sale : sales) {
+      byCustomer
+        .computeIfAbsent(sale.getCustomer().getId(), id -> new ArrayList<>())
+        .add(sale);
+    }
+    byCustomer.forEach((customerId, customerSales) -> {
+      CustomerStats stats = lock(customerId);
+      removeSales(
+        stats,
+        customerSales,
+        customerSales
+          .stream()
+          .map(sale -> amount(sale.getFinalAmount()))
+          .reduce(BigDecimal.ZERO, BigDecimal::add)
+      );
+      customerStatsRepository.save(stats);
+    });
+  }
+
+  /**
+   * Counts a new return towards its customer's totals.
+   *
+   * @param saleReturn The created return
+   */
+  @Transactional
+  public void recordReturn(SaleReturn saleReturn) {
+    addReturns(
+      saleReturn.getCustomer().getId(),
+      1,
+      amount(saleReturn.getTotalReturnAmount())
+    );
+  }
+
+  /**
+   * Applies the new amount of an updated return to its customer's totals.
+   *
+   * @param previousAmount Amount of the return before the update
+   * @param saleReturn The updated return
+   */
+  @Transactional
+  public void recordReturnChange(
+    BigDecimal previousAmount,
+    SaleReturn saleReturn
+  ) {
+    addReturns(
+      saleReturn.getCustomer().getId(),
+      0,
+      amount(saleReturn.getTotalReturnAmount()).subtract(
+        amount(previousAmount)
+      )
+    );
+  }
+
+  /**
+   * Takes deleted returns off their customers' totals.
+   *
+   * @param saleReturns The returns being deleted
+   */
+  @Transactional
+  public void removeReturns(Collection<SaleReturn> saleReturns) {
+    Map<Long, List<SaleReturn>> byCustomer = new TreeMap<>();
+    for (SaleReturn saleReturn : saleReturns) {
+      byCustomer
+        .computeIfAbsent(saleReturn.getCustomer().getId(), id ->
+          new ArrayList<>()
+        )
+        .add(saleReturn);
+    }
+    byCustomer.forEach((customerId, customerReturns) ->
+      addReturns(
+        customerId,
+        -customerReturns.size(),
+        customerReturns
+          .stream()
+          .map(saleReturn -> amount(saleReturn.getTotalReturnAmount()))
+          .reduce(BigDecimal.ZERO, BigDecimal::add)
+          .negate()
+      )
+    );
+  }
+
+  /**
+   * Folds the totals of a duplicate customer into those of the customer it
+   * is merged into, and drops the duplicate's totals.
+   *
+   * @param survivorId The ID of the customer that is kept
+   * @param duplicateId The ID of the customer being merged
+   */
+  @Transactional
+  public void merge(Long survivorId, Long duplicateId) {
+    Map<Long, CustomerStats> locked = lockAll(List.of(survivorId, duplicateId));
+    CustomerStats survivor = locked.get(survivorId);
+    CustomerStats duplicate = locked.get(duplicateId);
+    survivor.setVisits(survivor.getVisits() + duplicate.getVisits());
+    survivor.setLifetimeSpend(
+      survivor.getLifetimeSpend().add(duplicate.getLifetimeSpend())
+    );
+    survivor.setReturnCount(
+      survivor.getReturnCount() + duplicate.getReturnCount()
+    );
+    survivor.setReturnsTotal(
+      survivor.getReturnsTotal().add(duplicate.getReturnsTotal())
+    );
+    survivor.setFirstPurchaseAt(
+      earliest(survivor.getFirstPurchaseAt(), duplicate.getFirstPurchaseAt())
+    );
+    survivor.setLastPurchaseAt(
+      latest(survivor.getLastPurchaseAt(), duplicate.getLastPurchaseAt())
+    );
+    customerStatsRepository.save(survivor);
+    customerStatsRepository.deleteById(duplicateId);
+  }
+
+  /**
+   * Retrieves the profile of a customer with one page of their purchase
+   * history.
+   *
+   * @param customerId The ID of the customer
+   * @param cursor The {@link CustomerProfileInfo#getNextCursor() cursor} of
+   *        the previous page, or null for the latest purchases
+   * @param size Maximum number of purchases to return
+   * @return The profile, with zeros for a customer without purchases
+   * @throws EntityNotFoundException if the customer is not found
+   * @throws IllegalArgumentException if the size is out of range or the
+   *         cursor is malformed
+   */
+  @Transactional(readOnly = true)
+  public CustomerProfileInfo findProfile(
+    Long customerId,
+    String cursor,
+    int size
+  ) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+        "Page size must be between 1 and " + MAX_PAGE_SIZE
+      );
+    }
+    Customer customer = customerRepository
+      .findById(customerId)
+      .orElseThrow(() -> customerNotFound(customerId));
+    CustomerStats stats = customerStatsRepository
+      .findById(customerId)
+      .orElseGet(() -> CustomerStats.builder().customerId(customerId).build());
+
+    List<Object[]> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = saleRepository.findPurchases(customerId, Limit.of(size + 1));
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      rows = saleRepository.findPurchasesBefore(
+        customerId,
+        position.createdAt,
+        position.saleId,
+        Limit.of(size + 1)
+      );
+    }
+    List<CustomerPurchaseInfo> purchases = rows
+      .stream()
+      .limit(size)
+      .map(CustomerStatsService::toPurchaseInfo)
+      .toList();
+    String nextCursor = null;
+    if (rows.size() > size) {
+      CustomerPurchaseInfo last = purchases.get(purchases.size() - 1);
+      nextCursor = new Cursor(last.getCreatedAt(), last.getSaleId()).encode();
+    }
+
+    return CustomerProfileInfo.builder()
+      .customer(customerMapper.toCustomerInfo(customer))
+      .firstPurchaseAt(stats.getFirstPurchaseAt())
+      .lastPurchaseAt(stats.getLastPurchaseAt())
+      .visits(stats.getVisits())
+      .lifetimeSpend(stats.getLifetimeSpend())
+      .averageTicket(
+        stats.getVisits() == 0
+          ? null
+          : stats
+            .getLifetimeSpend()
+            .divide(
+              BigDecimal.valueOf(stats.getVisits()),
+              2,
+              RoundingMode.HALF_UP
+            )
+      )
+      .returnCount(stats.getReturnCount())
+      .returnsTotal(stats.getReturnsTotal())
+      .purchases(purchases)
+      .nextCursor(nextCursor)
+      .build();
+  }
+
+  private void addReturns(Long customerId, int count, BigDecimal amount) {
+    update(customerId, () ->
+      customerStatsRepository.addReturns(
+        customerId,
+        count,
+        amount,
+        LocalDateTime.now()
+      )
+    );
+  }
+
+  /**
+   * Runs a relative update of a customer's totals. When the customer has no
+   * totals yet, they are created under the customer lock and the update is
+   * run again.
+   */
+  private void update(Long customerId, IntSupplier relativeUpdate) {
+    if (relativeUpdate.getAsInt() > 0) {
+      return;
+    }
+    customerRepository
+      .findByIdForUpdate(customerId)
+      .orElseThrow(() -> customerNotFound(customerId));
+    if (!customerStatsRepository.existsById(customerId)) {
+      customerStatsRepository.createEmpty(customerId, LocalDateTime.now());
+    }
+    relativeUpdate.getAsInt();
+  }
+
+  private void addSale(CustomerStats stats, Sale sale) {
+    LocalDateTime createdAt = purchasedAt(sale);
+    stats.setVisits(stats.getVisits() + 1);
+    stats.setLifetimeSpend(
+      stats.getLifetimeSpend().add(amount(sale.getFinalAmount()))
+    );
+    if (
+      stats.getFirstPurchaseAt() == null ||
+      createdAt.isBefore(stats.getFirstPurchaseAt())
+    ) {
+      stats.setFirstPurchaseAt(createdAt);
+    }
+    if (
+      stats.getLastPurchaseAt() == null ||
+      createdAt.isAfter(stats.getLastPurchaseAt())
+    ) {
+      stats.setLastPurchaseAt(createdAt);
+    }
+  }
+
+  /**
+   * Takes sales off a customer's totals. The first and last purchase dates
+   * are only looked up again when one of the removed sales defined them.
+   */
+  private void removeSales(
+    CustomerStats stats,
+    List<Sale> sales,
+    BigDecimal amount
+  ) {
+    int visits = stats.getVisits() - sales.size();
+    if (visits <= 0) {
+      stats.setVisits(0);
+      stats.setLifetimeSpend(BigDecimal.ZERO);
+      stats.setFirstPurchaseAt(null);
+      stats.setLastPurchaseAt(null);
+      return;
+    }
+    stats.setVisits(visits);
+    stats.setLifetimeSpend(stats.getLifetimeSpend().subtract(amount));
+    boolean boundaryRemoved = sales
+      .stream()
+      .map(Sale::getCreatedAt)
+      .anyMatch(
+        createdAt ->
+          createdAt == null ||
+          createdAt.equals(stats.getFirstPurchaseAt()) ||
+          createdAt.equals(stats.getLastPurchaseAt())
+      );
+    if (boundaryRemoved) {
+      List<Integer> saleIds = sales
+        .stream()
+        .map(Sale::getId)
+        .filter(Objects::nonNull)
+        .toList();
+      Object[] range = saleRepository
+        .findPurchaseRange(stats.getCustomerId(), saleIds)
+        .get(0);
+      stats.setFirstPurchaseAt((LocalDateTime) range[0]);
+      stats.setLastPurchaseAt((LocalDateTime) range[1]);
+    }
+  }
+
+  private Map<Long, CustomerStats> lockAll(Collection<Long> customerIds) {
+    Map<Long, CustomerStats> locked = new HashMap<>();
+    new TreeSet<>(customerIds).forEach(customerId ->
+      locked.put(customerId, lock(customerId))
+    );
+    return locked;
+  }
+
+  private CustomerStats lock(Long customerId) {
+    Customer customer = customerRepository
+      .findByIdForUpdate(customerId)
+      .orElseThrow(() -> customerNotFound(customerId));
+    return customerStatsRepository
+      .findByIdForUpdate(customer.getId())
+      .orElseGet(() -> CustomerStats.builder().customerId(customerId).build());
+  }
+
+  private static LocalDateTime purchasedAt(Sale sale) {
+    return sale.getCreatedAt() != null
+      ? sale.getCreatedAt()
+      : LocalDateTime.now();
+  }
+
+  private static CustomerPurchaseInfo toPurchaseInfo(Object[] row) {
+    return CustomerPurchaseInfo.builder()
+      .saleId((Integer) row[0])
+      .createdAt((LocalDateTime) row[1])
+      .finalAmount((BigDecimal) row[2])
+      .itemCount(((Number) row[3]).intValue())
+      .employeeName((String) row[4])
+      .build();
+  }
+
+  private static LocalDateTime earliest(
+    LocalDateTime first,
+    LocalDateTime second
+  ) {
+    if (first == null || second == null) {
+      return first != null ? first : second;
+    }
+    return first.isBefore(second) ? first : second;
+  }
+
+  private static LocalDateTime latest(
+    LocalDateTime first,
+    LocalDateTime second
+  ) {
+    if (first == null || second == null) {
+      return first != null ? first : second;
+    }
+    return first.isAfter(second) ? first : second;
+  }
+
+  private static BigDecimal amount(BigDecimal value) {
+    return value != null ? value : BigDecimal.ZERO;
+  }
+
+  private static EntityNotFoundException customerNotFound(Long customerId) {
+    return new EntityNotFoundException(
+      "Customer not found with id: " + customerId
+    );
+  }
+
+  /**
+   * Position in a purchase history: the creation time and ID of the last
+   * purchase of a page, encoded as an opaque URL-safe string.
+   */
+  private static final class Cursor {
+
+    private final LocalDateTime createdAt;
+    private final Integer saleId;
+
+    private Cursor(LocalDateTime createdAt, Integer saleId) {
+      this.createdAt = createdAt;
+      this.saleId = saleId;
+    }
+
+    private String encode() {
+      return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(
+          (createdAt.toString() + CURSOR_SEPARATOR + saleId).getBytes(
+            StandardCharsets.UTF_8
+          )
+        );
+    }
+
+    private static Cursor decode(String cursor) {
+      try {
+        String position = new String(
+          Base64.getUrlDecoder().decode(cursor),
+          StandardCharsets.UTF_8
+        );
+        int separator = position.lastIndexOf(CURSOR_SEPARATOR);
+        return new Cursor(
+          LocalDateTime.parse(position.substring(0, separator)),
+          Integer.valueOf(position.substring(separator + 1))
+        );
+      } catch (
+        IllegalArgumentException
+        | DateTimeParseException
+        | IndexOutOfBoundsException e
+      ) {
+        throw new IllegalArgumentException("Invalid purchase history cursor");
+      }
+    }
+  }
+}
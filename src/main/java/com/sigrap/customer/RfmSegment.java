@@ -0,0 +1,49 @@
+package com.sigrap.customer;
+
+/**
+ * Enum defining the recency, frequency and monetary (RFM) segments customers
+ * are placed in. Scores range from 1 (lowest fifth of customers) to 5
+ * (highest fifth).
+ *
+ * @see CustomerRfmScores#segment(int, int, int)
+ */
+public enum RfmSegment {
+  /**
+   * Bought recently, often and the most: recency, frequency and monetary
+   * scores of 4 or more.
+   */
+  CHAMPIONS,
+
+  /**
+   * Buy often and not long ago: frequency of 4 or more and recency of 3 or
+   * more.
+   */
+  LOYAL,
+
+  /**
+   * Bought very recently for one of the first times: recency of 4 or more
+   * and frequency of 2 or less.
+   */
+  NEW,
+
+  /**
+   * Bought fairly recently: any other customer with recency of 3 or more.
+   */
+  PROMISING,
+
+  /**
+   * Used to buy often but not lately: recency of 2 or less and frequency of
+   * 3 or more.
+   */
+  AT_RISK,
+
+  /**
+   * Occasional customers not seen for a while: recency of 2.
+   */
+  HIBERNATING,
+
+  /**
+   * Occasional customers not seen for the longest time: recency of 1.
+   */
+  LOST,
+}
@@ -5,6 +5,10 @@
  * <ul>
  *   <li>Customer registration and management</li>
  *   <li>Customer search and filtering</li>
+ *   <li>Exact lookups at checkout by document ID, email or phone</li>
+ *   <li>Customer profiles with lifetime purchase totals and paginated history</li>
+ *   <li>Detection of duplicate customers and reviewed merges</li>
+ *   <li>Recency, frequency and monetary (RFM) segments for promotions</li>
  * </ul></p>
  *
  * <p>Key components in this package:
@@ -16,6 +20,14 @@
  *   <li>{@link com.sigrap.customer.CustomerService} - Business logic for customer operations</li>
  *   <li>{@link com.sigrap.customer.CustomerRepository} - Data access for customer entities</li>
  *   <li>{@link com.sigrap.customer.CustomerMapper} - Mapper between customer entities and DTOs</li>
+ *   <li>{@link com.sigrap.customer.CustomerSearchIndex} - In-memory accent-insensitive name index</li>
+ *   <li>{@link com.sigrap.customer.CustomerLookupCache} - Invalidation of cached checkout lookups</li>
+ *   <li>{@link com.sigrap.customer.CustomerStats} - Running purchase totals of a customer</li>
+ *   <li>{@link com.sigrap.customer.CustomerStatsService} - Maintenance of purchase totals and customer profiles</li>
+ *   <li>{@link com.sigrap.customer.CustomerMergeProposal} - Proposed merge of a duplicate customer</li>
+ *   <li>{@link com.sigrap.customer.CustomerDeduplicationService} - Duplicate scans and merges of customers</li>
+ *   <li>{@link com.sigrap.customer.CustomerSegment} - Latest RFM segment of a customer</li>
+ *   <li>{@link com.sigrap.customer.CustomerSegmentationService} - Nightly RFM scoring and segment queries</li>
  * </ul></p>
  */
 package com.sigrap.customer;
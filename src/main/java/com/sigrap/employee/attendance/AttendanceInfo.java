@@ -97,4 +97,10 @@ public class AttendanceInfo {
     example = "2024-01-15T09:00:00"
   )
   private LocalDateTime updatedAt;
+
+  /**
+   * Version of the attendance record, used to detect concurrent changes.
+   */
+  @Schema(description = "Version of the attendance record", example = "3")
+  private Long version;
 }
@@ -58,6 +58,7 @@ public class AttendanceMapper {
       .status(attendance.getStatus())
       .createdAt(attendance.getCreatedAt())
       .updatedAt(attendance.getUpdatedAt())
+      .version(attendance.getVersion())
       .build();
   }
 
@@ -1,6 +1,7 @@
 package com.sigrap.employee.attendance;
 
 import com.sigrap.audit.Auditable;
+import com.sigrap.common.RetryOnConflict;
 import com.sigrap.user.User;
 import com.sigrap.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -78,6 +79,7 @@ public class AttendanceService {
    * @throws IllegalStateException if the user already has an active attendance record
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "REGISTRAR_ENTRADA",
     entity = "ASISTENCIA",
@@ -125,6 +127,7 @@ public class AttendanceService {
    * @throws EntityNotFoundException if the attendance record is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "REGISTRAR_SALIDA",
     entity = "ASISTENCIA",
@@ -167,7 +170,7 @@ public class AttendanceService {
       }
     }
 
-    Attendance savedAttendance = attendanceRepository.save(attendance);
+    Attendance savedAttendance = attendanceRepository.saveAndFlush(attendance);
     return attendanceMapper.toInfo(savedAttendance);
   }
 
@@ -267,6 +270,7 @@ public class AttendanceService {
    * @throws EntityNotFoundException if the attendance record is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ACTUALIZAR",
     entity = "ASISTENCIA",
@@ -282,7 +286,7 @@ public class AttendanceService {
 
     attendance.setStatus(status);
 
-    Attendance savedAttendance = attendanceRepository.save(attendance);
+    Attendance savedAttendance = attendanceRepository.saveAndFlush(attendance);
     return attendanceMapper.toInfo(savedAttendance);
   }
 
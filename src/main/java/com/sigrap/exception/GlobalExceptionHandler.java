@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -12,6 +13,9 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import com.sigrap.common.StaleVersionException;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.persistence.EntityNotFoundException;
@@ -66,6 +70,26 @@ public class GlobalExceptionHandler {
     return createErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
   }
 
+  /**
+   * Handles optimistic locking conflicts that were not resolved by retrying,
+   * or updates based on an outdated version of an entity.
+   * Returns 409 CONFLICT status.
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<
+    Map<String, Object>
+  > handleOptimisticLockingFailureException(
+    OptimisticLockingFailureException ex
+  ) {
+    if (ex instanceof StaleVersionException) {
+      return createErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
+    }
+    return createErrorResponse(
+      HttpStatus.CONFLICT,
+      "The resource was modified concurrently, please try again"
+    );
+  }
+
   /**
    * Handles validation exceptions.
    * Returns 400 BAD_REQUEST status with field-level error details.
@@ -135,6 +159,21 @@ public class GlobalExceptionHandler {
     return createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
   }
 
+  /**
+   * Handles path and query parameters that cannot be converted, such as an
+   * unknown enum constant.
+   * Returns 400 BAD_REQUEST status.
+   */
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<Map<String, Object>> handleTypeMismatchException(
+    MethodArgumentTypeMismatchException ex
+  ) {
+    return createErrorResponse(
+      HttpStatus.BAD_REQUEST,
+      "Invalid value for parameter '" + ex.getName() + "': " + ex.getValue()
+    );
+  }
+
   /**
    * Handles all other unhandled exceptions.
    * Returns 500 INTERNAL_SERVER_ERROR status.
@@ -0,0 +1,60 @@
+package com.sigrap.inventory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the inventory value of one category.
+ *
+ * @see InventoryValuationInfo
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Inventory value of the products in one category")
+public class CategoryValuationInfo {
+
+  /**
+   * ID of the category, null for products without a category.
+   */
+  @Schema(
+    description = "ID of the category, null for products without a category",
+    example = "1"
+  )
+  private Long categoryId;
+
+  /**
+   * Name of the category, null for products without a category.
+   */
+  @Schema(description = "Name of the category", example = "Cuadernos")
+  private String categoryName;
+
+  /**
+   * Number of products in the category.
+   */
+  @Schema(description = "Number of products in the category", example = "42")
+  private long productCount;
+
+  /**
+   * Total units in stock across the category.
+   */
+  @Schema(description = "Total units in stock", example = "1250")
+  private long units;
+
+  /**
+   * Sum of stock × cost price.
+   */
+  @Schema(description = "Inventory value at cost", example = "1875000.00")
+  private BigDecimal costValue;
+
+  /**
+   * Sum of stock × sale price.
+   */
+  @Schema(description = "Inventory value at retail", example = "3125000.00")
+  private BigDecimal retailValue;
+}
@@ -0,0 +1,166 @@
+package com.sigrap.inventory;
+
+import com.sigrap.product.ProductRepository;
+import com.sigrap.sale.SaleItemRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly demand forecast over the whole catalog.
+ *
+ * <p>The catalog is split into chunks of
+ * {@code app.inventory.forecast.chunk-size} products. Each chunk loads the
+ * units sold per product and day from {@code sale_items} into primitive
+ * arrays and runs the {@link DemandForecaster} on them; up to
+ * {@code app.inventory.forecast.parallelism} chunks are processed at once.
+ * The results are then stored by {@link ProductForecastWriter}.</p>
+ *
+ * <p>The run is scheduled by {@code app.inventory.forecast.cron}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DemandForecastEngine {
+
+  private final ProductRepository productRepository;
+  private final SaleItemRepository saleItemRepository;
+  private final ProductForecastWriter forecastWriter;
+
+  @Value("${app.inventory.forecast.history-days:182}")
+  private int historyDays;
+
+  @Value("${app.inventory.forecast.moving-average-days:28}")
+  private int movingAverageDays;
+
+  @Value("${app.inventory.forecast.lead-time-days:7}")
+  private int leadTimeDays;
+
+  @Value("${app.inventory.forecast.review-days:14}")
+  private int reviewDays;
+
+  @Value("${app.inventory.forecast.service-level-z:1.65}")
+  private double serviceLevelZ;
+
+  @Value("${app.inventory.forecast.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${app.inventory.forecast.parallelism:4}")
+  private int parallelism;
+
+  /**
+   * Forecasts demand for every product and replaces the stored forecasts.
+   *
+   * @return The number of products forecast
+   */
+  @Scheduled(cron = "${app.inventory.forecast.cron:0 30 2 * * *}")
+  public int run() {
+    long start = System.nanoTime();
+    DemandForecaster forecaster = new DemandForecaster(
+      historyDays,
+      movingAverageDays,
+      leadTimeDays,
+      reviewDays,
+      serviceLevelZ
+    );
+    LocalDate today = LocalDate.now();
+    LocalDate firstDay = today.minusDays(historyDays);
+
+    List<ForecastChunk> chunks = split(productRepository.findStockLevels());
+    ExecutorService executor = Executors.newFixedThreadPool(
+      Math.max(1, Math.min(parallelism, chunks.size()))
+    );
+    try {
+      List<Future<?>> tasks = new ArrayList<>(chunks.size());
+      for (ForecastChunk chunk : chunks) {
+        tasks.add(
+          executor.submit(() -> {
+            loadDemand(chunk, firstDay, today);
+            forecaster.forecast(chunk, firstDay, today);
+          })
+        );
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Demand forecast interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Demand forecast failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int thresholds = forecastWriter.replaceAll(chunks, LocalDateTime.now());
+    int products = chunks.stream().mapToInt(ForecastChunk::size).sum();
+    log.info(
+      "Demand forecast computed for {} products in {} chunks in {} ms ({} thresholds updated)",
+      products,
+      chunks.size(),
+      (System.nanoTime() - start) / 1_000_000,
+      thresholds
+    );
+    return products;
+  }
+
+  private List<ForecastChunk> split(List<Object[]> rows) {
+    int size = Math.max(1, chunkSize);
+    List<ForecastChunk> chunks = new ArrayList<>();
+    for (int from = 0; from < rows.size(); from += size) {
+      int to = Math.min(from + size, rows.size());
+      ForecastChunk chunk = new ForecastChunk(to - from, historyDays);
+      for (int i = from; i < to; i++) {
+        Object[] row = rows.get(i);
+        chunk.productIds[i - from] = (Integer) row[0];
+        chunk.productNames[i - from] = (String) row[1];
+        chunk.stock[i - from] = intValue(row[2]);
+        chunk.minimumStockThresholds[i - from] = intValue(row[3]);
+      }
+      chunks.add(chunk);
+    }
+    return chunks;
+  }
+
+  private void loadDemand(
+    ForecastChunk chunk,
+    LocalDate firstDay,
+    LocalDate today
+  ) {
+    List<Integer> productIds = new ArrayList<>(chunk.size());
+    for (int productId : chunk.productIds) {
+      productIds.add(productId);
+    }
+    for (Object[] row : saleItemRepository.sumDailyQuantityByProduct(
+      firstDay.atStartOfDay(),
+      today.atStartOfDay(),
+      productIds
+    )) {
+      LocalDate day = LocalDate.of(
+        intValue(row[1]),
+        intValue(row[2]),
+        intValue(row[3])
+      );
+      chunk.addDemand(
+        (Integer) row[0],
+        (int) ChronoUnit.DAYS.between(firstDay, day),
+        intValue(row[4])
+      );
+    }
+  }
+
+  private static int intValue(Object value) {
+    return value != null ? ((Number) value).intValue() : 0;
+  }
+}
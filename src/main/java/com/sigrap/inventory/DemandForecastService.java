@@ -0,0 +1,75 @@
+package com.sigrap.inventory;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for reading the demand forecasts produced by
+ * {@link DemandForecastEngine}.
+ */
+@Service
+@RequiredArgsConstructor
+public class DemandForecastService {
+
+  /**
+   * Repository for the stored forecasts.
+   */
+  private final ProductForecastRepository productForecastRepository;
+
+  /**
+   * Returns a page of product forecasts.
+   *
+   * @param reorderOnly Whether to return only products that need reordering
+   * @param pageable Page and sort to return
+   * @return The forecasts
+   */
+  @Transactional(readOnly = true)
+  public Page<ProductForecastInfo> findAll(
+    boolean reorderOnly,
+    Pageable pageable
+  ) {
+    Page<ProductForecast> page = reorderOnly
+      ? productForecastRepository.findByReorderRequiredTrue(pageable)
+      : productForecastRepository.findAll(pageable);
+    return page.map(DemandForecastService::toInfo);
+  }
+
+  /**
+   * Returns the forecast of a product.
+   *
+   * @param productId The product ID
+   * @return The forecast
+   * @throws EntityNotFoundException if the product has no forecast
+   */
+  @Transactional(readOnly = true)
+  public ProductForecastInfo findByProductId(Integer productId) {
+    return productForecastRepository
+      .findById(productId)
+      .map(DemandForecastService::toInfo)
+      .orElseThrow(() ->
+        new EntityNotFoundException(
+          "Forecast not found for product: " + productId
+        )
+      );
+  }
+
+  private static ProductForecastInfo toInfo(ProductForecast forecast) {
+    return ProductForecastInfo.builder()
+      .productId(forecast.getProductId())
+      .productName(forecast.getProductName())
+      .currentStock(forecast.getCurrentStock())
+      .averageDailyDemand(forecast.getAverageDailyDemand())
+      .leadTimeDemand(forecast.getLeadTimeDemand())
+      .demandStdDev(forecast.getDemandStdDev())
+      .daysOfCover(forecast.getDaysOfCover())
+      .reorderPoint(forecast.getReorderPoint())
+      .suggestedOrderQuantity(forecast.getSuggestedOrderQuantity())
+      .reorderRequired(forecast.isReorderRequired())
+      .calculatedAt(forecast.getCalculatedAt())
+      .build();
+  }
+}
@@ -0,0 +1,128 @@
+package com.sigrap.inventory;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Demand model used by the nightly forecast.
+ *
+ * <p>For every product in a {@link ForecastChunk} it computes:
+ * <ul>
+ *   <li>the moving average of daily demand over the most recent days;</li>
+ *   <li>a weekday seasonality index, the average demand on each day of the
+ *       week relative to the average over the whole history;</li>
+ *   <li>the demand expected during the supplier lead time, i.e. the moving
+ *       average scaled by the index of each upcoming weekday;</li>
+ *   <li>the reorder point, lead-time demand plus safety stock of
+ *       {@code z × σ × √leadTime};</li>
+ *   <li>the suggested order quantity, enough to bring stock back to the
+ *       reorder point plus the demand of one review period, proposed only
+ *       once stock has fallen to the reorder point.</li>
+ * </ul></p>
+ *
+ * <p>The model works on primitive arrays only and holds no state between
+ * chunks, so chunks can be processed concurrently.</p>
+ */
+final class DemandForecaster {
+
+  private static final double EPSILON = 1e-9;
+
+  private final int historyDays;
+  private final int movingAverageDays;
+  private final int leadTimeDays;
+  private final int reviewDays;
+  private final double serviceLevelZ;
+
+  DemandForecaster(
+    int historyDays,
+    int movingAverageDays,
+    int leadTimeDays,
+    int reviewDays,
+    double serviceLevelZ
+  ) {
+    if (historyDays < 7 || movingAverageDays < 1 || leadTimeDays < 1) {
+      throw new IllegalArgumentException(
+        "Forecast needs at least 7 days of history and positive windows"
+      );
+    }
+    this.historyDays = historyDays;
+    this.movingAverageDays = Math.min(movingAverageDays, historyDays);
+    this.leadTimeDays = leadTimeDays;
+    this.reviewDays = Math.max(reviewDays, 0);
+    this.serviceLevelZ = serviceLevelZ;
+  }
+
+  int historyDays() {
+    return historyDays;
+  }
+
+  /**
+   * Fills the result arrays of a chunk.
+   *
+   * @param chunk The chunk, with stock and demand already loaded
+   * @param firstDay The first day of the history window
+   * @param forecastStart The first day to forecast
+   */
+  void forecast(
+    ForecastChunk chunk,
+    LocalDate firstDay,
+    LocalDate forecastStart
+  ) {
+    int firstWeekday = firstDay.getDayOfWeek().getValue() - 1;
+    int startWeekday = forecastStart.getDayOfWeek().getValue() - 1;
+    int[] weekdayDays = new int[7];
+    for (int day = 0; day < historyDays; day++) {
+      weekdayDays[(firstWeekday + day) % 7]++;
+    }
+    long[] weekdayTotals = new long[7];
+
+    for (int i = 0; i < chunk.size(); i++) {
+      int[] demand = chunk.demand[i];
+      Arrays.fill(weekdayTotals, 0);
+      long total = 0;
+      long recent = 0;
+      double sumOfSquares = 0;
+      for (int day = 0; day < historyDays; day++) {
+        int quantity = demand[day];
+        total += quantity;
+        sumOfSquares += (double) quantity * quantity;
+        weekdayTotals[(firstWeekday + day) % 7] += quantity;
+        if (day >= historyDays - movingAverageDays) {
+          recent += quantity;
+        }
+      }
+
+      double mean = (double) total / historyDays;
+      double variance =
+        (sumOfSquares - historyDays * mean * mean) / (historyDays - 1);
+      double stdDev = Math.sqrt(Math.max(variance, 0));
+      double average = (double) recent / movingAverageDays;
+
+      double leadTimeDemand = 0;
+      for (int day = 0; day < leadTimeDays; day++) {
+        int weekday = (startWeekday + day) % 7;
+        double index = mean > 0
+          ? (double) weekdayTotals[weekday] / weekdayDays[weekday] / mean
+          : 1;
+        leadTimeDemand += average * index;
+      }
+
+      double safetyStock = serviceLevelZ * stdDev * Math.sqrt(leadTimeDays);
+      int reorderPoint = ceil(leadTimeDemand + safetyStock);
+      int stock = chunk.stock[i];
+      int orderQuantity = stock <= reorderPoint
+        ? Math.max(ceil(reorderPoint + average * reviewDays - stock), 0)
+        : 0;
+
+      chunk.averageDailyDemand[i] = average;
+      chunk.leadTimeDemand[i] = leadTimeDemand;
+      chunk.demandStdDev[i] = stdDev;
+      chunk.reorderPoints[i] = reorderPoint;
+      chunk.suggestedOrderQuantities[i] = orderQuantity;
+    }
+  }
+
+  private static int ceil(double value) {
+    return (int) Math.ceil(value - EPSILON);
+  }
+}
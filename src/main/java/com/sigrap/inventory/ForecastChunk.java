@@ -0,0 +1,90 @@
+package com.sigrap.inventory;
+
+import java.util.Arrays;
+
+/**
+ * A slice of the catalog processed by one forecasting task.
+ *
+ * <p>Inputs and results are held in parallel primitive arrays indexed by the
+ * position of the product in the chunk, so a chunk of several hundred
+ * products with half a year of daily history needs no per-product objects.
+ * Product IDs are kept in ascending order so rows can be located with a
+ * binary search.</p>
+ */
+final class ForecastChunk {
+
+  final int[] productIds;
+  final String[] productNames;
+  final int[] stock;
+  final int[] minimumStockThresholds;
+
+  /**
+   * Units sold per product and day; {@code demand[i][d]} is the quantity of
+   * product {@code i} sold on day {@code d} of the history window.
+   */
+  final int[][] demand;
+
+  final boolean[] hasSales;
+  final double[] averageDailyDemand;
+  final double[] leadTimeDemand;
+  final double[] demandStdDev;
+  final int[] reorderPoints;
+  final int[] suggestedOrderQuantities;
+
+  ForecastChunk(int size, int days) {
+    productIds = new int[size];
+    productNames = new String[size];
+    stock = new int[size];
+    minimumStockThresholds = new int[size];
+    demand = new int[size][days];
+    hasSales = new boolean[size];
+    averageDailyDemand = new double[size];
+    leadTimeDemand = new double[size];
+    demandStdDev = new double[size];
+    reorderPoints = new int[size];
+    suggestedOrderQuantities = new int[size];
+  }
+
+  int size() {
+    return productIds.length;
+  }
+
+  /**
+   * Returns the position of a product in the chunk.
+   *
+   * @param productId The product ID
+   * @return The index, or a negative value if the product is not in the chunk
+   */
+  int indexOf(int productId) {
+    return Arrays.binarySearch(productIds, productId);
+  }
+
+  /**
+   * Records units sold of a product on a day of the history window.
+   * Rows for unknown products or days outside the window are ignored.
+   *
+   * @param productId The product ID
+   * @param day The day index within the window
+   * @param quantity The units sold
+   */
+  void addDemand(int productId, int day, int quantity) {
+    int index = indexOf(productId);
+    if (index < 0 || day < 0 || day >= demand[index].length) {
+      return;
+    }
+    demand[index][day] += quantity;
+    hasSales[index] = true;
+  }
+
+  /**
+   * Returns the stock in days of average demand.
+   *
+   * @param index The product position
+   * @return Days of cover, or NaN when the product has no recent demand
+   */
+  double daysOfCover(int index) {
+    return averageDailyDemand[index] > 0
+      ? stock[index] / averageDailyDemand[index]
+      : Double.NaN;
+  }
+}
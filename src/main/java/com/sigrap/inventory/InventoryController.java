@@ -0,0 +1,224 @@
+package com.sigrap.inventory;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for inventory-wide figures.
+ *
+ * <p>The current valuation is served from memory and answers in constant
+ * time; past valuations are read from the daily snapshots. Demand forecasts
+ * and reorder suggestions are computed nightly. Product costs are moving
+ * weighted averages kept up to date as goods are received.</p>
+ *
+ * <p>Usage Examples:
+ * <pre>
+ * // Current valuation
+ * GET /api/inventory/valuation
+ *
+ * // Daily valuations for January
+ * GET /api/inventory/valuation/history?from=2025-01-01&amp;to=2025-01-31
+ *
+ * // Products that need reordering, lowest cover first
+ * GET /api/inventory/forecast?reorderOnly=true
+ *
+ * // Cost changes of a product, latest first
+ * GET /api/inventory/costs/1/history
+ * </pre></p>
+ *
+ * @see InventoryValuationService
+ * @see DemandForecastService
+ * @see ProductCostService
+ */
+@RestController
+@RequestMapping("/api/inventory")
+@RequiredArgsConstructor
+@Tag(
+  name = "Inventory",
+  description = "Inventory valuation and demand forecasting"
+)
+public class InventoryController {
+
+  private final InventoryValuationService inventoryValuationService;
+  private final DemandForecastService demandForecastService;
+  private final ProductCostService productCostService;
+  private final ProductCostBackfill productCostBackfill;
+
+  /**
+   * Returns the current inventory valuation.
+   *
+   * @return The valuation at cost and at retail, overall and per category
+   */
+  @Operation(
+    summary = "Get current inventory valuation",
+    description = "Returns the inventory value at cost and at retail, overall and per category"
+  )
+  @ApiResponse(
+    responseCode = "200",
+    description = "Valuation retrieved successfully"
+  )
+  @GetMapping("/valuation")
+  public InventoryValuationInfo getValuation() {
+    return inventoryValuationService.getCurrent();
+  }
+
+  /**
+   * Returns the daily inventory valuations between two days.
+   *
+   * @param from The first day (inclusive), defaults to 30 days before to
+   * @param to The last day (inclusive), defaults to today
+   * @return One valuation per day with a snapshot, ordered by day
+   */
+  @Operation(
+    summary = "Get inventory valuation history",
+    description = "Returns the stored end-of-day valuations between two days"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "History retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "The start date is after the end date"
+      ),
+    }
+  )
+  @GetMapping("/valuation/history")
+  public List<InventoryValuationInfo> getValuationHistory(
+    @Parameter(description = "First day (yyyy-MM-dd)") @RequestParam(
+      required = false
+    ) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+    @Parameter(description = "Last day (yyyy-MM-dd)") @RequestParam(
+      required = false
+    ) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+  ) {
+    return inventoryValuationService.getHistory(from, to);
+  }
+
+  /**
+   * Returns the latest demand forecasts.
+   *
+   * @param reorderOnly Whether to return only products that need reordering
+   * @param pageable Page and sort, by default lowest days of cover first
+   * @return A page of forecasts
+   */
+  @Operation(
+    summary = "Get demand forecasts",
+    description = "Returns the nightly demand forecast, reorder point and suggested order quantity per product"
+  )
+  @ApiResponse(
+    responseCode = "200",
+    description = "Forecasts retrieved successfully"
+  )
+  @GetMapping("/forecast")
+  public Page<ProductForecastInfo> getForecasts(
+    @Parameter(
+      description = "Only products whose stock has fallen to the reorder point"
+    ) @RequestParam(defaultValue = "false") boolean reorderOnly,
+    @PageableDefault(size = 20, sort = "daysOfCover") Pageable pageable
+  ) {
+    return demandForecastService.findAll(reorderOnly, pageable);
+  }
+
+  /**
+   * Returns the latest demand forecast of a product.
+   *
+   * @param productId The product ID
+   * @return The forecast
+   */
+  @Operation(
+    summary = "Get demand forecast of a product",
+    description = "Returns the nightly demand forecast of a single product"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Forecast retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "No forecast for the product"
+      ),
+    }
+  )
+  @GetMapping("/forecast/{productId}")
+  public ProductForecastInfo getForecast(
+    @Parameter(description = "Product ID", required = true) @PathVariable(
+      "productId"
+    ) Integer productId
+  ) {
+    return demandForecastService.findByProductId(productId);
+  }
+
+  /**
+   * Returns the weighted-average cost changes of a product.
+   *
+   * @param productId The product ID
+   * @param pageable Page and sort, by default latest change first
+   * @return A page of cost changes
+   */
+  @Operation(
+    summary = "Get cost history of a product",
+    description = "Returns the changes of a product's weighted-average cost, one per receipt"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "History retrieved successfully"
+      ),
+      @ApiResponse(responseCode = "404", description = "Product not found"),
+    }
+  )
+  @GetMapping("/costs/{productId}/history")
+  public Page<ProductCostHistoryInfo> getCostHistory(
+    @Parameter(description = "Product ID", required = true) @PathVariable(
+      "productId"
+    ) Integer productId,
+    @PageableDefault(
+      size = 20,
+      sort = { "recordedAt", "id" },
+      direction = Sort.Direction.DESC
+    ) Pageable pageable
+  ) {
+    return productCostService.findHistory(productId, pageable);
+  }
+
+  /**
+   * Rebuilds product costs by replaying every goods receipt.
+   *
+   * @return The number of products and receipts replayed
+   */
+  @Operation(
+    summary = "Backfill product costs",
+    description = "Replays every goods receipt to rebuild weighted-average costs and their history"
+  )
+  @ApiResponse(
+    responseCode = "200",
+    description = "Costs rebuilt successfully"
+  )
+  @PostMapping("/costs/backfill")
+  public ProductCostBackfillInfo backfillCosts() {
+    return productCostBackfill.run();
+  }
+}
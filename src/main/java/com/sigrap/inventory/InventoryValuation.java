@@ -0,0 +1,293 @@
+package com.sigrap.inventory;
+
+import com.sigrap.product.ProductChangedEvent;
+import com.sigrap.product.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Live inventory valuation, maintained incrementally.
+ *
+ * <p>The component keeps the stock and prices of every product in memory
+ * together with running totals per category. When a
+ * {@link ProductChangedEvent} is committed only the affected products are
+ * reloaded, and the difference between their old and new values is applied
+ * to the totals, so reading the valuation never touches the database.</p>
+ *
+ * <p>The totals are built when the application starts and reconciled against
+ * a full recompute on the schedule given by
+ * {@code app.inventory.valuation.reconcile-cron}; any drift, e.g. from stock
+ * changed directly in the database, is logged and corrected.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryValuation {
+
+  private final ProductRepository productRepository;
+
+  private final Map<Integer, ProductValue> products = new HashMap<>();
+  private final Map<Long, CategoryTotals> categories = new HashMap<>();
+
+  private volatile InventoryValuationInfo current = emptyValuation();
+
+  /**
+   * Returns the current valuation.
+   *
+   * @return The valuation, computed at the last change
+   */
+  public InventoryValuationInfo current() {
+    return current;
+  }
+
+  /**
+   * Rebuilds the valuation from the database.
+   * Runs once the application has started and whenever a catalog-wide change
+   * is committed.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void recompute() {
+    long start = System.nanoTime();
+    load(productRepository.findValuationRows());
+    log.info(
+      "Inventory valuation computed for {} products in {} ms",
+      products.size(),
+      (System.nanoTime() - start) / 1_000_000
+    );
+  }
+
+  /**
+   * Recomputes the valuation from scratch and corrects any drift from the
+   * incrementally maintained totals.
+   */
+  @Scheduled(cron = "${app.inventory.valuation.reconcile-cron:0 0 3 * * *}")
+  public synchronized void reconcile() {
+    InventoryValuationInfo before = current;
+    load(productRepository.findValuationRows());
+    InventoryValuationInfo after = current;
+    if (
+      before.getProductCount() != after.getProductCount() ||
+      before.getTotalUnits() != after.getTotalUnits() ||
+      before.getTotalCostValue().compareTo(after.getTotalCostValue()) != 0 ||
+      before.getTotalRetailValue().compareTo(after.getTotalRetailValue()) != 0
+    ) {
+      log.warn(
+        "Inventory valuation drift corrected: cost {} -> {}, retail {} -> {}",
+        before.getTotalCostValue(),
+        after.getTotalCostValue(),
+        before.getTotalRetailValue(),
+        after.getTotalRetailValue()
+      );
+    }
+  }
+
+  /**
+   * Applies a committed product change to the valuation.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    try {
+      if (event.isCatalogWide()) {
+        recompute();
+      } else {
+        refresh(event.getProductIds());
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to update inventory valuation for {}", event, e);
+    }
+  }
+
+  /**
+   * Reloads the given products and applies the difference to the totals.
+   * Products that no longer exist are removed from the valuation.
+   *
+   * @param productIds IDs of the products to reload
+   */
+  public synchronized void refresh(Collection<Integer> productIds) {
+    if (productIds.isEmpty()) {
+      return;
+    }
+    Set<Integer> missing = new HashSet<>(productIds);
+    for (Object[] row : productRepository.findValuationRows(productIds)) {
+      ProductValue value = toValue(row);
+      missing.remove(value.productId);
+      remove(products.put(value.productId, value));
+      add(value);
+    }
+    missing.forEach(id -> remove(products.remove(id)));
+    publish();
+  }
+
+  private void load(List<Object[]> rows) {
+    products.clear();
+    categories.clear();
+    for (Object[] row : rows) {
+      ProductValue value = toValue(row);
+      products.put(value.productId, value);
+      add(value);
+    }
+    publish();
+  }
+
+  private void add(ProductValue value) {
+    CategoryTotals totals = categories.computeIfAbsent(value.categoryId, id ->
+      new CategoryTotals()
+    );
+    totals.categoryName = value.categoryName;
+    totals.apply(value, 1);
+  }
+
+  private void remove(ProductValue value) {
+    if (value == null) {
+      return;
+    }
+    CategoryTotals totals = categories.get(value.categoryId);
+    if (totals == null) {
+      return;
+    }
+    totals.apply(value, -1);
+    if (totals.productCount == 0) {
+      categories.remove(value.categoryId);
+    }
+  }
+
+  private void publish() {
+    long productCount = 0;
+    long units = 0;
+    BigDecimal costValue = BigDecimal.ZERO;
+    BigDecimal retailValue = BigDecimal.ZERO;
+    List<CategoryValuationInfo> breakdown = new ArrayList<>();
+    for (Map.Entry<Long, CategoryTotals> entry : categories.entrySet()) {
+      CategoryTotals totals = entry.getValue();
+      productCount += totals.productCount;
+      units += totals.units;
+      costValue = costValue.add(totals.costValue);
+      retailValue = retailValue.add(totals.retailValue);
+      breakdown.add(
+        CategoryValuationInfo.builder()
+          .categoryId(entry.getKey())
+          .categoryName(totals.categoryName)
+          .productCount(totals.productCount)
+          .units(totals.units)
+          .costValue(totals.costValue)
+          .retailValue(totals.retailValue)
+          .build()
+      );
+    }
+    breakdown.sort(
+      Comparator.comparing(
+        CategoryValuationInfo::getCategoryName,
+        Comparator.nullsLast(Comparator.naturalOrder())
+      )
+    );
+    current = InventoryValuationInfo.builder()
+      .valuationDate(LocalDate.now())
+      .calculatedAt(LocalDateTime.now())
+      .productCount(productCount)
+      .totalUnits(units)
+      .totalCostValue(costValue)
+      .totalRetailValue(retailValue)
+      .categories(List.copyOf(breakdown))
+      .build();
+  }
+
+  private static ProductValue toValue(Object[] row) {
+    int stock = row[3] != null ? ((Number) row[3]).intValue() : 0;
+    BigDecimal units = BigDecimal.valueOf(stock);
+    BigDecimal costPrice = Objects.requireNonNullElse(
+      (BigDecimal) row[4],
+      BigDecimal.ZERO
+    );
+    BigDecimal salePrice = Objects.requireNonNullElse(
+      (BigDecimal) row[5],
+      BigDecimal.ZERO
+    );
+    return new ProductValue(
+      (Integer) row[0],
+      (Long) row[1],
+      (String) row[2],
+      stock,
+      units.multiply(costPrice),
+      units.multiply(salePrice)
+    );
+  }
+
+  private static InventoryValuationInfo emptyValuation() {
+    return InventoryValuationInfo.builder()
+      .valuationDate(LocalDate.now())
+      .calculatedAt(LocalDateTime.now())
+      .totalCostValue(BigDecimal.ZERO)
+      .totalRetailValue(BigDecimal.ZERO)
+      .categories(List.of())
+      .build();
+  }
+
+  private static final class ProductValue {
+
+    private final Integer productId;
+    private final Long categoryId;
+    private final String categoryName;
+    private final int stock;
+    private final BigDecimal costValue;
+    private final BigDecimal retailValue;
+
+    private ProductValue(
+      Integer productId,
+      Long categoryId,
+      String categoryName,
+      int stock,
+      BigDecimal costValue,
+      BigDecimal retailValue
+    ) {
+      this.productId = productId;
+      this.categoryId = categoryId;
+      this.categoryName = categoryName;
+      this.stock = stock;
+      this.costValue = costValue;
+      this.retailValue = retailValue;
+    }
+  }
+
+  private static final class CategoryTotals {
+
+    private String categoryName;
+    private long productCount;
+    private long units;
+    private BigDecimal costValue = BigDecimal.ZERO;
+    private BigDecimal retailValue = BigDecimal.ZERO;
+
+    private void apply(ProductValue value, int sign) {
+      productCount += sign;
+      units += (long) sign * value.stock;
+      BigDecimal factor = BigDecimal.valueOf(sign);
+      costValue = costValue.add(value.costValue.multiply(factor));
+      retailValue = retailValue.add(value.retailValue.multiply(factor));
+    }
+  }
+}
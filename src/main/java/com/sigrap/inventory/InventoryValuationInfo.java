@@ -0,0 +1,74 @@
+package com.sigrap.inventory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the inventory value of the whole catalog,
+ * broken down by category. Used both for the live valuation and for daily
+ * snapshots.
+ *
+ * @see InventoryValuationService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Inventory value at cost and at retail, overall and per category")
+public class InventoryValuationInfo {
+
+  /**
+   * The day the valuation applies to.
+   */
+  @Schema(description = "Day the valuation applies to", example = "2025-01-15")
+  private LocalDate valuationDate;
+
+  /**
+   * When the figures were calculated.
+   */
+  @Schema(
+    description = "When the figures were calculated",
+    example = "2025-01-15T23:55:00"
+  )
+  private LocalDateTime calculatedAt;
+
+  /**
+   * Number of products valued.
+   */
+  @Schema(description = "Number of products valued", example = "380")
+  private long productCount;
+
+  /**
+   * Total units in stock.
+   */
+  @Schema(description = "Total units in stock", example = "15200")
+  private long totalUnits;
+
+  /**
+   * Total inventory value at cost.
+   */
+  @Schema(description = "Total inventory value at cost", example = "22500000.00")
+  private BigDecimal totalCostValue;
+
+  /**
+   * Total inventory value at retail.
+   */
+  @Schema(
+    description = "Total inventory value at retail",
+    example = "37800000.00"
+  )
+  private BigDecimal totalRetailValue;
+
+  /**
+   * Per-category breakdown, ordered by category name.
+   */
+  @Schema(description = "Per-category breakdown, ordered by category name")
+  private List<CategoryValuationInfo> categories;
+}
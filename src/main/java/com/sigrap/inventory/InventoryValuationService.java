@@ -0,0 +1,168 @@
+package com.sigrap.inventory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for inventory valuation.
+ * Serves the live valuation kept by {@link InventoryValuation} and stores it
+ * as a daily snapshot so past values can be queried.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryValuationService {
+
+  /**
+   * Number of days returned by the history when no range is given.
+   */
+  static final int DEFAULT_HISTORY_DAYS = 30;
+
+  /**
+   * Incrementally maintained valuation of the current inventory.
+   */
+  private final InventoryValuation inventoryValuation;
+
+  /**
+   * Repository for the stored daily snapshots.
+   */
+  private final InventoryValuationSnapshotRepository snapshotRepository;
+
+  /**
+   * Returns the current inventory valuation.
+   * Does not access the database.
+   *
+   * @return The valuation, overall and per category
+   */
+  public InventoryValuationInfo getCurrent() {
+    return inventoryValuation.current();
+  }
+
+  /**
+   * Returns the stored daily valuations between two days.
+   * Defaults to the last {@value #DEFAULT_HISTORY_DAYS} days.
+   *
+   * @param from The first day (inclusive), or null
+   * @param to The last day (inclusive), or null for today
+   * @return One valuation per day with a snapshot, ordered by day
+   * @throws IllegalArgumentException if from is after to
+   */
+  @Transactional(readOnly = true)
+  public List<InventoryValuationInfo> getHistory(LocalDate from, LocalDate to) {
+    LocalDate end = to != null ? to : LocalDate.now();
+    LocalDate start = from != null
+      ? from
+      : end.minusDays(DEFAULT_HISTORY_DAYS - 1L);
+    if (start.isAfter(end)) {
+      throw new IllegalArgumentException(
+        "The start date must not be after the end date"
+      );
+    }
+
+    Map<LocalDate, List<InventoryValuationSnapshot>> byDate =
+      new LinkedHashMap<>();
+    for (InventoryValuationSnapshot snapshot : snapshotRepository.findBySnapshotDateBetweenOrderBySnapshotDateAsc(
+      start,
+      end
+    )) {
+      byDate
+        .computeIfAbsent(snapshot.getSnapshotDate(), date -> new ArrayList<>())
+        .add(snapshot);
+    }
+
+    List<InventoryValuationInfo> history = new ArrayList<>(byDate.size());
+    byDate.forEach((date, rows) -> history.add(toInfo(date, rows)));
+    return history;
+  }
+
+  /**
+   * Stores today's valuation, replacing any snapshot already taken today.
+   * Runs on the schedule given by {@code app.inventory.valuation.snapshot-cron}.
+   *
+   * @return The number of category rows stored
+   */
+  @Scheduled(cron = "${app.inventory.valuation.snapshot-cron:0 55 23 * * *}")
+  @Transactional
+  public int takeSnapshot() {
+    InventoryValuationInfo valuation = inventoryValuation.current();
+    LocalDate today = LocalDate.now();
+    snapshotRepository.deleteBySnapshotDate(today);
+
+    List<InventoryValuationSnapshot> rows = valuation
+      .getCategories()
+      .stream()
+      .map(category ->
+        InventoryValuationSnapshot.builder()
+          .snapshotDate(today)
+          .categoryId(category.getCategoryId())
+          .categoryName(category.getCategoryName())
+          .productCount(category.getProductCount())
+          .units(category.getUnits())
+          .costValue(category.getCostValue())
+          .retailValue(category.getRetailValue())
+          .build()
+      )
+      .toList();
+    snapshotRepository.saveAll(rows);
+    log.info(
+      "Inventory valuation snapshot stored for {}: cost {}, retail {}",
+      today,
+      valuation.getTotalCostValue(),
+      valuation.getTotalRetailValue()
+    );
+    return rows.size();
+  }
+
+  private static InventoryValuationInfo toInfo(
+    LocalDate date,
+    List<InventoryValuationSnapshot> rows
+  ) {
+    long productCount = 0;
+    long units = 0;
+    BigDecimal costValue = BigDecimal.ZERO;
+    BigDecimal retailValue = BigDecimal.ZERO;
+    LocalDateTime calculatedAt = null;
+    List<CategoryValuationInfo> categories = new ArrayList<>(rows.size());
+    for (InventoryValuationSnapshot row : rows) {
+      productCount += row.getProductCount();
+      units += row.getUnits();
+      costValue = costValue.add(row.getCostValue());
+      retailValue = retailValue.add(row.getRetailValue());
+      if (
+        row.getCreatedAt() != null &&
+        (calculatedAt == null || row.getCreatedAt().isAfter(calculatedAt))
+      ) {
+        calculatedAt = row.getCreatedAt();
+      }
+      categories.add(
+        CategoryValuationInfo.builder()
+          .categoryId(row.getCategoryId())
+          .categoryName(row.getCategoryName())
+          .productCount(row.getProductCount())
+          .units(row.getUnits())
+          .costValue(row.getCostValue())
+          .retailValue(row.getRetailValue())
+          .build()
+      );
+    }
+    return InventoryValuationInfo.builder()
+      .valuationDate(date)
+      .calculatedAt(calculatedAt)
+      .productCount(productCount)
+      .totalUnits(units)
+      .totalCostValue(costValue)
+      .totalRetailValue(retailValue)
+      .categories(categories)
+      .build();
+  }
+}
@@ -0,0 +1,96 @@
+package com.sigrap.inventory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * Entity class representing the inventory value of one category at the end of
+ * a day. A daily snapshot consists of one row per category, with a null
+ * category for products that have none.
+ */
+@Entity
+@Table(
+  name = "inventory_valuation_snapshots",
+  indexes = {
+    @Index(
+      name = "idx_inventory_valuation_snapshots_date",
+      columnList = "snapshot_date"
+    ),
+  }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryValuationSnapshot {
+
+  /**
+   * Unique identifier for the snapshot row.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * Day the snapshot was taken for.
+   */
+  @Column(name = "snapshot_date", nullable = false)
+  private LocalDate snapshotDate;
+
+  /**
+   * ID of the category, null for products without a category.
+   * Stored without a foreign key so history survives category deletion.
+   */
+  @Column(name = "category_id")
+  private Long categoryId;
+
+  /**
+   * Name of the category at the time of the snapshot.
+   */
+  @Column(name = "category_name")
+  private String categoryName;
+
+  /**
+   * Number of products in the category.
+   */
+  @Column(name = "product_count", nullable = false)
+  private long productCount;
+
+  /**
+   * Total units in stock across the category.
+   */
+  @Column(nullable = false)
+  private long units;
+
+  /**
+   * Inventory value at cost.
+   */
+  @Column(name = "cost_value", nullable = false, precision = 19, scale = 2)
+  private BigDecimal costValue;
+
+  /**
+   * Inventory value at retail.
+   */
+  @Column(name = "retail_value", nullable = false, precision = 19, scale = 2)
+  private BigDecimal retailValue;
+
+  /**
+   * Timestamp of when the snapshot was written.
+   */
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+}
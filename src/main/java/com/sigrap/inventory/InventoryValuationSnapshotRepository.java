@@ -0,0 +1,42 @@
+package com.sigrap.inventory;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for InventoryValuationSnapshot entities.
+ * Provides methods to store and read daily inventory valuations.
+ */
+@Repository
+public interface InventoryValuationSnapshotRepository
+  extends JpaRepository<InventoryValuationSnapshot, Long> {
+  /**
+   * Deletes every snapshot row of the given day, so that a snapshot can be
+   * retaken.
+   *
+   * @param snapshotDate The day to clear
+   * @return The number of rows deleted
+   */
+  @Modifying
+  @Query(
+    "DELETE FROM InventoryValuationSnapshot s WHERE s.snapshotDate = :snapshotDate"
+  )
+  int deleteBySnapshotDate(@Param("snapshotDate") LocalDate snapshotDate);
+
+  /**
+   * Finds the snapshot rows taken between two days.
+   *
+   * @param from The first day (inclusive)
+   * @param to The last day (inclusive)
+   * @return The rows, ordered by day
+   */
+  List<InventoryValuationSnapshot> findBySnapshotDateBetweenOrderBySnapshotDateAsc(
+    LocalDate from,
+    LocalDate to
+  );
+}
@@ -0,0 +1,312 @@
+package com.sigrap.inventory;
+
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductRepository;
+import com.sigrap.sale.SaleItemRepository;
+import com.sigrap.supplier.PurchaseOrderItemRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds product costs by replaying every goods receipt.
+ *
+ * <p>The products that have ever been received are split into chunks of
+ * {@code app.inventory.costing.backfill-chunk-size}; up to
+ * {@code app.inventory.costing.backfill-parallelism} chunks are replayed at
+ * once. For each product, the receipts are replayed in time order with the
+ * same formula as {@link ProductCostService}, and units sold in between are
+ * taken off the stock they are weighted against. Sales of a day are counted
+ * after that day's receipts.</p>
+ *
+ * <p>The opening stock is what the current stock implies once the replayed
+ * receipts and sales are undone. It is valued at the cost recorded before
+ * the product's first stored cost change, or at its current cost price when
+ * it has no history yet. Sale returns are not replayed.</p>
+ *
+ * <p>The results replace the cost history of the replayed products and
+ * their cost price in a single transaction, through
+ * {@link ProductCostWriter}. The backfill is meant to be run once, or
+ * while no goods are being received.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCostBackfill {
+
+  private final PurchaseOrderItemRepository purchaseOrderItemRepository;
+  private final SaleItemRepository saleItemRepository;
+  private final ProductRepository productRepository;
+  private final ProductCostHistoryRepository productCostHistoryRepository;
+  private final ProductCostWriter productCostWriter;
+
+  @Value("${app.inventory.costing.backfill-chunk-size:200}")
+  private int chunkSize;
+
+  @Value("${app.inventory.costing.backfill-parallelism:4}")
+  private int parallelism;
+
+  /**
+   * Replays every goods receipt and replaces the stored product costs.
+   *
+   * @return The number of products and receipts replayed
+   */
+  public ProductCostBackfillInfo run() {
+    long start = System.nanoTime();
+    LocalDateTime now = LocalDateTime.now();
+    List<List<Integer>> chunks = split(
+      purchaseOrderItemRepository
+        .findReceivedProductIds()
+        .stream()
+        .sorted()
+        .toList()
+    );
+    ExecutorService executor = Executors.newFixedThreadPool(
+      Math.max(1, Math.min(parallelism, chunks.size()))
+    );
+    List<ProductCostHistory> history = new ArrayList<>();
+    try {
+      List<Future<List<ProductCostHistory>>> tasks = new ArrayList<>(
+        chunks.size()
+      );
+      for (List<Integer> chunk : chunks) {
+        tasks.add(executor.submit(() -> replay(chunk, now)));
+      }
+      for (Future<List<ProductCostHistory>> task : tasks) {
+        history.addAll(task.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Product cost backfill interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(
+        "Product cost backfill failed",
+        e.getCause()
+      );
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int products = productCostWriter.replaceAll(history, now);
+    log.info(
+      "Product costs replayed for {} products from {} receipts in {} ms",
+      products,
+      history.size(),
+      (System.nanoTime() - start) / 1_000_000
+    );
+    return ProductCostBackfillInfo.builder()
+      .productCount(products)
+      .receiptCount(history.size())
+      .build();
+  }
+
+  private List<List<Integer>> split(List<Integer> productIds) {
+    int size = Math.max(1, chunkSize);
+    List<List<Integer>> chunks = new ArrayList<>();
+    for (int from = 0; from < productIds.size(); from += size) {
+      chunks.add(
+        productIds.subList(from, Math.min(from + size, productIds.size()))
+      );
+    }
+    return chunks;
+  }
+
+  /**
+   * Replays the receipts of a chunk of products.
+   *
+   * @param productIds IDs of the products
+   * @param now End of the replay
+   * @return The cost changes, in order for each product
+   */
+  private List<ProductCostHistory> replay(
+    List<Integer> productIds,
+    LocalDateTime now
+  ) {
+    Map<Integer, List<Receipt>> receipts = loadReceipts(productIds);
+    LocalDateTime since = receipts
+      .values()
+      .stream()
+      .map(productReceipts -> productReceipts.get(0).receivedAt)
+      .min(Comparator.naturalOrder())
+      .orElse(now);
+    Map<Integer, NavigableMap<LocalDate, Integer>> sales = loadSales(
+      productIds,
+      since.toLocalDate(),
+      now
+    );
+    Map<Integer, BigDecimal> openingCosts = new HashMap<>();
+    for (Object[] row : productCostHistoryRepository.findOpeningCosts(
+      productIds
+    )) {
+      openingCosts.put((Integer) row[0], (BigDecimal) row[1]);
+    }
+
+    List<ProductCostHistory> history = new ArrayList<>();
+    for (Product product : productRepository.findAllById(productIds)) {
+      List<Receipt> productReceipts = receipts.get(product.getId());
+      if (productReceipts == null) {
+        continue;
+      }
+      NavigableMap<LocalDate, Integer> productSales = sales
+        .getOrDefault(product.getId(), new TreeMap<>())
+        .tailMap(productReceipts.get(0).receivedAt.toLocalDate(), true);
+
+      long stock = product.getStock();
+      for (Receipt receipt : productReceipts) {
+        stock -= receipt.quantity;
+      }
+      for (int sold : productSales.values()) {
+        stock += sold;
+      }
+      stock = Math.max(0, stock);
+      BigDecimal cost = openingCosts.getOrDefault(
+        product.getId(),
+        product.getCostPrice()
+      );
+
+      for (Receipt receipt : productReceipts) {
+        LocalDate day = receipt.receivedAt.toLocalDate();
+        NavigableMap<LocalDate, Integer> soldBefore = productSales.headMap(
+          day,
+          false
+        );
+        for (int sold : soldBefore.values()) {
+          stock = Math.max(0, stock - sold);
+        }
+        soldBefore.clear();
+
+        BigDecimal averageCost = ProductCostService.averageCost(
+          stock,
+          cost,
+          receipt.quantity,
+          receipt.value
+        );
+        history.add(
+          ProductCostHistory.builder()
+            .productId(product.getId())
+            .purchaseOrderId(receipt.purchaseOrderId)
+            .quantity(receipt.quantity)
+            .unitCost(
+              ProductCostService.unitCost(receipt.quantity, receipt.value)
+            )
+            .stockBefore((int) Math.min(stock, Integer.MAX_VALUE))
+            .previousCost(cost)
+            .averageCost(averageCost)
+            .recordedAt(receipt.receivedAt)
+            .build()
+        );
+        stock += receipt.quantity;
+        cost = averageCost;
+      }
+    }
+    return history;
+  }
+
+  /**
+   * Loads the receipts of the given products in time order, merging the
+   * lines of a purchase order that share a product.
+   */
+  private Map<Integer, List<Receipt>> loadReceipts(List<Integer> productIds) {
+    List<Object[]> rows = new ArrayList<>(
+      purchaseOrderItemRepository.findReceipts(productIds)
+    );
+    rows.sort(
+      Comparator.comparing((Object[] row) -> (LocalDateTime) row[2])
+        .thenComparing(row -> (Integer) row[1])
+    );
+    Map<Integer, List<Receipt>> receipts = new HashMap<>();
+    for (Object[] row : rows) {
+      int quantity = ((Number) row[3]).intValue();
+      if (quantity <= 0) {
+        continue;
+      }
+      BigDecimal value = ((BigDecimal) row[4]).multiply(
+        BigDecimal.valueOf(quantity)
+      );
+      List<Receipt> productReceipts = receipts.computeIfAbsent(
+        (Integer) row[0],
+        key -> new ArrayList<>()
+      );
+      Receipt last = productReceipts.isEmpty()
+        ? null
+        : productReceipts.get(productReceipts.size() - 1);
+      if (last != null && last.purchaseOrderId.equals(row[1])) {
+        last.quantity += quantity;
+        last.value = last.value.add(value);
+      } else {
+        productReceipts.add(
+          new Receipt((Integer) row[1], (LocalDateTime) row[2], quantity, value)
+        );
+      }
+    }
+    return receipts;
+  }
+
+  /**
+   * Loads the units sold per product and day from the given day until now.
+   */
+  private Map<Integer, NavigableMap<LocalDate, Integer>> loadSales(
+    List<Integer> productIds,
+    LocalDate since,
+    LocalDateTime now
+  ) {
+    Map<Integer, NavigableMap<LocalDate, Integer>> sales = new HashMap<>();
+    for (Object[] row : saleItemRepository.sumDailyQuantityByProduct(
+      since.atStartOfDay(),
+      now,
+      productIds
+    )) {
+      LocalDate day = LocalDate.of(
+        intValue(row[1]),
+        intValue(row[2]),
+        intValue(row[3])
+      );
+      sales
+        .computeIfAbsent((Integer) row[0], key -> new TreeMap<>())
+        .merge(day, intValue(row[4]), Integer::sum);
+    }
+    return sales;
+  }
+
+  private static int intValue(Object value) {
+    return value != null ? ((Number) value).intValue() : 0;
+  }
+
+  /**
+   * Goods of one product received for one purchase order.
+   */
+  private static final class Receipt {
+
+    private final Integer purchaseOrderId;
+    private final LocalDateTime receivedAt;
+    private int quantity;
+    private BigDecimal value;
+
+    private Receipt(
+      Integer purchaseOrderId,
+      LocalDateTime receivedAt,
+      int quantity,
+      BigDecimal value
+    ) {
+      this.purchaseOrderId = purchaseOrderId;
+      this.receivedAt = receivedAt;
+      this.quantity = quantity;
+      this.value = value;
+    }
+  }
+}
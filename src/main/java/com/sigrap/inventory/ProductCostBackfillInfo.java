@@ -0,0 +1,35 @@
+package com.sigrap.inventory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) summarizing a product cost backfill.
+ *
+ * @see ProductCostBackfill
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a product cost backfill")
+public class ProductCostBackfillInfo {
+
+  /**
+   * Number of products whose cost was rebuilt.
+   */
+  @Schema(
+    description = "Number of products whose cost was rebuilt",
+    example = "120"
+  )
+  private int productCount;
+
+  /**
+   * Number of receipts replayed.
+   */
+  @Schema(description = "Number of receipts replayed", example = "860")
+  private int receiptCount;
+}
@@ -0,0 +1,94 @@
+package com.sigrap.inventory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing one change of a product's weighted-average cost.
+ * A row is written per product each time goods are received for it, holding
+ * only IDs and figures so the table stays small.
+ *
+ * @see ProductCostService
+ */
+@Entity
+@Table(
+  name = "product_cost_history",
+  indexes = {
+    @Index(
+      name = "idx_product_cost_history_product_recorded",
+      columnList = "product_id, recorded_at"
+    ),
+  }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCostHistory {
+
+  /**
+   * Unique identifier for the row.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * ID of the product.
+   */
+  @Column(name = "product_id", nullable = false)
+  private Integer productId;
+
+  /**
+   * ID of the purchase order the goods were received for.
+   */
+  @Column(name = "purchase_order_id")
+  private Integer purchaseOrderId;
+
+  /**
+   * Units received.
+   */
+  @Column(nullable = false)
+  private int quantity;
+
+  /**
+   * Cost per unit received.
+   */
+  @Column(name = "unit_cost", nullable = false, precision = 12, scale = 2)
+  private BigDecimal unitCost;
+
+  /**
+   * Stock on hand before the units were received.
+   */
+  @Column(name = "stock_before", nullable = false)
+  private int stockBefore;
+
+  /**
+   * Average cost before the units were received.
+   */
+  @Column(name = "previous_cost", nullable = false, precision = 12, scale = 2)
+  private BigDecimal previousCost;
+
+  /**
+   * Average cost after the units were received.
+   */
+  @Column(name = "average_cost", nullable = false, precision = 12, scale = 2)
+  private BigDecimal averageCost;
+
+  /**
+   * When the units were received.
+   */
+  @Column(name = "recorded_at", nullable = false)
+  private LocalDateTime recordedAt;
+}
@@ -0,0 +1,74 @@
+package com.sigrap.inventory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for one change of a product's weighted-average
+ * cost.
+ *
+ * @see ProductCostService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Change of a product's weighted-average cost")
+public class ProductCostHistoryInfo {
+
+  /**
+   * ID of the product.
+   */
+  @Schema(description = "ID of the product", example = "1")
+  private Integer productId;
+
+  /**
+   * ID of the purchase order the goods were received for.
+   */
+  @Schema(
+    description = "ID of the purchase order the goods were received for",
+    example = "12"
+  )
+  private Integer purchaseOrderId;
+
+  /**
+   * Units received.
+   */
+  @Schema(description = "Units received", example = "50")
+  private int quantity;
+
+  /**
+   * Cost per unit received.
+   */
+  @Schema(description = "Cost per unit received", example = "4200.00")
+  private BigDecimal unitCost;
+
+  /**
+   * Stock on hand before the receipt.
+   */
+  @Schema(description = "Stock on hand before the receipt", example = "30")
+  private int stockBefore;
+
+  /**
+   * Average cost before the receipt.
+   */
+  @Schema(description = "Average cost before the receipt", example = "4000.00")
+  private BigDecimal previousCost;
+
+  /**
+   * Average cost after the receipt.
+   */
+  @Schema(description = "Average cost after the receipt", example = "4125.00")
+  private BigDecimal averageCost;
+
+  /**
+   * When the goods were received.
+   */
+  @Schema(description = "When the goods were received")
+  private LocalDateTime recordedAt;
+}
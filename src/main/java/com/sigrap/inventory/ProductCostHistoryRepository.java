@@ -0,0 +1,48 @@
+package com.sigrap.inventory;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ProductCostHistory entities.
+ * Rows are written in bulk by {@link ProductCostWriter}; this interface only
+ * reads them.
+ */
+@Repository
+public interface ProductCostHistoryRepository
+  extends JpaRepository<ProductCostHistory, Long> {
+  /**
+   * Finds the cost changes of a product.
+   *
+   * @param productId The ID of the product
+   * @param pageable Page and sort to return
+   * @return The matching cost changes
+   */
+  Page<ProductCostHistory> findByProductId(
+    Integer productId,
+    Pageable pageable
+  );
+
+  /**
+   * Finds the average cost each product had before its first recorded cost
+   * change.
+   *
+   * @param productIds IDs of the products
+   * @return Rows of [productId, previousCost], for products with history
+   */
+  @Query(
+    "SELECT h.productId, h.previousCost FROM ProductCostHistory h " +
+    "WHERE h.id IN (" +
+    "SELECT MIN(first.id) FROM ProductCostHistory first " +
+    "WHERE first.productId IN :productIds GROUP BY first.productId)"
+  )
+  List<Object[]> findOpeningCosts(
+    @Param("productIds") Collection<Integer> productIds
+  );
+}
@@ -0,0 +1,168 @@
+package com.sigrap.inventory;
+
+import com.sigrap.product.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class maintaining the moving weighted-average cost of products.
+ *
+ * <p>Each time goods are received, the cost price of every received product
+ * becomes the average of the stock on hand at its current cost and the
+ * received units at their purchase price:
+ * <pre>
+ * (stock * cost + received units * unit price) / (stock + received units)
+ * </pre>
+ * When there is no stock on hand the purchase price is taken as is. Costs
+ * are rounded to two decimals. The stock and cost of the products are read
+ * under a row lock and updated, together with the stock increment, in one
+ * JDBC batch of the receiving transaction; each change is appended to the
+ * product cost history.</p>
+ *
+ * @see ProductCostBackfill
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductCostService {
+
+  /**
+   * Repository used to lock and update the received products.
+   */
+  private final ProductRepository productRepository;
+
+  /**
+   * Repository used to read the cost history.
+   */
+  private final ProductCostHistoryRepository productCostHistoryRepository;
+
+  /**
+   * Writer used to append cost changes to the history.
+   */
+  private final ProductCostWriter productCostWriter;
+
+  /**
+   * Adds received goods to stock and recalculates the average cost of the
+   * received products.
+   *
+   * @param purchaseOrderId The ID of the purchase order being received
+   * @param quantities Units received per product ID
+   * @param values Purchase value of the units received per product ID
+   * @param now When the goods were received
+   */
+  @Transactional
+  public void receive(
+    Integer purchaseOrderId,
+    Map<Integer, Integer> quantities,
+    Map<Integer, BigDecimal> values,
+    LocalDateTime now
+  ) {
+    if (quantities.isEmpty()) {
+      return;
+    }
+    Map<Integer, BigDecimal> costs = new LinkedHashMap<>();
+    List<ProductCostHistory> history = new ArrayList<>();
+    for (Object[] row : productRepository.findCostBasisForUpdate(
+      quantities.keySet()
+    )) {
+      Integer productId = (Integer) row[0];
+      int stock = Math.max(0, (Integer) row[1]);
+      BigDecimal cost = (BigDecimal) row[2];
+      int quantity = quantities.get(productId);
+      BigDecimal value = values.getOrDefault(productId, BigDecimal.ZERO);
+      BigDecimal averageCost = averageCost(stock, cost, quantity, value);
+      costs.put(productId, averageCost);
+      history.add(
+        ProductCostHistory.builder()
+          .productId(productId)
+          .purchaseOrderId(purchaseOrderId)
+          .quantity(quantity)
+          .unitCost(unitCost(quantity, value))
+          .stockBefore(stock)
+          .previousCost(cost)
+          .averageCost(averageCost)
+          .recordedAt(now)
+          .build()
+      );
+    }
+    productRepository.receiveStock(quantities, costs, now);
+    productCostWriter.insert(history);
+  }
+
+  /**
+   * Returns the cost changes of a product.
+   *
+   * @param productId The ID of the product
+   * @param pageable Page and sort to return
+   * @return A page of cost changes
+   * @throws EntityNotFoundException if the product does not exist
+   */
+  @Transactional(readOnly = true)
+  public Page<ProductCostHistoryInfo> findHistory(
+    Integer productId,
+    Pageable pageable
+  ) {
+    if (!productRepository.existsById(productId)) {
+      throw new EntityNotFoundException(
+        "Product not found with id: " + productId
+      );
+    }
+    return productCostHistoryRepository
+      .findByProductId(productId, pageable)
+      .map(ProductCostService::toInfo);
+  }
+
+  /**
+   * Computes the moving weighted-average cost after a receipt.
+   *
+   * @param stock Units on hand before the receipt, never negative
+   * @param cost Average cost before the receipt
+   * @param quantity Units received
+   * @param value Purchase value of the units received
+   * @return The new average cost, rounded to two decimals
+   */
+  static BigDecimal averageCost(
+    long stock,
+    BigDecimal cost,
+    int quantity,
+    BigDecimal value
+  ) {
+    if (quantity <= 0) {
+      return cost;
+    }
+    if (stock <= 0 || cost == null) {
+      return unitCost(quantity, value);
+    }
+    return cost
+      .multiply(BigDecimal.valueOf(stock))
+      .add(value)
+      .divide(BigDecimal.valueOf(stock + quantity), 2, RoundingMode.HALF_UP);
+  }
+
+  static BigDecimal unitCost(int quantity, BigDecimal value) {
+    return value.divide(BigDecimal.valueOf(quantity), 2, RoundingMode.HALF_UP);
+  }
+
+  private static ProductCostHistoryInfo toInfo(ProductCostHistory change) {
+    return ProductCostHistoryInfo.builder()
+      .productId(change.getProductId())
+      .purchaseOrderId(change.getPurchaseOrderId())
+      .quantity(change.getQuantity())
+      .unitCost(change.getUnitCost())
+      .stockBefore(change.getStockBefore())
+      .previousCost(change.getPreviousCost())
+      .averageCost(change.getAverageCost())
+      .recordedAt(change.getRecordedAt())
+      .build();
+  }
+}
@@ -0,0 +1,109 @@
+package com.sigrap.inventory;
+
+import com.sigrap.product.ProductChangedEvent;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores product cost history with JDBC batches.
+ *
+ * <p>Receipts append their cost changes with {@link #insert(List)}. A
+ * backfill replaces the whole history of the replayed products and sets
+ * their cost price to the last replayed average with
+ * {@link #replaceAll(List, LocalDateTime)}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCostWriter {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO product_cost_history (product_id, purchase_order_id, " +
+    "quantity, unit_cost, stock_before, previous_cost, average_cost, " +
+    "recorded_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String DELETE_SQL =
+    "DELETE FROM product_cost_history WHERE product_id = ?";
+
+  private static final String UPDATE_COST_SQL =
+    "UPDATE products SET cost_price = ?, updated_at = ?, " +
+    "version = version + 1 WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Appends cost changes to the history.
+   *
+   * @param history The cost changes to store
+   */
+  public void insert(List<ProductCostHistory> history) {
+    if (history.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL,
+      history,
+      history.size(),
+      (ps, change) -> {
+        ps.setInt(1, change.getProductId());
+        ps.setObject(2, change.getPurchaseOrderId());
+        ps.setInt(3, change.getQuantity());
+        ps.setBigDecimal(4, change.getUnitCost());
+        ps.setInt(5, change.getStockBefore());
+        ps.setBigDecimal(6, change.getPreviousCost());
+        ps.setBigDecimal(7, change.getAverageCost());
+        ps.setObject(8, change.getRecordedAt());
+      }
+    );
+  }
+
+  /**
+   * Replaces the cost history of every product in the given history and sets
+   * each product's cost price to its last average cost.
+   *
+   * @param history The replayed cost changes, in order for each product
+   * @param now Timestamp recorded as the products' last update
+   * @return The number of products updated
+   */
+  @Transactional
+  public int replaceAll(List<ProductCostHistory> history, LocalDateTime now) {
+    Map<Integer, BigDecimal> costs = new LinkedHashMap<>();
+    for (ProductCostHistory change : history) {
+      costs.put(change.getProductId(), change.getAverageCost());
+    }
+    if (costs.isEmpty()) {
+      return 0;
+    }
+    List<Map.Entry<Integer, BigDecimal>> changes = new ArrayList<>(
+      costs.entrySet()
+    );
+    jdbcTemplate.batchUpdate(
+      DELETE_SQL,
+      changes,
+      changes.size(),
+      (ps, change) -> ps.setInt(1, change.getKey())
+    );
+    insert(history);
+    jdbcTemplate.batchUpdate(
+      UPDATE_COST_SQL,
+      changes,
+      changes.size(),
+      (ps, change) -> {
+        ps.setBigDecimal(1, change.getValue());
+        ps.setObject(2, now);
+        ps.setInt(3, change.getKey());
+      }
+    );
+    eventPublisher.publishEvent(ProductChangedEvent.of(costs.keySet()));
+    return costs.size();
+  }
+}
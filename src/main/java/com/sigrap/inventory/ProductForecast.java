@@ -0,0 +1,117 @@
+package com.sigrap.inventory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the latest demand forecast of a product.
+ * The table is rewritten by each forecast run, one row per product.
+ */
+@Entity
+@Table(
+  name = "product_forecasts",
+  indexes = {
+    @Index(
+      name = "idx_product_forecasts_reorder_required",
+      columnList = "reorder_required"
+    ),
+  }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductForecast {
+
+  /**
+   * ID of the forecast product.
+   */
+  @Id
+  @Column(name = "product_id")
+  private Integer productId;
+
+  /**
+   * Name of the product when the forecast was calculated.
+   */
+  @Column(name = "product_name", nullable = false)
+  private String productName;
+
+  /**
+   * Stock when the forecast was calculated.
+   */
+  @Column(name = "current_stock", nullable = false)
+  private int currentStock;
+
+  /**
+   * Moving average of units sold per day.
+   */
+  @Column(
+    name = "average_daily_demand",
+    nullable = false,
+    precision = 12,
+    scale = 2
+  )
+  private BigDecimal averageDailyDemand;
+
+  /**
+   * Units expected to sell during the supplier lead time, adjusted for
+   * weekday seasonality.
+   */
+  @Column(
+    name = "lead_time_demand",
+    nullable = false,
+    precision = 12,
+    scale = 2
+  )
+  private BigDecimal leadTimeDemand;
+
+  /**
+   * Standard deviation of units sold per day.
+   */
+  @Column(
+    name = "demand_std_dev",
+    nullable = false,
+    precision = 12,
+    scale = 2
+  )
+  private BigDecimal demandStdDev;
+
+  /**
+   * Days the current stock lasts at average demand; null without demand.
+   */
+  @Column(name = "days_of_cover", precision = 12, scale = 1)
+  private BigDecimal daysOfCover;
+
+  /**
+   * Stock level at which the product should be reordered.
+   */
+  @Column(name = "reorder_point", nullable = false)
+  private int reorderPoint;
+
+  /**
+   * Units to order now; zero while stock is above the reorder point.
+   */
+  @Column(name = "suggested_order_quantity", nullable = false)
+  private int suggestedOrderQuantity;
+
+  /**
+   * Whether stock has fallen to the reorder point and an order is suggested.
+   */
+  @Column(name = "reorder_required", nullable = false)
+  private boolean reorderRequired;
+
+  /**
+   * When the forecast was calculated.
+   */
+  @Column(name = "calculated_at", nullable = false)
+  private LocalDateTime calculatedAt;
+}
@@ -0,0 +1,110 @@
+package com.sigrap.inventory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the demand forecast and reorder suggestion
+ * of a product.
+ *
+ * @see DemandForecastService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Demand forecast and reorder suggestion for a product")
+public class ProductForecastInfo {
+
+  /**
+   * ID of the product.
+   */
+  @Schema(description = "ID of the product", example = "1")
+  private Integer productId;
+
+  /**
+   * Name of the product.
+   */
+  @Schema(description = "Name of the product", example = "Cuaderno 100 hojas")
+  private String productName;
+
+  /**
+   * Stock when the forecast was calculated.
+   */
+  @Schema(description = "Stock when the forecast was calculated", example = "12")
+  private int currentStock;
+
+  /**
+   * Moving average of units sold per day.
+   */
+  @Schema(description = "Moving average of units sold per day", example = "3.25")
+  private BigDecimal averageDailyDemand;
+
+  /**
+   * Units expected to sell during the lead time.
+   */
+  @Schema(
+    description = "Units expected to sell during the supplier lead time, adjusted for weekday seasonality",
+    example = "24.10"
+  )
+  private BigDecimal leadTimeDemand;
+
+  /**
+   * Standard deviation of units sold per day.
+   */
+  @Schema(
+    description = "Standard deviation of units sold per day",
+    example = "1.80"
+  )
+  private BigDecimal demandStdDev;
+
+  /**
+   * Days the current stock lasts at average demand.
+   */
+  @Schema(
+    description = "Days the current stock lasts at average demand, null without demand",
+    example = "3.7"
+  )
+  private BigDecimal daysOfCover;
+
+  /**
+   * Suggested reorder point.
+   */
+  @Schema(
+    description = "Stock level at which the product should be reordered",
+    example = "32"
+  )
+  private int reorderPoint;
+
+  /**
+   * Suggested order quantity.
+   */
+  @Schema(
+    description = "Units to order now, zero while stock is above the reorder point",
+    example = "66"
+  )
+  private int suggestedOrderQuantity;
+
+  /**
+   * Whether stock has fallen to the reorder point and an order is suggested.
+   */
+  @Schema(
+    description = "Whether stock has fallen to the reorder point and an order is suggested",
+    example = "true"
+  )
+  private boolean reorderRequired;
+
+  /**
+   * When the forecast was calculated.
+   */
+  @Schema(
+    description = "When the forecast was calculated",
+    example = "2025-01-15T02:30:00"
+  )
+  private LocalDateTime calculatedAt;
+}
@@ -0,0 +1,38 @@
+package com.sigrap.inventory;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ProductForecast entities.
+ * Forecasts are written in bulk by {@link ProductForecastWriter}; this
+ * interface only reads them.
+ */
+@Repository
+public interface ProductForecastRepository
+  extends JpaRepository<ProductForecast, Integer> {
+  /**
+   * Finds the forecasts of products whose stock has fallen to the reorder
+   * point.
+   *
+   * @param pageable Page and sort to return
+   * @return The matching forecasts
+   */
+  Page<ProductForecast> findByReorderRequiredTrue(Pageable pageable);
+
+  /**
+   * Finds the order quantity suggested for every product the last forecast
+   * recommends reordering, without loading the forecasts themselves.
+   *
+   * @return Rows of [productId, suggestedOrderQuantity]
+   */
+  @Query(
+    "SELECT f.productId, f.suggestedOrderQuantity FROM ProductForecast f " +
+    "WHERE f.suggestedOrderQuantity > 0"
+  )
+  List<Object[]> findSuggestedOrderQuantities();
+}
@@ -0,0 +1,136 @@
+package com.sigrap.inventory;
+
+import com.sigrap.product.ProductChangedEvent;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores the results of a forecast run.
+ *
+ * <p>The forecast table is replaced in a single transaction with JDBC batch
+ * inserts straight from the primitive arrays of each {@link ForecastChunk}.
+ * When {@code app.inventory.forecast.update-thresholds} is enabled, the
+ * minimum stock threshold of every product with sales in the history window
+ * is set to its computed reorder point in the same transaction.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductForecastWriter {
+
+  private static final String DELETE_SQL = "DELETE FROM product_forecasts";
+
+  private static final String INSERT_SQL =
+    "INSERT INTO product_forecasts (product_id, product_name, current_stock, " +
+    "average_daily_demand, lead_time_demand, demand_std_dev, days_of_cover, " +
+    "reorder_point, suggested_order_quantity, reorder_required, " +
+    "calculated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String UPDATE_THRESHOLD_SQL =
+    "UPDATE products SET minimum_stock_threshold = ?, updated_at = ?, " +
+    "version = version + 1 WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${app.inventory.forecast.update-thresholds:false}")
+  private boolean updateThresholds;
+
+  /**
+   * Replaces every stored forecast with the given results.
+   *
+   * @param chunks The forecast chunks
+   * @param calculatedAt When the forecast was calculated
+   * @return The number of product thresholds updated
+   */
+  @Transactional
+  public int replaceAll(List<ForecastChunk> chunks, LocalDateTime calculatedAt) {
+    jdbcTemplate.update(DELETE_SQL);
+    for (ForecastChunk chunk : chunks) {
+      insert(chunk, calculatedAt);
+    }
+    if (!updateThresholds) {
+      return 0;
+    }
+
+    List<int[]> changes = new ArrayList<>();
+    for (ForecastChunk chunk : chunks) {
+      for (int i = 0; i < chunk.size(); i++) {
+        if (
+          chunk.hasSales[i] &&
+          chunk.reorderPoints[i] != chunk.minimumStockThresholds[i]
+        ) {
+          changes.add(new int[] { chunk.productIds[i], chunk.reorderPoints[i] });
+        }
+      }
+    }
+    if (changes.isEmpty()) {
+      return 0;
+    }
+    jdbcTemplate.batchUpdate(
+      UPDATE_THRESHOLD_SQL,
+      changes,
+      changes.size(),
+      (ps, change) -> {
+        ps.setInt(1, change[1]);
+        ps.setObject(2, calculatedAt);
+        ps.setInt(3, change[0]);
+      }
+    );
+    eventPublisher.publishEvent(
+      ProductChangedEvent.of(changes.stream().map(change -> change[0]).toList())
+    );
+    log.info("Updated minimum stock threshold of {} products", changes.size());
+    return changes.size();
+  }
+
+  private void insert(ForecastChunk chunk, LocalDateTime calculatedAt) {
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL,
+      new BatchPreparedStatementSetter() {
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+          double daysOfCover = chunk.daysOfCover(i);
+          ps.setInt(1, chunk.productIds[i]);
+          ps.setString(2, chunk.productNames[i]);
+          ps.setInt(3, chunk.stock[i]);
+          ps.setBigDecimal(4, decimal(chunk.averageDailyDemand[i], 2));
+          ps.setBigDecimal(5, decimal(chunk.leadTimeDemand[i], 2));
+          ps.setBigDecimal(6, decimal(chunk.demandStdDev[i], 2));
+          if (Double.isNaN(daysOfCover)) {
+            ps.setNull(7, Types.NUMERIC);
+          } else {
+            ps.setBigDecimal(7, decimal(daysOfCover, 1));
+          }
+          ps.setInt(8, chunk.reorderPoints[i]);
+          ps.setInt(9, chunk.suggestedOrderQuantities[i]);
+          ps.setBoolean(10, chunk.suggestedOrderQuantities[i] > 0);
+          ps.setObject(11, calculatedAt);
+        }
+
+        @Override
+        public int getBatchSize() {
+          return chunk.size();
+        }
+      }
+    );
+  }
+
+  private static BigDecimal decimal(double value, int scale) {
+    return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+  }
+}
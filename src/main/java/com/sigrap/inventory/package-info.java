@@ -0,0 +1,19 @@
+/**
+ * Inventory package for figures computed across the whole product catalog.
+ *
+ * <p>This package contains components for:
+ * <ul>
+ *   <li>The live inventory valuation, maintained incrementally from product
+ *       change events</li>
+ *   <li>Daily valuation snapshots and their history</li>
+ *   <li>The nightly demand forecast with reorder points and suggested
+ *       order quantities</li>
+ *   <li>Moving weighted-average product costs, updated as goods are received,
+ *       with their history and a replay backfill</li>
+ *   <li>REST API endpoints under {@code /api/inventory}</li>
+ * </ul></p>
+ *
+ * @see com.sigrap.product
+ * @since 1.0
+ */
+package com.sigrap.inventory;
@@ -0,0 +1,17 @@
+package com.sigrap.product;
+
+/**
+ * Enum defining how the amount of a bulk price update is applied.
+ */
+public enum PriceAdjustmentType {
+  /**
+   * The amount is a percentage of the current price, e.g. 5 raises prices
+   * by 5% and -10 lowers them by 10%.
+   */
+  PERCENTAGE,
+
+  /**
+   * The amount is added to the current price, e.g. 0.50 or -1.00.
+   */
+  ABSOLUTE,
+}
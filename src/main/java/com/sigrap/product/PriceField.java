@@ -0,0 +1,16 @@
+package com.sigrap.product;
+
+/**
+ * Enum defining which product price a bulk price update applies to.
+ */
+public enum PriceField {
+  /**
+   * The price customers pay for the product.
+   */
+  SALE_PRICE,
+
+  /**
+   * The price the store pays to acquire the product.
+   */
+  COST_PRICE,
+}
@@ -3,6 +3,8 @@ package com.sigrap.product;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,15 +12,19 @@ import com.sigrap.category.Category;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,9 +33,27 @@ import lombok.NoArgsConstructor;
 /**
  * Entity class representing a product in the system.
  * Products are the main items that can be sold and managed in the inventory.
+ *
+ * <p>Products referenced lazily from sale, return and purchase order items are
+ * initialized in batches, so rendering a list of items costs one query per
+ * batch rather than one per product.</p>
  */
 @Entity
-@Table(name = "products")
+@BatchSize(size = 50)
+@Table(
+  name = "products",
+  indexes = {
+    @Index(name = "idx_products_category_id", columnList = "category_id"),
+    @Index(name = "idx_products_sale_price", columnList = "sale_price"),
+    @Index(name = "idx_products_stock", columnList = "stock"),
+    @Index(name = "idx_products_sku", columnList = "sku", unique = true),
+    @Index(
+      name = "idx_products_barcode",
+      columnList = "barcode",
+      unique = true
+    ),
+  }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -57,6 +81,22 @@ public class Product {
    */
   private String description;
 
+  /**
+   * Optional stock keeping unit assigned by the store.
+   * Unique among products when present.
+   */
+  @Size(max = 64, message = "SKU must be at most 64 characters")
+  @Column(length = 64)
+  private String sku;
+
+  /**
+   * Optional barcode printed on the product, such as an EAN-13 or UPC-A code.
+   * Unique among products when present.
+   */
+  @Size(max = 64, message = "Barcode must be at most 64 characters")
+  @Column(length = 64)
+  private String barcode;
+
   /**
    * Cost price of the product.
    * Must be zero or positive and is required.
@@ -96,9 +136,10 @@ public class Product {
 
   /**
    * Category to which this product belongs.
-   * Optional many-to-one relationship with Category.
+   * Optional many-to-one relationship with Category, loaded lazily; categories
+   * of the products in a persistence context are fetched in batches.
    */
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "category_id")
   private Category category;
 
@@ -117,4 +158,14 @@ public class Product {
   @UpdateTimestamp
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
+
+  /**
+   * Version used for optimistic locking.
+   * Incremented on every update, so a write based on a stale copy of the
+   * product fails instead of overwriting a concurrent change.
+   */
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
 }
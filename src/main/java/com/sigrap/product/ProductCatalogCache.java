@@ -0,0 +1,69 @@
+package com.sigrap.product;
+
+import com.sigrap.common.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the product read caches consistent with the database.
+ *
+ * <p>{@link ProductService#findById(Integer)} is served from the
+ * {@value #PRODUCTS_BY_ID} cache, keyed by product ID.</p>
+ *
+ * <p>Size, expiry and statistics are configured through
+ * {@code spring.cache.caffeine.spec}; hit, miss and eviction counters are
+ * exposed by the actuator {@code metrics} endpoint under {@code cache.*}.</p>
+ *
+ * <p>The same notification bumps the {@value #RESOURCE} version used for
+ * conditional GET requests on the product listing.</p>
+ *
+ * <p>Entries are evicted only after the writing transaction commits, so a
+ * rollback never leaves the cache empty of data that is still valid, and a
+ * concurrent reader never repopulates the cache with uncommitted data.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalogCache {
+
+  /**
+   * Cache holding individual products keyed by ID.
+   */
+  public static final String PRODUCTS_BY_ID = "products";
+
+  /**
+   * Name of the product collection in {@link ResourceVersions}.
+   */
+  public static final String RESOURCE = "products";
+
+  private final CacheManager cacheManager;
+
+  private final ResourceVersions resourceVersions;
+
+  /**
+   * Evicts cached products affected by a committed change.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  public void onProductChanged(ProductChangedEvent event) {
+    Cache byId = cacheManager.getCache(PRODUCTS_BY_ID);
+    if (byId != null) {
+      if (event.isCatalogWide()) {
+        byId.clear();
+      } else {
+        event.getProductIds().forEach(byId::evict);
+      }
+    }
+    resourceVersions.bump(RESOURCE);
+    log.debug("Product caches invalidated for {}", event);
+  }
+}
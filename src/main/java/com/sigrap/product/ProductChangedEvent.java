@@ -0,0 +1,73 @@
+package com.sigrap.product;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event published whenever products are created, modified or removed.
+ *
+ * <p>Writers publish this event inside their transaction; listeners such as
+ * {@link ProductCatalogCache} react to it once the transaction has committed,
+ * so derived in-memory state never reflects changes that were rolled back.</p>
+ *
+ * <p>An event either targets a specific set of product IDs (stock or price
+ * changes, single product edits) or the whole catalog (category changes that
+ * alter how every product is rendered).</p>
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductChangedEvent {
+
+  /**
+   * IDs of the products affected by the change.
+   * Empty when {@link #isCatalogWide()} is true.
+   */
+  private final Set<Integer> productIds;
+
+  /**
+   * Whether the change may affect any product in the catalog.
+   */
+  private final boolean catalogWide;
+
+  /**
+   * Creates an event targeting the given products.
+   *
+   * @param productIds IDs of the affected products
+   * @return The event
+   */
+  public static ProductChangedEvent of(Collection<Integer> productIds) {
+    return new ProductChangedEvent(
+      productIds
+        .stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableSet()),
+      false
+    );
+  }
+
+  /**
+   * Creates an event targeting a single product.
+   *
+   * @param productId ID of the affected product
+   * @return The event
+   */
+  public static ProductChangedEvent of(Integer productId) {
+    return of(Set.of(productId));
+  }
+
+  /**
+   * Creates an event signalling that the whole catalog may have changed.
+   *
+   * @return The event
+   */
+  public static ProductChangedEvent catalog() {
+    return new ProductChangedEvent(Set.of(), true);
+  }
+}
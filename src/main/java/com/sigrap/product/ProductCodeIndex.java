@@ -0,0 +1,212 @@
+package com.sigrap.product;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory hash index from product barcodes and SKUs to products, used by
+ * point-of-sale scanners.
+ *
+ * <p>A lookup is two hash map reads and never touches the database. Barcodes
+ * are checked before SKUs, so a scanned barcode wins if it happens to equal
+ * another product's SKU. Codes are compared after
+ * {@link #normalize(String) trimming}, and case is significant.</p>
+ *
+ * <p>The index is built when the application starts and updated incrementally
+ * from {@link ProductChangedEvent}s once the writing transaction commits,
+ * the same way as {@link ProductSearchIndex}. Readers never block: writers
+ * mutate concurrent maps under a single lock, and full rebuilds swap in a
+ * freshly built state.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCodeIndex {
+
+  private final ProductRepository productRepository;
+  private final ProductMapper productMapper;
+
+  private volatile IndexState state = new IndexState();
+
+  /**
+   * Normalizes a SKU or barcode as stored and looked up.
+   *
+   * @param code The raw code
+   * @return The trimmed code, or null if it is null or blank
+   */
+  public static String normalize(String code) {
+    if (code == null) {
+      return null;
+    }
+    String trimmed = code.trim();
+    return trimmed.isEmpty() ? null : trimmed;
+  }
+
+  /**
+   * Rebuilds the whole index from the database.
+   * Runs once the application has started and whenever a catalog-wide change
+   * is committed.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    long start = System.nanoTime();
+    IndexState fresh = new IndexState();
+    for (Product product : productRepository.findAll()) {
+      fresh.put(toEntry(product));
+    }
+    state = fresh;
+    log.info(
+      "Product code index built with {} products in {} ms",
+      fresh.entries.size(),
+      (System.nanoTime() - start) / 1_000_000
+    );
+  }
+
+  /**
+   * Applies a committed product change to the index.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    try {
+      if (event.isCatalogWide()) {
+        rebuild();
+      } else {
+        refresh(event.getProductIds());
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to update product code index for {}", event, e);
+    }
+  }
+
+  /**
+   * Reloads the given products into the index, removing those that no longer
+   * exist.
+   *
+   * @param productIds IDs of the products to reload
+   */
+  public synchronized void refresh(Collection<Integer> productIds) {
+    if (productIds.isEmpty()) {
+      return;
+    }
+    Set<Integer> missing = new HashSet<>(productIds);
+    for (Product product : productRepository.findAllById(productIds)) {
+      state.put(toEntry(product));
+      missing.remove(product.getId());
+    }
+    missing.forEach(state::remove);
+  }
+
+  /**
+   * Finds the product with the given barcode or SKU.
+   *
+   * @param code The scanned or typed code
+   * @return The product, empty if no product has that code
+   */
+  public Optional<ProductInfo> find(String code) {
+    String key = normalize(code);
+    if (key == null) {
+      return Optional.empty();
+    }
+    IndexState current = state;
+    Integer id = current.byBarcode.get(key);
+    if (id == null) {
+      id = current.bySku.get(key);
+    }
+    Entry entry = id == null ? null : current.entries.get(id);
+    return Optional.ofNullable(entry).map(found -> found.info);
+  }
+
+  /**
+   * Returns the number of products currently indexed.
+   *
+   * @return The indexed product count
+   */
+  public int size() {
+    return state.entries.size();
+  }
+
+  private Entry toEntry(Product product) {
+    return new Entry(
+      product.getId(),
+      normalize(product.getSku()),
+      normalize(product.getBarcode()),
+      productMapper.toInfo(product)
+    );
+  }
+
+  /**
+   * Indexed representation of a single product.
+   */
+  private static final class Entry {
+
+    private final Integer id;
+    private final String sku;
+    private final String barcode;
+    private final ProductInfo info;
+
+    private Entry(Integer id, String sku, String barcode, ProductInfo info) {
+      this.id = id;
+      this.sku = sku;
+      this.barcode = barcode;
+      this.info = info;
+    }
+  }
+
+  /**
+   * Code maps and entries making up one generation of the index.
+   */
+  private static final class IndexState {
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Integer> bySku = new ConcurrentHashMap<>();
+    private final Map<String, Integer> byBarcode = new ConcurrentHashMap<>();
+
+    private void put(Entry entry) {
+      Entry previous = entries.put(entry.id, entry);
+      if (previous != null) {
+        unmap(bySku, previous.sku, entry.id);
+        unmap(byBarcode, previous.barcode, entry.id);
+      }
+      if (entry.sku != null) {
+        bySku.put(entry.sku, entry.id);
+      }
+      if (entry.barcode != null) {
+        byBarcode.put(entry.barcode, entry.id);
+      }
+    }
+
+    private void remove(Integer id) {
+      Entry previous = entries.remove(id);
+      if (previous != null) {
+        unmap(bySku, previous.sku, id);
+        unmap(byBarcode, previous.barcode, id);
+      }
+    }
+
+    private static void unmap(Map<String, Integer> codes, String code, Integer id) {
+      if (code != null) {
+        codes.remove(code, id);
+      }
+    }
+  }
+}
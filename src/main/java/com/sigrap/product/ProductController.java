@@ -9,18 +9,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * REST controller for managing products in the inventory system.
@@ -29,7 +38,8 @@ import org.springframework.web.bind.annotation.RestController;
  * <p>This controller manages:
  * <ul>
  *   <li>Product creation and validation</li>
- *   <li>Product retrieval (single and bulk)</li>
+ *   <li>Product retrieval (single and paginated)</li>
+ *   <li>Free-text search and autocomplete</li>
  *   <li>Product updates</li>
  *   <li>Product deletion (single and bulk)</li>
  *   <li>Inventory tracking</li>
@@ -87,29 +97,187 @@ public class ProductController {
   private final ProductService productService;
 
   /**
-   * Retrieves all products in the system.
+   * Retrieves one page of products, optionally filtered.
    *
-   * <p>This endpoint provides a complete list of all available products,
-   * which can be used for:
+   * <p>Inventory screens use this endpoint to load the catalog one page at a
+   * time. Supported filters:
    * <ul>
-   *   <li>Inventory management</li>
-   *   <li>Product catalogs</li>
-   *   <li>Stock level monitoring</li>
+   *   <li>Category</li>
+   *   <li>Sale price range</li>
+   *   <li>Stock below the minimum threshold</li>
+   *   <li>Out of stock</li>
+   *   <li>Modified since a given time</li>
    * </ul></p>
    *
-   * @return List of all products with their details
+   * <p>Paging and sorting use the standard {@code page}, {@code size} and
+   * {@code sort} parameters, e.g. {@code ?page=0&size=50&sort=salePrice,desc}.</p>
+   *
+   * <p>Responses carry an {@code ETag} and {@code Last-Modified} header. A
+   * request whose {@code If-None-Match} or {@code If-Modified-Since} header
+   * matches the current catalog version gets a 304 without any database
+   * access.</p>
+   *
+   * @param categoryId Optional category filter
+   * @param minPrice Optional minimum sale price
+   * @param maxPrice Optional maximum sale price
+   * @param lowStock Whether to return only products below their stock threshold
+   * @param outOfStock Whether to return only products with no stock
+   * @param updatedSince Optional lower bound for the last modification time
+   * @param pageable Pagination and sorting information
+   * @param webRequest The current request, used for conditional GET handling
+   * @return Page of matching products, or null when not modified
+   */
+  @Operation(
+    summary = "Get products",
+    description = "Retrieves a filtered, sorted page of products"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Products retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "304",
+        description = "Catalog not modified",
+        content = @Content
+      ),
+    }
+  )
+  @GetMapping
+  public Page<ProductInfo> findAll(
+    @Parameter(description = "Category ID") @RequestParam(
+      required = false
+    ) Long categoryId,
+    @Parameter(description = "Minimum sale price") @RequestParam(
+      required = false
+    ) BigDecimal minPrice,
+    @Parameter(description = "Maximum sale price") @RequestParam(
+      required = false
+    ) BigDecimal maxPrice,
+    @Parameter(
+      description = "Only products below their minimum stock threshold"
+    ) @RequestParam(required = false) Boolean lowStock,
+    @Parameter(description = "Only products with no stock") @RequestParam(
+      required = false
+    ) Boolean outOfStock,
+    @Parameter(
+      description = "Only products modified since (yyyy-MM-dd'T'HH:mm:ss)"
+    ) @RequestParam(required = false) @DateTimeFormat(
+      iso = DateTimeFormat.ISO.DATE_TIME
+    ) LocalDateTime updatedSince,
+    @PageableDefault(size = 20, sort = "id") Pageable pageable,
+    @Parameter(hidden = true) ServletWebRequest webRequest
+  ) {
+    if (productService.currentVersion().checkNotModified(webRequest)) {
+      return null;
+    }
+    ProductFilter filter = ProductFilter.builder()
+      .categoryId(categoryId)
+      .minPrice(minPrice)
+      .maxPrice(maxPrice)
+      .lowStock(lowStock)
+      .outOfStock(outOfStock)
+      .updatedSince(updatedSince)
+      .build();
+    return productService.findAll(filter, pageable);
+  }
+
+  /**
+   * Searches products by free text.
+   *
+   * <p>The query is matched against product name, description and category
+   * name, ignoring case and accents and tolerating small typos. Results are
+   * ranked by match quality and recent sales.</p>
+   *
+   * @param q The search text
+   * @param limit Maximum number of results
+   * @return Matching products, best matches first
    */
   @Operation(
-    summary = "Get all products",
-    description = "Retrieves a list of all products"
+    summary = "Search products",
+    description = "Searches products by name, description or category name"
   )
   @ApiResponse(
     responseCode = "200",
-    description = "Products retrieved successfully"
+    description = "Search completed successfully"
   )
-  @GetMapping
-  public List<ProductInfo> findAll() {
-    return productService.findAll();
+  @GetMapping("/search")
+  public List<ProductInfo> search(
+    @Parameter(
+      description = "Search text",
+      required = true
+    ) @RequestParam("q") String q,
+    @Parameter(
+      description = "Maximum number of results (up to 100)"
+    ) @RequestParam(defaultValue = "20") int limit
+  ) {
+    return productService.search(q, limit);
+  }
+
+  /**
+   * Suggests products for the text typed so far.
+   *
+   * <p>Every word typed is matched as a prefix of a word in the product name.
+   * Intended for point-of-sale type-ahead inputs.</p>
+   *
+   * @param q The text typed so far
+   * @param limit Maximum number of suggestions
+   * @return Matching product suggestions
+   */
+  @Operation(
+    summary = "Autocomplete products",
+    description = "Suggests products whose name starts with the given text"
+  )
+  @ApiResponse(
+    responseCode = "200",
+    description = "Suggestions retrieved successfully"
+  )
+  @GetMapping("/autocomplete")
+  public List<ProductSuggestionInfo> autocomplete(
+    @Parameter(
+      description = "Text typed so far",
+      required = true
+    ) @RequestParam("q") String q,
+    @Parameter(
+      description = "Maximum number of suggestions (up to 100)"
+    ) @RequestParam(defaultValue = "10") int limit
+  ) {
+    return productService.autocomplete(q, limit);
+  }
+
+  /**
+   * Retrieves a product by its barcode or SKU.
+   *
+   * <p>Intended for point-of-sale scanners. The lookup is served from an
+   * in-memory hash index kept in sync with product writes, so it never
+   * reaches the database. Barcodes take precedence over SKUs.</p>
+   *
+   * @param code The scanned barcode or typed SKU
+   * @return The product information
+   * @throws EntityNotFoundException if no product has that code
+   */
+  @Operation(
+    summary = "Get product by barcode or SKU",
+    description = "Retrieves a product by its barcode or SKU"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Product found"),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Product not found",
+        content = @Content
+      ),
+    }
+  )
+  @GetMapping("/by-code/{code}")
+  public ProductInfo findByCode(
+    @Parameter(
+      description = "Barcode or SKU of the product"
+    ) @PathVariable String code
+  ) {
+    return productService.findByCode(code);
   }
 
   /**
@@ -263,6 +431,54 @@ public class ProductController {
     return productService.update(id, productData);
   }
 
+  /**
+   * Re-prices many products at once.
+   *
+   * <p>This endpoint:
+   * <ul>
+   *   <li>Selects products by category, ID list and/or supplier</li>
+   *   <li>Applies a percentage or absolute change to the sale or cost price</li>
+   *   <li>Updates all prices in a single statement</li>
+   *   <li>Records one audit event for the whole operation</li>
+   * </ul></p>
+   *
+   * @param priceUpdateData The scope and adjustment to apply
+   * @return Summary of the products re-priced
+   * @throws IllegalArgumentException if no scope is given or the change is invalid
+   * @throws EntityNotFoundException if the specified category is not found
+   */
+  @Operation(
+    summary = "Update prices in bulk",
+    description = "Applies a percentage or absolute price change to all products in a scope"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Prices updated successfully"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid input data",
+        content = @Content
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Category not found",
+        content = @Content
+      ),
+    }
+  )
+  @PatchMapping("/prices")
+  public ProductPriceUpdateInfo updatePrices(
+    @Parameter(
+      description = "Scope and price adjustment",
+      required = true
+    ) @Valid @RequestBody ProductPriceUpdateData priceUpdateData
+  ) {
+    return productService.updatePrices(priceUpdateData);
+  }
+
   /**
    * Deletes a product by its ID.
    *
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -98,6 +99,54 @@ public class ProductData {
   )
   private String description;
 
+  /**
+   * The stock keeping unit of the product.
+   *
+   * <p>Validation:
+   * <ul>
+   *   <li>Optional field</li>
+   *   <li>At most 64 characters</li>
+   *   <li>Must be unique across all products</li>
+   *   <li>Surrounding whitespace is trimmed; blank means none</li>
+   * </ul></p>
+   *
+   * <p>Used for:
+   * <ul>
+   *   <li>Internal product codes</li>
+   *   <li>Lookups at the point of sale</li>
+   * </ul></p>
+   */
+  @Size(max = 64, message = "SKU must be at most 64 characters")
+  @Schema(
+    description = "Stock keeping unit of the product",
+    example = "PEN-BLU-01"
+  )
+  private String sku;
+
+  /**
+   * The barcode printed on the product.
+   *
+   * <p>Validation:
+   * <ul>
+   *   <li>Optional field</li>
+   *   <li>At most 64 characters</li>
+   *   <li>Must be unique across all products</li>
+   *   <li>Surrounding whitespace is trimmed; blank means none</li>
+   * </ul></p>
+   *
+   * <p>Used for:
+   * <ul>
+   *   <li>Scanning at the point of sale</li>
+   *   <li>Supplier codes such as EAN-13 or UPC-A</li>
+   * </ul></p>
+   */
+  @Size(max = 64, message = "Barcode must be at most 64 characters")
+  @Schema(
+    description = "Barcode printed on the product",
+    example = "7702011000014"
+  )
+  private String barcode;
+
   /**
    * The cost price of the product.
    *
@@ -207,4 +256,14 @@ public class ProductData {
     example = "1"
   )
   private Integer categoryId;
+
+  /**
+   * Version of the product the update is based on, as last read by the client.
+   * When given, the update is rejected if the product has changed since.
+   */
+  @Schema(
+    description = "Version the update is based on, to detect conflicts",
+    example = "3"
+  )
+  private Long version;
 }
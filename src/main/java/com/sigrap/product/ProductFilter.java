@@ -0,0 +1,52 @@
+package com.sigrap.product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional criteria for filtering the paginated product listing.
+ * Null fields are ignored; all non-null criteria must match.
+ *
+ * @see ProductSpecifications
+ * @see ProductService#findAll(ProductFilter, org.springframework.data.domain.Pageable)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilter {
+
+  /**
+   * Only products in this category.
+   */
+  private Long categoryId;
+
+  /**
+   * Only products with a sale price greater than or equal to this value.
+   */
+  private BigDecimal minPrice;
+
+  /**
+   * Only products with a sale price less than or equal to this value.
+   */
+  private BigDecimal maxPrice;
+
+  /**
+   * When true, only products whose stock is below their minimum threshold.
+   */
+  private Boolean lowStock;
+
+  /**
+   * When true, only products with no stock left.
+   */
+  private Boolean outOfStock;
+
+  /**
+   * Only products modified at or after this time.
+   */
+  private LocalDateTime updatedSince;
+}
@@ -0,0 +1,135 @@
+package com.sigrap.product;
+
+import com.sigrap.bulkimport.ImportHandler;
+import com.sigrap.bulkimport.ImportRow;
+import com.sigrap.category.Category;
+import com.sigrap.category.CategoryRepository;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk import steps for products.
+ *
+ * <p>Rows reference their category either by {@code categoryId} or by
+ * {@code categoryName}. Both are resolved for a whole chunk with one query
+ * each, and rows pointing at unknown categories are rejected.</p>
+ *
+ * @see com.sigrap.bulkimport.BulkImportService
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportHandler implements ImportHandler<ProductData> {
+
+  /**
+   * Optional import field naming the product's category.
+   */
+  public static final String CATEGORY_NAME_FIELD = "categoryName";
+
+  private static final String INSERT_SQL =
+    "INSERT INTO products (name, description, sku, barcode, cost_price, " +
+    "sale_price, stock, minimum_stock_threshold, category_id, created_at, " +
+    "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final CategoryRepository categoryRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public Class<ProductData> dataType() {
+    return ProductData.class;
+  }
+
+  @Override
+  public void resolve(List<ImportRow<ProductData>> rows) {
+    Set<String> categoryNames = new HashSet<>();
+    Set<Long> categoryIds = new HashSet<>();
+    for (ImportRow<ProductData> row : rows) {
+      if (row.getData().getCategoryId() != null) {
+        categoryIds.add(row.getData().getCategoryId().longValue());
+      } else if (row.getText(CATEGORY_NAME_FIELD) != null) {
+        categoryNames.add(row.getText(CATEGORY_NAME_FIELD));
+      }
+    }
+
+    Map<String, Long> idsByName = categoryNames.isEmpty()
+      ? Map.of()
+      : categoryRepository
+        .findByNameIn(categoryNames)
+        .stream()
+        .collect(Collectors.toMap(Category::getName, Category::getId));
+    Set<Long> existingIds = categoryIds.isEmpty()
+      ? Set.of()
+      : categoryRepository
+        .findAllById(categoryIds)
+        .stream()
+        .map(Category::getId)
+        .collect(Collectors.toSet());
+
+    for (ImportRow<ProductData> row : rows) {
+      ProductData data = row.getData();
+      if (data.getCategoryId() != null) {
+        if (!existingIds.contains(data.getCategoryId().longValue())) {
+          row.reject("Category not found: " + data.getCategoryId());
+        }
+      } else if (row.getText(CATEGORY_NAME_FIELD) != null) {
+        String name = row.getText(CATEGORY_NAME_FIELD);
+        Long categoryId = idsByName.get(name);
+        if (categoryId == null) {
+          row.reject("Category not found: " + name);
+        } else {
+          data.setCategoryId(categoryId.intValue());
+        }
+      }
+    }
+  }
+
+  @Override
+  @Transactional
+  public void insert(List<ImportRow<ProductData>> rows) {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL,
+      rows.stream().map(ImportRow::getData).toList(),
+      rows.size(),
+      (ps, data) -> {
+        ps.setString(1, data.getName());
+        ps.setString(2, data.getDescription());
+        ps.setString(3, ProductCodeIndex.normalize(data.getSku()));
+        ps.setString(4, ProductCodeIndex.normalize(data.getBarcode()));
+        ps.setBigDecimal(5, data.getCostPrice());
+        ps.setBigDecimal(6, data.getSalePrice());
+        ps.setInt(7, data.getStock());
+        ps.setInt(8, data.getMinimumStockThreshold());
+        ps.setObject(
+          9,
+          data.getCategoryId() == null
+            ? null
+            : data.getCategoryId().longValue(),
+          Types.BIGINT
+        );
+        ps.setObject(10, now);
+        ps.setObject(11, now);
+      }
+    );
+  }
+
+  /**
+   * Invalidates product read models once the import has finished.
+   *
+   * @param imported The number of products inserted
+   */
+  @Override
+  public void afterImport(int imported) {
+    eventPublisher.publishEvent(ProductChangedEvent.catalog());
+  }
+}
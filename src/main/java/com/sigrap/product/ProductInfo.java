@@ -99,6 +99,35 @@ public class ProductInfo {
   )
   private String description;
 
+  /**
+   * The stock keeping unit of the product.
+   *
+   * <p>Properties:
+   * <ul>
+   *   <li>Optional, unique when present</li>
+   *   <li>Assigned by the store</li>
+   *   <li>Can be looked up with {@code /api/products/by-code/{code}}</li>
+   * </ul></p>
+   */
+  @Schema(description = "Stock keeping unit of the product", example = "PEN-BLU-01")
+  private String sku;
+
+  /**
+   * The barcode printed on the product.
+   *
+   * <p>Properties:
+   * <ul>
+   *   <li>Optional, unique when present</li>
+   *   <li>Read by point-of-sale scanners</li>
+   *   <li>Can be looked up with {@code /api/products/by-code/{code}}</li>
+   * </ul></p>
+   */
+  @Schema(
+    description = "Barcode printed on the product",
+    example = "7702011000014"
+  )
+  private String barcode;
+
   /**
    * The cost price of the product.
    *
@@ -198,4 +227,10 @@ public class ProductInfo {
     example = "2023-01-20T14:45:00"
   )
   private LocalDateTime updatedAt;
+
+  /**
+   * Version of the product, sent back on update to detect concurrent changes.
+   */
+  @Schema(description = "Version of the product", example = "3")
+  private Long version;
 }
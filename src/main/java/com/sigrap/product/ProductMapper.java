@@ -24,6 +24,17 @@ public interface ProductMapper {
   @EntityToInfo
   ProductInfo toInfo(Product product);
 
+  /**
+   * Converts a Product entity to its flat summary representation.
+   * Only the ID and name of the category are read.
+   *
+   * @param product The Product entity to convert
+   * @return ProductSummaryInfo containing the product summary
+   */
+  @Mapping(target = "categoryId", source = "category.id")
+  @Mapping(target = "categoryName", source = "category.name")
+  ProductSummaryInfo toSummary(Product product);
+
   /**
    * Creates a new Product entity from product data.
    * Category mapping is handled separately.
@@ -33,6 +44,7 @@ public interface ProductMapper {
    */
   @DataToEntity
   @Mapping(target = "category", ignore = true)
+  @Mapping(target = "version", ignore = true)
   Product toEntity(ProductData productData);
 
   /**
@@ -44,6 +56,7 @@ public interface ProductMapper {
    */
   @DataToEntity
   @Mapping(target = "category", ignore = true)
+  @Mapping(target = "version", ignore = true)
   void updateEntityFromData(
     ProductData productData,
     @MappingTarget Product product
@@ -0,0 +1,92 @@
+package com.sigrap.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for re-pricing many products at once.
+ *
+ * <p>The affected products are selected by the scope fields
+ * ({@code categoryId}, {@code productIds}, {@code supplierId}). At least one
+ * scope is required; when several are given, products must match all of
+ * them. Prices never drop below zero and are rounded to two decimals.</p>
+ *
+ * <p>Usage Example:
+ * <pre>
+ * ProductPriceUpdateData update = ProductPriceUpdateData.builder()
+ *     .supplierId(3L)
+ *     .field(PriceField.COST_PRICE)
+ *     .adjustmentType(PriceAdjustmentType.PERCENTAGE)
+ *     .amount(new BigDecimal("4.5"))
+ *     .build();
+ * </pre></p>
+ *
+ * @see ProductService#updatePrices(ProductPriceUpdateData)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data transfer object for a bulk product price update")
+public class ProductPriceUpdateData {
+
+  /**
+   * Only products in this category.
+   */
+  @Schema(description = "Only products in this category", example = "1")
+  private Long categoryId;
+
+  /**
+   * Only products with these IDs.
+   */
+  @Schema(description = "Only products with these IDs", example = "[1, 2, 3]")
+  private List<Integer> productIds;
+
+  /**
+   * Only products on this supplier's price list.
+   */
+  @Schema(
+    description = "Only products on this supplier's price list",
+    example = "3"
+  )
+  private Long supplierId;
+
+  /**
+   * The price to change.
+   */
+  @NotNull(message = "Price field is required")
+  @Schema(description = "The price to change", example = "SALE_PRICE")
+  private PriceField field;
+
+  /**
+   * Whether the amount is a percentage or an absolute change.
+   */
+  @NotNull(message = "Adjustment type is required")
+  @Schema(
+    description = "Whether the amount is a percentage or an absolute change",
+    example = "PERCENTAGE"
+  )
+  private PriceAdjustmentType adjustmentType;
+
+  /**
+   * The change to apply; negative values lower prices.
+   */
+  @NotNull(message = "Amount is required")
+  @Digits(
+    integer = 9,
+    fraction = 4,
+    message = "Amount must have at most 9 integer and 4 decimal digits"
+  )
+  @Schema(
+    description = "The change to apply; negative values lower prices",
+    example = "5"
+  )
+  private BigDecimal amount;
+}
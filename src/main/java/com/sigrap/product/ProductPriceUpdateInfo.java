@@ -0,0 +1,46 @@
+package com.sigrap.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) summarizing a bulk product price update.
+ * Also serves as the details of the single audit record written for it.
+ *
+ * @see ProductService#updatePrices(ProductPriceUpdateData)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a bulk product price update")
+public class ProductPriceUpdateInfo {
+
+  /**
+   * The price that was changed.
+   */
+  @Schema(description = "The price that was changed", example = "SALE_PRICE")
+  private PriceField field;
+
+  /**
+   * How the amount was applied.
+   */
+  @Schema(description = "How the amount was applied", example = "PERCENTAGE")
+  private PriceAdjustmentType adjustmentType;
+
+  /**
+   * The change that was applied.
+   */
+  @Schema(description = "The change that was applied", example = "5")
+  private BigDecimal amount;
+
+  /**
+   * Number of products re-priced.
+   */
+  @Schema(description = "Number of products re-priced", example = "120")
+  private int updatedCount;
+}
@@ -1,11 +1,130 @@
 package com.sigrap.product;
 
+import com.sigrap.category.Category;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository interface for Product entity operations.
- * Provides basic CRUD operations for managing products in the database.
+ * Provides basic CRUD operations for managing products in the database,
+ * plus specification-based filtering for paginated listings and set-based
+ * price updates.
+ *
+ * @see ProductSpecifications
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Integer> {}
+public interface ProductRepository
+  extends
+    JpaRepository<Product, Integer>,
+    JpaSpecificationExecutor<Product>,
+    ProductRepositoryCustom {
+  /**
+   * Finds the most recent modification time of any product.
+   *
+   * @return The latest {@code updatedAt}, empty if there are no products
+   */
+  @Query("SELECT MAX(p.updatedAt) FROM Product p")
+  Optional<LocalDateTime> findLastUpdatedAt();
+
+  /**
+   * Finds which of the given product IDs exist.
+   *
+   * @param ids IDs to check
+   * @return The IDs of existing products
+   */
+  @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+  List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+  /**
+   * Finds the fields needed to value the inventory of every product,
+   * without loading the products themselves.
+   *
+   * @return Rows of [productId, categoryId, categoryName, stock, costPrice,
+   *         salePrice]; category fields are null for uncategorized products
+   */
+  @Query(
+    "SELECT p.id, c.id, c.name, p.stock, p.costPrice, p.salePrice " +
+    "FROM Product p LEFT JOIN p.category c"
+  )
+  List<Object[]> findValuationRows();
+
+  /**
+   * Finds the fields needed to value the inventory of the given products.
+   *
+   * @param ids IDs of the products to look up
+   * @return Rows of [productId, categoryId, categoryName, stock, costPrice,
+   *         salePrice]; category fields are null for uncategorized products
+   */
+  @Query(
+    "SELECT p.id, c.id, c.name, p.stock, p.costPrice, p.salePrice " +
+    "FROM Product p LEFT JOIN p.category c WHERE p.id IN :ids"
+  )
+  List<Object[]> findValuationRows(@Param("ids") Collection<Integer> ids);
+
+  /**
+   * Finds the stock levels of every product, ordered by ID, without loading
+   * the products themselves.
+   *
+   * @return Rows of [productId, name, stock, minimumStockThreshold]
+   */
+  @Query(
+    "SELECT p.id, p.name, p.stock, p.minimumStockThreshold " +
+    "FROM Product p ORDER BY p.id"
+  )
+  List<Object[]> findStockLevels();
+
+  /**
+   * Finds the products whose stock is at or below their minimum stock
+   * threshold, ordered by ID, without loading the products themselves.
+   * Products with no threshold set are left out.
+   *
+   * @return Rows of [productId, stock, minimumStockThreshold, costPrice]
+   */
+  @Query(
+    "SELECT p.id, p.stock, p.minimumStockThreshold, p.costPrice " +
+    "FROM Product p " +
+    "WHERE p.minimumStockThreshold > 0 " +
+    "AND p.stock <= p.minimumStockThreshold " +
+    "ORDER BY p.id"
+  )
+  List<Object[]> findReplenishmentCandidates();
+
+  /**
+   * Moves every product of the given categories to another category in a
+   * single statement.
+   *
+   * @param categoryIds IDs of the categories to empty
+   * @param target The category the products are moved to
+   * @param now Modification timestamp to record
+   * @return Number of products moved
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+    "UPDATE Product p SET p.category = :target, p.updatedAt = :now, " +
+    "p.version = p.version + 1 " +
+    "WHERE p.category.id IN :categoryIds"
+  )
+  int reassignCategory(
+    @Param("categoryIds") Collection<Long> categoryIds,
+    @Param("target") Category target,
+    @Param("now") LocalDateTime now
+  );
+
+  /**
+   * Deletes every product of the given categories in a single statement.
+   *
+   * @param categoryIds IDs of the categories whose products are deleted
+   * @return Number of products deleted
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM Product p WHERE p.category.id IN :categoryIds")
+  int deleteByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+}
@@ -0,0 +1,97 @@
+package com.sigrap.product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom query operations for products that Spring Data cannot derive.
+ *
+ * @see ProductRepository
+ */
+public interface ProductRepositoryCustom {
+  /**
+   * Re-prices every product matching a specification in a single UPDATE
+   * whose WHERE clause is the specification itself.
+   * The new price is {@code price * numerator / denominator + delta}, rounded
+   * to two decimals and never below zero. The multiplier is passed as an
+   * integer fraction so that it is not truncated to the scale of the price
+   * column. Pending changes are flushed first and the persistence context is
+   * cleared afterwards, as with a clearing modifying query.
+   *
+   * @param spec The criteria products must match
+   * @param field The price to change
+   * @param numerator Numerator of the multiplier applied to the current price
+   * @param denominator Denominator of the multiplier
+   * @param delta Amount added after multiplying
+   * @param now Modification timestamp to record
+   * @return Number of products updated
+   */
+  int adjustPrices(
+    Specification<Product> spec,
+    PriceField field,
+    long numerator,
+    long denominator,
+    BigDecimal delta,
+    LocalDateTime now
+  );
+
+  /**
+   * Aggregates the products matching a specification per category in a
+   * single grouped query, without loading the products themselves.
+   * Low stock is counted with {@link ProductSpecifications#lowStock()}.
+   * Products without a category are left out.
+   *
+   * @param spec The criteria products must match, null for all products
+   * @return Rows of [categoryId, productCount, totalStock, lowStockCount]
+   */
+  List<Object[]> summarizeByCategory(Specification<Product> spec);
+
+  /**
+   * Adds the given quantities to the stock of several products in a single
+   * JDBC batch of relative updates, so concurrent stock changes are never
+   * overwritten.
+   * Pending changes are flushed first and the persistence context is cleared
+   * afterwards, as with a clearing modifying query, so that products read
+   * later in the transaction see the new stock.
+   *
+   * @param increments Quantity to add per product ID
+   * @param now Timestamp recorded as the products' last update
+   * @return IDs of the products that were found and updated
+   */
+  List<Integer> incrementStock(
+    Map<Integer, Integer> increments,
+    LocalDateTime now
+  );
+
+  /**
+   * Reads the stock and cost of several products, locking their rows until
+   * the end of the transaction so both stay as read until they are updated.
+   * Rows are locked in ascending ID order to avoid deadlocks between
+   * concurrent receipts.
+   *
+   * @param ids IDs of the products
+   * @return Rows of [productId, stock, costPrice], ordered by product ID
+   */
+  List<Object[]> findCostBasisForUpdate(Collection<Integer> ids);
+
+  /**
+   * Adds received quantities to the stock of several products and sets their
+   * cost price in a single JDBC batch. Stock is updated relatively, as in
+   * {@link #incrementStock(Map, LocalDateTime)}, and the persistence context
+   * is flushed before and cleared after in the same way.
+   *
+   * @param increments Quantity to add per product ID
+   * @param costs New cost price per product ID
+   * @param now Timestamp recorded as the products' last update
+   * @return IDs of the products that were found and updated
+   */
+  List<Integer> receiveStock(
+    Map<Integer, Integer> increments,
+    Map<Integer, BigDecimal> costs,
+    LocalDateTime now
+  );
+}
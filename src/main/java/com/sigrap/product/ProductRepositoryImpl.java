@@ -0,0 +1,210 @@
+package com.sigrap.product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Criteria API implementation of {@link ProductRepositoryCustom}, with bulk
+ * stock updates issued through JDBC batches.
+ */
+class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+  private static final String INCREMENT_STOCK_SQL =
+    "UPDATE products SET stock = stock + ?, updated_at = ?, " +
+    "version = version + 1 WHERE id = ?";
+
+  private static final String RECEIVE_STOCK_SQL =
+    "UPDATE products SET stock = stock + ?, cost_price = ?, updated_at = ?, " +
+    "version = version + 1 WHERE id = ?";
+
+  private static final String COST_BASIS_SQL =
+    "SELECT id, stock, cost_price FROM products WHERE id IN (%s) " +
+    "ORDER BY id FOR UPDATE";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  ProductRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int adjustPrices(
+    Specification<Product> spec,
+    PriceField field,
+    long numerator,
+    long denominator,
+    BigDecimal delta,
+    LocalDateTime now
+  ) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+    Root<Product> root = update.from(Product.class);
+    Path<BigDecimal> price = root.get(
+      field == PriceField.COST_PRICE ? "costPrice" : "salePrice"
+    );
+    Expression<BigDecimal> adjusted = cb.sum(
+      (Expression<BigDecimal>) (Expression<?>) cb.quot(
+        cb.prod(price, numerator),
+        denominator
+      ),
+      delta
+    );
+    update
+      .set(
+        price,
+        cb
+          .<BigDecimal>selectCase()
+          .when(cb.lessThan(adjusted, BigDecimal.ZERO), BigDecimal.ZERO)
+          .otherwise(cb.round(adjusted, 2))
+      )
+      .set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L))
+      .set(root.<LocalDateTime>get("updatedAt"), now);
+    if (spec != null) {
+      // Specifications build their subqueries from a CriteriaQuery, so one
+      // is created only to host them; the predicate targets the update root.
+      CriteriaQuery<Integer> host = cb.createQuery(Integer.class);
+      Predicate predicate = spec.toPredicate(root, host, cb);
+      if (predicate != null) {
+        update.where(predicate);
+      }
+    }
+    entityManager.flush();
+    int updated = entityManager.createQuery(update).executeUpdate();
+    entityManager.clear();
+    return updated;
+  }
+
+  @Override
+  public List<Object[]> summarizeByCategory(Specification<Product> spec) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+    Root<Product> root = query.from(Product.class);
+    Path<Long> categoryId = root.get("category").get("id");
+    Predicate lowStock = ProductSpecifications.lowStock().toPredicate(
+      root,
+      query,
+      cb
+    );
+    query.multiselect(
+      categoryId,
+      cb.count(root),
+      cb.coalesce(cb.sumAsLong(root.get("stock")), 0L),
+      cb.sum(cb.<Integer>selectCase().when(lowStock, 1).otherwise(0))
+    );
+    Predicate where = cb.isNotNull(categoryId);
+    if (spec != null) {
+      Predicate predicate = spec.toPredicate(root, query, cb);
+      if (predicate != null) {
+        where = cb.and(where, predicate);
+      }
+    }
+    query.where(where).groupBy(categoryId);
+    return entityManager.createQuery(query).getResultList();
+  }
+
+  @Override
+  public List<Integer> incrementStock(
+    Map<Integer, Integer> increments,
+    LocalDateTime now
+  ) {
+    if (increments.isEmpty()) {
+      return List.of();
+    }
+    List<Map.Entry<Integer, Integer>> changes = new ArrayList<>(
+      increments.entrySet()
+    );
+    entityManager.flush();
+    int[][] counts = jdbcTemplate.batchUpdate(
+      INCREMENT_STOCK_SQL,
+      changes,
+      changes.size(),
+      (ps, change) -> {
+        ps.setInt(1, change.getValue());
+        ps.setObject(2, now);
+        ps.setInt(3, change.getKey());
+      }
+    );
+    entityManager.clear();
+    return updatedIds(changes, counts);
+  }
+
+  @Override
+  public List<Object[]> findCostBasisForUpdate(Collection<Integer> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(
+      COST_BASIS_SQL.formatted(
+        String.join(", ", Collections.nCopies(ids.size(), "?"))
+      ),
+      (rs, rowNum) ->
+        new Object[] {
+          rs.getInt("id"),
+          rs.getInt("stock"),
+          rs.getBigDecimal("cost_price"),
+        },
+      ids.toArray()
+    );
+  }
+
+  @Override
+  public List<Integer> receiveStock(
+    Map<Integer, Integer> increments,
+    Map<Integer, BigDecimal> costs,
+    LocalDateTime now
+  ) {
+    if (increments.isEmpty()) {
+      return List.of();
+    }
+    List<Map.Entry<Integer, Integer>> changes = new ArrayList<>(
+      increments.entrySet()
+    );
+    entityManager.flush();
+    int[][] counts = jdbcTemplate.batchUpdate(
+      RECEIVE_STOCK_SQL,
+      changes,
+      changes.size(),
+      (ps, change) -> {
+        ps.setInt(1, change.getValue());
+        ps.setBigDecimal(2, costs.get(change.getKey()));
+        ps.setObject(3, now);
+        ps.setInt(4, change.getKey());
+      }
+    );
+    entityManager.clear();
+    return updatedIds(changes, counts);
+  }
+
+  private static List<Integer> updatedIds(
+    List<Map.Entry<Integer, Integer>> changes,
+    int[][] counts
+  ) {
+    List<Integer> updated = new ArrayList<>();
+    for (int i = 0; i < changes.size(); i++) {
+      if (counts[0][i] != 0) {
+        updated.add(changes.get(i).getKey());
+      }
+    }
+    return updated;
+  }
+}
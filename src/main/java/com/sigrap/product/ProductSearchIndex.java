@@ -0,0 +1,320 @@
+package com.sigrap.product;
+
+import com.sigrap.common.TextNormalizer;
+import com.sigrap.common.TextSearchIndex;
+import com.sigrap.sale.SaleItemRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory full-text index over the product catalog.
+ *
+ * <p>Products are indexed by name, description and category name. Every
+ * field answers exact and prefix matches, while name and category also
+ * answer typo-tolerant matches through their trigrams.</p>
+ *
+ * <p>Results are ranked by match quality (exact word, prefix, substring and
+ * trigram similarity, weighted by field) blended with popularity, measured as
+ * units sold within the last {@code app.product-search.popularity-window-days}
+ * days.</p>
+ *
+ * <p>The index is updated incrementally from {@link ProductChangedEvent}s once
+ * the writing transaction commits.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex
+  extends TextSearchIndex<Integer, ProductSearchIndex.Entry> {
+
+  private static final double NAME_WEIGHT = 1.0;
+  private static final double CATEGORY_WEIGHT = 0.7;
+  private static final double DESCRIPTION_WEIGHT = 0.4;
+  private static final double POPULARITY_WEIGHT = 0.2;
+
+  private final ProductRepository productRepository;
+  private final SaleItemRepository saleItemRepository;
+  private final ProductMapper productMapper;
+
+  @Value("${app.product-search.popularity-window-days:30}")
+  private int popularityWindowDays;
+
+  private volatile long maxUnitsSold;
+
+  /**
+   * Applies a committed product change to the index.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    try {
+      if (event.isCatalogWide()) {
+        rebuild();
+      } else {
+        refresh(event.getProductIds());
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to update product search index for {}", event, e);
+    }
+  }
+
+  /**
+   * Searches products by free text.
+   * Every word of the query must match the product name, category name or
+   * description, either exactly, as a prefix, as a substring or, for the name
+   * and category, approximately.
+   *
+   * @param query The search text
+   * @param limit Maximum number of results, capped at {@link #MAX_RESULTS}
+   * @return Matching products, best matches first
+   */
+  public List<ProductInfo> search(String query, int limit) {
+    long max = maxUnitsSold;
+    return match(query)
+      .stream()
+      .map(match ->
+        new ScoredEntry(
+          match.entry(),
+          Math.min(1.0, match.relevance()) * (1 - POPULARITY_WEIGHT) +
+          popularity(match.entry(), max) * POPULARITY_WEIGHT
+        )
+      )
+      .sorted(
+        Comparator.comparingDouble(ScoredEntry::score)
+          .reversed()
+          .thenComparing(scoredEntry -> scoredEntry.entry().getName())
+      )
+      .limit(clamp(limit))
+      .map(scoredEntry -> scoredEntry.entry().info)
+      .toList();
+  }
+
+  /**
+   * Suggests products whose name words start with the words typed so far.
+   * Products whose name starts with the query come first, then the most
+   * popular ones.
+   *
+   * @param query The text typed so far
+   * @param limit Maximum number of suggestions, capped at {@link #MAX_RESULTS}
+   * @return Matching product suggestions
+   */
+  public List<ProductSuggestionInfo> autocomplete(String query, int limit) {
+    List<String> tokens = tokensOf(query);
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+    String normalizedQuery = String.join(" ", tokens);
+    return withWordPrefixes(tokens)
+      .stream()
+      .filter(entry -> entry.nameStartsWithAll(tokens))
+      .sorted(
+        Comparator.comparing((Entry entry) ->
+          !entry.getName().startsWith(normalizedQuery)
+        )
+          .thenComparing(
+            Comparator.comparingLong((Entry entry) -> entry.unitsSold).reversed()
+          )
+          .thenComparingInt(entry -> entry.getName().length())
+          .thenComparing(Entry::getName)
+      )
+      .limit(clamp(limit))
+      .map(Entry::toSuggestion)
+      .toList();
+  }
+
+  @Override
+  protected List<Entry> loadAll() {
+    Map<Integer, Long> unitsSold = toUnitsSold(
+      saleItemRepository.sumQuantityByProductSince(popularitySince())
+    );
+    List<Entry> entries = productRepository
+      .findAll()
+      .stream()
+      .map(product ->
+        toEntry(product, unitsSold.getOrDefault(product.getId(), 0L))
+      )
+      .toList();
+    maxUnitsSold = entries
+      .stream()
+      .mapToLong(entry -> entry.unitsSold)
+      .max()
+      .orElse(0);
+    return entries;
+  }
+
+  @Override
+  protected List<Entry> load(Collection<Integer> productIds) {
+    Map<Integer, Long> unitsSold = toUnitsSold(
+      saleItemRepository.sumQuantityByProductSince(
+        popularitySince(),
+        productIds
+      )
+    );
+    List<Entry> entries = productRepository
+      .findAllById(productIds)
+      .stream()
+      .map(product ->
+        toEntry(product, unitsSold.getOrDefault(product.getId(), 0L))
+      )
+      .toList();
+    entries.forEach(entry ->
+      maxUnitsSold = Math.max(maxUnitsSold, entry.unitsSold)
+    );
+    return entries;
+  }
+
+  private Entry toEntry(Product product, long unitsSold) {
+    String categoryName = product.getCategory() != null
+      ? product.getCategory().getName()
+      : null;
+    return new Entry(
+      product.getId(),
+      productMapper.toInfo(product),
+      categoryName,
+      TextNormalizer.tokens(product.getName()),
+      TextNormalizer.tokens(categoryName),
+      TextNormalizer.tokens(product.getDescription()),
+      unitsSold
+    );
+  }
+
+  private LocalDateTime popularitySince() {
+    return LocalDateTime.now().minusDays(popularityWindowDays);
+  }
+
+  private static double popularity(Entry entry, long maxUnitsSold) {
+    if (maxUnitsSold <= 0) {
+      return 0;
+    }
+    return Math.log1p(entry.unitsSold) / Math.log1p(maxUnitsSold);
+  }
+
+  private static Map<Integer, Long> toUnitsSold(List<Object[]> rows) {
+    Map<Integer, Long> unitsSold = new HashMap<>();
+    for (Object[] row : rows) {
+      unitsSold.put((Integer) row[0], ((Number) row[1]).longValue());
+    }
+    return unitsSold;
+  }
+
+  /**
+   * Indexed representation of a single product.
+   */
+  static final class Entry extends TextSearchIndex.Entry<Integer> {
+
+    private final ProductInfo info;
+    private final String categoryName;
+    private final List<String> nameWords;
+    private final List<String> categoryWords;
+    private final List<String> descriptionWords;
+    private final Set<String> nameTrigrams;
+    private final Set<String> categoryTrigrams;
+    private final long unitsSold;
+
+    private Entry(
+      Integer id,
+      ProductInfo info,
+      String categoryName,
+      List<String> nameWords,
+      List<String> categoryWords,
+      List<String> descriptionWords,
+      long unitsSold
+    ) {
+      super(id, nameWords);
+      this.info = info;
+      this.categoryName = categoryName;
+      this.nameWords = nameWords;
+      this.categoryWords = categoryWords;
+      this.descriptionWords = descriptionWords;
+      this.nameTrigrams = trigramsOf(nameWords);
+      this.categoryTrigrams = trigramsOf(categoryWords);
+      this.unitsSold = unitsSold;
+    }
+
+    @Override
+    protected Set<String> words() {
+      Set<String> words = new HashSet<>(nameWords);
+      words.addAll(categoryWords);
+      words.addAll(descriptionWords);
+      return words;
+    }
+
+    @Override
+    protected Set<String> trigrams() {
+      Set<String> trigrams = new HashSet<>(nameTrigrams);
+      trigrams.addAll(categoryTrigrams);
+      return trigrams;
+    }
+
+    @Override
+    protected double quality(String token, Set<String> tokenTrigrams) {
+      return Math.max(
+        NAME_WEIGHT * fieldQuality(token, tokenTrigrams, nameWords, nameTrigrams),
+        Math.max(
+          CATEGORY_WEIGHT *
+          fieldQuality(token, tokenTrigrams, categoryWords, categoryTrigrams),
+          DESCRIPTION_WEIGHT * wordMatch(token, descriptionWords)
+        )
+      );
+    }
+
+    private boolean nameStartsWithAll(List<String> tokens) {
+      return tokens
+        .stream()
+        .allMatch(token ->
+          nameWords.stream().anyMatch(word -> word.startsWith(token))
+        );
+    }
+
+    private ProductSuggestionInfo toSuggestion() {
+      return ProductSuggestionInfo.builder()
+        .id(getId())
+        .name(info.getName())
+        .categoryName(categoryName)
+        .salePrice(info.getSalePrice())
+        .stock(info.getStock())
+        .build();
+    }
+  }
+
+  /**
+   * Search candidate paired with its final score.
+   */
+  private static final class ScoredEntry {
+
+    private final Entry entry;
+    private final double score;
+
+    private ScoredEntry(Entry entry, double score) {
+      this.entry = entry;
+      this.score = score;
+    }
+
+    private Entry entry() {
+      return entry;
+    }
+
+    private double score() {
+      return score;
+    }
+  }
+}
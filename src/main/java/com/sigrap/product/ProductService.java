@@ -3,9 +3,20 @@ package com.sigrap.product;
 import com.sigrap.audit.Auditable;
 import com.sigrap.category.Category;
 import com.sigrap.category.CategoryRepository;
+import com.sigrap.common.ResourceVersion;
+import com.sigrap.common.ResourceVersions;
+import com.sigrap.common.RetryOnConflict;
+import com.sigrap.common.StaleVersionException;
 import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,27 +48,62 @@ public class ProductService {
   private final ProductMapper productMapper;
 
   /**
-   * Retrieves all products from the database.
+   * Publisher for product change notifications.
+   * Used to invalidate derived read models once a write has committed.
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * In-memory index used for free-text search and autocomplete.
+   */
+  private final ProductSearchIndex productSearchIndex;
+
+  /**
+   * In-memory index used for barcode and SKU lookups.
+   */
+  private final ProductCodeIndex productCodeIndex;
+
+  /**
+   * Version counters used for conditional GET requests.
+   */
+  private final ResourceVersions resourceVersions;
+
+  /**
+   * Returns the current version of the product collection.
+   * Does not access the database once the version is known.
+   *
+   * @return The current version
+   */
+  public ResourceVersion currentVersion() {
+    return resourceVersions.current(ProductCatalogCache.RESOURCE, () ->
+      productRepository.findLastUpdatedAt().orElse(null)
+    );
+  }
+
+  /**
+   * Retrieves one page of products matching the given filter.
    *
-   * @return List of all products mapped to ProductInfo objects
+   * @param filter The criteria products must match
+   * @param pageable Pagination and sorting information
+   * @return Page of matching products mapped to ProductInfo objects
    */
   @Transactional(readOnly = true)
-  public List<ProductInfo> findAll() {
+  public Page<ProductInfo> findAll(ProductFilter filter, Pageable pageable) {
     return productRepository
-      .findAll()
-      .stream()
-      .map(productMapper::toInfo)
-      .toList();
+      .findAll(ProductSpecifications.matching(filter), pageable)
+      .map(productMapper::toInfo);
   }
 
   /**
    * Finds a product by its ID.
+   * Results are served from the product cache when available.
    *
    * @param id The ID of the product to find
    * @return The found product mapped to ProductInfo
    * @throws EntityNotFoundException if the product is not found
    */
   @Transactional(readOnly = true)
+  @Cacheable(cacheNames = ProductCatalogCache.PRODUCTS_BY_ID, key = "#id")
   public ProductInfo findById(Integer id) {
     Product product = productRepository
       .findById(id)
@@ -67,6 +113,45 @@ public class ProductService {
     return productMapper.toInfo(product);
   }
 
+  /**
+   * Finds a product by its barcode or SKU.
+   * Served from the in-memory code index without accessing the database.
+   *
+   * @param code The scanned or typed code
+   * @return The found product
+   * @throws EntityNotFoundException if no product has that code
+   */
+  public ProductInfo findByCode(String code) {
+    return productCodeIndex
+      .find(code)
+      .orElseThrow(() ->
+        new EntityNotFoundException("Product not found with code: " + code)
+      );
+  }
+
+  /**
+   * Searches products by name, description or category name.
+   * Matching is case and accent insensitive and tolerates small typos.
+   *
+   * @param query The search text
+   * @param limit Maximum number of results
+   * @return Matching products, best matches first
+   */
+  public List<ProductInfo> search(String query, int limit) {
+    return productSearchIndex.search(query, limit);
+  }
+
+  /**
+   * Suggests products whose name starts with the text typed so far.
+   *
+   * @param query The text typed so far
+   * @param limit Maximum number of suggestions
+   * @return Matching product suggestions
+   */
+  public List<ProductSuggestionInfo> autocomplete(String query, int limit) {
+    return productSearchIndex.autocomplete(query, limit);
+  }
+
   /**
    * Creates a new product.
    *
@@ -78,6 +163,7 @@ public class ProductService {
   @Auditable(action = "CREAR", entity = "PRODUCTO", captureDetails = true)
   public ProductInfo create(ProductData productData) {
     Product product = productMapper.toEntity(productData);
+    normalizeCodes(product);
 
     if (productData.getCategoryId() != null) {
       Long categoryId = Long.valueOf(productData.getCategoryId());
@@ -90,6 +176,7 @@ public class ProductService {
     }
 
     Product savedProduct = productRepository.save(product);
+    eventPublisher.publishEvent(ProductChangedEvent.of(savedProduct.getId()));
     return productMapper.toInfo(savedProduct);
   }
 
@@ -100,8 +187,11 @@ public class ProductService {
    * @param productData The new data for the product
    * @return The updated product mapped to ProductInfo
    * @throws EntityNotFoundException if the product or specified category is not found
+   * @throws StaleVersionException if the product changed since the given
+   *         version
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ACTUALIZAR",
     entity = "PRODUCTO",
@@ -114,7 +204,14 @@ public class ProductService {
       .orElseThrow(() ->
         new EntityNotFoundException("Product not found with id: " + id)
       );
+    StaleVersionException.check(
+      Product.class,
+      id,
+      productData.getVersion(),
+      product.getVersion()
+    );
     productMapper.updateEntityFromData(productData, product);
+    normalizeCodes(product);
 
     if (productData.getCategoryId() != null) {
       Long categoryId = Long.valueOf(productData.getCategoryId());
@@ -128,10 +225,104 @@ public class ProductService {
       product.setCategory(null);
     }
 
-    Product updatedProduct = productRepository.save(product);
+    Product updatedProduct = productRepository.saveAndFlush(product);
+    eventPublisher.publishEvent(ProductChangedEvent.of(id));
     return productMapper.toInfo(updatedProduct);
   }
 
+  /**
+   * Re-prices every product in the requested scope.
+   *
+   * <p>The new prices are written with a single set-based UPDATE whose WHERE
+   * clause is the requested scope, so neither the products nor their IDs are
+   * read first. The operation is recorded as one audit event and derived read
+   * models are invalidated once, for the whole catalog.</p>
+   *
+   * @param priceUpdateData The scope and adjustment to apply
+   * @return Summary of the products re-priced
+   * @throws IllegalArgumentException if no scope is given or a percentage
+   *         would make prices negative
+   * @throws EntityNotFoundException if the specified category is not found
+   */
+  @Transactional
+  @RetryOnConflict
+  @Auditable(
+    action = "ACTUALIZAR_PRECIOS",
+    entity = "PRODUCTO",
+    captureDetails = true
+  )
+  public ProductPriceUpdateInfo updatePrices(
+    ProductPriceUpdateData priceUpdateData
+  ) {
+    Specification<Product> scope = priceUpdateScope(priceUpdateData);
+
+    BigDecimal factor = BigDecimal.ONE;
+    BigDecimal delta = BigDecimal.ZERO;
+    if (priceUpdateData.getAdjustmentType() == PriceAdjustmentType.PERCENTAGE) {
+      factor = BigDecimal.ONE.add(
+        priceUpdateData.getAmount().movePointLeft(2)
+      );
+      if (factor.signum() < 0) {
+        throw new IllegalArgumentException(
+          "Percentage decrease cannot exceed 100%"
+        );
+      }
+    } else {
+      delta = priceUpdateData.getAmount();
+    }
+
+    int updated = productRepository.adjustPrices(
+      scope,
+      priceUpdateData.getField(),
+      factor.unscaledValue().longValueExact(),
+      BigDecimal.TEN.pow(factor.scale()).longValueExact(),
+      delta,
+      LocalDateTime.now()
+    );
+    if (updated > 0) {
+      eventPublisher.publishEvent(ProductChangedEvent.catalog());
+    }
+
+    return ProductPriceUpdateInfo.builder()
+      .field(priceUpdateData.getField())
+      .adjustmentType(priceUpdateData.getAdjustmentType())
+      .amount(priceUpdateData.getAmount())
+      .updatedCount(updated)
+      .build();
+  }
+
+  private Specification<Product> priceUpdateScope(
+    ProductPriceUpdateData priceUpdateData
+  ) {
+    Long categoryId = priceUpdateData.getCategoryId();
+    List<Integer> productIds = priceUpdateData.getProductIds();
+    Long supplierId = priceUpdateData.getSupplierId();
+    if (
+      categoryId == null &&
+      (productIds == null || productIds.isEmpty()) &&
+      supplierId == null
+    ) {
+      throw new IllegalArgumentException(
+        "A category, product list or supplier is required"
+      );
+    }
+
+    Specification<Product> scope = Specification.where(null);
+    if (categoryId != null) {
+      if (!categoryRepository.existsById(categoryId)) {
+        throw new EntityNotFoundException("Category not found: " + categoryId);
+      }
+      scope = scope.and(ProductSpecifications.inCategory(categoryId));
+    }
+    if (productIds != null && !productIds.isEmpty()) {
+      scope = scope.and(ProductSpecifications.withIds(productIds));
+    }
+    if (supplierId != null) {
+      scope = scope.and(ProductSpecifications.suppliedBy(supplierId));
+    }
+    return scope;
+  }
+
   /**
    * Deletes a product by its ID.
    *
@@ -139,6 +330,7 @@ public class ProductService {
    * @throws EntityNotFoundException if the product is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "ELIMINAR", entity = "PRODUCTO", entityIdParam = "id")
   public void delete(Integer id) {
     Product product = productRepository
@@ -147,6 +339,7 @@ public class ProductService {
         new EntityNotFoundException("Product not found with id: " + id)
       );
     productRepository.delete(product);
+    eventPublisher.publishEvent(ProductChangedEvent.of(id));
   }
 
   /**
@@ -157,6 +350,7 @@ public class ProductService {
    * @throws EntityNotFoundException if any of the products is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ELIMINAR_LOTE",
     entity = "PRODUCTO",
@@ -171,5 +365,11 @@ public class ProductService {
       }
     });
     productRepository.deleteAllById(ids);
+    eventPublisher.publishEvent(ProductChangedEvent.of(ids));
+  }
+
+  private static void normalizeCodes(Product product) {
+    product.setSku(ProductCodeIndex.normalize(product.getSku()));
+    product.setBarcode(ProductCodeIndex.normalize(product.getBarcode()));
   }
 }
@@ -0,0 +1,141 @@
+package com.sigrap.product;
+
+import com.sigrap.supplier.SupplierProduct;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Reusable JPA specifications for querying products.
+ * Listing criteria map to indexed columns of the {@code products} table.
+ *
+ * @see ProductFilter
+ * @see ProductRepository
+ */
+public final class ProductSpecifications {
+
+  private ProductSpecifications() {}
+
+  /**
+   * Builds a specification matching every non-null criterion of a filter.
+   *
+   * @param filter The filter to translate
+   * @return The combined specification
+   */
+  public static Specification<Product> matching(ProductFilter filter) {
+    Specification<Product> spec = Specification.where(null);
+    if (filter.getCategoryId() != null) {
+      spec = spec.and(inCategory(filter.getCategoryId()));
+    }
+    if (filter.getMinPrice() != null) {
+      spec = spec.and(salePriceAtLeast(filter.getMinPrice()));
+    }
+    if (filter.getMaxPrice() != null) {
+      spec = spec.and(salePriceAtMost(filter.getMaxPrice()));
+    }
+    if (Boolean.TRUE.equals(filter.getLowStock())) {
+      spec = spec.and(lowStock());
+    }
+    if (Boolean.TRUE.equals(filter.getOutOfStock())) {
+      spec = spec.and(outOfStock());
+    }
+    if (filter.getUpdatedSince() != null) {
+      spec = spec.and(updatedSince(filter.getUpdatedSince()));
+    }
+    return spec;
+  }
+
+  /**
+   * Matches products belonging to a category.
+   *
+   * @param categoryId The category ID
+   * @return The specification
+   */
+  public static Specification<Product> inCategory(Long categoryId) {
+    return (root, query, cb) ->
+      cb.equal(root.get("category").get("id"), categoryId);
+  }
+
+  /**
+   * Matches products whose sale price is at least the given value.
+   *
+   * @param minPrice The lower bound, inclusive
+   * @return The specification
+   */
+  public static Specification<Product> salePriceAtLeast(BigDecimal minPrice) {
+    return (root, query, cb) ->
+      cb.greaterThanOrEqualTo(root.get("salePrice"), minPrice);
+  }
+
+  /**
+   * Matches products whose sale price is at most the given value.
+   *
+   * @param maxPrice The upper bound, inclusive
+   * @return The specification
+   */
+  public static Specification<Product> salePriceAtMost(BigDecimal maxPrice) {
+    return (root, query, cb) ->
+      cb.lessThanOrEqualTo(root.get("salePrice"), maxPrice);
+  }
+
+  /**
+   * Matches products whose stock has fallen below their minimum threshold.
+   *
+   * @return The specification
+   */
+  public static Specification<Product> lowStock() {
+    return (root, query, cb) ->
+      cb.lessThan(root.get("stock"), root.get("minimumStockThreshold"));
+  }
+
+  /**
+   * Matches products with no stock left.
+   *
+   * @return The specification
+   */
+  public static Specification<Product> outOfStock() {
+    return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("stock"), 0);
+  }
+
+  /**
+   * Matches products modified at or after the given time.
+   *
+   * @param since The lower bound, inclusive
+   * @return The specification
+   */
+  public static Specification<Product> updatedSince(LocalDateTime since) {
+    return (root, query, cb) ->
+      cb.greaterThanOrEqualTo(root.get("updatedAt"), since);
+  }
+
+  /**
+   * Matches products with any of the given IDs.
+   *
+   * @param ids The product IDs
+   * @return The specification
+   */
+  public static Specification<Product> withIds(Collection<Integer> ids) {
+    return (root, query, cb) -> root.get("id").in(ids);
+  }
+
+  /**
+   * Matches products on a supplier's price list, that is with a
+   * {@link SupplierProduct} line for the supplier.
+   *
+   * @param supplierId The supplier ID
+   * @return The specification
+   */
+  public static Specification<Product> suppliedBy(Long supplierId) {
+    return (root, query, cb) -> {
+      Subquery<Integer> supplied = query.subquery(Integer.class);
+      Root<SupplierProduct> offer = supplied.from(SupplierProduct.class);
+      supplied
+        .select(offer.get("productId"))
+        .where(cb.equal(offer.get("supplierId"), supplierId));
+      return root.get("id").in(supplied);
+    };
+  }
+}
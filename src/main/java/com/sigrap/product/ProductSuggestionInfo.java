@@ -0,0 +1,55 @@
+package com.sigrap.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight product representation returned by the autocomplete endpoint.
+ *
+ * <p>Contains only the fields needed to render a suggestion list at the
+ * point of sale, keeping autocomplete responses small.</p>
+ *
+ * @see ProductController
+ * @see ProductSearchIndex
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Product suggestion returned by autocomplete")
+public class ProductSuggestionInfo {
+
+  /**
+   * The unique identifier of the product.
+   */
+  @Schema(description = "Unique identifier of the product", example = "1")
+  private Integer id;
+
+  /**
+   * The name of the product.
+   */
+  @Schema(description = "Name of the product", example = "Blue Pen")
+  private String name;
+
+  /**
+   * The name of the product's category, if any.
+   */
+  @Schema(description = "Name of the product category", example = "Pens")
+  private String categoryName;
+
+  /**
+   * The sale price of the product.
+   */
+  @Schema(description = "Sale price of the product", example = "2.50")
+  private BigDecimal salePrice;
+
+  /**
+   * The current stock quantity of the product.
+   */
+  @Schema(description = "Current stock quantity", example = "100")
+  private Integer stock;
+}
@@ -0,0 +1,69 @@
+package com.sigrap.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat response object with the product fields needed when a product is
+ * shown as part of another resource, such as a sale, return or purchase
+ * order line.
+ *
+ * <p>Unlike {@link ProductInfo}, the category is reduced to its ID and name
+ * instead of a nested {@code CategoryInfo}, and descriptions, thresholds and
+ * audit timestamps are left out.</p>
+ *
+ * @see ProductMapper#toSummary(Product)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Product reference with its category ID and name")
+public class ProductSummaryInfo {
+
+  /**
+   * The unique identifier of the product.
+   */
+  @Schema(description = "Unique identifier of the product", example = "1")
+  private Integer id;
+
+  /**
+   * The name of the product.
+   */
+  @Schema(description = "Name of the product", example = "Blue Pen")
+  private String name;
+
+  /**
+   * The cost price of the product.
+   */
+  @Schema(description = "Cost price of the product", example = "1.50")
+  private BigDecimal costPrice;
+
+  /**
+   * The sale price of the product.
+   */
+  @Schema(description = "Sale price of the product", example = "2.50")
+  private BigDecimal salePrice;
+
+  /**
+   * The current stock of the product.
+   */
+  @Schema(description = "Current stock quantity", example = "100")
+  private Integer stock;
+
+  /**
+   * ID of the category, null for products without a category.
+   */
+  @Schema(description = "ID of the product category", example = "1")
+  private Long categoryId;
+
+  /**
+   * Name of the category, null for products without a category.
+   */
+  @Schema(description = "Name of the product category", example = "Bolígrafos")
+  private String categoryName;
+}
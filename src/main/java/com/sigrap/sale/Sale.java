@@ -9,10 +9,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
@@ -23,6 +25,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -32,9 +35,20 @@ import org.hibernate.annotations.UpdateTimestamp;
  * <p>A sale represents a transaction where one or more products are sold to a customer.
  * It records details including the total amount, employee who processed the sale,
  * and the items included in the sale.</p>
+ *
+ * <p>Sales are indexed by customer and creation time, so a customer's
+ * purchase history is read page by page without scanning other sales.</p>
  */
 @Entity
-@Table(name = "sales")
+@Table(
+  name = "sales",
+  indexes = {
+    @Index(
+      name = "idx_sales_customer_created",
+      columnList = "customer_id, created_at, id"
+    ),
+  }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -117,6 +131,16 @@ public class Sale {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  /**
+   * Version used for optimistic locking.
+   * Incremented on every update, so a write based on a stale copy of the
+   * sale fails instead of overwriting a concurrent change.
+   */
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
+
   /**
    * Add an item to this sale.
    *
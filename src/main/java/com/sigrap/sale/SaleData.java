@@ -80,4 +80,25 @@ public class SaleData {
   @Valid
   @Schema(description = "List of items in the sale")
   private List<SaleItemData> items;
+
+  /**
+   * The stock reservation this sale checks out, if any.
+   * Its holds do not count against the sale's own stock check, and it is
+   * released once the sale has been saved.
+   */
+  @Schema(
+    description = "ID of the stock reservation being checked out",
+    example = "6f1c2a9e-3b7d-4f0e-9a51-2c8d7e4b1a30"
+  )
+  private String reservationId;
+
+  /**
+   * Version of the sale the update is based on, as last read by the client.
+   * When given, the update is rejected if the sale has changed since.
+   */
+  @Schema(
+    description = "Version the update is based on, to detect conflicts",
+    example = "3"
+  )
+  private Long version;
 }
@@ -89,4 +89,10 @@ public class SaleInfo {
     example = "2023-04-15T14:35:00"
   )
   private LocalDateTime updatedAt;
+
+  /**
+   * Version of the sale, sent back on update to detect concurrent changes.
+   */
+  @Schema(description = "Version of the sale", example = "3")
+  private Long version;
 }
@@ -1,6 +1,6 @@
 package com.sigrap.sale;
 
-import com.sigrap.product.ProductInfo;
+import com.sigrap.product.ProductSummaryInfo;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -28,7 +28,7 @@ public class SaleItemInfo {
    * Information about the product sold.
    */
   @Schema(description = "Product information")
-  private ProductInfo product;
+  private ProductSummaryInfo product;
 
   /**
    * The quantity of the product sold.
@@ -1,8 +1,12 @@
 package com.sigrap.sale;
 
 import com.sigrap.product.Product;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -42,4 +46,58 @@ public interface SaleItemRepository extends JpaRepository<SaleItem, Integer> {
    * @param sale The sale whose items should be deleted
    */
   void deleteBySale(Sale sale);
+
+  /**
+   * Sums the units sold per product for sales created since a given time.
+   *
+   * @param since The start of the time window
+   * @return Rows of product ID and total quantity sold
+   */
+  @Query(
+    "SELECT si.product.id, SUM(si.quantity) FROM SaleItem si WHERE si.sale.createdAt >= :since GROUP BY si.product.id"
+  )
+  List<Object[]> sumQuantityByProductSince(
+    @Param("since") LocalDateTime since
+  );
+
+  /**
+   * Sums the units sold for the given products for sales created since a
+   * given time.
+   *
+   * @param since The start of the time window
+   * @param productIds The products to include
+   * @return Rows of product ID and total quantity sold
+   */
+  @Query(
+    "SELECT si.product.id, SUM(si.quantity) FROM SaleItem si WHERE si.sale.createdAt >= :since AND si.product.id IN :productIds GROUP BY si.product.id"
+  )
+  List<Object[]> sumQuantityByProductSince(
+    @Param("since") LocalDateTime since,
+    @Param("productIds") Collection<Integer> productIds
+  );
+
+  /**
+   * Sums the units sold per product and day for the given products, for
+   * sales created within a time window.
+   *
+   * @param since The start of the window (inclusive)
+   * @param until The end of the window (exclusive)
+   * @param productIds The products to include
+   * @return Rows of [productId, year, month, day, totalQuantity]; the day is
+   *         returned as numbers so no time zone conversion applies to it
+   */
+  @Query(
+    "SELECT si.product.id, YEAR(s.createdAt), MONTH(s.createdAt), " +
+    "DAY(s.createdAt), SUM(si.quantity) " +
+    "FROM SaleItem si JOIN si.sale s " +
+    "WHERE s.createdAt >= :since AND s.createdAt < :until " +
+    "AND si.product.id IN :productIds " +
+    "GROUP BY si.product.id, YEAR(s.createdAt), MONTH(s.createdAt), " +
+    "DAY(s.createdAt)"
+  )
+  List<Object[]> sumDailyQuantityByProduct(
+    @Param("since") LocalDateTime since,
+    @Param("until") LocalDateTime until,
+    @Param("productIds") Collection<Integer> productIds
+  );
 }
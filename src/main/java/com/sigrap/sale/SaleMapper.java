@@ -45,6 +45,7 @@ public class SaleMapper {
       .items(toSaleItemInfoList(sale.getItems()))
       .createdAt(sale.getCreatedAt())
       .updatedAt(sale.getUpdatedAt())
+      .version(sale.getVersion())
       .build();
   }
 
@@ -75,7 +76,7 @@ public class SaleMapper {
 
     return SaleItemInfo.builder()
       .id(saleItem.getId())
-      .product(productMapper.toInfo(saleItem.getProduct()))
+      .product(productMapper.toSummary(saleItem.getProduct()))
       .quantity(saleItem.getQuantity())
       .unitPrice(saleItem.getUnitPrice())
       .subtotal(saleItem.getSubtotal())
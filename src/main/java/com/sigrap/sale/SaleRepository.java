@@ -3,8 +3,13 @@ package com.sigrap.sale;
 import com.sigrap.customer.Customer;
 import com.sigrap.user.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -40,4 +45,84 @@ public interface SaleRepository extends JpaRepository<Sale, Integer> {
     LocalDateTime startDate,
     LocalDateTime endDate
   );
+
+  /**
+   * Finds the latest purchases of a customer, newest first.
+   * Served from the (customer_id, created_at, id) index without loading
+   * sale items.
+   *
+   * @param customerId The ID of the customer
+   * @param limit Maximum number of purchases to return
+   * @return Rows of [id, createdAt, finalAmount, itemCount, employeeName]
+   */
+  @Query(
+    "SELECT s.id, s.createdAt, s.finalAmount, " +
+    "(SELECT COUNT(i) FROM SaleItem i WHERE i.sale = s), s.employee.name " +
+    "FROM Sale s WHERE s.customer.id = :customerId " +
+    "ORDER BY s.createdAt DESC, s.id DESC"
+  )
+  List<Object[]> findPurchases(
+    @Param("customerId") Long customerId,
+    Limit limit
+  );
+
+  /**
+   * Finds the purchases of a customer made before the given position in
+   * their history, newest first.
+   *
+   * @param customerId The ID of the customer
+   * @param createdAt Creation timestamp of the last purchase already seen
+   * @param id ID of the last purchase already seen
+   * @param limit Maximum number of purchases to return
+   * @return Rows of [id, createdAt, finalAmount, itemCount, employeeName]
+   */
+  @Query(
+    "SELECT s.id, s.createdAt, s.finalAmount, " +
+    "(SELECT COUNT(i) FROM SaleItem i WHERE i.sale = s), s.employee.name " +
+    "FROM Sale s WHERE s.customer.id = :customerId " +
+    "AND (s.createdAt < :createdAt " +
+    "OR (s.createdAt = :createdAt AND s.id < :id)) " +
+    "ORDER BY s.createdAt DESC, s.id DESC"
+  )
+  List<Object[]> findPurchasesBefore(
+    @Param("customerId") Long customerId,
+    @Param("createdAt") LocalDateTime createdAt,
+    @Param("id") Integer id,
+    Limit limit
+  );
+
+  /**
+   * Finds when a customer first and last purchased, ignoring some sales.
+   *
+   * @param customerId The ID of the customer
+   * @param excludedIds IDs of the sales to ignore
+   * @return A single row of [firstPurchaseAt, lastPurchaseAt], both null when
+   *         no other sale remains
+   */
+  @Query(
+    "SELECT MIN(s.createdAt), MAX(s.createdAt) FROM Sale s " +
+    "WHERE s.customer.id = :customerId AND s.id NOT IN :excludedIds"
+  )
+  List<Object[]> findPurchaseRange(
+    @Param("customerId") Long customerId,
+    @Param("excludedIds") Collection<Integer> excludedIds
+  );
+
+  /**
+   * Moves every sale of one customer to another in a single statement,
+   * incrementing the version of each sale moved.
+   *
+   * @param duplicate The customer whose sales are moved
+   * @param survivor The customer the sales are moved to
+   * @return The number of sales moved
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+    "UPDATE Sale s SET s.customer = :survivor, s.version = s.version + 1 " +
+    "WHERE s.customer = :duplicate"
+  )
+  int reassignCustomer(
+    @Param("duplicate") Customer duplicate,
+    @Param("survivor") Customer survivor
+  );
 }
@@ -76,7 +76,7 @@ public class SaleReturnMapper {
     }
     return SaleReturnItemInfo.builder()
       .id(saleReturnItem.getId())
-      .product(productMapper.toInfo(saleReturnItem.getProduct()))
+      .product(productMapper.toSummary(saleReturnItem.getProduct()))
       .quantity(saleReturnItem.getQuantity())
       .unitPrice(saleReturnItem.getUnitPrice())
       .subtotal(saleReturnItem.getSubtotal())
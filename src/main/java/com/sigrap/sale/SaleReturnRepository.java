@@ -5,6 +5,9 @@ import com.sigrap.user.User;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -49,4 +52,22 @@ public interface SaleReturnRepository
     LocalDateTime startDate,
     LocalDateTime endDate
   );
+
+  /**
+   * Moves every sales return of one customer to another in a single
+   * statement.
+   *
+   * @param duplicate The customer whose returns are moved
+   * @param survivor The customer the returns are moved to
+   * @return The number of returns moved
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+    "UPDATE SaleReturn r SET r.customer = :survivor " +
+    "WHERE r.customer = :duplicate"
+  )
+  int reassignCustomer(
+    @Param("duplicate") Customer duplicate,
+    @Param("survivor") Customer survivor
+  );
 }
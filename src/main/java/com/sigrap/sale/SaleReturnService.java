@@ -1,17 +1,24 @@
 package com.sigrap.sale;
 
 import com.sigrap.audit.Auditable;
+import com.sigrap.common.RetryOnConflict;
 import com.sigrap.customer.Customer;
 import com.sigrap.customer.CustomerRepository;
+import com.sigrap.customer.CustomerStatsService;
 import com.sigrap.product.Product;
+import com.sigrap.product.ProductChangedEvent;
 import com.sigrap.product.ProductRepository;
 import com.sigrap.user.User;
 import com.sigrap.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>This service handles the business logic for creating, retrieving, updating,
  * and deleting sales returns. It interacts with various repositories to manage
  * sales return data, product stock adjustments, and related entities.</p>
+ *
+ * <p>Every change to a return is also applied to the purchase totals of its
+ * customer through {@link CustomerStatsService}, in the same transaction.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -33,6 +43,8 @@ public class SaleReturnService {
   private final CustomerRepository customerRepository;
   private final UserRepository userRepository;
   private final SaleReturnMapper saleReturnMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CustomerStatsService customerStatsService;
 
   /**
    * Creates a new sales return based on the provided data.
@@ -54,6 +66,7 @@ public class SaleReturnService {
    *                                  quantity to return exceeds quantity purchased).
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "CREAR",
     entity = "DEVOLUCION_VENTA",
@@ -102,6 +115,9 @@ public class SaleReturnService {
       originalSale,
       saleReturnData.getItems()
     );
+    eventPublisher.publishEvent(
+      ProductChangedEvent.of(productIdsOf(saleReturnData.getItems()))
+    );
 
     SaleReturn refreshedReturn = saleReturnRepository
       .findById(savedSaleReturn.getId())
@@ -110,6 +126,7 @@ public class SaleReturnService {
           "SaleReturn not found after creation and item processing"
         )
       );
+    customerStatsService.recordReturn(refreshedReturn);
 
     return saleReturnMapper.toInfo(refreshedReturn);
   }
@@ -251,6 +268,7 @@ public class SaleReturnService {
    * @throws EntityNotFoundException if no sales return is found with the given ID.
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ELIMINAR",
     entity = "DEVOLUCION_VENTA",
@@ -264,15 +282,19 @@ public class SaleReturnService {
       );
 
     List<SaleReturnItem> returnItems = saleReturn.getItems();
+    Set<Integer> affectedProductIds = new HashSet<>();
 
     for (SaleReturnItem item : returnItems) {
       Product product = item.getProduct();
       Integer currentStock = product.getStock();
       product.setStock(currentStock - item.getQuantity());
       productRepository.save(product);
+      affectedProductIds.add(product.getId());
     }
 
+    customerStatsService.removeReturns(List.of(saleReturn));
     saleReturnRepository.delete(saleReturn);
+    eventPublisher.publishEvent(ProductChangedEvent.of(affectedProductIds));
   }
 
   /**
@@ -283,6 +305,7 @@ public class SaleReturnService {
    * @throws EntityNotFoundException if any of the sale returns is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ELIMINAR_LOTE",
     entity = "DEVOLUCION_VENTA",
@@ -297,18 +320,24 @@ public class SaleReturnService {
       }
     });
 
+    Set<Integer> affectedProductIds = new HashSet<>();
+    List<SaleReturn> saleReturns = new ArrayList<>();
     ids.forEach(id -> {
       SaleReturn saleReturn = saleReturnRepository.findById(id).get();
+      saleReturns.add(saleReturn);
 
       for (SaleReturnItem item : saleReturn.getItems()) {
         Product product = item.getProduct();
         Integer currentStock = product.getStock();
         product.setStock(currentStock - item.getQuantity());
         productRepository.save(product);
+        affectedProductIds.add(product.getId());
       }
     });
+    customerStatsService.removeReturns(saleReturns);
 
     saleReturnRepository.deleteAllById(ids);
+    eventPublisher.publishEvent(ProductChangedEvent.of(affectedProductIds));
   }
 
   /**
@@ -339,6 +368,7 @@ public class SaleReturnService {
    *                                  or if any item validation fails (e.g., returning more than purchased).
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ACTUALIZAR",
     entity = "DEVOLUCION_VENTA",
@@ -391,6 +421,7 @@ public class SaleReturnService {
       );
     existingSaleReturn.setEmployee(employee);
 
+    BigDecimal previousAmount = existingSaleReturn.getTotalReturnAmount();
     saleReturnMapper.updateEntityFromData(existingSaleReturn, saleReturnData);
 
     updateReturnItems(
@@ -406,6 +437,7 @@ public class SaleReturnService {
     SaleReturn updatedSaleReturn = saleReturnRepository.save(
       existingSaleReturn
     );
+    customerStatsService.recordReturnChange(previousAmount, updatedSaleReturn);
     return saleReturnMapper.toInfo(updatedSaleReturn);
   }
 
@@ -439,10 +471,11 @@ public class SaleReturnService {
   ) {
     List<SaleReturnItem> existingItems =
       saleReturnItemRepository.findBySaleReturn(saleReturn);
-    List<Integer> newItemProductIds = newItemsData
-      .stream()
-      .map(SaleReturnItemData::getProductId)
-      .toList();
+    List<Integer> newItemProductIds = productIdsOf(newItemsData);
+    Set<Integer> affectedProductIds = new HashSet<>(newItemProductIds);
+    existingItems.forEach(item ->
+      affectedProductIds.add(item.getProduct().getId())
+    );
 
     for (SaleReturnItem existingItem : existingItems) {
       if (!newItemProductIds.contains(existingItem.getProduct().getId())) {
@@ -511,6 +544,17 @@ public class SaleReturnService {
       }
       productRepository.save(product);
     }
+    eventPublisher.publishEvent(ProductChangedEvent.of(affectedProductIds));
+  }
+
+  /**
+   * Collects the product IDs referenced by a list of return items.
+   *
+   * @param itemsData The return items
+   * @return The referenced product IDs
+   */
+  private List<Integer> productIdsOf(List<SaleReturnItemData> itemsData) {
+    return itemsData.stream().map(SaleReturnItemData::getProductId).toList();
   }
 
   /**
@@ -1,22 +1,33 @@
 package com.sigrap.sale;
 
 import com.sigrap.audit.Auditable;
+import com.sigrap.common.RetryOnConflict;
+import com.sigrap.common.StaleVersionException;
 import com.sigrap.customer.Customer;
 import com.sigrap.customer.CustomerRepository;
+import com.sigrap.customer.CustomerStatsService;
 import com.sigrap.product.Product;
+import com.sigrap.product.ProductChangedEvent;
 import com.sigrap.product.ProductRepository;
 import com.sigrap.user.User;
 import com.sigrap.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service class for managing sales-related operations.
+ *
+ * <p>Every change to a sale is also applied to the purchase totals of its
+ * customer through {@link CustomerStatsService}, in the same transaction.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +39,9 @@ public class SaleService {
   private final CustomerRepository customerRepository;
   private final UserRepository userRepository;
   private final SaleMapper saleMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final StockReservationService stockReservationService;
+  private final CustomerStatsService customerStatsService;
 
   /**
    * Find all sales.
@@ -113,15 +127,22 @@ public class SaleService {
   /**
    * Create a new sale.
    * This method also updates the stock of the products included in the sale.
+   * Stock held by reservations is not available, except for the holds of the
+   * reservation the sale checks out, which is released once the sale commits.
    *
    * @param saleData The data for the new sale
    * @return The created sale as a SaleInfo DTO
-   * @throws EntityNotFoundException if the customer or employee is not found
+   * @throws EntityNotFoundException if the customer, employee or reservation
+   *         is not found
    * @throws IllegalArgumentException if there is insufficient stock for any product
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "CREAR", entity = "VENTA", captureDetails = true)
   public SaleInfo create(SaleData saleData) {
+    if (saleData.getReservationId() != null) {
+      stockReservationService.requireActive(saleData.getReservationId());
+    }
     Sale sale = saleMapper.toEntity(saleData);
 
     Customer customer = customerRepository
@@ -144,13 +165,22 @@ public class SaleService {
 
     Sale savedSale = saleRepository.save(sale);
 
-    processItems(savedSale, saleData.getItems());
+    processItems(savedSale, saleData.getItems(), saleData.getReservationId());
+    eventPublisher.publishEvent(
+      ProductChangedEvent.of(productIdsOf(saleData.getItems()))
+    );
+    if (saleData.getReservationId() != null) {
+      eventPublisher.publishEvent(
+        StockReservationConvertedEvent.of(saleData.getReservationId())
+      );
+    }
 
     Sale refreshedSale = saleRepository
       .findById(savedSale.getId())
       .orElseThrow(() ->
         new EntityNotFoundException("Sale not found after creation")
       );
+    customerStatsService.recordSale(refreshedSale);
 
     return saleMapper.toInfo(refreshedSale);
   }
@@ -164,8 +194,10 @@ public class SaleService {
    * @return The updated sale as a SaleInfo DTO
    * @throws EntityNotFoundException if the sale, customer, or employee is not found
    * @throws IllegalArgumentException if there is insufficient stock for any product
+   * @throws StaleVersionException if the sale changed since the given version
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ACTUALIZAR",
     entity = "VENTA",
@@ -178,8 +210,22 @@ public class SaleService {
       .orElseThrow(() ->
         new EntityNotFoundException("Sale not found with ID: " + id)
       );
+    StaleVersionException.check(
+      Sale.class,
+      id,
+      saleData.getVersion(),
+      existingSale.getVersion()
+    );
 
+    Long previousCustomerId = existingSale.getCustomer().getId();
+    BigDecimal previousAmount = existingSale.getFinalAmount();
     List<SaleItem> originalItems = existingSale.getItems();
+    Set<Integer> affectedProductIds = new HashSet<>(
+      productIdsOf(saleData.getItems())
+    );
+    originalItems.forEach(item ->
+      affectedProductIds.add(item.getProduct().getId())
+    );
 
     saleMapper.updateEntityFromData(existingSale, saleData);
 
@@ -209,13 +255,20 @@ public class SaleService {
     returnStockForRemovedItems(originalItems, saleData.getItems());
 
     saleItemRepository.deleteBySale(updatedSale);
-    processItems(updatedSale, saleData.getItems());
+    processItems(updatedSale, saleData.getItems(), null);
+    eventPublisher.publishEvent(ProductChangedEvent.of(affectedProductIds));
+    saleRepository.flush();
 
     Sale refreshedSale = saleRepository
       .findById(updatedSale.getId())
       .orElseThrow(() ->
         new EntityNotFoundException("Sale not found after update")
       );
+    customerStatsService.recordSaleChange(
+      previousCustomerId,
+      previousAmount,
+      refreshedSale
+    );
 
     return saleMapper.toInfo(refreshedSale);
   }
@@ -228,6 +281,7 @@ public class SaleService {
    * @throws EntityNotFoundException if the sale is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "ELIMINAR", entity = "VENTA", entityIdParam = "id")
   public void delete(Integer id) {
     Sale sale = saleRepository
@@ -235,12 +289,16 @@ public class SaleService {
       .orElseThrow(() ->
         new EntityNotFoundException("Sale not found with id: " + id)
       );
+    Set<Integer> affectedProductIds = new HashSet<>();
     for (SaleItem item : sale.getItems()) {
       Product product = item.getProduct();
       product.setStock(product.getStock() + item.getQuantity());
       productRepository.save(product);
+      affectedProductIds.add(product.getId());
     }
+    customerStatsService.removeSales(List.of(sale));
     saleRepository.delete(sale);
+    eventPublisher.publishEvent(ProductChangedEvent.of(affectedProductIds));
   }
 
   /**
@@ -251,6 +309,7 @@ public class SaleService {
    * @throws EntityNotFoundException if any of the sales is not found
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "ELIMINAR_LOTE", entity = "VENTA", captureDetails = true)
   public void deleteAllById(List<Integer> ids) {
     ids.forEach(id -> {
@@ -259,26 +318,39 @@ public class SaleService {
       }
     });
 
+    Set<Integer> affectedProductIds = new HashSet<>();
+    List<Sale> sales = new ArrayList<>();
     ids.forEach(id -> {
       Sale sale = saleRepository.findById(id).get();
+      sales.add(sale);
       for (SaleItem item : sale.getItems()) {
         Product product = item.getProduct();
         product.setStock(product.getStock() + item.getQuantity());
         productRepository.save(product);
+        affectedProductIds.add(product.getId());
       }
     });
+    customerStatsService.removeSales(sales);
 
     saleRepository.deleteAllById(ids);
+    eventPublisher.publishEvent(ProductChangedEvent.of(affectedProductIds));
   }
 
   /**
    * Process sale items by creating SaleItem entities and updating product stock.
+   * Each line takes a transient stock hold before the stock is reduced, so a
+   * reservation cannot claim the units while the sale is uncommitted.
    *
    * @param sale The sale to associate the items with
    * @param itemsData The data for the items to process
+   * @param reservationId The reservation being checked out, or null
    * @throws IllegalArgumentException if there is insufficient stock for any product
    */
-  private void processItems(Sale sale, List<SaleItemData> itemsData) {
+  private void processItems(
+    Sale sale,
+    List<SaleItemData> itemsData,
+    String reservationId
+  ) {
     if (sale.getItems() == null) {
       sale.setItems(new ArrayList<>());
     }
@@ -291,12 +363,11 @@ public class SaleService {
           )
         );
 
-      if (product.getStock() < itemData.getQuantity()) {
-        throw new IllegalArgumentException(
-          "Insufficient stock for product: " + product.getName()
-        );
-      }
-
+      stockReservationService.holdForSale(
+        product,
+        itemData.getQuantity(),
+        reservationId
+      );
       product.setStock(product.getStock() - itemData.getQuantity());
       productRepository.save(product);
 
@@ -313,6 +384,16 @@ public class SaleService {
     }
   }
 
+  /**
+   * Collects the product IDs referenced by a list of sale items.
+   *
+   * @param itemsData The sale items
+   * @return The referenced product IDs
+   */
+  private List<Integer> productIdsOf(List<SaleItemData> itemsData) {
+    return itemsData.stream().map(SaleItemData::getProductId).toList();
+  }
+
   /**
    * Return stock for removed items when updating a sale.
    *
@@ -0,0 +1,48 @@
+package com.sigrap.sale;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response object with the quantity of a product that can still be sold.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Available-to-sell quantity of a product")
+public class StockAvailabilityInfo {
+
+  /**
+   * The ID of the product.
+   */
+  @Schema(description = "ID of the product", example = "1")
+  private Integer productId;
+
+  /**
+   * The name of the product.
+   */
+  @Schema(description = "Name of the product", example = "Blue Pen")
+  private String productName;
+
+  /**
+   * The stock on hand.
+   */
+  @Schema(description = "Stock on hand", example = "10")
+  private Integer stock;
+
+  /**
+   * The quantity held by active reservations.
+   */
+  @Schema(description = "Quantity held by active reservations", example = "3")
+  private Integer reserved;
+
+  /**
+   * The stock on hand minus the quantity held, never below zero.
+   */
+  @Schema(description = "Quantity available to sell", example = "7")
+  private Integer available;
+}
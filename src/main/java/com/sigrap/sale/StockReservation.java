@@ -0,0 +1,59 @@
+package com.sigrap.sale;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Immutable entry of the in-memory reservation table.
+ * Extending a reservation replaces its entry with a copy carrying the new
+ * expiry, so concurrent readers always see a consistent entry.
+ *
+ * @see StockReservationService
+ */
+final class StockReservation {
+
+  private final String id;
+  private final Map<Integer, Integer> quantities;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime expiresAt;
+
+  StockReservation(
+    String id,
+    Map<Integer, Integer> quantities,
+    LocalDateTime createdAt,
+    LocalDateTime expiresAt
+  ) {
+    this.id = id;
+    this.quantities = Map.copyOf(quantities);
+    this.createdAt = createdAt;
+    this.expiresAt = expiresAt;
+  }
+
+  String getId() {
+    return id;
+  }
+
+  Map<Integer, Integer> getQuantities() {
+    return quantities;
+  }
+
+  LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  LocalDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  int quantityOf(Integer productId) {
+    return quantities.getOrDefault(productId, 0);
+  }
+
+  boolean isExpired(LocalDateTime now) {
+    return !expiresAt.isAfter(now);
+  }
+
+  StockReservation withExpiresAt(LocalDateTime newExpiresAt) {
+    return new StockReservation(id, quantities, createdAt, newExpiresAt);
+  }
+}
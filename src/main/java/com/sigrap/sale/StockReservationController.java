@@ -0,0 +1,228 @@
+package com.sigrap.sale;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for holding stock while a cart is being built.
+ *
+ * <p>A reservation holds product quantities for a limited time so that
+ * another register cannot sell them in the meantime. It can be extended,
+ * released, or checked out as a sale.</p>
+ *
+ * @see StockReservationService
+ */
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+@Tag(
+  name = "Stock Reservations",
+  description = "Operations for holding stock for open carts"
+)
+public class StockReservationController {
+
+  private final StockReservationService stockReservationService;
+  private final SaleService saleService;
+
+  /**
+   * Hold stock for a cart.
+   *
+   * @param reservationData The products, quantities and optional TTL
+   * @return The created reservation
+   */
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(
+    summary = "Create a reservation",
+    description = "Holds product quantities for a limited time"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "201",
+        description = "Reservation created successfully"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid input data or insufficient stock"
+      ),
+      @ApiResponse(responseCode = "404", description = "Product not found"),
+    }
+  )
+  public StockReservationInfo create(
+    @Parameter(
+      description = "Products and quantities to hold",
+      required = true
+    ) @Valid @RequestBody StockReservationData reservationData
+  ) {
+    return stockReservationService.create(reservationData);
+  }
+
+  /**
+   * Get the quantity available to sell of the given products.
+   *
+   * @param productIds IDs of the products
+   * @return Stock, held and available quantities of each product
+   */
+  @GetMapping("/availability")
+  @Operation(
+    summary = "Get available stock",
+    description = "Retrieves stock on hand minus active reservations"
+  )
+  @ApiResponse(
+    responseCode = "200",
+    description = "Availability retrieved successfully"
+  )
+  public List<StockAvailabilityInfo> findAvailability(
+    @Parameter(
+      description = "IDs of the products",
+      required = true
+    ) @RequestParam List<Integer> productIds
+  ) {
+    return stockReservationService.findAvailability(productIds);
+  }
+
+  /**
+   * Get an active reservation.
+   *
+   * @param id The ID of the reservation
+   * @return The reservation
+   */
+  @GetMapping("/{id}")
+  @Operation(
+    summary = "Get a reservation",
+    description = "Retrieves an active reservation by its ID"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Reservation found"),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Reservation not found or expired"
+      ),
+    }
+  )
+  public StockReservationInfo findById(
+    @Parameter(description = "ID of the reservation") @PathVariable String id
+  ) {
+    return stockReservationService.findById(id);
+  }
+
+  /**
+   * Restart the time to live of a reservation.
+   *
+   * @param id The ID of the reservation
+   * @param ttlSeconds The new time to live in seconds, or null for the default
+   * @return The extended reservation
+   */
+  @PostMapping("/{id}/extend")
+  @Operation(
+    summary = "Extend a reservation",
+    description = "Restarts the time to live of an active reservation"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Reservation extended successfully"
+      ),
+      @ApiResponse(responseCode = "400", description = "Invalid TTL"),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Reservation not found or expired"
+      ),
+    }
+  )
+  public StockReservationInfo extend(
+    @Parameter(description = "ID of the reservation") @PathVariable String id,
+    @Parameter(
+      description = "New time to live in seconds"
+    ) @RequestParam(required = false) Integer ttlSeconds
+  ) {
+    return stockReservationService.extend(id, ttlSeconds);
+  }
+
+  /**
+   * Release a reservation and its held stock.
+   *
+   * @param id The ID of the reservation
+   */
+  @DeleteMapping("/{id}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @Operation(
+    summary = "Release a reservation",
+    description = "Releases the stock held by a reservation"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "204",
+        description = "Reservation released successfully"
+      ),
+      @ApiResponse(responseCode = "404", description = "Reservation not found"),
+    }
+  )
+  public void release(
+    @Parameter(description = "ID of the reservation") @PathVariable String id
+  ) {
+    stockReservationService.release(id);
+  }
+
+  /**
+   * Check out a reservation as a sale.
+   * The stock it holds is available to the sale, and the reservation is
+   * released once the sale is saved.
+   *
+   * @param id The ID of the reservation
+   * @param saleData The data for the new sale
+   * @return The created sale
+   */
+  @PostMapping("/{id}/sale")
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(
+    summary = "Convert a reservation into a sale",
+    description = "Creates a sale using the stock held by a reservation"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "201",
+        description = "Sale created successfully"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid input data or insufficient stock"
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Reservation, customer or employee not found"
+      ),
+    }
+  )
+  public SaleInfo convert(
+    @Parameter(description = "ID of the reservation") @PathVariable String id,
+    @Parameter(
+      description = "Sale data to create",
+      required = true
+    ) @Valid @RequestBody SaleData saleData
+  ) {
+    saleData.setReservationId(id);
+    return saleService.create(saleData);
+  }
+}
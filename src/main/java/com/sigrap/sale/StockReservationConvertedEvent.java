@@ -0,0 +1,34 @@
+package com.sigrap.sale;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event published when a sale is created from a stock reservation.
+ *
+ * <p>{@link SaleService} publishes this event inside the sale transaction;
+ * {@link StockReservationService} releases the reservation once the
+ * transaction has committed, so a rolled back sale keeps its hold.</p>
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockReservationConvertedEvent {
+
+  /**
+   * Identifier of the converted reservation.
+   */
+  private final String reservationId;
+
+  /**
+   * Creates an event for the given reservation.
+   *
+   * @param reservationId Identifier of the converted reservation
+   * @return The event
+   */
+  public static StockReservationConvertedEvent of(String reservationId) {
+    return new StockReservationConvertedEvent(reservationId);
+  }
+}
@@ -0,0 +1,38 @@
+package com.sigrap.sale;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for holding stock for an open cart.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data for creating a stock reservation")
+public class StockReservationData {
+
+  /**
+   * The products and quantities to hold.
+   */
+  @NotEmpty(message = "Reservation must have at least one item")
+  @Valid
+  @Schema(description = "Products and quantities to hold")
+  private List<StockReservationItemData> items;
+
+  /**
+   * How long the hold lasts, in seconds. Uses the configured default when
+   * omitted.
+   */
+  @Positive(message = "TTL must be positive")
+  @Schema(description = "Time to live of the reservation in seconds", example = "900")
+  private Integer ttlSeconds;
+}
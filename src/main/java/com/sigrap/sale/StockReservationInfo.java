@@ -0,0 +1,53 @@
+package com.sigrap.sale;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response object describing an active stock reservation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Active stock reservation")
+public class StockReservationInfo {
+
+  /**
+   * The identifier of the reservation.
+   */
+  @Schema(
+    description = "Identifier of the reservation",
+    example = "6f1c2a9e-3b7d-4f0e-9a51-2c8d7e4b1a30"
+  )
+  private String id;
+
+  /**
+   * The products and quantities held.
+   */
+  @Schema(description = "Products and quantities held")
+  private List<StockReservationItemInfo> items;
+
+  /**
+   * When the reservation was created.
+   */
+  @Schema(
+    description = "Date and time when the reservation was created",
+    example = "2025-03-10T10:15:00"
+  )
+  private LocalDateTime createdAt;
+
+  /**
+   * When the reservation expires unless it is extended or converted.
+   */
+  @Schema(
+    description = "Date and time when the reservation expires",
+    example = "2025-03-10T10:30:00"
+  )
+  private LocalDateTime expiresAt;
+}
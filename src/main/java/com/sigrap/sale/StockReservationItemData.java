@@ -0,0 +1,35 @@
+package com.sigrap.sale;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one product held by a stock reservation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Product quantity to hold")
+public class StockReservationItemData {
+
+  /**
+   * The ID of the product to hold.
+   */
+  @NotNull(message = "Product ID cannot be null")
+  @Schema(description = "ID of the product", example = "1")
+  private Integer productId;
+
+  /**
+   * The quantity of the product to hold.
+   */
+  @NotNull(message = "Quantity cannot be null")
+  @Positive(message = "Quantity must be positive")
+  @Schema(description = "Quantity to hold", example = "2")
+  private Integer quantity;
+}
@@ -0,0 +1,30 @@
+package com.sigrap.sale;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response object for one product held by a stock reservation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Product quantity held by a reservation")
+public class StockReservationItemInfo {
+
+  /**
+   * The ID of the held product.
+   */
+  @Schema(description = "ID of the product", example = "1")
+  private Integer productId;
+
+  /**
+   * The quantity held.
+   */
+  @Schema(description = "Quantity held", example = "2")
+  private Integer quantity;
+}
@@ -0,0 +1,448 @@
+package com.sigrap.sale;
+
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service holding stock for open carts until they are checked out.
+ *
+ * <p>Reservations live in an in-memory table. Three concurrent structures
+ * back it:
+ * <ul>
+ *   <li>the reservations keyed by ID</li>
+ *   <li>the total quantity held per product</li>
+ *   <li>an expiry queue ordered by expiry time, drained by the sweeper</li>
+ * </ul>
+ * There is no global lock: a hold is checked and added in one atomic
+ * per-product update, and a multi-product reservation rolls back the holds
+ * it has already taken when a later product is short.</p>
+ *
+ * <p>The quantity available to sell is the stock on hand minus the quantity
+ * held by active reservations. {@link SaleService} goes through the same
+ * per-product update: each sale line takes a transient hold before it reduces
+ * the stock, not counting the holds of the reservation the sale is created
+ * from, and the hold is dropped once the sale transaction completes. A
+ * reservation is granted against the stock read before its holds are taken,
+ * so the stock is read again afterwards and the reservation is refused if a
+ * sale committed in between left less stock than is now held. Expired
+ * reservations are swept every few seconds, as configured by
+ * {@code app.sale.reservations.sweep-cron}, and before each new reservation
+ * is created.</p>
+ *
+ * <p>The table is local to one application instance and is empty after a
+ * restart, which at worst lets a cart lose its hold.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+  /**
+   * Repository used to read stock on hand.
+   */
+  private final ProductRepository productRepository;
+
+  /**
+   * Time to live of a reservation when the request does not give one.
+   */
+  @Value("${app.sale.reservations.default-ttl-seconds:900}")
+  private int defaultTtlSeconds;
+
+  /**
+   * Longest time to live a reservation may be created or extended with.
+   */
+  @Value("${app.sale.reservations.max-ttl-seconds:3600}")
+  private int maxTtlSeconds;
+
+  private final ConcurrentMap<String, StockReservation> reservations =
+    new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, Integer> held =
+    new ConcurrentHashMap<>();
+  private final ConcurrentSkipListSet<Expiry> expiries =
+    new ConcurrentSkipListSet<>();
+
+  private Clock clock = Clock.systemDefaultZone();
+
+  /**
+   * Holds stock for a cart.
+   * Repeated products are merged into a single line.
+   *
+   * @param reservationData The products, quantities and optional TTL
+   * @return The created reservation
+   * @throws EntityNotFoundException if any product is not found
+   * @throws IllegalArgumentException if any product does not have enough
+   *         stock available, or the TTL exceeds the maximum
+   */
+  public StockReservationInfo create(StockReservationData reservationData) {
+    Duration ttl = ttlOf(reservationData.getTtlSeconds());
+    Map<Integer, Integer> quantities = new LinkedHashMap<>();
+    for (StockReservationItemData item : reservationData.getItems()) {
+      quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+    }
+    Map<Integer, Product> products = productRepository
+      .findAllById(quantities.keySet())
+      .stream()
+      .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    expireDue();
+    Map<Integer, Integer> acquired = new LinkedHashMap<>();
+    for (Map.Entry<Integer, Integer> line : quantities.entrySet()) {
+      Product product = products.get(line.getKey());
+      if (product == null) {
+        releaseHolds(acquired);
+        throw new EntityNotFoundException(
+          "Product not found with ID: " + line.getKey()
+        );
+      }
+      if (!hold(product.getId(), line.getValue(), product.getStock())) {
+        releaseHolds(acquired);
+        throw new IllegalArgumentException(
+          "Insufficient stock for product: " + product.getName()
+        );
+      }
+      acquired.put(line.getKey(), line.getValue());
+    }
+    confirmHolds(acquired, products);
+
+    LocalDateTime now = LocalDateTime.now(clock);
+    StockReservation reservation = new StockReservation(
+      UUID.randomUUID().toString(),
+      quantities,
+      now,
+      now.plus(ttl)
+    );
+    reservations.put(reservation.getId(), reservation);
+    expiries.add(new Expiry(reservation.getExpiresAt(), reservation.getId()));
+    return toInfo(reservation);
+  }
+
+  /**
+   * Finds an active reservation.
+   *
+   * @param id The ID of the reservation
+   * @return The reservation
+   * @throws EntityNotFoundException if the reservation does not exist or has
+   *         expired
+   */
+  public StockReservationInfo findById(String id) {
+    return toInfo(active(id));
+  }
+
+  /**
+   * Restarts the time to live of an active reservation from now.
+   *
+   * @param id The ID of the reservation
+   * @param ttlSeconds The new time to live in seconds, or null for the default
+   * @return The extended reservation
+   * @throws EntityNotFoundException if the reservation does not exist or has
+   *         expired
+   * @throws IllegalArgumentException if the TTL is not positive or exceeds
+   *         the maximum
+   */
+  public StockReservationInfo extend(String id, Integer ttlSeconds) {
+    Duration ttl = ttlOf(ttlSeconds);
+    LocalDateTime now = LocalDateTime.now(clock);
+    StockReservation current = active(id);
+    StockReservation extended = reservations.computeIfPresent(
+      id,
+      (key, reservation) ->
+        reservation.isExpired(now)
+          ? reservation
+          : reservation.withExpiresAt(now.plus(ttl))
+    );
+    if (extended == null || extended.isExpired(now)) {
+      throw notFound(id);
+    }
+    expiries.add(new Expiry(extended.getExpiresAt(), id));
+    expiries.remove(new Expiry(current.getExpiresAt(), id));
+    return toInfo(extended);
+  }
+
+  /**
+   * Releases a reservation and its holds.
+   *
+   * @param id The ID of the reservation
+   * @throws EntityNotFoundException if the reservation does not exist
+   */
+  public void release(String id) {
+    StockReservation reservation = reservations.remove(id);
+    if (reservation == null) {
+      throw notFound(id);
+    }
+    releaseHolds(reservation.getQuantities());
+    expiries.remove(new Expiry(reservation.getExpiresAt(), id));
+  }
+
+  /**
+   * Computes the quantity available to sell of the given products.
+   *
+   * @param productIds IDs of the products
+   * @return Stock, held and available quantities, ordered by product ID
+   */
+  public List<StockAvailabilityInfo> findAvailability(
+    Collection<Integer> productIds
+  ) {
+    return productRepository
+      .findAllById(productIds)
+      .stream()
+      .sorted(Comparator.comparing(Product::getId))
+      .map(product -> {
+        int reserved = held.getOrDefault(product.getId(), 0);
+        return StockAvailabilityInfo.builder()
+          .productId(product.getId())
+          .productName(product.getName())
+          .stock(product.getStock())
+          .reserved(reserved)
+          .available(Math.max(0, product.getStock() - reserved))
+          .build();
+      })
+      .toList();
+  }
+
+  /**
+   * Holds stock for a sale line until the current transaction completes.
+   * The holds of the reservation the sale is created from are not counted
+   * against it.
+   *
+   * @param product The product sold, with its stock before the sale
+   * @param quantity The quantity sold
+   * @param reservationId The reservation being checked out, or null
+   * @throws IllegalArgumentException if the product does not have enough
+   *         stock available
+   * @throws IllegalStateException if no transaction is active
+   */
+  public void holdForSale(Product product, int quantity, String reservationId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Sale holds require a transaction");
+    }
+    StockReservation own = reservationId == null
+      ? null
+      : reservations.get(reservationId);
+    int ownQuantity = own == null ? 0 : own.quantityOf(product.getId());
+    if (!hold(product.getId(), quantity, product.getStock() + ownQuantity)) {
+      throw new IllegalArgumentException(
+        "Insufficient stock for product: " + product.getName()
+      );
+    }
+    Map<Integer, Integer> saleHold = Map.of(product.getId(), quantity);
+    TransactionSynchronizationManager.registerSynchronization(
+      new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          releaseHolds(saleHold);
+        }
+      }
+    );
+  }
+
+  /**
+   * Checks that a reservation exists and has not expired.
+   *
+   * @param id The ID of the reservation
+   * @throws EntityNotFoundException if the reservation does not exist or has
+   *         expired
+   */
+  public void requireActive(String id) {
+    active(id);
+  }
+
+  /**
+   * Removes a reservation once the sale created from it has committed.
+   * Its holds are released at the same time as the sale reduces the stock.
+   *
+   * @param event The conversion notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  public void onReservationConverted(StockReservationConvertedEvent event) {
+    StockReservation reservation = reservations.remove(
+      event.getReservationId()
+    );
+    if (reservation != null) {
+      releaseHolds(reservation.getQuantities());
+      expiries.remove(
+        new Expiry(reservation.getExpiresAt(), reservation.getId())
+      );
+    }
+  }
+
+  /**
+   * Releases every reservation whose time to live has run out.
+   *
+   * @return The number of reservations expired
+   */
+  @Scheduled(cron = "${app.sale.reservations.sweep-cron:*/5 * * * * *}")
+  public int expireDue() {
+    LocalDateTime now = LocalDateTime.now(clock);
+    int expired = 0;
+    Expiry due;
+    while ((due = expiries.pollFirst()) != null) {
+      if (due.expiresAt.isAfter(now)) {
+        expiries.add(due);
+        break;
+      }
+      StockReservation reservation = reservations.get(due.reservationId);
+      if (
+        reservation != null &&
+        reservation.isExpired(now) &&
+        reservations.remove(due.reservationId, reservation)
+      ) {
+        releaseHolds(reservation.getQuantities());
+        expired++;
+      }
+    }
+    if (expired > 0) {
+      log.debug("Expired {} stock reservations", expired);
+    }
+    return expired;
+  }
+
+  private StockReservation active(String id) {
+    StockReservation reservation = reservations.get(id);
+    if (reservation == null || reservation.isExpired(LocalDateTime.now(clock))) {
+      throw notFound(id);
+    }
+    return reservation;
+  }
+
+  private boolean hold(Integer productId, int quantity, int stock) {
+    boolean[] granted = { false };
+    held.compute(productId, (key, current) -> {
+      int alreadyHeld = current == null ? 0 : current;
+      if (stock - alreadyHeld < quantity) {
+        return current;
+      }
+      granted[0] = true;
+      return alreadyHeld + quantity;
+    });
+    return granted[0];
+  }
+
+  private void confirmHolds(
+    Map<Integer, Integer> acquired,
+    Map<Integer, Product> products
+  ) {
+    Map<Integer, Integer> stock = productRepository
+      .findAllById(acquired.keySet())
+      .stream()
+      .collect(Collectors.toMap(Product::getId, Product::getStock));
+    for (Integer productId : acquired.keySet()) {
+      if (held.getOrDefault(productId, 0) > stock.getOrDefault(productId, 0)) {
+        releaseHolds(acquired);
+        throw new IllegalArgumentException(
+          "Insufficient stock for product: " + products.get(productId).getName()
+        );
+      }
+    }
+  }
+
+  private void releaseHolds(Map<Integer, Integer> quantities) {
+    quantities.forEach((productId, quantity) ->
+      held.computeIfPresent(productId, (key, current) ->
+        current > quantity ? current - quantity : null
+      )
+    );
+  }
+
+  private Duration ttlOf(Integer ttlSeconds) {
+    int seconds = ttlSeconds == null ? defaultTtlSeconds : ttlSeconds;
+    if (seconds <= 0 || seconds > maxTtlSeconds) {
+      throw new IllegalArgumentException(
+        "Reservation TTL must be between 1 and " + maxTtlSeconds + " seconds"
+      );
+    }
+    return Duration.ofSeconds(seconds);
+  }
+
+  private static EntityNotFoundException notFound(String id) {
+    return new EntityNotFoundException(
+      "Reservation not found or expired: " + id
+    );
+  }
+
+  private static StockReservationInfo toInfo(StockReservation reservation) {
+    List<StockReservationItemInfo> items = new ArrayList<>();
+    reservation
+      .getQuantities()
+      .entrySet()
+      .stream()
+      .sorted(Map.Entry.comparingByKey())
+      .forEach(line ->
+        items.add(
+          StockReservationItemInfo.builder()
+            .productId(line.getKey())
+            .quantity(line.getValue())
+            .build()
+        )
+      );
+    return StockReservationInfo.builder()
+      .id(reservation.getId())
+      .items(items)
+      .createdAt(reservation.getCreatedAt())
+      .expiresAt(reservation.getExpiresAt())
+      .build();
+  }
+
+  /**
+   * Entry of the expiry queue, ordered by expiry time and then by ID.
+   */
+  private static final class Expiry implements Comparable<Expiry> {
+
+    private final LocalDateTime expiresAt;
+    private final String reservationId;
+
+    private Expiry(LocalDateTime expiresAt, String reservationId) {
+      this.expiresAt = expiresAt;
+      this.reservationId = reservationId;
+    }
+
+    @Override
+    public int compareTo(Expiry other) {
+      int byTime = expiresAt.compareTo(other.expiresAt);
+      return byTime != 0
+        ? byTime
+        : reservationId.compareTo(other.reservationId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return (
+        other instanceof Expiry expiry &&
+        expiresAt.equals(expiry.expiresAt) &&
+        reservationId.equals(expiry.reservationId)
+      );
+    }
+
+    @Override
+    public int hashCode() {
+      return expiresAt.hashCode() * 31 + reservationId.hashCode();
+    }
+  }
+}
@@ -9,29 +9,54 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 /**
  * Entity class representing a purchase order to a supplier.
  * Purchase orders are used to track orders placed with suppliers.
+ *
+ * <p>The composite indexes serve the filtered order listing: by supplier,
+ * status and creation date, by status and creation date, and by expected
+ * delivery date.</p>
  */
 @Entity
-@Table(name = "purchase_orders")
+@Table(
+  name = "purchase_orders",
+  indexes = {
+    @Index(
+      name = "idx_purchase_orders_supplier_status_created",
+      columnList = "supplier_id, status, created_at"
+    ),
+    @Index(
+      name = "idx_purchase_orders_status_created",
+      columnList = "status, created_at"
+    ),
+    @Index(
+      name = "idx_purchase_orders_delivery_date",
+      columnList = "delivery_date"
+    ),
+  }
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -87,6 +112,48 @@ public class PurchaseOrder {
   @Builder.Default
   private List<PurchaseOrderItem> items = new ArrayList<>();
 
+  /**
+   * Timestamp of when the order was submitted to the supplier.
+   * Set on the transition to SUBMITTED.
+   */
+  @Column(name = "submitted_at")
+  private LocalDateTime submittedAt;
+
+  /**
+   * Timestamp of when the order was confirmed by the supplier.
+   * Set on the transition to CONFIRMED.
+   */
+  @Column(name = "confirmed_at")
+  private LocalDateTime confirmedAt;
+
+  /**
+   * Timestamp of when the order was shipped by the supplier.
+   * Set on the transition to SHIPPED.
+   */
+  @Column(name = "shipped_at")
+  private LocalDateTime shippedAt;
+
+  /**
+   * Timestamp of when the order was received in full.
+   * Set on the transition to DELIVERED.
+   */
+  @Column(name = "delivered_at")
+  private LocalDateTime deliveredAt;
+
+  /**
+   * Timestamp of when the order was cancelled.
+   * Set on the transition to CANCELLED.
+   */
+  @Column(name = "cancelled_at")
+  private LocalDateTime cancelledAt;
+
+  /**
+   * Timestamp of when the order was paid.
+   * Set on the transition to PAID.
+   */
+  @Column(name = "paid_at")
+  private LocalDateTime paidAt;
+
   /**
    * Timestamp of when the purchase order was created.
    * Automatically set during entity creation.
@@ -103,6 +170,16 @@ public class PurchaseOrder {
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
 
+  /**
+   * Version used for optimistic locking.
+   * Incremented on every update, so a write based on a stale copy of the
+   * purchase order fails instead of overwriting a concurrent change.
+   */
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
+
   /**
    * Helper method to add an item to this purchase order.
    *
@@ -126,4 +203,23 @@ public class PurchaseOrder {
     item.setPurchaseOrder(null);
     return this;
   }
+
+  /**
+   * Helper method to remove every item whose ID is not in the given set,
+   * in a single pass over the items.
+   *
+   * @param itemIds IDs of the items to keep
+   * @return This purchase order instance for method chaining
+   */
+  public PurchaseOrder retainItems(Set<Integer> itemIds) {
+    Iterator<PurchaseOrderItem> iterator = items.iterator();
+    while (iterator.hasNext()) {
+      PurchaseOrderItem item = iterator.next();
+      if (!itemIds.contains(item.getId())) {
+        iterator.remove();
+        item.setPurchaseOrder(null);
+      }
+    }
+    return this;
+  }
 }
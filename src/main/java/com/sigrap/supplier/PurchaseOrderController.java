@@ -3,8 +3,15 @@ package com.sigrap.supplier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,6 +21,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -31,16 +39,55 @@ import org.springframework.web.bind.annotation.RestController;
 public class PurchaseOrderController {
 
   private final PurchaseOrderService purchaseOrderService;
+  private final ReplenishmentService replenishmentService;
 
   /**
-   * Gets all purchase orders.
+   * Gets a page of purchase orders, optionally filtered.
+   * All filters are optional and combined; date ranges are inclusive.
    *
-   * @return List of purchase orders
+   * @param status Statuses to include
+   * @param supplierId The ID of the supplier
+   * @param createdFrom First creation day to include
+   * @param createdTo Last creation day to include
+   * @param deliveryFrom First delivery day to include
+   * @param deliveryTo Last delivery day to include
+   * @param minAmount Minimum total amount
+   * @param maxAmount Maximum total amount
+   * @param pageable Page number, size and sort order
+   * @return Page of purchase orders
    */
   @GetMapping
-  @Operation(summary = "Get all purchase orders")
-  public List<PurchaseOrderInfo> findAll() {
-    return purchaseOrderService.findAll();
+  @Operation(summary = "Get a page of purchase orders")
+  public Page<PurchaseOrderInfo> findAll(
+    @RequestParam(required = false) List<PurchaseOrderStatus> status,
+    @RequestParam(required = false) Long supplierId,
+    @RequestParam(required = false) @DateTimeFormat(
+      iso = DateTimeFormat.ISO.DATE
+    ) LocalDate createdFrom,
+    @RequestParam(required = false) @DateTimeFormat(
+      iso = DateTimeFormat.ISO.DATE
+    ) LocalDate createdTo,
+    @RequestParam(required = false) @DateTimeFormat(
+      iso = DateTimeFormat.ISO.DATE
+    ) LocalDate deliveryFrom,
+    @RequestParam(required = false) @DateTimeFormat(
+      iso = DateTimeFormat.ISO.DATE
+    ) LocalDate deliveryTo,
+    @RequestParam(required = false) BigDecimal minAmount,
+    @RequestParam(required = false) BigDecimal maxAmount,
+    @PageableDefault(size = 20, sort = "id") Pageable pageable
+  ) {
+    PurchaseOrderFilter filter = PurchaseOrderFilter.builder()
+      .statuses(status == null ? null : new HashSet<>(status))
+      .supplierId(supplierId)
+      .createdFrom(createdFrom)
+      .createdTo(createdTo)
+      .deliveryFrom(deliveryFrom)
+      .deliveryTo(deliveryTo)
+      .minAmount(minAmount)
+      .maxAmount(maxAmount)
+      .build();
+    return purchaseOrderService.findAll(filter, pageable);
   }
 
   /**
@@ -56,46 +103,43 @@ public class PurchaseOrderController {
   }
 
   /**
-   * Gets all purchase orders for a specific supplier.
+   * Creates a new purchase order.
    *
-   * @param supplierId The ID of the supplier
-   * @return List of purchase orders for the supplier
+   * @param purchaseOrderData The data for creating the purchase order
+   * @return The created purchase order
    */
-  @GetMapping("/by-supplier/{supplierId}")
-  @Operation(summary = "Get all purchase orders for a specific supplier")
-  public List<PurchaseOrderInfo> findBySupplierId(
-    @PathVariable Integer supplierId
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Create a new purchase order")
+  public PurchaseOrderInfo create(
+    @Valid @RequestBody PurchaseOrderData purchaseOrderData
   ) {
-    return purchaseOrderService.findBySupplierId(supplierId);
+    return purchaseOrderService.create(purchaseOrderData);
   }
 
   /**
-   * Gets all purchase orders with a specific status.
+   * Creates draft purchase orders for every product running low.
    *
-   * @param status The status to filter by
-   * @return List of purchase orders with the specified status
+   * @return The summary of the replenishment run
    */
-  @GetMapping("/by-status/{status}")
-  @Operation(summary = "Get all purchase orders with a specific status")
-  public List<PurchaseOrderInfo> findByStatus(
-    @PathVariable PurchaseOrderStatus status
-  ) {
-    return purchaseOrderService.findByStatus(status);
+  @PostMapping("/replenish")
+  @Operation(summary = "Create draft purchase orders for low stock products")
+  public ReplenishmentInfo replenish() {
+    return replenishmentService.run();
   }
 
   /**
-   * Creates a new purchase order.
+   * Moves many purchase orders to the same status at once.
    *
-   * @param purchaseOrderData The data for creating the purchase order
-   * @return The created purchase order
+   * @param transitionData The IDs of the orders and the target status
+   * @return The outcome for each requested order
    */
-  @PostMapping
-  @ResponseStatus(HttpStatus.CREATED)
-  @Operation(summary = "Create a new purchase order")
-  public PurchaseOrderInfo create(
-    @Valid @RequestBody PurchaseOrderData purchaseOrderData
+  @PatchMapping("/status")
+  @Operation(summary = "Change the status of many purchase orders")
+  public PurchaseOrderTransitionInfo transitionAll(
+    @Valid @RequestBody PurchaseOrderTransitionData transitionData
   ) {
-    return purchaseOrderService.create(purchaseOrderData);
+    return purchaseOrderService.transitionAll(transitionData);
   }
 
   /**
@@ -174,6 +218,22 @@ public class PurchaseOrderController {
     return purchaseOrderService.markAsDelivered(id);
   }
 
+  /**
+   * Receives a full or partial delivery of a purchase order.
+   *
+   * @param id The ID of the purchase order
+   * @param receiptData The items and quantities received
+   * @return The updated purchase order
+   */
+  @PostMapping("/{id}/receive")
+  @Operation(summary = "Receive a delivery of a purchase order")
+  public PurchaseOrderInfo receive(
+    @PathVariable Integer id,
+    @Valid @RequestBody PurchaseOrderReceiptData receiptData
+  ) {
+    return purchaseOrderService.receive(id, receiptData);
+  }
+
   /**
    * Updates the status of a purchase order to CANCELLED.
    *
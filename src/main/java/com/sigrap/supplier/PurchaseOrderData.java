@@ -87,4 +87,14 @@ public class PurchaseOrderData {
   @Valid
   @Schema(description = "List of items in this order")
   private List<PurchaseOrderItemData> items;
+
+  /**
+   * Version of the order the update is based on, as last read by the client.
+   * When given, the update is rejected if the order has changed since.
+   */
+  @Schema(
+    description = "Version the update is based on, to detect conflicts",
+    example = "3"
+  )
+  private Long version;
 }
@@ -0,0 +1,64 @@
+package com.sigrap.supplier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional criteria for filtering the paginated purchase order listing.
+ * Null or empty fields are ignored; all other criteria must match. Date
+ * ranges are inclusive on both ends.
+ *
+ * @see PurchaseOrderSpecifications
+ * @see PurchaseOrderService#findAll(PurchaseOrderFilter, org.springframework.data.domain.Pageable)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurchaseOrderFilter {
+
+  /**
+   * Only orders in any of these statuses.
+   */
+  private Set<PurchaseOrderStatus> statuses;
+
+  /**
+   * Only orders placed with this supplier.
+   */
+  private Long supplierId;
+
+  /**
+   * Only orders created on or after this day.
+   */
+  private LocalDate createdFrom;
+
+  /**
+   * Only orders created on or before this day.
+   */
+  private LocalDate createdTo;
+
+  /**
+   * Only orders expected on or after this day.
+   */
+  private LocalDate deliveryFrom;
+
+  /**
+   * Only orders expected on or before this day.
+   */
+  private LocalDate deliveryTo;
+
+  /**
+   * Only orders with a total amount greater than or equal to this value.
+   */
+  private BigDecimal minAmount;
+
+  /**
+   * Only orders with a total amount less than or equal to this value.
+   */
+  private BigDecimal maxAmount;
+}
@@ -82,6 +82,60 @@ public class PurchaseOrderInfo {
   @Schema(description = "List of items in this order")
   private List<PurchaseOrderItemInfo> items;
 
+  /**
+   * The timestamp when the order was submitted to the supplier, if it has been.
+   */
+  @Schema(
+    description = "Timestamp when the order was submitted to the supplier",
+    example = "2023-05-15T11:00:00"
+  )
+  private LocalDateTime submittedAt;
+
+  /**
+   * The timestamp when the order was confirmed by the supplier, if it has been.
+   */
+  @Schema(
+    description = "Timestamp when the order was confirmed by the supplier",
+    example = "2023-05-15T16:20:00"
+  )
+  private LocalDateTime confirmedAt;
+
+  /**
+   * The timestamp when the order was shipped by the supplier, if it has been.
+   */
+  @Schema(
+    description = "Timestamp when the order was shipped by the supplier",
+    example = "2023-05-18T09:10:00"
+  )
+  private LocalDateTime shippedAt;
+
+  /**
+   * The timestamp when the order was received in full, if it has been.
+   */
+  @Schema(
+    description = "Timestamp when the order was received in full",
+    example = "2023-05-22T15:40:00"
+  )
+  private LocalDateTime deliveredAt;
+
+  /**
+   * The timestamp when the order was cancelled, if it has been.
+   */
+  @Schema(
+    description = "Timestamp when the order was cancelled",
+    example = "2023-05-16T08:00:00"
+  )
+  private LocalDateTime cancelledAt;
+
+  /**
+   * The timestamp when the order was paid, if it has been.
+   */
+  @Schema(
+    description = "Timestamp when the order was paid",
+    example = "2023-05-30T12:00:00"
+  )
+  private LocalDateTime paidAt;
+
   /**
    * The timestamp when the order was created.
    */
@@ -99,4 +153,10 @@ public class PurchaseOrderInfo {
     example = "2023-05-16T14:45:00"
   )
   private LocalDateTime updatedAt;
+
+  /**
+   * Version of the order, sent back on update to detect concurrent changes.
+   */
+  @Schema(description = "Version of the order", example = "3")
+  private Long version;
 }
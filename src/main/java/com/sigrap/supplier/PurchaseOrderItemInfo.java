@@ -1,6 +1,6 @@
 package com.sigrap.supplier;
 
-import com.sigrap.product.ProductInfo;
+import com.sigrap.product.ProductSummaryInfo;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,7 +31,7 @@ import lombok.NoArgsConstructor;
  *
  * @see PurchaseOrderItem
  * @see PurchaseOrderInfo
- * @see ProductInfo
+ * @see ProductSummaryInfo
  */
 @Data
 @Builder
@@ -64,7 +64,7 @@ public class PurchaseOrderItemInfo {
    * Information about the product being ordered.
    */
   @Schema(description = "Information about the product being ordered")
-  private ProductInfo product;
+  private ProductSummaryInfo product;
 
   /**
    * The quantity of the product ordered.
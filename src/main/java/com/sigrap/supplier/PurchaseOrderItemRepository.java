@@ -1,7 +1,10 @@
 package com.sigrap.supplier;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -26,4 +29,93 @@ public interface PurchaseOrderItemRepository
    * @return list of purchase order items
    */
   List<PurchaseOrderItem> findByProduct_Id(Integer productId);
+
+  /**
+   * Find the products still awaited on orders in the given statuses, that is
+   * with an item not yet received in full.
+   *
+   * @param statuses the statuses of the orders to consider
+   * @return IDs of the awaited products
+   */
+  @Query(
+    "SELECT DISTINCT i.product.id FROM PurchaseOrderItem i " +
+    "WHERE i.purchaseOrder.status IN :statuses " +
+    "AND i.receivedQuantity < i.quantity"
+  )
+  List<Integer> findAwaitedProductIds(
+    @Param("statuses") Collection<PurchaseOrderStatus> statuses
+  );
+
+  /**
+   * Find the supplier each of the given products was last ordered from,
+   * without loading the items themselves. Cancelled orders are left out.
+   * The last order is the one created most recently; among orders created
+   * at the same time, the one with the highest ID wins, so each product gets
+   * at most one row.
+   *
+   * @param productIds the IDs of the products
+   * @return rows of [productId, supplierId]
+   */
+  @Query(
+    "SELECT DISTINCT i.product.id, po.supplier.id FROM PurchaseOrderItem i " +
+    "JOIN i.purchaseOrder po " +
+    "WHERE i.product.id IN :productIds " +
+    "AND po.id = (" +
+    "SELECT MAX(latest.id) FROM PurchaseOrderItem latestItem " +
+    "JOIN latestItem.purchaseOrder latest " +
+    "WHERE latestItem.product = i.product " +
+    "AND latest.status <> com.sigrap.supplier.PurchaseOrderStatus.CANCELLED " +
+    "AND latest.createdAt = (" +
+    "SELECT MAX(newest.createdAt) FROM PurchaseOrderItem newestItem " +
+    "JOIN newestItem.purchaseOrder newest " +
+    "WHERE newestItem.product = i.product " +
+    "AND newest.status <> com.sigrap.supplier.PurchaseOrderStatus.CANCELLED" +
+    "))"
+  )
+  List<Object[]> findLatestSuppliers(
+    @Param("productIds") Collection<Integer> productIds
+  );
+
+  /**
+   * Find the products that have had goods received, from orders delivered
+   * in full or in part.
+   *
+   * @return IDs of the received products
+   */
+  @Query(
+    "SELECT DISTINCT i.product.id FROM PurchaseOrderItem i " +
+    "JOIN i.purchaseOrder po " +
+    "WHERE po.status IN (" +
+    "com.sigrap.supplier.PurchaseOrderStatus.DELIVERED, " +
+    "com.sigrap.supplier.PurchaseOrderStatus.PAID) " +
+    "OR i.receivedQuantity > 0"
+  )
+  List<Integer> findReceivedProductIds();
+
+  /**
+   * Find the goods received for the given products, without loading the
+   * items themselves. Items of delivered and paid orders count as received
+   * in full, including those delivered before received quantities were
+   * recorded. The receipt time is the delivery time of the order, or its
+   * last update while it is still partially received.
+   *
+   * @param productIds the IDs of the products
+   * @return rows of [productId, purchaseOrderId, receivedAt, quantity,
+   *         unitPrice]
+   */
+  @Query(
+    "SELECT i.product.id, po.id, COALESCE(po.deliveredAt, po.updatedAt), " +
+    "CASE WHEN po.status IN (" +
+    "com.sigrap.supplier.PurchaseOrderStatus.DELIVERED, " +
+    "com.sigrap.supplier.PurchaseOrderStatus.PAID) " +
+    "THEN i.quantity ELSE i.receivedQuantity END, i.unitPrice " +
+    "FROM PurchaseOrderItem i JOIN i.purchaseOrder po " +
+    "WHERE i.product.id IN :productIds AND (po.status IN (" +
+    "com.sigrap.supplier.PurchaseOrderStatus.DELIVERED, " +
+    "com.sigrap.supplier.PurchaseOrderStatus.PAID) " +
+    "OR i.receivedQuantity > 0)"
+  )
+  List<Object[]> findReceipts(
+    @Param("productIds") Collection<Integer> productIds
+  );
 }
@@ -49,6 +49,13 @@ public interface PurchaseOrderMapper {
   @Mapping(target = "items", ignore = true)
   @Mapping(target = "totalAmount", ignore = true)
   @Mapping(target = "status", constant = "DRAFT")
+  @Mapping(target = "submittedAt", ignore = true)
+  @Mapping(target = "confirmedAt", ignore = true)
+  @Mapping(target = "shippedAt", ignore = true)
+  @Mapping(target = "deliveredAt", ignore = true)
+  @Mapping(target = "cancelledAt", ignore = true)
+  @Mapping(target = "paidAt", ignore = true)
+  @Mapping(target = "version", ignore = true)
   PurchaseOrder toEntity(PurchaseOrderData purchaseOrderData);
 
   /**
@@ -64,6 +71,14 @@ public interface PurchaseOrderMapper {
   @Mapping(target = "totalAmount", ignore = true)
   @Mapping(target = "status", ignore = true)
   @Mapping(target = "removeItem", ignore = true)
+  @Mapping(target = "retainItems", ignore = true)
+  @Mapping(target = "submittedAt", ignore = true)
+  @Mapping(target = "confirmedAt", ignore = true)
+  @Mapping(target = "shippedAt", ignore = true)
+  @Mapping(target = "deliveredAt", ignore = true)
+  @Mapping(target = "cancelledAt", ignore = true)
+  @Mapping(target = "paidAt", ignore = true)
+  @Mapping(target = "version", ignore = true)
   void updateEntityFromData(
     PurchaseOrderData purchaseOrderData,
     @MappingTarget PurchaseOrder purchaseOrder
@@ -0,0 +1,43 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for receiving a supplier delivery.
+ * A delivery may cover only part of a purchase order; the order is marked as
+ * delivered once every item has been received in full.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * PurchaseOrderReceiptData receipt = PurchaseOrderReceiptData.builder()
+ *     .items(List.of(
+ *         PurchaseOrderReceiptItemData.builder().itemId(1).quantity(5).build()
+ *     ))
+ *     .build();
+ * </pre></p>
+ *
+ * @see PurchaseOrderService#receive(Integer, PurchaseOrderReceiptData)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data transfer object for receiving a delivery")
+public class PurchaseOrderReceiptData {
+
+  /**
+   * The items received and their quantities.
+   * Lines for the same item are added together.
+   */
+  @NotEmpty(message = "Receipt must have at least one item")
+  @Valid
+  @Schema(description = "Items received and their quantities")
+  private List<PurchaseOrderReceiptItemData> items;
+}
@@ -0,0 +1,44 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for one line of a purchase order delivery.
+ * Records how many units of an ordered item arrived in this delivery.
+ *
+ * <p>Validation Rules:
+ * <ul>
+ *   <li>Item ID must not be null</li>
+ *   <li>Quantity must be positive</li>
+ * </ul></p>
+ *
+ * @see PurchaseOrderReceiptData
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Quantity of a purchase order item received")
+public class PurchaseOrderReceiptItemData {
+
+  /**
+   * The ID of the purchase order item received.
+   */
+  @NotNull(message = "Item ID cannot be null")
+  @Schema(description = "ID of the purchase order item", example = "1")
+  private Integer itemId;
+
+  /**
+   * The quantity received in this delivery.
+   */
+  @NotNull(message = "Quantity cannot be null")
+  @Positive(message = "Quantity must be positive")
+  @Schema(description = "Quantity received in this delivery", example = "5")
+  private Integer quantity;
+}
@@ -1,8 +1,17 @@
 package com.sigrap.supplier;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -11,38 +20,110 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface PurchaseOrderRepository
-  extends JpaRepository<PurchaseOrder, Integer> {
+  extends
+    JpaRepository<PurchaseOrder, Integer>,
+    JpaSpecificationExecutor<PurchaseOrder> {
   /**
-   * Find all purchase orders for a specific supplier.
+   * Find all purchase orders created between the specified times.
    *
-   * @param supplierId the ID of the supplier
+   * @param start the start time (inclusive)
+   * @param end the end time (inclusive)
    * @return list of purchase orders
    */
-  List<PurchaseOrder> findBySupplier_Id(Integer supplierId);
+  List<PurchaseOrder> findByCreatedAtBetween(
+    LocalDateTime start,
+    LocalDateTime end
+  );
 
   /**
-   * Find all purchase orders with a specific status.
+   * Find purchase orders by ID together with their items and the items'
+   * products, in a single query. Used to initialize a page of orders after
+   * the page itself has been selected, since fetching a collection in the
+   * paged query would make Hibernate paginate in memory.
    *
-   * @param status the status to filter by
-   * @return list of purchase orders
+   * @param ids the IDs of the purchase orders
+   * @return the purchase orders with their items initialized
    */
-  List<PurchaseOrder> findByStatus(PurchaseOrderStatus status);
+  @Query(
+    "SELECT DISTINCT po FROM PurchaseOrder po " +
+    "LEFT JOIN FETCH po.items i LEFT JOIN FETCH i.product " +
+    "WHERE po.id IN :ids"
+  )
+  List<PurchaseOrder> findWithItemsByIdIn(
+    @Param("ids") Collection<Integer> ids
+  );
 
   /**
-   * Find all purchase orders created between the specified dates.
+   * Find all purchase orders with an expected delivery date between the specified dates.
    *
    * @param start the start date (inclusive)
    * @param end the end date (inclusive)
    * @return list of purchase orders
    */
-  List<PurchaseOrder> findByCreatedAtBetween(LocalDate start, LocalDate end);
+  List<PurchaseOrder> findByDeliveryDateBetween(LocalDate start, LocalDate end);
 
   /**
-   * Find all purchase orders with an expected delivery date between the specified dates.
+   * Find a purchase order and lock its row until the current transaction
+   * ends, so that concurrent deliveries of the same order are applied one
+   * after the other.
    *
-   * @param start the start date (inclusive)
-   * @param end the end date (inclusive)
-   * @return list of purchase orders
+   * @param id the ID of the purchase order
+   * @return the locked purchase order, if found
    */
-  List<PurchaseOrder> findByDeliveryDateBetween(LocalDate start, LocalDate end);
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT po FROM PurchaseOrder po WHERE po.id = :id")
+  Optional<PurchaseOrder> findByIdForUpdate(@Param("id") Integer id);
+
+  /**
+   * Find purchase orders by ID and lock their rows until the current
+   * transaction ends, so that their statuses cannot change while a bulk
+   * transition is validated and applied.
+   *
+   * @param ids the IDs of the purchase orders
+   * @return the locked purchase orders found
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT po FROM PurchaseOrder po WHERE po.id IN :ids")
+  List<PurchaseOrder> findAllByIdForUpdate(
+    @Param("ids") Collection<Integer> ids
+  );
+
+  /**
+   * Moves every given purchase order that is in one of the source statuses to
+   * the target status in a single statement, stamping the timestamp of the
+   * target status and incrementing the version of each order changed.
+   *
+   * @param ids the IDs of the purchase orders
+   * @param sources the statuses the orders may be changed from
+   * @param target the status to change the orders to
+   * @param now the timestamp of the change
+   * @return the number of orders changed
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+    "UPDATE PurchaseOrder po SET po.status = :target, po.updatedAt = :now, " +
+    "po.version = po.version + 1, " +
+    "po.submittedAt = CASE WHEN :target = " +
+    "com.sigrap.supplier.PurchaseOrderStatus.SUBMITTED " +
+    "THEN :now ELSE po.submittedAt END, " +
+    "po.confirmedAt = CASE WHEN :target = " +
+    "com.sigrap.supplier.PurchaseOrderStatus.CONFIRMED " +
+    "THEN :now ELSE po.confirmedAt END, " +
+    "po.shippedAt = CASE WHEN :target = " +
+    "com.sigrap.supplier.PurchaseOrderStatus.SHIPPED " +
+    "THEN :now ELSE po.shippedAt END, " +
+    "po.cancelledAt = CASE WHEN :target = " +
+    "com.sigrap.supplier.PurchaseOrderStatus.CANCELLED " +
+    "THEN :now ELSE po.cancelledAt END, " +
+    "po.paidAt = CASE WHEN :target = " +
+    "com.sigrap.supplier.PurchaseOrderStatus.PAID " +
+    "THEN :now ELSE po.paidAt END " +
+    "WHERE po.id IN :ids AND po.status IN :sources"
+  )
+  int updateStatus(
+    @Param("ids") Collection<Integer> ids,
+    @Param("sources") Collection<PurchaseOrderStatus> sources,
+    @Param("target") PurchaseOrderStatus target,
+    @Param("now") LocalDateTime now
+  );
 }
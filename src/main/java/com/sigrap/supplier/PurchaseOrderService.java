@@ -1,13 +1,29 @@
 package com.sigrap.supplier;
 
 import com.sigrap.audit.Auditable;
+import com.sigrap.common.RetryOnConflict;
+import com.sigrap.common.StaleVersionException;
+import com.sigrap.inventory.ProductCostService;
 import com.sigrap.product.Product;
+import com.sigrap.product.ProductChangedEvent;
 import com.sigrap.product.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +36,29 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PurchaseOrderService {
 
+  /**
+   * Statuses each bulk transition target may be reached from, matching the
+   * single-order transitions. DELIVERED is left out because deliveries add
+   * stock and are received order by order.
+   */
+  private static final Map<
+    PurchaseOrderStatus,
+    Set<PurchaseOrderStatus>
+  > BULK_TRANSITIONS = Map.of(
+    PurchaseOrderStatus.SUBMITTED,
+    EnumSet.of(PurchaseOrderStatus.DRAFT),
+    PurchaseOrderStatus.CONFIRMED,
+    EnumSet.of(PurchaseOrderStatus.SUBMITTED),
+    PurchaseOrderStatus.SHIPPED,
+    EnumSet.of(PurchaseOrderStatus.CONFIRMED, PurchaseOrderStatus.IN_PROCESS),
+    PurchaseOrderStatus.PAID,
+    EnumSet.of(PurchaseOrderStatus.DELIVERED),
+    PurchaseOrderStatus.CANCELLED,
+    EnumSet.complementOf(
+      EnumSet.of(PurchaseOrderStatus.DELIVERED, PurchaseOrderStatus.CANCELLED)
+    )
+  );
+
   /**
    * Repository for database operations on purchase orders.
    */
@@ -51,17 +90,47 @@ public class PurchaseOrderService {
   private final PurchaseOrderItemMapper purchaseOrderItemMapper;
 
   /**
-   * Retrieves all purchase orders from the database.
+   * Publisher used to notify stock changes once deliveries are received.
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Service keeping supplier performance metrics up to date.
+   */
+  private final SupplierMetricsService supplierMetricsService;
+
+  /**
+   * Service adding received goods to stock at weighted-average cost.
+   */
+  private final ProductCostService productCostService;
+
+  /**
+   * Retrieves a page of purchase orders matching the given filter.
+   *
+   * <p>The page is selected first; the items and products of the orders on
+   * it are then loaded with one fetch-join query, and their suppliers in one
+   * batch, so a page costs a fixed number of queries however many lines its
+   * orders have.</p>
    *
-   * @return List of all purchase orders mapped to PurchaseOrderInfo objects
+   * @param filter Optional criteria; null fields are ignored
+   * @param pageable Page number, size and sort order
+   * @return Page of matching purchase orders mapped to PurchaseOrderInfo
    */
   @Transactional(readOnly = true)
-  public List<PurchaseOrderInfo> findAll() {
-    return purchaseOrderRepository
-      .findAll()
-      .stream()
-      .map(purchaseOrderMapper::toInfo)
-      .toList();
+  public Page<PurchaseOrderInfo> findAll(
+    PurchaseOrderFilter filter,
+    Pageable pageable
+  ) {
+    Page<PurchaseOrder> page = purchaseOrderRepository.findAll(
+      PurchaseOrderSpecifications.matching(filter),
+      pageable
+    );
+    if (page.hasContent()) {
+      purchaseOrderRepository.findWithItemsByIdIn(
+        page.map(PurchaseOrder::getId).getContent()
+      );
+    }
+    return page.map(purchaseOrderMapper::toInfo);
   }
 
   /**
@@ -81,33 +150,6 @@ public class PurchaseOrderService {
     return purchaseOrderMapper.toInfo(purchaseOrder);
   }
 
-  /**
-   * Finds all purchase orders for a specific supplier.
-   *
-   * @param supplierId The ID of the supplier
-   * @return List of purchase orders for the supplier
-   */
-  @Transactional(readOnly = true)
-  public List<PurchaseOrderInfo> findBySupplierId(Integer supplierId) {
-    List<PurchaseOrder> purchaseOrders =
-      purchaseOrderRepository.findBySupplier_Id(supplierId);
-    return purchaseOrderMapper.toInfoList(purchaseOrders);
-  }
-
-  /**
-   * Finds all purchase orders with a specific status.
-   *
-   * @param status The status to filter by
-   * @return List of purchase orders with the specified status
-   */
-  @Transactional(readOnly = true)
-  public List<PurchaseOrderInfo> findByStatus(PurchaseOrderStatus status) {
-    List<PurchaseOrder> purchaseOrders = purchaseOrderRepository.findByStatus(
-      status
-    );
-    return purchaseOrderMapper.toInfoList(purchaseOrders);
-  }
-
   /**
    * Creates a new purchase order.
    *
@@ -137,25 +179,19 @@ public class PurchaseOrderService {
       purchaseOrderData.getItems() != null &&
       !purchaseOrderData.getItems().isEmpty()
     ) {
+      Map<Integer, Product> products = findProducts(
+        purchaseOrderData.getItems()
+      );
       List<PurchaseOrderItem> items = new ArrayList<>();
 
       for (PurchaseOrderItemData itemData : purchaseOrderData.getItems()) {
-        PurchaseOrderItem item = purchaseOrderItemMapper.toEntity(itemData);
-
-        Product product = productRepository
-          .findById(itemData.getProductId())
-          .orElseThrow(() ->
-            new EntityNotFoundException(
-              "Product not found with id: " + itemData.getProductId()
-            )
-          );
-
-        item.setProduct(product);
-        item.setPurchaseOrder(savedOrder);
-        item.setTotalPrice(
-          product.getCostPrice().multiply(new BigDecimal(item.getQuantity()))
+        items.add(
+          buildItem(
+            itemData,
+            productOf(products, itemData.getProductId()),
+            savedOrder
+          )
         );
-        items.add(item);
       }
 
       purchaseOrderItemRepository.saveAll(items);
@@ -167,6 +203,76 @@ public class PurchaseOrderService {
     return purchaseOrderMapper.toInfo(savedOrder);
   }
 
+  /**
+   * Creates several purchase orders at once, with the same validation as
+   * {@link #create(PurchaseOrderData)}.
+   * Suppliers and products are each loaded in a single query instead of one
+   * query per order or item.
+   *
+   * @param purchaseOrders The data of each purchase order to create
+   * @return The created purchase orders mapped to PurchaseOrderInfo
+   * @throws EntityNotFoundException if any supplier or product is not found
+   */
+  @Transactional
+  @Auditable(action = "CREAR_LOTE", entity = "ORDEN_COMPRA")
+  public List<PurchaseOrderInfo> createAll(
+    List<PurchaseOrderData> purchaseOrders
+  ) {
+    if (purchaseOrders.isEmpty()) {
+      return List.of();
+    }
+
+    Set<Long> supplierIds = new HashSet<>();
+    Set<Integer> productIds = new HashSet<>();
+    for (PurchaseOrderData orderData : purchaseOrders) {
+      supplierIds.add(orderData.getSupplierId().longValue());
+      if (orderData.getItems() != null) {
+        orderData
+          .getItems()
+          .forEach(itemData -> productIds.add(itemData.getProductId()));
+      }
+    }
+    Map<Long, Supplier> suppliers = supplierRepository
+      .findAllById(supplierIds)
+      .stream()
+      .collect(Collectors.toMap(Supplier::getId, Function.identity()));
+    Map<Integer, Product> products = findProductsById(productIds);
+
+    List<PurchaseOrder> orders = new ArrayList<>(purchaseOrders.size());
+    for (PurchaseOrderData orderData : purchaseOrders) {
+      PurchaseOrder purchaseOrder = purchaseOrderMapper.toEntity(orderData);
+      Supplier supplier = suppliers.get(orderData.getSupplierId().longValue());
+      if (supplier == null) {
+        throw new EntityNotFoundException(
+          "Supplier not found with id: " + orderData.getSupplierId()
+        );
+      }
+      purchaseOrder.setSupplier(supplier);
+
+      List<PurchaseOrderItem> items = new ArrayList<>();
+      if (orderData.getItems() != null) {
+        for (PurchaseOrderItemData itemData : orderData.getItems()) {
+          items.add(
+            buildItem(
+              itemData,
+              productOf(products, itemData.getProductId()),
+              purchaseOrder
+            )
+          );
+        }
+      }
+      purchaseOrder.setItems(items);
+      calculateTotalAmount(purchaseOrder);
+      orders.add(purchaseOrder);
+    }
+
+    return purchaseOrderRepository
+      .saveAll(orders)
+      .stream()
+      .map(purchaseOrderMapper::toInfo)
+      .toList();
+  }
+
   /**
    * Updates an existing purchase order.
    *
@@ -175,8 +281,11 @@ public class PurchaseOrderService {
    * @return The updated purchase order mapped to PurchaseOrderInfo
    * @throws EntityNotFoundException if the purchase order is not found
    * @throws IllegalStateException if the purchase order is not in DRAFT status
+   * @throws StaleVersionException if the order changed since the given
+   *         version
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "ACTUALIZAR",
     entity = "ORDEN_COMPRA",
@@ -198,6 +307,12 @@ public class PurchaseOrderService {
         "Only purchase orders in DRAFT status can be updated"
       );
     }
+    StaleVersionException.check(
+      PurchaseOrder.class,
+      id,
+      purchaseOrderData.getVersion(),
+      purchaseOrder.getVersion()
+    );
 
     purchaseOrderMapper.updateEntityFromData(purchaseOrderData, purchaseOrder);
 
@@ -213,43 +328,29 @@ public class PurchaseOrderService {
     }
 
     if (purchaseOrderData.getItems() != null) {
-      List<PurchaseOrderItem> currentItems = new ArrayList<>(
-        purchaseOrder.getItems()
-      );
-
-      for (PurchaseOrderItem existingItem : currentItems) {
-        boolean found = false;
-        for (PurchaseOrderItemData itemData : purchaseOrderData.getItems()) {
-          if (
-            itemData.getId() != null &&
-            itemData.getId().equals(existingItem.getId())
-          ) {
-            found = true;
-            break;
-          }
-        }
-
-        if (!found) {
-          purchaseOrder.removeItem(existingItem);
+      Set<Integer> keptItemIds = new HashSet<>();
+      for (PurchaseOrderItemData itemData : purchaseOrderData.getItems()) {
+        if (itemData.getId() != null) {
+          keptItemIds.add(itemData.getId());
         }
       }
+      purchaseOrder.retainItems(keptItemIds);
+
+      Map<Integer, PurchaseOrderItem> existingItems = purchaseOrder
+        .getItems()
+        .stream()
+        .collect(
+          Collectors.toMap(PurchaseOrderItem::getId, Function.identity())
+        );
+      Map<Integer, Product> products = findProducts(
+        purchaseOrderData.getItems()
+      );
 
       for (PurchaseOrderItemData itemData : purchaseOrderData.getItems()) {
-        Product product = productRepository
-          .findById(itemData.getProductId())
-          .orElseThrow(() ->
-            new EntityNotFoundException(
-              "Product not found with id: " + itemData.getProductId()
-            )
-          );
+        Product product = productOf(products, itemData.getProductId());
 
         if (itemData.getId() != null) {
-          PurchaseOrderItem existingItem = purchaseOrder
-            .getItems()
-            .stream()
-            .filter(item -> item.getId().equals(itemData.getId()))
-            .findFirst()
-            .orElse(null);
+          PurchaseOrderItem existingItem = existingItems.get(itemData.getId());
 
           if (existingItem != null) {
             existingItem.setProduct(product);
@@ -270,7 +371,9 @@ public class PurchaseOrderService {
     }
 
     calculateTotalAmount(purchaseOrder);
-    PurchaseOrder updatedOrder = purchaseOrderRepository.save(purchaseOrder);
+    PurchaseOrder updatedOrder = purchaseOrderRepository.saveAndFlush(
+      purchaseOrder
+    );
     return purchaseOrderMapper.toInfo(updatedOrder);
   }
 
@@ -282,6 +385,7 @@ public class PurchaseOrderService {
    * @throws IllegalStateException if the order is not in DRAFT status
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "ELIMINAR", entity = "ORDEN_COMPRA", entityIdParam = "id")
   public void delete(Integer id) {
     PurchaseOrder purchaseOrder = purchaseOrderRepository
@@ -308,6 +412,7 @@ public class PurchaseOrderService {
    * @throws IllegalStateException if the order is not in DRAFT status
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "ENVIAR", entity = "ORDEN_COMPRA", entityIdParam = "id")
   public PurchaseOrderInfo submitOrder(Integer id) {
     PurchaseOrder purchaseOrder = purchaseOrderRepository
@@ -323,8 +428,12 @@ public class PurchaseOrderService {
     }
 
     purchaseOrder.setStatus(PurchaseOrderStatus.SUBMITTED);
+    purchaseOrder.setSubmittedAt(LocalDateTime.now());
 
-    PurchaseOrder updatedOrder = purchaseOrderRepository.save(purchaseOrder);
+    PurchaseOrder updatedOrder = purchaseOrderRepository.saveAndFlush(
+      purchaseOrder
+    );
+    supplierMetricsService.recordSubmitted(updatedOrder);
     return purchaseOrderMapper.toInfo(updatedOrder);
   }
 
@@ -337,6 +446,7 @@ public class PurchaseOrderService {
    * @throws IllegalStateException if the order is not in SUBMITTED status
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "CONFIRMAR",
     entity = "ORDEN_COMPRA",
@@ -356,8 +466,11 @@ public class PurchaseOrderService {
     }
 
     purchaseOrder.setStatus(PurchaseOrderStatus.CONFIRMED);
+    purchaseOrder.setConfirmedAt(LocalDateTime.now());
 
-    PurchaseOrder updatedOrder = purchaseOrderRepository.save(purchaseOrder);
+    PurchaseOrder updatedOrder = purchaseOrderRepository.saveAndFlush(
+      purchaseOrder
+    );
     return purchaseOrderMapper.toInfo(updatedOrder);
   }
 
@@ -370,6 +483,7 @@ public class PurchaseOrderService {
    * @throws IllegalStateException if the order is not in CONFIRMED status
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "MARCAR_ENVIADO",
     entity = "ORDEN_COMPRA",
@@ -394,13 +508,17 @@ public class PurchaseOrderService {
     }
 
     purchaseOrder.setStatus(PurchaseOrderStatus.SHIPPED);
+    purchaseOrder.setShippedAt(LocalDateTime.now());
 
-    PurchaseOrder updatedOrder = purchaseOrderRepository.save(purchaseOrder);
+    PurchaseOrder updatedOrder = purchaseOrderRepository.saveAndFlush(
+      purchaseOrder
+    );
     return purchaseOrderMapper.toInfo(updatedOrder);
   }
 
   /**
    * Updates the status of a purchase order to DELIVERED.
+   * Every quantity not received yet is received now and added to stock.
    *
    * @param id The ID of the purchase order to mark as delivered
    * @return The updated purchase order mapped to PurchaseOrderInfo
@@ -408,6 +526,7 @@ public class PurchaseOrderService {
    * @throws IllegalStateException if the order is not in SHIPPED status
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "MARCAR_ENTREGADO",
     entity = "ORDEN_COMPRA",
@@ -415,7 +534,7 @@ public class PurchaseOrderService {
   )
   public PurchaseOrderInfo markAsDelivered(Integer id) {
     PurchaseOrder purchaseOrder = purchaseOrderRepository
-      .findById(id)
+      .findByIdForUpdate(id)
       .orElseThrow(() ->
         new EntityNotFoundException("Purchase order not found with id: " + id)
       );
@@ -428,10 +547,73 @@ public class PurchaseOrderService {
       );
     }
 
-    purchaseOrder.setStatus(PurchaseOrderStatus.DELIVERED);
+    Map<Integer, Integer> outstanding = new LinkedHashMap<>();
+    for (PurchaseOrderItem item : purchaseOrder.getItems()) {
+      int remaining = item.getQuantity() - item.getReceivedQuantity();
+      if (remaining > 0) {
+        outstanding.put(item.getId(), remaining);
+      }
+    }
 
-    PurchaseOrder updatedOrder = purchaseOrderRepository.save(purchaseOrder);
-    return purchaseOrderMapper.toInfo(updatedOrder);
+    return applyReceipt(purchaseOrder, outstanding);
+  }
+
+  /**
+   * Receives a full or partial supplier delivery.
+   * The received quantities are recorded on the order items and added to the
+   * products' stock in one batched update. The order is marked as DELIVERED
+   * once every item has been received in full; until then it keeps its
+   * status and further deliveries can be received.
+   *
+   * <p>The order row is locked for the rest of the transaction, so
+   * concurrent deliveries of the same order cannot receive more than was
+   * ordered.</p>
+   *
+   * @param id The ID of the purchase order
+   * @param receiptData The items and quantities received
+   * @return The updated purchase order mapped to PurchaseOrderInfo
+   * @throws EntityNotFoundException if the purchase order or any item is not
+   *         found
+   * @throws IllegalStateException if the order is not CONFIRMED, IN_PROCESS or
+   *         SHIPPED
+   * @throws IllegalArgumentException if an item would be received beyond its
+   *         ordered quantity
+   */
+  @Transactional
+  @RetryOnConflict
+  @Auditable(
+    action = "RECIBIR",
+    entity = "ORDEN_COMPRA",
+    entityIdParam = "id",
+    captureDetails = true
+  )
+  public PurchaseOrderInfo receive(
+    Integer id,
+    PurchaseOrderReceiptData receiptData
+  ) {
+    PurchaseOrder purchaseOrder = purchaseOrderRepository
+      .findByIdForUpdate(id)
+      .orElseThrow(() ->
+        new EntityNotFoundException("Purchase order not found with id: " + id)
+      );
+
+    PurchaseOrderStatus status = purchaseOrder.getStatus();
+    if (
+      status != PurchaseOrderStatus.CONFIRMED &&
+      status != PurchaseOrderStatus.IN_PROCESS &&
+      status != PurchaseOrderStatus.SHIPPED
+    ) {
+      throw new IllegalStateException(
+        "Cannot receive items of order in " + status + " status"
+      );
+    }
+
+    Map<Integer, Integer> quantities = new LinkedHashMap<>();
+    for (PurchaseOrderReceiptItemData line : receiptData.getItems()) {
+      quantities.merge(line.getItemId(), line.getQuantity(), Integer::sum);
+    }
+
+    return applyReceipt(purchaseOrder, quantities);
   }
 
   /**
@@ -443,6 +625,7 @@ public class PurchaseOrderService {
    * @throws IllegalStateException if the order is in DELIVERED status
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(action = "CANCELAR", entity = "ORDEN_COMPRA", entityIdParam = "id")
   public PurchaseOrderInfo cancelOrder(Integer id) {
     PurchaseOrder purchaseOrder = purchaseOrderRepository
@@ -461,8 +644,12 @@ public class PurchaseOrderService {
     }
 
     purchaseOrder.setStatus(PurchaseOrderStatus.CANCELLED);
+    purchaseOrder.setCancelledAt(LocalDateTime.now());
 
-    PurchaseOrder updatedOrder = purchaseOrderRepository.save(purchaseOrder);
+    PurchaseOrder updatedOrder = purchaseOrderRepository.saveAndFlush(
+      purchaseOrder
+    );
+    supplierMetricsService.recordCancelled(updatedOrder);
     return purchaseOrderMapper.toInfo(updatedOrder);
   }
 
@@ -475,6 +662,7 @@ public class PurchaseOrderService {
    * @throws IllegalStateException if the order is not in DELIVERED status
    */
   @Transactional
+  @RetryOnConflict
   @Auditable(
     action = "MARCAR_PAGADO",
     entity = "ORDEN_COMPRA",
@@ -494,11 +682,253 @@ public class PurchaseOrderService {
     }
 
     purchaseOrder.setStatus(PurchaseOrderStatus.PAID);
+    purchaseOrder.setPaidAt(LocalDateTime.now());
 
-    PurchaseOrder updatedOrder = purchaseOrderRepository.save(purchaseOrder);
+    PurchaseOrder updatedOrder = purchaseOrderRepository.saveAndFlush(
+      purchaseOrder
+    );
     return purchaseOrderMapper.toInfo(updatedOrder);
   }
 
+  /**
+   * Moves many purchase orders to the same status at once.
+   *
+   * <p>The orders are loaded and locked in one query, each is checked against
+   * the allowed transitions, and all eligible orders are changed with a
+   * single conditional UPDATE. Orders that are not found or not in a valid
+   * status are reported and left untouched; the rest are still changed. The
+   * operation is recorded as one audit event.</p>
+   *
+   * @param transitionData The IDs of the orders and the target status
+   * @return The outcome for each requested order
+   * @throws IllegalArgumentException if the target status cannot be reached
+   *         in bulk
+   */
+  @Transactional
+  @RetryOnConflict
+  @Auditable(
+    action = "CAMBIAR_ESTADO_LOTE",
+    entity = "ORDEN_COMPRA",
+    captureDetails = true
+  )
+  public PurchaseOrderTransitionInfo transitionAll(
+    PurchaseOrderTransitionData transitionData
+  ) {
+    PurchaseOrderStatus target = transitionData.getStatus();
+    Set<PurchaseOrderStatus> sources = BULK_TRANSITIONS.get(target);
+    if (sources == null) {
+      throw new IllegalArgumentException(
+        "Purchase orders cannot be changed to " + target + " in bulk"
+      );
+    }
+
+    Set<Integer> ids = new LinkedHashSet<>(transitionData.getIds());
+    Map<Integer, PurchaseOrder> orders = purchaseOrderRepository
+      .findAllByIdForUpdate(ids)
+      .stream()
+      .collect(Collectors.toMap(PurchaseOrder::getId, Function.identity()));
+
+    List<PurchaseOrderTransitionResultInfo> results = new ArrayList<>();
+    List<PurchaseOrder> eligible = new ArrayList<>();
+    for (Integer id : ids) {
+      PurchaseOrder purchaseOrder = orders.get(id);
+      if (purchaseOrder == null) {
+        results.add(
+          transitionResult(id, null, "Purchase order not found with id: " + id)
+        );
+        continue;
+      }
+      PurchaseOrderStatus status = purchaseOrder.getStatus();
+      if (!sources.contains(status)) {
+        results.add(
+          transitionResult(
+            id,
+            status,
+            "Cannot change order in " + status + " status to " + target
+          )
+        );
+        continue;
+      }
+      results.add(transitionResult(id, status, null));
+      eligible.add(purchaseOrder);
+    }
+
+    int updated = 0;
+    if (!eligible.isEmpty()) {
+      if (target == PurchaseOrderStatus.SUBMITTED) {
+        supplierMetricsService.recordSubmitted(eligible);
+      } else if (target == PurchaseOrderStatus.CANCELLED) {
+        purchaseOrderRepository.findWithItemsByIdIn(
+          eligible.stream().map(PurchaseOrder::getId).toList()
+        );
+        supplierMetricsService.recordCancelled(eligible);
+      }
+      updated = purchaseOrderRepository.updateStatus(
+        eligible.stream().map(PurchaseOrder::getId).toList(),
+        sources,
+        target,
+        LocalDateTime.now()
+      );
+    }
+
+    return PurchaseOrderTransitionInfo.builder()
+      .status(target)
+      .updatedCount(updated)
+      .results(results)
+      .build();
+  }
+
+  private static PurchaseOrderTransitionResultInfo transitionResult(
+    Integer id,
+    PurchaseOrderStatus previousStatus,
+    String error
+  ) {
+    return PurchaseOrderTransitionResultInfo.builder()
+      .id(id)
+      .previousStatus(previousStatus)
+      .success(error == null)
+      .message(error)
+      .build();
+  }
+
+  /**
+   * Records received quantities on the items of a locked purchase order and
+   * adds them to stock, marking the order as DELIVERED once complete. The
+   * average cost of the received products is recalculated from the items'
+   * unit prices in the same transaction.
+   *
+   * @param purchaseOrder The purchase order being received
+   * @param quantities Quantity received per purchase order item ID
+   * @return The updated purchase order mapped to PurchaseOrderInfo
+   */
+  private PurchaseOrderInfo applyReceipt(
+    PurchaseOrder purchaseOrder,
+    Map<Integer, Integer> quantities
+  ) {
+    Map<Integer, PurchaseOrderItem> itemsById = purchaseOrder
+      .getItems()
+      .stream()
+      .collect(Collectors.toMap(PurchaseOrderItem::getId, Function.identity()));
+
+    Map<Integer, Integer> increments = new LinkedHashMap<>();
+    Map<Integer, BigDecimal> values = new LinkedHashMap<>();
+    BigDecimal receivedValue = BigDecimal.ZERO;
+    for (Map.Entry<Integer, Integer> line : quantities.entrySet()) {
+      PurchaseOrderItem item = itemsById.get(line.getKey());
+      if (item == null) {
+        throw new EntityNotFoundException(
+          "Purchase order item not found with id: " + line.getKey()
+        );
+      }
+      int received = item.getReceivedQuantity() + line.getValue();
+      if (received > item.getQuantity()) {
+        throw new IllegalArgumentException(
+          "Received quantity exceeds ordered quantity for item: " +
+          line.getKey()
+        );
+      }
+      item.setReceivedQuantity(received);
+      BigDecimal value = item
+        .getUnitPrice()
+        .multiply(BigDecimal.valueOf(line.getValue()));
+      receivedValue = receivedValue.add(value);
+      increments.merge(
+        item.getProduct().getId(),
+        line.getValue(),
+        Integer::sum
+      );
+      values.merge(item.getProduct().getId(), value, BigDecimal::add);
+    }
+
+    boolean complete = purchaseOrder
+      .getItems()
+      .stream()
+      .allMatch(item -> item.getReceivedQuantity() >= item.getQuantity());
+    LocalDateTime now = LocalDateTime.now();
+    if (complete) {
+      purchaseOrder.setStatus(PurchaseOrderStatus.DELIVERED);
+      purchaseOrder.setDeliveredAt(now);
+    }
+    purchaseOrderRepository.save(purchaseOrder);
+    supplierMetricsService.recordReceipt(purchaseOrder, receivedValue);
+    if (complete) {
+      supplierMetricsService.recordDelivered(purchaseOrder);
+    }
+
+    if (!increments.isEmpty()) {
+      productCostService.receive(
+        purchaseOrder.getId(),
+        increments,
+        values,
+        now
+      );
+      eventPublisher.publishEvent(ProductChangedEvent.of(increments.keySet()));
+    }
+
+    PurchaseOrder updatedOrder = purchaseOrderRepository
+      .findById(purchaseOrder.getId())
+      .orElseThrow(() ->
+        new EntityNotFoundException(
+          "Purchase order not found with id: " + purchaseOrder.getId()
+        )
+      );
+    return purchaseOrderMapper.toInfo(updatedOrder);
+  }
+
+  /**
+   * Builds a new item of a purchase order, totalled at its unit price.
+   *
+   * @param itemData The data of the item
+   * @param product The product ordered
+   * @param purchaseOrder The purchase order the item belongs to
+   * @return The new item
+   */
+  private PurchaseOrderItem buildItem(
+    PurchaseOrderItemData itemData,
+    Product product,
+    PurchaseOrder purchaseOrder
+  ) {
+    PurchaseOrderItem item = purchaseOrderItemMapper.toEntity(itemData);
+    item.setProduct(product);
+    item.setPurchaseOrder(purchaseOrder);
+    item.calculateTotalPrice();
+    return item;
+  }
+
+  /**
+   * Loads the products of the given items in a single query.
+   *
+   * @param items The items whose products to load
+   * @return The products found, keyed by ID
+   */
+  private Map<Integer, Product> findProducts(
+    List<PurchaseOrderItemData> items
+  ) {
+    Set<Integer> productIds = new HashSet<>();
+    items.forEach(itemData -> productIds.add(itemData.getProductId()));
+    return findProductsById(productIds);
+  }
+
+  private Map<Integer, Product> findProductsById(Set<Integer> productIds) {
+    return productRepository
+      .findAllById(productIds)
+      .stream()
+      .collect(Collectors.toMap(Product::getId, Function.identity()));
+  }
+
+  private static Product productOf(
+    Map<Integer, Product> products,
+    Integer productId
+  ) {
+    Product product = products.get(productId);
+    if (product == null) {
+      throw new EntityNotFoundException(
+        "Product not found with id: " + productId
+      );
+    }
+    return product;
+  }
+
   /**
    * Calculates the total amount of a purchase order based on its items.
    *
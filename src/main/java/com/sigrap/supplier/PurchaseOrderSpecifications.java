@@ -0,0 +1,151 @@
+package com.sigrap.supplier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Reusable JPA specifications for querying purchase orders.
+ * Listing criteria map to the indexed columns of the
+ * {@code purchase_orders} table.
+ *
+ * @see PurchaseOrderFilter
+ * @see PurchaseOrderRepository
+ */
+public final class PurchaseOrderSpecifications {
+
+  private PurchaseOrderSpecifications() {}
+
+  /**
+   * Builds a specification matching every non-null criterion of a filter.
+   *
+   * @param filter The filter to translate
+   * @return The combined specification
+   */
+  public static Specification<PurchaseOrder> matching(
+    PurchaseOrderFilter filter
+  ) {
+    Specification<PurchaseOrder> spec = Specification.where(null);
+    if (filter.getSupplierId() != null) {
+      spec = spec.and(fromSupplier(filter.getSupplierId()));
+    }
+    if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+      spec = spec.and(inStatuses(filter.getStatuses()));
+    }
+    if (filter.getCreatedFrom() != null) {
+      spec = spec.and(createdOnOrAfter(filter.getCreatedFrom()));
+    }
+    if (filter.getCreatedTo() != null) {
+      spec = spec.and(createdOnOrBefore(filter.getCreatedTo()));
+    }
+    if (filter.getDeliveryFrom() != null) {
+      spec = spec.and(deliveryOnOrAfter(filter.getDeliveryFrom()));
+    }
+    if (filter.getDeliveryTo() != null) {
+      spec = spec.and(deliveryOnOrBefore(filter.getDeliveryTo()));
+    }
+    if (filter.getMinAmount() != null) {
+      spec = spec.and(totalAmountAtLeast(filter.getMinAmount()));
+    }
+    if (filter.getMaxAmount() != null) {
+      spec = spec.and(totalAmountAtMost(filter.getMaxAmount()));
+    }
+    return spec;
+  }
+
+  /**
+   * Matches orders placed with a supplier.
+   *
+   * @param supplierId The supplier ID
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> fromSupplier(Long supplierId) {
+    return (root, query, cb) ->
+      cb.equal(root.get("supplier").get("id"), supplierId);
+  }
+
+  /**
+   * Matches orders in any of the given statuses.
+   *
+   * @param statuses The statuses
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> inStatuses(
+    Collection<PurchaseOrderStatus> statuses
+  ) {
+    return (root, query, cb) -> root.get("status").in(statuses);
+  }
+
+  /**
+   * Matches orders created at or after the start of the given day.
+   *
+   * @param day The first day, inclusive
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> createdOnOrAfter(LocalDate day) {
+    return (root, query, cb) ->
+      cb.greaterThanOrEqualTo(root.get("createdAt"), day.atStartOfDay());
+  }
+
+  /**
+   * Matches orders created before the end of the given day.
+   *
+   * @param day The last day, inclusive
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> createdOnOrBefore(LocalDate day) {
+    return (root, query, cb) ->
+      cb.lessThan(root.get("createdAt"), day.plusDays(1).atStartOfDay());
+  }
+
+  /**
+   * Matches orders expected on or after the given day.
+   *
+   * @param day The first day, inclusive
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> deliveryOnOrAfter(LocalDate day) {
+    return (root, query, cb) ->
+      cb.greaterThanOrEqualTo(root.get("deliveryDate"), day);
+  }
+
+  /**
+   * Matches orders expected on or before the given day.
+   *
+   * @param day The last day, inclusive
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> deliveryOnOrBefore(
+    LocalDate day
+  ) {
+    return (root, query, cb) ->
+      cb.lessThanOrEqualTo(root.get("deliveryDate"), day);
+  }
+
+  /**
+   * Matches orders whose total amount is at least the given value.
+   *
+   * @param minAmount The lower bound, inclusive
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> totalAmountAtLeast(
+    BigDecimal minAmount
+  ) {
+    return (root, query, cb) ->
+      cb.greaterThanOrEqualTo(root.get("totalAmount"), minAmount);
+  }
+
+  /**
+   * Matches orders whose total amount is at most the given value.
+   *
+   * @param maxAmount The upper bound, inclusive
+   * @return The specification
+   */
+  public static Specification<PurchaseOrder> totalAmountAtMost(
+    BigDecimal maxAmount
+  ) {
+    return (root, query, cb) ->
+      cb.lessThanOrEqualTo(root.get("totalAmount"), maxAmount);
+  }
+}
@@ -0,0 +1,44 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for moving many purchase orders to the same
+ * status at once.
+ *
+ * <p>Supported target statuses are SUBMITTED, CONFIRMED, SHIPPED, PAID and
+ * CANCELLED, with the same rules as the single-order transitions. Deliveries
+ * add stock and are received order by order instead.</p>
+ *
+ * @see PurchaseOrderService#transitionAll(PurchaseOrderTransitionData)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data transfer object for a bulk status change")
+public class PurchaseOrderTransitionData {
+
+  /**
+   * IDs of the purchase orders to change.
+   */
+  @NotEmpty(message = "At least one purchase order is required")
+  @Size(max = 500, message = "At most 500 purchase orders can be changed")
+  @Schema(description = "IDs of the purchase orders", example = "[1, 2, 3]")
+  private List<@NotNull Integer> ids;
+
+  /**
+   * Status to move the purchase orders to.
+   */
+  @NotNull(message = "Target status is required")
+  @Schema(description = "Status to move the orders to", example = "SUBMITTED")
+  private PurchaseOrderStatus status;
+}
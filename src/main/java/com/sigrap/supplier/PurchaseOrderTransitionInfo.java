@@ -0,0 +1,39 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) summarizing a bulk status change.
+ *
+ * @see PurchaseOrderService#transitionAll(PurchaseOrderTransitionData)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a bulk status change")
+public class PurchaseOrderTransitionInfo {
+
+  /**
+   * Status the orders were moved to.
+   */
+  @Schema(description = "Target status", example = "SUBMITTED")
+  private PurchaseOrderStatus status;
+
+  /**
+   * Number of orders changed.
+   */
+  @Schema(description = "Number of orders changed", example = "12")
+  private int updatedCount;
+
+  /**
+   * Outcome for each requested order, in request order.
+   */
+  @Schema(description = "Outcome for each requested order")
+  private List<PurchaseOrderTransitionResultInfo> results;
+}
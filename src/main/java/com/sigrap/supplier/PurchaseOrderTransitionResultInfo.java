@@ -0,0 +1,46 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the outcome of a bulk status change for one
+ * purchase order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk status change for one order")
+public class PurchaseOrderTransitionResultInfo {
+
+  /**
+   * ID of the purchase order.
+   */
+  @Schema(description = "ID of the purchase order", example = "1")
+  private Integer id;
+
+  /**
+   * Status of the order before the change, null if it was not found.
+   */
+  @Schema(description = "Status before the change", example = "DRAFT")
+  private PurchaseOrderStatus previousStatus;
+
+  /**
+   * Whether the order was moved to the target status.
+   */
+  @Schema(description = "Whether the order was changed", example = "true")
+  private boolean success;
+
+  /**
+   * Reason the order was not changed.
+   */
+  @Schema(
+    description = "Reason the order was not changed",
+    example = "Cannot change order in DELIVERED status to SUBMITTED"
+  )
+  private String message;
+}
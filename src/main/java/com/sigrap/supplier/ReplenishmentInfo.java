@@ -0,0 +1,65 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) summarizing a replenishment run.
+ *
+ * @see ReplenishmentService#run()
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a replenishment run")
+public class ReplenishmentInfo {
+
+  /**
+   * Number of products found at or below their minimum stock threshold.
+   */
+  @Schema(
+    description = "Products at or below their minimum stock threshold",
+    example = "42"
+  )
+  private int lowStockCount;
+
+  /**
+   * Number of low stock products skipped because they are already awaited
+   * on an open purchase order.
+   */
+  @Schema(
+    description = "Products skipped because they are on an open order",
+    example = "10"
+  )
+  private int awaitedCount;
+
+  /**
+   * Number of low stock products skipped because they have never been
+   * ordered from any supplier.
+   */
+  @Schema(
+    description = "Products skipped because they have no known supplier",
+    example = "2"
+  )
+  private int withoutSupplierCount;
+
+  /**
+   * Number of purchase order items created.
+   */
+  @Schema(
+    description = "Number of purchase order items created",
+    example = "30"
+  )
+  private int itemCount;
+
+  /**
+   * IDs of the draft purchase orders created, one per supplier.
+   */
+  @Schema(description = "IDs of the draft purchase orders created")
+  private List<Integer> purchaseOrderIds;
+}
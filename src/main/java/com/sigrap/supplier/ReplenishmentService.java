@@ -0,0 +1,248 @@
+package com.sigrap.supplier;
+
+import com.sigrap.inventory.ProductForecastRepository;
+import com.sigrap.product.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service generating draft purchase orders for products running low.
+ *
+ * <p>A run finds the products at or below their minimum stock threshold and
+ * orders each of them from its best supplier in {@link SupplierRanking}, at
+ * that supplier's price. Products no supplier lists are ordered from the
+ * supplier of their most recent purchase order that was not cancelled, at
+ * their cost price. Products still awaited on an open order are skipped, as
+ * are products with neither. One DRAFT order is created per supplier through
+ * {@link PurchaseOrderService#createAll(List)}, so staff only have to review
+ * and submit them.</p>
+ *
+ * <p>The quantity ordered is the one suggested by the last demand forecast.
+ * Without a forecast, the stock is topped up to
+ * {@code app.replenishment.target-multiplier} times the threshold. Quantities
+ * are rounded up to the supplier's pack size. Orders are expected after the
+ * longest lead time of their lines, or the lead time used by the forecast
+ * when the price list does not give one.</p>
+ *
+ * <p>Every lookup is a single scalar query over the whole catalog, so a run
+ * does not load one product at a time. The run is scheduled by
+ * {@code app.replenishment.cron} and can also be started on demand.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReplenishmentService {
+
+  /**
+   * Statuses of the orders whose pending items are still expected.
+   */
+  private static final Set<PurchaseOrderStatus> OPEN_STATUSES = EnumSet.of(
+    PurchaseOrderStatus.DRAFT,
+    PurchaseOrderStatus.SUBMITTED,
+    PurchaseOrderStatus.CONFIRMED,
+    PurchaseOrderStatus.IN_PROCESS,
+    PurchaseOrderStatus.SHIPPED
+  );
+
+  /**
+   * Repository used to find the products running low.
+   */
+  private final ProductRepository productRepository;
+
+  /**
+   * Repository used to find open and past orders of each product.
+   */
+  private final PurchaseOrderItemRepository purchaseOrderItemRepository;
+
+  /**
+   * Repository holding the order quantities suggested by the forecast.
+   */
+  private final ProductForecastRepository productForecastRepository;
+
+  /**
+   * Service creating the draft purchase orders.
+   */
+  private final PurchaseOrderService purchaseOrderService;
+
+  /**
+   * Ranking of the suppliers of each product.
+   */
+  private final SupplierRanking supplierRanking;
+
+  /**
+   * Multiple of the minimum stock threshold to top stock up to when a
+   * product has no forecast.
+   */
+  @Value("${app.replenishment.target-multiplier:2}")
+  private int targetMultiplier;
+
+  /**
+   * Days suppliers take to deliver when their price list does not say,
+   * used to set the expected delivery date of the orders created.
+   */
+  @Value("${app.inventory.forecast.lead-time-days:7}")
+  private int leadTimeDays;
+
+  /**
+   * Creates draft purchase orders for every product running low.
+   * Runs are serialized so that a scheduled and an on-demand run never
+   * order the same products twice.
+   *
+   * @return The summary of the run
+   */
+  @Scheduled(cron = "${app.replenishment.cron:0 0 4 * * *}")
+  public synchronized ReplenishmentInfo run() {
+    long start = System.nanoTime();
+    List<Object[]> candidates = productRepository.findReplenishmentCandidates();
+    Set<Integer> awaited = new HashSet<>(
+      purchaseOrderItemRepository.findAwaitedProductIds(OPEN_STATUSES)
+    );
+    Map<Integer, SupplierProductInfo> offers = new HashMap<>();
+    List<Integer> unlisted = new ArrayList<>();
+    for (Object[] row : candidates) {
+      Integer productId = (Integer) row[0];
+      if (!awaited.contains(productId)) {
+        supplierRanking
+          .best(productId)
+          .ifPresentOrElse(
+            offer -> offers.put(productId, offer),
+            () -> unlisted.add(productId)
+          );
+      }
+    }
+    Map<Integer, Long> lastSuppliers = new HashMap<>();
+    if (!unlisted.isEmpty()) {
+      List<Object[]> latestSuppliers =
+        purchaseOrderItemRepository.findLatestSuppliers(unlisted);
+      for (Object[] row : latestSuppliers) {
+        lastSuppliers.put((Integer) row[0], ((Number) row[1]).longValue());
+      }
+    }
+    Map<Integer, Integer> suggested = new HashMap<>();
+    List<Object[]> suggestions =
+      productForecastRepository.findSuggestedOrderQuantities();
+    for (Object[] row : suggestions) {
+      suggested.put((Integer) row[0], ((Number) row[1]).intValue());
+    }
+
+    Map<Long, List<PurchaseOrderItemData>> itemsBySupplier = new TreeMap<>();
+    Map<Long, Integer> leadTimes = new HashMap<>();
+    int awaitedCount = 0;
+    int withoutSupplierCount = 0;
+    for (Object[] row : candidates) {
+      Integer productId = (Integer) row[0];
+      if (awaited.contains(productId)) {
+        awaitedCount++;
+        continue;
+      }
+      int quantity = orderQuantity(
+        suggested.get(productId),
+        intValue(row[1]),
+        intValue(row[2])
+      );
+      Long supplierId;
+      BigDecimal unitPrice;
+      SupplierProductInfo offer = offers.get(productId);
+      if (offer != null) {
+        supplierId = offer.getSupplierId();
+        unitPrice = offer.getUnitPrice();
+        quantity = roundUp(quantity, offer.getPackSize());
+        leadTimes.merge(
+          supplierId,
+          leadTimeOf(offer.getLeadTimeDays()),
+          Math::max
+        );
+      } else {
+        supplierId = lastSuppliers.get(productId);
+        if (supplierId == null) {
+          withoutSupplierCount++;
+          continue;
+        }
+        unitPrice = (BigDecimal) row[3];
+        leadTimes.merge(supplierId, leadTimeDays, Math::max);
+      }
+      itemsBySupplier
+        .computeIfAbsent(supplierId, id -> new ArrayList<>())
+        .add(
+          PurchaseOrderItemData.builder()
+            .productId(productId)
+            .quantity(quantity)
+            .unitPrice(unitPrice)
+            .build()
+        );
+    }
+
+    LocalDate today = LocalDate.now();
+    List<PurchaseOrderData> orders = new ArrayList<>(itemsBySupplier.size());
+    itemsBySupplier.forEach((supplierId, items) ->
+      orders.add(
+        PurchaseOrderData.builder()
+          .supplierId(supplierId)
+          .deliveryDate(today.plusDays(leadTimes.get(supplierId)))
+          .items(items)
+          .build()
+      )
+    );
+    List<Integer> orderIds = purchaseOrderService
+      .createAll(orders)
+      .stream()
+      .map(PurchaseOrderInfo::getId)
+      .toList();
+    int itemCount = orders
+      .stream()
+      .mapToInt(order -> order.getItems().size())
+      .sum();
+
+    log.info(
+      "Replenishment created {} draft orders with {} items in {} ms ({} low, {} awaited, {} without supplier)",
+      orderIds.size(),
+      itemCount,
+      (System.nanoTime() - start) / 1_000_000,
+      candidates.size(),
+      awaitedCount,
+      withoutSupplierCount
+    );
+    return ReplenishmentInfo.builder()
+      .lowStockCount(candidates.size())
+      .awaitedCount(awaitedCount)
+      .withoutSupplierCount(withoutSupplierCount)
+      .itemCount(itemCount)
+      .purchaseOrderIds(orderIds)
+      .build();
+  }
+
+  private int orderQuantity(Integer suggested, int stock, int threshold) {
+    if (suggested != null && suggested > 0) {
+      return suggested;
+    }
+    return Math.max(1, threshold * targetMultiplier - stock);
+  }
+
+  private int leadTimeOf(Integer offerLeadTimeDays) {
+    return offerLeadTimeDays == null ? leadTimeDays : offerLeadTimeDays;
+  }
+
+  private static int roundUp(int quantity, int packSize) {
+    if (packSize <= 1) {
+      return quantity;
+    }
+    return ((quantity + packSize - 1) / packSize) * packSize;
+  }
+
+  private static int intValue(Object value) {
+    return value == null ? 0 : ((Number) value).intValue();
+  }
+}
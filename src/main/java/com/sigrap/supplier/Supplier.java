@@ -2,6 +2,7 @@ package com.sigrap.supplier;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -26,8 +27,12 @@ import lombok.NoArgsConstructor;
  *
  * <p>This entity stores all supplier contact information, payment terms,
  * delivery times, and other important business relationship data.</p>
+ *
+ * <p>Suppliers of a page of purchase orders are loaded in batches rather
+ * than one query per order.</p>
  */
 @Entity
+@BatchSize(size = 50)
 @Table(name = "suppliers")
 @Data
 @NoArgsConstructor
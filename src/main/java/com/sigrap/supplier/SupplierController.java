@@ -18,8 +18,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * REST controller for managing suppliers.
@@ -77,6 +79,11 @@ public class SupplierController {
    */
   private final SupplierService supplierService;
 
+  /**
+   * Service for supplier performance metrics.
+   */
+  private final SupplierMetricsService supplierMetricsService;
+
   /**
    * Retrieves all suppliers in the system.
    *
@@ -88,18 +95,37 @@ public class SupplierController {
    *   <li>Order placement</li>
    * </ul></p>
    *
-   * @return List of all suppliers with their details
+   * <p>Responses carry an {@code ETag} and {@code Last-Modified} header so
+   * clients can revalidate their copy; an unchanged list costs a 304 without
+   * any database access.</p>
+   *
+   * @param webRequest The current request, used for conditional GET handling
+   * @return List of all suppliers with their details, or null when not modified
    */
   @Operation(
     summary = "Get all suppliers",
     description = "Retrieves a list of all suppliers"
   )
-  @ApiResponse(
-    responseCode = "200",
-    description = "Suppliers retrieved successfully"
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Suppliers retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "304",
+        description = "Suppliers not modified",
+        content = @Content
+      ),
+    }
   )
   @GetMapping
-  public List<SupplierInfo> findAll() {
+  public List<SupplierInfo> findAll(
+    @Parameter(hidden = true) ServletWebRequest webRequest
+  ) {
+    if (supplierService.currentVersion().checkNotModified(webRequest)) {
+      return null;
+    }
     return supplierService.findAll();
   }
 
@@ -140,6 +166,55 @@ public class SupplierController {
     return supplierService.findById(id);
   }
 
+  /**
+   * Retrieves the performance metrics of a supplier.
+   *
+   * <p>The metrics are kept up to date as purchase orders move through their
+   * statuses and include:
+   * <ul>
+   *   <li>On-time delivery rate against the expected delivery date</li>
+   *   <li>Average lead time from submission to delivery</li>
+   *   <li>Fill rate of ordered units and cancellation rate</li>
+   *   <li>Total and monthly spend</li>
+   * </ul></p>
+   *
+   * @param id The unique identifier of the supplier
+   * @param months Number of months of spend to include
+   * @return The supplier's performance metrics
+   * @throws EntityNotFoundException if supplier not found
+   */
+  @Operation(
+    summary = "Get supplier metrics",
+    description = "Retrieves on-time rate, lead time, fill rate and spend"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Metrics retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid number of months",
+        content = @Content
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Supplier not found",
+        content = @Content
+      ),
+    }
+  )
+  @GetMapping("/{id}/metrics")
+  public SupplierMetricsInfo findMetrics(
+    @Parameter(description = "ID of the supplier") @PathVariable Long id,
+    @Parameter(
+      description = "Number of months of spend to include"
+    ) @RequestParam(defaultValue = "12") int months
+  ) {
+    return supplierMetricsService.findBySupplierId(id, months);
+  }
+
   /**
    * Creates a new supplier.
    *
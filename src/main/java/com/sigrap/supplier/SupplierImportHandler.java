@@ -0,0 +1,78 @@
+package com.sigrap.supplier;
+
+import com.sigrap.bulkimport.ImportHandler;
+import com.sigrap.bulkimport.ImportRow;
+import com.sigrap.common.ResourceChangedEvent;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk import steps for suppliers.
+ * Suppliers have no references to resolve; every valid row is inserted.
+ *
+ * @see com.sigrap.bulkimport.BulkImportService
+ */
+@Component
+@RequiredArgsConstructor
+public class SupplierImportHandler implements ImportHandler<SupplierData> {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO suppliers (name, contact_person, phone, alternative_phone, " +
+    "email, address, website, products_provided, average_delivery_time, " +
+    "payment_terms, created_at, updated_at) " +
+    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public Class<SupplierData> dataType() {
+    return SupplierData.class;
+  }
+
+  @Override
+  public void resolve(List<ImportRow<SupplierData>> rows) {}
+
+  @Override
+  @Transactional
+  public void insert(List<ImportRow<SupplierData>> rows) {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL,
+      rows.stream().map(ImportRow::getData).toList(),
+      rows.size(),
+      (ps, data) -> {
+        ps.setString(1, data.getName());
+        ps.setString(2, data.getContactPerson());
+        ps.setString(3, data.getPhone());
+        ps.setString(4, data.getAlternativePhone());
+        ps.setString(5, data.getEmail());
+        ps.setString(6, data.getAddress());
+        ps.setString(7, data.getWebsite());
+        ps.setString(8, data.getProductsProvided());
+        ps.setObject(9, data.getAverageDeliveryTime(), Types.INTEGER);
+        ps.setString(10, data.getPaymentTerms());
+        ps.setObject(11, now);
+        ps.setObject(12, now);
+      }
+    );
+  }
+
+  /**
+   * Invalidates the supplier listing version once the import has finished.
+   *
+   * @param imported The number of suppliers inserted
+   */
+  @Override
+  public void afterImport(int imported) {
+    eventPublisher.publishEvent(
+      ResourceChangedEvent.of(SupplierService.RESOURCE)
+    );
+  }
+}
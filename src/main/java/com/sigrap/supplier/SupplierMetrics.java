@@ -0,0 +1,111 @@
+package com.sigrap.supplier;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * Entity class holding the running totals behind a supplier's performance
+ * metrics. One row per supplier, updated on every purchase order status
+ * change so that metrics never need to scan the order history.
+ * Stored without a foreign key so history survives supplier deletion.
+ *
+ * @see SupplierMetricsService
+ */
+@Entity
+@Table(name = "supplier_metrics")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierMetrics {
+
+  /**
+   * ID of the supplier.
+   */
+  @Id
+  @Column(name = "supplier_id")
+  private Long supplierId;
+
+  /**
+   * Number of orders submitted to the supplier.
+   */
+  @Column(name = "submitted_orders", nullable = false)
+  private int submittedOrders;
+
+  /**
+   * Number of orders received in full.
+   */
+  @Column(name = "delivered_orders", nullable = false)
+  private int deliveredOrders;
+
+  /**
+   * Number of orders cancelled after being submitted.
+   */
+  @Column(name = "cancelled_orders", nullable = false)
+  private int cancelledOrders;
+
+  /**
+   * Number of delivered orders that had an expected delivery date.
+   */
+  @Column(name = "scheduled_deliveries", nullable = false)
+  private int scheduledDeliveries;
+
+  /**
+   * Number of delivered orders received on or before their expected date.
+   */
+  @Column(name = "on_time_deliveries", nullable = false)
+  private int onTimeDeliveries;
+
+  /**
+   * Number of delivered orders whose lead time is known.
+   */
+  @Column(name = "lead_time_samples", nullable = false)
+  private int leadTimeSamples;
+
+  /**
+   * Sum of the minutes from submission to delivery of those orders.
+   */
+  @Column(name = "total_lead_time_minutes", nullable = false)
+  private long totalLeadTimeMinutes;
+
+  /**
+   * Units ordered on delivered or cancelled orders.
+   */
+  @Column(name = "ordered_units", nullable = false)
+  private long orderedUnits;
+
+  /**
+   * Units received on delivered or cancelled orders.
+   */
+  @Column(name = "received_units", nullable = false)
+  private long receivedUnits;
+
+  /**
+   * Value of all goods received from the supplier.
+   */
+  @Column(name = "total_spend", nullable = false, precision = 14, scale = 2)
+  @Builder.Default
+  private BigDecimal totalSpend = BigDecimal.ZERO;
+
+  /**
+   * Timestamp of the last order received in full.
+   */
+  @Column(name = "last_delivered_at")
+  private LocalDateTime lastDeliveredAt;
+
+  /**
+   * Timestamp of when the metrics were last updated.
+   */
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
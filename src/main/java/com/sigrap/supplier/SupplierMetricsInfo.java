@@ -0,0 +1,102 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the performance metrics of a supplier.
+ * Rates are percentages and are null while there is nothing to measure.
+ *
+ * @see SupplierMetricsService#findBySupplierId(Long, int)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Performance metrics of a supplier")
+public class SupplierMetricsInfo {
+
+  /**
+   * ID of the supplier.
+   */
+  @Schema(description = "ID of the supplier", example = "1")
+  private Long supplierId;
+
+  /**
+   * Number of orders submitted to the supplier.
+   */
+  @Schema(description = "Orders submitted to the supplier", example = "24")
+  private int submittedOrders;
+
+  /**
+   * Number of orders received in full.
+   */
+  @Schema(description = "Orders received in full", example = "20")
+  private int deliveredOrders;
+
+  /**
+   * Number of orders cancelled after being submitted.
+   */
+  @Schema(description = "Orders cancelled after submission", example = "1")
+  private int cancelledOrders;
+
+  /**
+   * Share of delivered orders received on or before their expected date.
+   */
+  @Schema(
+    description = "Percentage of deliveries on or before the expected date",
+    example = "90.00"
+  )
+  private BigDecimal onTimeRate;
+
+  /**
+   * Average number of days from submission to delivery.
+   */
+  @Schema(
+    description = "Average days from submission to delivery",
+    example = "4.5"
+  )
+  private BigDecimal averageLeadTimeDays;
+
+  /**
+   * Share of ordered units received on delivered or cancelled orders.
+   */
+  @Schema(
+    description = "Percentage of ordered units that were received",
+    example = "97.50"
+  )
+  private BigDecimal fillRate;
+
+  /**
+   * Share of submitted orders that were cancelled.
+   */
+  @Schema(
+    description = "Percentage of submitted orders that were cancelled",
+    example = "4.17"
+  )
+  private BigDecimal cancellationRate;
+
+  /**
+   * Value of all goods received from the supplier.
+   */
+  @Schema(description = "Value of all goods received", example = "15000000.00")
+  private BigDecimal totalSpend;
+
+  /**
+   * Timestamp of the last order received in full.
+   */
+  @Schema(description = "Timestamp of the last order received in full")
+  private LocalDateTime lastDeliveredAt;
+
+  /**
+   * Spend per month, oldest first, including months without receipts.
+   */
+  @Schema(description = "Spend per month, oldest first")
+  private List<SupplierMonthlySpendInfo> monthlySpend;
+}
@@ -0,0 +1,11 @@
+package com.sigrap.supplier;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for SupplierMetrics entity operations.
+ */
+@Repository
+public interface SupplierMetricsRepository
+  extends JpaRepository<SupplierMetrics, Long> {}
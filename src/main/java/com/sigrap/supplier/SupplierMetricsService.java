@@ -0,0 +1,345 @@
+package com.sigrap.supplier;
+
+import com.sigrap.common.ResourceChangedEvent;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining and reporting supplier performance metrics.
+ *
+ * <p>Metrics are kept as running totals in {@link SupplierMetrics} and
+ * {@link SupplierMonthlySpend}, updated by {@link PurchaseOrderService} in the
+ * same transaction as each status change. Reading them is a primary key
+ * lookup plus one small range query, however long the order history is.
+ * Updates lock the supplier row first, so concurrent changes to orders of the
+ * same supplier are applied one after the other.</p>
+ *
+ * <p>Each delivery also refreshes {@link Supplier#getAverageDeliveryTime()}
+ * with the measured average lead time. When it changes, a
+ * {@link ResourceChangedEvent} for {@value SupplierService#RESOURCE} is
+ * published so that the supplier listing version and the supplier ranking
+ * follow.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SupplierMetricsService {
+
+  private static final long MINUTES_PER_DAY = 24 * 60;
+  private static final int MAX_MONTHS = 120;
+
+  /**
+   * Repository for the running totals of each supplier.
+   */
+  private final SupplierMetricsRepository supplierMetricsRepository;
+
+  /**
+   * Repository for the monthly spend of each supplier.
+   */
+  private final SupplierMonthlySpendRepository supplierMonthlySpendRepository;
+
+  /**
+   * Repository used to lock suppliers and update their delivery time.
+   */
+  private final SupplierRepository supplierRepository;
+
+  /**
+   * Publisher notifying listeners of changed supplier delivery times.
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  private Clock clock = Clock.systemDefaultZone();
+
+  /**
+   * Counts an order submitted to its supplier.
+   *
+   * @param purchaseOrder The submitted order
+   */
+  @Transactional
+  public void recordSubmitted(PurchaseOrder purchaseOrder) {
+    SupplierMetrics metrics = lock(purchaseOrder.getSupplier().getId());
+    metrics.setSubmittedOrders(metrics.getSubmittedOrders() + 1);
+    supplierMetricsRepository.save(metrics);
+  }
+
+  /**
+   * Counts several orders submitted at once, locking and updating each
+   * supplier's metrics a single time. Suppliers are locked in ID order so
+   * that concurrent batches cannot deadlock.
+   *
+   * @param purchaseOrders The submitted orders
+   */
+  @Transactional
+  public void recordSubmitted(Collection<PurchaseOrder> purchaseOrders) {
+    Map<Long, Integer> counts = new TreeMap<>();
+    for (PurchaseOrder purchaseOrder : purchaseOrders) {
+      counts.merge(purchaseOrder.getSupplier().getId(), 1, Integer::sum);
+    }
+    counts.forEach((supplierId, count) -> {
+      SupplierMetrics metrics = lock(supplierId);
+      metrics.setSubmittedOrders(metrics.getSubmittedOrders() + count);
+      supplierMetricsRepository.save(metrics);
+    });
+  }
+
+  /**
+   * Adds the value of received goods to the supplier's spend, both in total
+   * and for the current month.
+   *
+   * @param purchaseOrder The order the goods were received on
+   * @param amount The value of the goods received
+   */
+  @Transactional
+  public void recordReceipt(PurchaseOrder purchaseOrder, BigDecimal amount) {
+    if (amount.signum() <= 0) {
+      return;
+    }
+    Long supplierId = purchaseOrder.getSupplier().getId();
+    SupplierMetrics metrics = lock(supplierId);
+    metrics.setTotalSpend(metrics.getTotalSpend().add(amount));
+    supplierMetricsRepository.save(metrics);
+
+    LocalDate month = LocalDate.now(clock).withDayOfMonth(1);
+    SupplierMonthlySpend spend = supplierMonthlySpendRepository
+      .findBySupplierIdAndMonth(supplierId, month)
+      .orElseGet(() ->
+        SupplierMonthlySpend.builder()
+          .supplierId(supplierId)
+          .month(month)
+          .build()
+      );
+    spend.setAmount(spend.getAmount().add(amount));
+    supplierMonthlySpendRepository.save(spend);
+  }
+
+  /**
+   * Records an order received in full: whether it arrived on time, how long
+   * it took since submission, and how many units were received.
+   *
+   * @param purchaseOrder The delivered order, with its delivery timestamp set
+   */
+  @Transactional
+  public void recordDelivered(PurchaseOrder purchaseOrder) {
+    Supplier supplier = lockSupplier(purchaseOrder.getSupplier().getId());
+    SupplierMetrics metrics = metricsOf(supplier.getId());
+    LocalDateTime deliveredAt = purchaseOrder.getDeliveredAt();
+
+    metrics.setDeliveredOrders(metrics.getDeliveredOrders() + 1);
+    metrics.setLastDeliveredAt(deliveredAt);
+    if (purchaseOrder.getDeliveryDate() != null) {
+      metrics.setScheduledDeliveries(metrics.getScheduledDeliveries() + 1);
+      if (!deliveredAt.toLocalDate().isAfter(purchaseOrder.getDeliveryDate())) {
+        metrics.setOnTimeDeliveries(metrics.getOnTimeDeliveries() + 1);
+      }
+    }
+    if (purchaseOrder.getSubmittedAt() != null) {
+      metrics.setLeadTimeSamples(metrics.getLeadTimeSamples() + 1);
+      metrics.setTotalLeadTimeMinutes(
+        metrics.getTotalLeadTimeMinutes() +
+        Duration.between(
+          purchaseOrder.getSubmittedAt(),
+          deliveredAt
+        ).toMinutes()
+      );
+      Integer averageDeliveryTime = (int) Math.round(
+        (double) metrics.getTotalLeadTimeMinutes() /
+        metrics.getLeadTimeSamples() /
+        MINUTES_PER_DAY
+      );
+      if (
+        !Objects.equals(averageDeliveryTime, supplier.getAverageDeliveryTime())
+      ) {
+        supplier.setAverageDeliveryTime(averageDeliveryTime);
+        eventPublisher.publishEvent(
+          ResourceChangedEvent.of(SupplierService.RESOURCE)
+        );
+      }
+    }
+    addUnits(metrics, purchaseOrder);
+    supplierMetricsRepository.save(metrics);
+  }
+
+  /**
+   * Records a cancelled order. Orders cancelled before being submitted never
+   * reached the supplier and are not counted.
+   *
+   * @param purchaseOrder The cancelled order
+   */
+  @Transactional
+  public void recordCancelled(PurchaseOrder purchaseOrder) {
+    if (purchaseOrder.getSubmittedAt() == null) {
+      return;
+    }
+    SupplierMetrics metrics = lock(purchaseOrder.getSupplier().getId());
+    metrics.setCancelledOrders(metrics.getCancelledOrders() + 1);
+    addUnits(metrics, purchaseOrder);
+    supplierMetricsRepository.save(metrics);
+  }
+
+  /**
+   * Records several orders cancelled at once, locking and updating each
+   * supplier's metrics a single time. Suppliers are locked in ID order so
+   * that concurrent batches cannot deadlock. Orders cancelled before being
+   * submitted are not counted.
+   *
+   * @param purchaseOrders The cancelled orders, with their items loaded
+   */
+  @Transactional
+  public void recordCancelled(Collection<PurchaseOrder> purchaseOrders) {
+    Map<Long, List<PurchaseOrder>> ordersBySupplier = new TreeMap<>();
+    for (PurchaseOrder purchaseOrder : purchaseOrders) {
+      if (purchaseOrder.getSubmittedAt() != null) {
+        ordersBySupplier
+          .computeIfAbsent(purchaseOrder.getSupplier().getId(), id ->
+            new ArrayList<>()
+          )
+          .add(purchaseOrder);
+      }
+    }
+    ordersBySupplier.forEach((supplierId, orders) -> {
+      SupplierMetrics metrics = lock(supplierId);
+      metrics.setCancelledOrders(metrics.getCancelledOrders() + orders.size());
+      orders.forEach(purchaseOrder -> addUnits(metrics, purchaseOrder));
+      supplierMetricsRepository.save(metrics);
+    });
+  }
+
+  /**
+   * Retrieves the performance metrics of a supplier.
+   *
+   * @param supplierId The ID of the supplier
+   * @param months Number of months of spend to include, counting the current
+   *        one
+   * @return The metrics, with zeros for a supplier without orders
+   * @throws EntityNotFoundException if the supplier is not found
+   * @throws IllegalArgumentException if the number of months is out of range
+   */
+  @Transactional(readOnly = true)
+  public SupplierMetricsInfo findBySupplierId(Long supplierId, int months) {
+    if (months < 1 || months > MAX_MONTHS) {
+      throw new IllegalArgumentException(
+        "Months must be between 1 and " + MAX_MONTHS
+      );
+    }
+    if (!supplierRepository.existsById(supplierId)) {
+      throw supplierNotFound(supplierId);
+    }
+    SupplierMetrics metrics = metricsOf(supplierId);
+
+    LocalDate from = LocalDate.now(clock)
+      .withDayOfMonth(1)
+      .minusMonths(months - 1L);
+    Map<LocalDate, BigDecimal> spendByMonth = supplierMonthlySpendRepository
+      .findBySupplierIdAndMonthGreaterThanEqualOrderByMonth(supplierId, from)
+      .stream()
+      .collect(
+        Collectors.toMap(
+          SupplierMonthlySpend::getMonth,
+          SupplierMonthlySpend::getAmount
+        )
+      );
+    List<SupplierMonthlySpendInfo> monthlySpend = new ArrayList<>();
+    for (int i = 0; i < months; i++) {
+      LocalDate month = from.plusMonths(i);
+      monthlySpend.add(
+        SupplierMonthlySpendInfo.builder()
+          .month(month)
+          .amount(spendByMonth.getOrDefault(month, BigDecimal.ZERO))
+          .build()
+      );
+    }
+
+    return SupplierMetricsInfo.builder()
+      .supplierId(supplierId)
+      .submittedOrders(metrics.getSubmittedOrders())
+      .deliveredOrders(metrics.getDeliveredOrders())
+      .cancelledOrders(metrics.getCancelledOrders())
+      .onTimeRate(
+        percentage(
+          metrics.getOnTimeDeliveries(),
+          metrics.getScheduledDeliveries()
+        )
+      )
+      .averageLeadTimeDays(
+        metrics.getLeadTimeSamples() == 0
+          ? null
+          : BigDecimal.valueOf(metrics.getTotalLeadTimeMinutes()).divide(
+            BigDecimal.valueOf(metrics.getLeadTimeSamples() * MINUTES_PER_DAY),
+            1,
+            RoundingMode.HALF_UP
+          )
+      )
+      .fillRate(
+        percentage(metrics.getReceivedUnits(), metrics.getOrderedUnits())
+      )
+      .cancellationRate(
+        percentage(metrics.getCancelledOrders(), metrics.getSubmittedOrders())
+      )
+      .totalSpend(metrics.getTotalSpend())
+      .lastDeliveredAt(metrics.getLastDeliveredAt())
+      .monthlySpend(monthlySpend)
+      .build();
+  }
+
+  private SupplierMetrics lock(Long supplierId) {
+    return metricsOf(lockSupplier(supplierId).getId());
+  }
+
+  private Supplier lockSupplier(Long supplierId) {
+    return supplierRepository
+      .findByIdForUpdate(supplierId)
+      .orElseThrow(() -> supplierNotFound(supplierId));
+  }
+
+  private SupplierMetrics metricsOf(Long supplierId) {
+    return supplierMetricsRepository
+      .findById(supplierId)
+      .orElseGet(() ->
+        SupplierMetrics.builder().supplierId(supplierId).build()
+      );
+  }
+
+  private static void addUnits(
+    SupplierMetrics metrics,
+    PurchaseOrder purchaseOrder
+  ) {
+    for (PurchaseOrderItem item : purchaseOrder.getItems()) {
+      metrics.setOrderedUnits(metrics.getOrderedUnits() + item.getQuantity());
+      metrics.setReceivedUnits(
+        metrics.getReceivedUnits() + item.getReceivedQuantity()
+      );
+    }
+  }
+
+  private static BigDecimal percentage(long part, long whole) {
+    if (whole == 0) {
+      return null;
+    }
+    return BigDecimal.valueOf(part * 100).divide(
+      BigDecimal.valueOf(whole),
+      2,
+      RoundingMode.HALF_UP
+    );
+  }
+
+  private static EntityNotFoundException supplierNotFound(Long supplierId) {
+    return new EntityNotFoundException(
+      "Supplier not found with id: " + supplierId
+    );
+  }
+}
@@ -0,0 +1,65 @@
+package com.sigrap.supplier;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the value of goods received from a supplier in
+ * one calendar month. Updated on every receipt.
+ *
+ * @see SupplierMetricsService
+ */
+@Entity
+@Table(
+  name = "supplier_monthly_spend",
+  indexes = {
+    @Index(
+      name = "idx_supplier_monthly_spend_supplier_month",
+      columnList = "supplier_id, spend_month",
+      unique = true
+    ),
+  }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierMonthlySpend {
+
+  /**
+   * Unique identifier for the row.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * ID of the supplier.
+   */
+  @Column(name = "supplier_id", nullable = false)
+  private Long supplierId;
+
+  /**
+   * First day of the month.
+   */
+  @Column(name = "spend_month", nullable = false)
+  private LocalDate month;
+
+  /**
+   * Value of goods received during the month.
+   */
+  @Column(nullable = false, precision = 14, scale = 2)
+  @Builder.Default
+  private BigDecimal amount = BigDecimal.ZERO;
+}
@@ -0,0 +1,32 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for the spend with a supplier in one month.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Value of goods received from a supplier in one month")
+public class SupplierMonthlySpendInfo {
+
+  /**
+   * First day of the month.
+   */
+  @Schema(description = "First day of the month", example = "2025-06-01")
+  private LocalDate month;
+
+  /**
+   * Value of goods received during the month.
+   */
+  @Schema(description = "Value of goods received", example = "1250000.00")
+  private BigDecimal amount;
+}
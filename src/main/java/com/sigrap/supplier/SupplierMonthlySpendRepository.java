@@ -0,0 +1,38 @@
+package com.sigrap.supplier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for SupplierMonthlySpend entity operations.
+ */
+@Repository
+public interface SupplierMonthlySpendRepository
+  extends JpaRepository<SupplierMonthlySpend, Long> {
+  /**
+   * Find the spend of a supplier in one month.
+   *
+   * @param supplierId the ID of the supplier
+   * @param month the first day of the month
+   * @return the spend row, if any goods were received that month
+   */
+  Optional<SupplierMonthlySpend> findBySupplierIdAndMonth(
+    Long supplierId,
+    LocalDate month
+  );
+
+  /**
+   * Find the monthly spend of a supplier from a given month on.
+   *
+   * @param supplierId the ID of the supplier
+   * @param from the first day of the earliest month to include
+   * @return the spend rows, oldest month first
+   */
+  List<SupplierMonthlySpend> findBySupplierIdAndMonthGreaterThanEqualOrderByMonth(
+    Long supplierId,
+    LocalDate from
+  );
+}
@@ -0,0 +1,107 @@
+package com.sigrap.supplier;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * Entity class representing one line of a supplier's price list: the terms
+ * on which a supplier sells a product.
+ * A supplier has at most one line per product. Rows hold only IDs so that
+ * price list imports can be written with plain JDBC batches.
+ *
+ * @see SupplierProductService
+ * @see SupplierRanking
+ */
+@Entity
+@Table(
+  name = "supplier_products",
+  indexes = {
+    @Index(
+      name = "uk_supplier_products_supplier_product",
+      columnList = "supplier_id, product_id",
+      unique = true
+    ),
+    @Index(
+      name = "idx_supplier_products_product_price",
+      columnList = "product_id, unit_price"
+    ),
+  }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierProduct {
+
+  /**
+   * Unique identifier for the price list line.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * ID of the supplier.
+   */
+  @Column(name = "supplier_id", nullable = false)
+  private Long supplierId;
+
+  /**
+   * ID of the product.
+   */
+  @Column(name = "product_id", nullable = false)
+  private Integer productId;
+
+  /**
+   * Code the supplier uses for the product.
+   */
+  @Column(name = "supplier_sku", length = 64)
+  private String supplierSku;
+
+  /**
+   * Price the supplier charges per unit of the product.
+   */
+  @Column(name = "unit_price", nullable = false, precision = 12, scale = 2)
+  private BigDecimal unitPrice;
+
+  /**
+   * Number of units the supplier sells together; orders are rounded up to a
+   * multiple of it.
+   */
+  @Column(name = "pack_size", nullable = false)
+  @Builder.Default
+  private int packSize = 1;
+
+  /**
+   * Days the supplier takes to deliver the product, null if unknown.
+   */
+  @Column(name = "lead_time_days")
+  private Integer leadTimeDays;
+
+  /**
+   * Timestamp of when the line was created.
+   */
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  /**
+   * Timestamp of when the line was last updated.
+   */
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,210 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for supplier price lists.
+ *
+ * <p>Each supplier has a price list with its SKU, unit price, pack size and
+ * lead time for the products it sells. The ranking endpoints tell which
+ * supplier sells a product cheapest and fastest; they are answered from
+ * memory, so replenishment and purchase order screens can call them for
+ * every line. Price lists can also be uploaded in bulk through
+ * {@code POST /api/imports/supplier-products}.</p>
+ *
+ * <p>Usage Examples:
+ * <pre>
+ * // Set a supplier's terms for a product
+ * PUT /api/suppliers/price-list
+ * {
+ *   "supplierId": 1,
+ *   "productId": 5,
+ *   "supplierSku": "OD-4410",
+ *   "unitPrice": 2.35,
+ *   "packSize": 12,
+ *   "leadTimeDays": 5
+ * }
+ *
+ * // Best supplier for each line of an order
+ * GET /api/suppliers/price-list/best?productIds=5,6,7
+ * </pre></p>
+ *
+ * @see SupplierProductService
+ */
+@RestController
+@RequestMapping("/api/suppliers")
+@RequiredArgsConstructor
+@Tag(
+  name = "Supplier Price Lists",
+  description = "Operations for managing supplier price lists and finding the best supplier"
+)
+public class SupplierProductController {
+
+  /**
+   * Service for price lists and supplier ranking.
+   */
+  private final SupplierProductService supplierProductService;
+
+  /**
+   * Retrieves the price list of a supplier.
+   *
+   * @param id The ID of the supplier
+   * @return The supplier's offers, ordered by product name
+   */
+  @Operation(
+    summary = "Get a supplier's price list",
+    description = "Retrieves the products a supplier sells and its terms"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Price list retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Supplier not found",
+        content = @Content
+      ),
+    }
+  )
+  @GetMapping("/{id}/price-list")
+  public List<SupplierProductInfo> findPriceList(
+    @Parameter(description = "ID of the supplier") @PathVariable Long id
+  ) {
+    return supplierProductService.findBySupplierId(id);
+  }
+
+  /**
+   * Retrieves the best supplier offer for each of the given products.
+   *
+   * @param productIds IDs of the products
+   * @return The best offers, leaving out products no supplier lists
+   */
+  @Operation(
+    summary = "Get the best supplier of products",
+    description = "Retrieves the cheapest, then fastest, offer for each product"
+  )
+  @ApiResponse(
+    responseCode = "200",
+    description = "Best offers retrieved successfully"
+  )
+  @GetMapping("/price-list/best")
+  public List<SupplierProductInfo> findBest(
+    @Parameter(
+      description = "IDs of the products",
+      required = true
+    ) @RequestParam List<Integer> productIds
+  ) {
+    return supplierProductService.findBest(productIds);
+  }
+
+  /**
+   * Retrieves every supplier offer for a product, best first.
+   *
+   * @param productId The ID of the product
+   * @return The ranked offers
+   */
+  @Operation(
+    summary = "Rank the suppliers of a product",
+    description = "Retrieves every offer for a product, cheapest and fastest first"
+  )
+  @ApiResponse(
+    responseCode = "200",
+    description = "Offers retrieved successfully"
+  )
+  @GetMapping("/price-list/products/{productId}")
+  public List<SupplierProductInfo> findRanking(
+    @Parameter(
+      description = "ID of the product"
+    ) @PathVariable Integer productId
+  ) {
+    return supplierProductService.findRanking(productId);
+  }
+
+  /**
+   * Creates or replaces a supplier's terms for a product.
+   *
+   * @param data The supplier, product and terms
+   * @return The saved offer
+   */
+  @Operation(
+    summary = "Set a price list line",
+    description = "Creates or replaces a supplier's terms for a product"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Price list line saved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid input data",
+        content = @Content
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Supplier or product not found",
+        content = @Content
+      ),
+    }
+  )
+  @PutMapping("/price-list")
+  public SupplierProductInfo save(
+    @Parameter(
+      description = "Price list line to save",
+      required = true
+    ) @Valid @RequestBody SupplierProductData data
+  ) {
+    return supplierProductService.save(data);
+  }
+
+  /**
+   * Deletes a price list line.
+   *
+   * @param lineId The ID of the line
+   */
+  @Operation(
+    summary = "Delete a price list line",
+    description = "Removes a product from a supplier's price list"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "204",
+        description = "Price list line deleted successfully"
+      ),
+      @ApiResponse(
+        responseCode = "404",
+        description = "Price list line not found",
+        content = @Content
+      ),
+    }
+  )
+  @DeleteMapping("/price-list/{lineId}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void delete(
+    @Parameter(description = "ID of the line") @PathVariable Long lineId
+  ) {
+    supplierProductService.delete(lineId);
+  }
+}
@@ -0,0 +1,77 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for creating or updating a line of a supplier's
+ * price list, through the API or a bulk import.
+ *
+ * <p>Validation Rules:
+ * <ul>
+ *   <li>Supplier and product IDs must not be null</li>
+ *   <li>Unit price must be zero or positive</li>
+ *   <li>Pack size, when given, must be positive; it defaults to 1</li>
+ *   <li>Lead time, when given, must be zero or positive</li>
+ * </ul></p>
+ *
+ * @see SupplierProduct
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Supplier price list line creation and update data")
+public class SupplierProductData {
+
+  /**
+   * ID of the supplier.
+   */
+  @NotNull(message = "Supplier ID cannot be null")
+  @Schema(description = "ID of the supplier", example = "1")
+  private Long supplierId;
+
+  /**
+   * ID of the product.
+   */
+  @NotNull(message = "Product ID cannot be null")
+  @Schema(description = "ID of the product", example = "1")
+  private Integer productId;
+
+  /**
+   * Code the supplier uses for the product.
+   */
+  @Size(max = 64, message = "Supplier SKU must be less than 64 characters")
+  @Schema(description = "Code the supplier uses for the product", example = "OD-4410")
+  private String supplierSku;
+
+  /**
+   * Price the supplier charges per unit.
+   */
+  @NotNull(message = "Unit price cannot be null")
+  @PositiveOrZero(message = "Unit price must be zero or positive")
+  @Schema(description = "Price per unit", example = "2.35")
+  private BigDecimal unitPrice;
+
+  /**
+   * Number of units sold together, 1 if not given.
+   */
+  @Positive(message = "Pack size must be positive")
+  @Schema(description = "Number of units sold together", example = "12")
+  private Integer packSize;
+
+  /**
+   * Days the supplier takes to deliver the product.
+   */
+  @PositiveOrZero(message = "Lead time must be zero or positive")
+  @Schema(description = "Days the supplier takes to deliver", example = "5")
+  private Integer leadTimeDays;
+}
@@ -0,0 +1,170 @@
+package com.sigrap.supplier;
+
+import com.sigrap.bulkimport.ImportHandler;
+import com.sigrap.bulkimport.ImportRow;
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.product.ProductRepository;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk import steps for supplier price lists.
+ *
+ * <p>Suppliers and products are checked for a whole chunk with one query
+ * each, and rows pointing at unknown ones are rejected. A row for a supplier
+ * and product that already have a line replaces its terms, so re-uploading
+ * an updated price list is safe; when a file repeats a line, the last row
+ * wins.</p>
+ *
+ * @see com.sigrap.bulkimport.BulkImportService
+ */
+@Component
+@RequiredArgsConstructor
+public class SupplierProductImportHandler
+  implements ImportHandler<SupplierProductData> {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO supplier_products (supplier_id, product_id, supplier_sku, " +
+    "unit_price, pack_size, lead_time_days, created_at, updated_at) " +
+    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String UPDATE_SQL =
+    "UPDATE supplier_products SET supplier_sku = ?, unit_price = ?, " +
+    "pack_size = ?, lead_time_days = ?, updated_at = ? WHERE id = ?";
+
+  private final SupplierRepository supplierRepository;
+  private final ProductRepository productRepository;
+  private final SupplierProductRepository supplierProductRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public Class<SupplierProductData> dataType() {
+    return SupplierProductData.class;
+  }
+
+  @Override
+  public void resolve(List<ImportRow<SupplierProductData>> rows) {
+    Set<Long> supplierIds = new HashSet<>();
+    Set<Integer> productIds = new HashSet<>();
+    for (ImportRow<SupplierProductData> row : rows) {
+      supplierIds.add(row.getData().getSupplierId());
+      productIds.add(row.getData().getProductId());
+    }
+    Set<Long> existingSuppliers = new HashSet<>(
+      supplierRepository.findExistingIds(supplierIds)
+    );
+    Set<Integer> existingProducts = new HashSet<>(
+      productRepository.findExistingIds(productIds)
+    );
+
+    for (ImportRow<SupplierProductData> row : rows) {
+      SupplierProductData data = row.getData();
+      if (!existingSuppliers.contains(data.getSupplierId())) {
+        row.reject("Supplier not found: " + data.getSupplierId());
+      } else if (!existingProducts.contains(data.getProductId())) {
+        row.reject("Product not found: " + data.getProductId());
+      }
+    }
+  }
+
+  @Override
+  @Transactional
+  public void insert(List<ImportRow<SupplierProductData>> rows) {
+    Map<String, SupplierProductData> lines = new LinkedHashMap<>();
+    Set<Integer> productIds = new HashSet<>();
+    for (ImportRow<SupplierProductData> row : rows) {
+      SupplierProductData data = row.getData();
+      lines.put(key(data.getSupplierId(), data.getProductId()), data);
+      productIds.add(data.getProductId());
+    }
+    Map<String, Long> existing = new HashMap<>();
+    List<SupplierProduct> current = supplierProductRepository.findByProductIdIn(
+      productIds
+    );
+    for (SupplierProduct line : current) {
+      existing.put(
+        key(line.getSupplierId(), line.getProductId()),
+        line.getId()
+      );
+    }
+
+    List<SupplierProductData> inserts = new ArrayList<>();
+    List<Map.Entry<Long, SupplierProductData>> updates = new ArrayList<>();
+    lines.forEach((line, data) -> {
+      Long id = existing.get(line);
+      if (id == null) {
+        inserts.add(data);
+      } else {
+        updates.add(Map.entry(id, data));
+      }
+    });
+
+    LocalDateTime now = LocalDateTime.now();
+    if (!updates.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+        UPDATE_SQL,
+        updates,
+        updates.size(),
+        (ps, update) -> {
+          SupplierProductData data = update.getValue();
+          ps.setString(1, data.getSupplierSku());
+          ps.setBigDecimal(2, data.getUnitPrice());
+          ps.setInt(3, packSize(data));
+          ps.setObject(4, data.getLeadTimeDays(), Types.INTEGER);
+          ps.setObject(5, now);
+          ps.setLong(6, update.getKey());
+        }
+      );
+    }
+    if (!inserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        inserts,
+        inserts.size(),
+        (ps, data) -> {
+          ps.setLong(1, data.getSupplierId());
+          ps.setInt(2, data.getProductId());
+          ps.setString(3, data.getSupplierSku());
+          ps.setBigDecimal(4, data.getUnitPrice());
+          ps.setInt(5, packSize(data));
+          ps.setObject(6, data.getLeadTimeDays(), Types.INTEGER);
+          ps.setObject(7, now);
+          ps.setObject(8, now);
+        }
+      );
+    }
+  }
+
+  /**
+   * Rebuilds the supplier ranking once the import has finished.
+   *
+   * @param imported The number of price list rows imported
+   */
+  @Override
+  public void afterImport(int imported) {
+    eventPublisher.publishEvent(
+      ResourceChangedEvent.of(SupplierProductService.RESOURCE)
+    );
+  }
+
+  private static int packSize(SupplierProductData data) {
+    return data.getPackSize() == null ? 1 : data.getPackSize();
+  }
+
+  private static String key(Long supplierId, Integer productId) {
+    return supplierId + ":" + productId;
+  }
+}
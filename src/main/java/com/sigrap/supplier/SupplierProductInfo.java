@@ -0,0 +1,78 @@
+package com.sigrap.supplier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a supplier's offer of a product.
+ * The lead time falls back to the supplier's average delivery time when the
+ * price list does not give one.
+ *
+ * @see SupplierProduct
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Offer of a product by a supplier")
+public class SupplierProductInfo {
+
+  /**
+   * ID of the price list line.
+   */
+  @Schema(description = "ID of the price list line", example = "1")
+  private Long id;
+
+  /**
+   * ID of the supplier.
+   */
+  @Schema(description = "ID of the supplier", example = "1")
+  private Long supplierId;
+
+  /**
+   * Name of the supplier.
+   */
+  @Schema(description = "Name of the supplier", example = "Office Depot")
+  private String supplierName;
+
+  /**
+   * ID of the product.
+   */
+  @Schema(description = "ID of the product", example = "1")
+  private Integer productId;
+
+  /**
+   * Code the supplier uses for the product.
+   */
+  @Schema(description = "Code the supplier uses for the product", example = "OD-4410")
+  private String supplierSku;
+
+  /**
+   * Price the supplier charges per unit.
+   */
+  @Schema(description = "Price per unit", example = "2.35")
+  private BigDecimal unitPrice;
+
+  /**
+   * Number of units sold together.
+   */
+  @Schema(description = "Number of units sold together", example = "12")
+  private int packSize;
+
+  /**
+   * Days the supplier takes to deliver, null if unknown.
+   */
+  @Schema(description = "Days the supplier takes to deliver", example = "5")
+  private Integer leadTimeDays;
+
+  /**
+   * Timestamp of when the line was last updated.
+   */
+  @Schema(description = "Timestamp of the last update")
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,83 @@
+package com.sigrap.supplier;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for SupplierProduct entity operations.
+ *
+ * <p>Offer queries return scalar rows of
+ * {@code [id, supplierId, supplierName, productId, supplierSku, unitPrice,
+ * packSize, leadTimeDays, updatedAt]}, where the lead time falls back to
+ * the supplier's average delivery time. Lines whose supplier or product no
+ * longer exists are left out.</p>
+ */
+@Repository
+public interface SupplierProductRepository
+  extends JpaRepository<SupplierProduct, Long> {
+  /**
+   * Finds every offer of every supplier.
+   *
+   * @return Offer rows
+   */
+  @Query(
+    "SELECT sp.id, s.id, s.name, p.id, sp.supplierSku, " +
+    "sp.unitPrice, sp.packSize, COALESCE(sp.leadTimeDays, " +
+    "s.averageDeliveryTime), sp.updatedAt FROM SupplierProduct sp " +
+    "JOIN Supplier s ON s.id = sp.supplierId " +
+    "JOIN Product p ON p.id = sp.productId"
+  )
+  List<Object[]> findOffers();
+
+  /**
+   * Finds the offers of one supplier, ordered by product name.
+   *
+   * @param supplierId the ID of the supplier
+   * @return Offer rows
+   */
+  @Query(
+    "SELECT sp.id, s.id, s.name, p.id, sp.supplierSku, " +
+    "sp.unitPrice, sp.packSize, COALESCE(sp.leadTimeDays, " +
+    "s.averageDeliveryTime), sp.updatedAt FROM SupplierProduct sp " +
+    "JOIN Supplier s ON s.id = sp.supplierId " +
+    "JOIN Product p ON p.id = sp.productId " +
+    "WHERE sp.supplierId = :supplierId ORDER BY p.name, p.id"
+  )
+  List<Object[]> findOffersBySupplierId(@Param("supplierId") Long supplierId);
+
+  /**
+   * Finds the price list line of a supplier for a product.
+   *
+   * @param supplierId the ID of the supplier
+   * @param productId the ID of the product
+   * @return the line, if the supplier sells the product
+   */
+  Optional<SupplierProduct> findBySupplierIdAndProductId(
+    Long supplierId,
+    Integer productId
+  );
+
+  /**
+   * Finds the price list lines of the given products.
+   *
+   * @param productIds IDs of the products
+   * @return the lines of every supplier for those products
+   */
+  List<SupplierProduct> findByProductIdIn(Collection<Integer> productIds);
+
+  /**
+   * Deletes the price lists of the given suppliers.
+   *
+   * @param supplierIds IDs of the suppliers
+   * @return the number of lines deleted
+   */
+  @Modifying
+  @Query("DELETE FROM SupplierProduct sp WHERE sp.supplierId IN :supplierIds")
+  int deleteBySupplierIdIn(@Param("supplierIds") Collection<Long> supplierIds);
+}
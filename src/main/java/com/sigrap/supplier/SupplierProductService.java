@@ -0,0 +1,180 @@
+package com.sigrap.supplier;
+
+import com.sigrap.audit.Auditable;
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.product.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service managing supplier price lists and answering which supplier to
+ * order a product from.
+ *
+ * <p>Price lists are read and written in the database; best-supplier
+ * questions are answered by {@link SupplierRanking} without a query. Every
+ * write publishes a {@link ResourceChangedEvent} for {@value #RESOURCE}, and
+ * the ranking is rebuilt once it commits.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SupplierProductService {
+
+  /**
+   * Name of the price list collection in change notifications.
+   */
+  public static final String RESOURCE = "supplierProducts";
+
+  /**
+   * Repository for price list lines.
+   */
+  private final SupplierProductRepository supplierProductRepository;
+
+  /**
+   * Repository used to check suppliers and read their delivery time.
+   */
+  private final SupplierRepository supplierRepository;
+
+  /**
+   * Repository used to check that products exist.
+   */
+  private final ProductRepository productRepository;
+
+  /**
+   * In-memory ranking answering best-supplier queries.
+   */
+  private final SupplierRanking supplierRanking;
+
+  /**
+   * Publisher for change notifications.
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Retrieves the price list of a supplier, ordered by product name.
+   *
+   * @param supplierId The ID of the supplier
+   * @return The supplier's offers
+   * @throws EntityNotFoundException if the supplier is not found
+   */
+  @Transactional(readOnly = true)
+  public List<SupplierProductInfo> findBySupplierId(Long supplierId) {
+    if (!supplierRepository.existsById(supplierId)) {
+      throw supplierNotFound(supplierId);
+    }
+    return supplierProductRepository
+      .findOffersBySupplierId(supplierId)
+      .stream()
+      .map(SupplierRanking::toInfo)
+      .toList();
+  }
+
+  /**
+   * Retrieves every offer for a product, best first.
+   *
+   * @param productId The ID of the product
+   * @return The ranked offers, empty if no supplier lists the product
+   */
+  public List<SupplierProductInfo> findRanking(Integer productId) {
+    return supplierRanking.rank(productId);
+  }
+
+  /**
+   * Retrieves the best offer for each of the given products.
+   *
+   * @param productIds IDs of the products
+   * @return The best offers in the order given, leaving out products no
+   *         supplier lists
+   */
+  public List<SupplierProductInfo> findBest(Collection<Integer> productIds) {
+    return new ArrayList<>(supplierRanking.best(productIds).values());
+  }
+
+  /**
+   * Creates or replaces the line of a supplier's price list for a product.
+   *
+   * @param data The supplier, product and terms
+   * @return The saved offer
+   * @throws EntityNotFoundException if the supplier or product is not found
+   */
+  @Transactional
+  @Auditable(
+    action = "ACTUALIZAR",
+    entity = "LISTA_PRECIOS_PROVEEDOR",
+    captureDetails = true
+  )
+  public SupplierProductInfo save(SupplierProductData data) {
+    Supplier supplier = supplierRepository
+      .findById(data.getSupplierId())
+      .orElseThrow(() -> supplierNotFound(data.getSupplierId()));
+    if (!productRepository.existsById(data.getProductId())) {
+      throw new EntityNotFoundException(
+        "Product not found with id: " + data.getProductId()
+      );
+    }
+
+    SupplierProduct line = supplierProductRepository
+      .findBySupplierIdAndProductId(data.getSupplierId(), data.getProductId())
+      .orElseGet(() ->
+        SupplierProduct.builder()
+          .supplierId(data.getSupplierId())
+          .productId(data.getProductId())
+          .build()
+      );
+    line.setSupplierSku(data.getSupplierSku());
+    line.setUnitPrice(data.getUnitPrice());
+    line.setPackSize(data.getPackSize() == null ? 1 : data.getPackSize());
+    line.setLeadTimeDays(data.getLeadTimeDays());
+    SupplierProduct saved = supplierProductRepository.save(line);
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
+
+    return SupplierProductInfo.builder()
+      .id(saved.getId())
+      .supplierId(supplier.getId())
+      .supplierName(supplier.getName())
+      .productId(saved.getProductId())
+      .supplierSku(saved.getSupplierSku())
+      .unitPrice(saved.getUnitPrice())
+      .packSize(saved.getPackSize())
+      .leadTimeDays(
+        saved.getLeadTimeDays() != null
+          ? saved.getLeadTimeDays()
+          : supplier.getAverageDeliveryTime()
+      )
+      .updatedAt(saved.getUpdatedAt())
+      .build();
+  }
+
+  /**
+   * Deletes a line of a supplier's price list.
+   *
+   * @param id The ID of the line
+   * @throws EntityNotFoundException if the line is not found
+   */
+  @Transactional
+  @Auditable(
+    action = "ELIMINAR",
+    entity = "LISTA_PRECIOS_PROVEEDOR",
+    entityIdParam = "id"
+  )
+  public void delete(Long id) {
+    SupplierProduct line = supplierProductRepository
+      .findById(id)
+      .orElseThrow(() ->
+        new EntityNotFoundException("Supplier product not found with id: " + id)
+      );
+    supplierProductRepository.delete(line);
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
+  }
+
+  private static EntityNotFoundException supplierNotFound(Long supplierId) {
+    return new EntityNotFoundException(
+      "Supplier not found with id: " + supplierId
+    );
+  }
+}
@@ -0,0 +1,200 @@
+package com.sigrap.supplier;
+
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.product.ProductChangedEvent;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory ranking of the suppliers of each product, used to pick who to
+ * order a product from.
+ *
+ * <p>Offers are ranked by unit price, then by lead time, unknown lead times
+ * last, then by supplier ID so that ties are stable. A lookup is a single
+ * hash map read and never touches the database, so screens can ask for the
+ * best supplier of every line they show.</p>
+ *
+ * <p>The ranking is built when the application starts and rebuilt with one
+ * query once a change to price lists or suppliers commits, or a catalog-wide
+ * product change does. Readers never block: each rebuild swaps in a freshly
+ * built, immutable map.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SupplierRanking {
+
+  private static final Comparator<SupplierProductInfo> RANK = Comparator
+    .comparing(SupplierProductInfo::getUnitPrice)
+    .thenComparing(
+      SupplierProductInfo::getLeadTimeDays,
+      Comparator.nullsLast(Comparator.naturalOrder())
+    )
+    .thenComparing(SupplierProductInfo::getSupplierId);
+
+  private final SupplierProductRepository supplierProductRepository;
+
+  private volatile Map<Integer, List<SupplierProductInfo>> offers = Map.of();
+
+  /**
+   * Rebuilds the whole ranking from the database.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    long start = System.nanoTime();
+    Map<Integer, List<SupplierProductInfo>> byProduct = new HashMap<>();
+    List<Object[]> rows = supplierProductRepository.findOffers();
+    for (Object[] row : rows) {
+      SupplierProductInfo offer = toInfo(row);
+      byProduct
+        .computeIfAbsent(offer.getProductId(), id -> new ArrayList<>())
+        .add(offer);
+    }
+    Map<Integer, List<SupplierProductInfo>> ranked = new HashMap<>();
+    byProduct.forEach((productId, productOffers) -> {
+      productOffers.sort(RANK);
+      ranked.put(productId, List.copyOf(productOffers));
+    });
+    offers = Map.copyOf(ranked);
+    log.info(
+      "Supplier ranking built with {} offers for {} products in {} ms",
+      rows.size(),
+      ranked.size(),
+      (System.nanoTime() - start) / 1_000_000
+    );
+  }
+
+  /**
+   * Rebuilds the ranking once a price list or supplier change has committed.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onResourceChanged(ResourceChangedEvent event) {
+    String resource = event.getResource();
+    if (
+      SupplierProductService.RESOURCE.equals(resource) ||
+      SupplierService.RESOURCE.equals(resource)
+    ) {
+      rebuildSafely(event);
+    }
+  }
+
+  /**
+   * Rebuilds the ranking once a catalog-wide product change has committed,
+   * dropping the offers of deleted products.
+   *
+   * @param event The change notification
+   */
+  @TransactionalEventListener(
+    phase = TransactionPhase.AFTER_COMMIT,
+    fallbackExecution = true
+  )
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    if (event.isCatalogWide()) {
+      rebuildSafely(event);
+    }
+  }
+
+  /**
+   * Returns the offers for a product, best first.
+   *
+   * @param productId The ID of the product
+   * @return The ranked offers, empty if no supplier lists the product
+   */
+  public List<SupplierProductInfo> rank(Integer productId) {
+    return offers.getOrDefault(productId, List.of());
+  }
+
+  /**
+   * Returns the best offer for a product.
+   *
+   * @param productId The ID of the product
+   * @return The best offer, empty if no supplier lists the product
+   */
+  public Optional<SupplierProductInfo> best(Integer productId) {
+    List<SupplierProductInfo> ranked = rank(productId);
+    return ranked.isEmpty() ? Optional.empty() : Optional.of(ranked.get(0));
+  }
+
+  /**
+   * Returns the best offer for each of the given products.
+   *
+   * @param productIds IDs of the products
+   * @return The best offer keyed by product ID, in the order given, without
+   *         the products no supplier lists
+   */
+  public Map<Integer, SupplierProductInfo> best(
+    Collection<Integer> productIds
+  ) {
+    Map<Integer, List<SupplierProductInfo>> current = offers;
+    Map<Integer, SupplierProductInfo> result = new LinkedHashMap<>();
+    for (Integer productId : productIds) {
+      List<SupplierProductInfo> ranked = current.get(productId);
+      if (ranked != null) {
+        result.put(productId, ranked.get(0));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of products with at least one offer.
+   *
+   * @return The ranked product count
+   */
+  public int size() {
+    return offers.size();
+  }
+
+  /**
+   * Converts an offer row of {@link SupplierProductRepository} to its DTO.
+   *
+   * @param row The offer row
+   * @return The offer
+   */
+  static SupplierProductInfo toInfo(Object[] row) {
+    return SupplierProductInfo.builder()
+      .id(((Number) row[0]).longValue())
+      .supplierId(((Number) row[1]).longValue())
+      .supplierName((String) row[2])
+      .productId(((Number) row[3]).intValue())
+      .supplierSku((String) row[4])
+      .unitPrice((BigDecimal) row[5])
+      .packSize(((Number) row[6]).intValue())
+      .leadTimeDays(row[7] == null ? null : ((Number) row[7]).intValue())
+      .updatedAt((LocalDateTime) row[8])
+      .build();
+  }
+
+  private void rebuildSafely(Object event) {
+    try {
+      rebuild();
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild supplier ranking for {}", event, e);
+    }
+  }
+}
@@ -1,6 +1,14 @@
 package com.sigrap.supplier;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -8,4 +16,32 @@ import org.springframework.stereotype.Repository;
  * Provides basic CRUD operations for managing suppliers in the database.
  */
 @Repository
-public interface SupplierRepository extends JpaRepository<Supplier, Long> {}
+public interface SupplierRepository extends JpaRepository<Supplier, Long> {
+  /**
+   * Finds the most recent modification time of any supplier.
+   *
+   * @return The latest {@code updatedAt}, empty if there are no suppliers
+   */
+  @Query("SELECT MAX(s.updatedAt) FROM Supplier s")
+  Optional<LocalDateTime> findLastUpdatedAt();
+
+  /**
+   * Finds which of the given supplier IDs exist.
+   *
+   * @param ids IDs to check
+   * @return The IDs of existing suppliers
+   */
+  @Query("SELECT s.id FROM Supplier s WHERE s.id IN :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Finds a supplier by ID and locks its row until the end of the current
+   * transaction, serializing updates of the supplier's metrics.
+   *
+   * @param id the ID of the supplier
+   * @return the locked supplier, if found
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM Supplier s WHERE s.id = :id")
+  Optional<Supplier> findByIdForUpdate(@Param("id") Long id);
+}
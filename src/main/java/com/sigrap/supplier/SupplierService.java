@@ -1,9 +1,13 @@
 package com.sigrap.supplier;
 
 import com.sigrap.audit.Auditable;
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.common.ResourceVersion;
+import com.sigrap.common.ResourceVersions;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +19,11 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SupplierService {
 
+  /**
+   * Name of the supplier collection in {@link ResourceVersions}.
+   */
+  public static final String RESOURCE = "suppliers";
+
   /**
    * Repository for database operations on suppliers.
    * Provides CRUD functionality and custom queries for supplier entities.
@@ -27,6 +36,35 @@ public class SupplierService {
    */
   private final SupplierMapper supplierMapper;
 
+  /**
+   * Repository for supplier price lists.
+   * Used to remove a supplier's price list together with the supplier.
+   */
+  private final SupplierProductRepository supplierProductRepository;
+
+  /**
+   * Publisher for change notifications.
+   * Used to invalidate the supplier listing version once a write has committed.
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Version counters used for conditional GET requests.
+   */
+  private final ResourceVersions resourceVersions;
+
+  /**
+   * Returns the current version of the supplier collection.
+   * Does not access the database once the version is known.
+   *
+   * @return The current version
+   */
+  public ResourceVersion currentVersion() {
+    return resourceVersions.current(RESOURCE, () ->
+      supplierRepository.findLastUpdatedAt().orElse(null)
+    );
+  }
+
   /**
    * Retrieves all suppliers from the database.
    *
@@ -69,6 +107,7 @@ public class SupplierService {
   public SupplierInfo create(SupplierData supplierData) {
     Supplier supplier = supplierMapper.toEntity(supplierData);
     Supplier savedSupplier = supplierRepository.save(supplier);
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
     return supplierMapper.toInfo(savedSupplier);
   }
 
@@ -95,11 +134,12 @@ public class SupplierService {
       );
     supplierMapper.updateEntityFromData(supplierData, supplier);
     Supplier updatedSupplier = supplierRepository.save(supplier);
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
     return supplierMapper.toInfo(updatedSupplier);
   }
 
   /**
-   * Deletes a supplier by its ID.
+   * Deletes a supplier by its ID, together with its price list.
    *
    * @param id The ID of the supplier to delete
    * @throws EntityNotFoundException if the supplier is not found
@@ -112,11 +152,13 @@ public class SupplierService {
       .orElseThrow(() ->
         new EntityNotFoundException("Supplier not found with id: " + id)
       );
+    supplierProductRepository.deleteBySupplierIdIn(List.of(id));
     supplierRepository.delete(supplier);
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
   }
 
   /**
-   * Deletes multiple suppliers by their IDs.
+   * Deletes multiple suppliers by their IDs, together with their price lists.
    * Validates all IDs exist before performing the deletion.
    *
    * @param ids List of supplier IDs to delete
@@ -136,6 +178,8 @@ public class SupplierService {
         );
       }
     });
+    supplierProductRepository.deleteBySupplierIdIn(ids);
     supplierRepository.deleteAllById(ids);
+    eventPublisher.publishEvent(ResourceChangedEvent.of(RESOURCE));
   }
 }
@@ -4,7 +4,7 @@
  * <p>This package contains all functionality related to supplier management including:
  * <ul>
  *   <li>Supplier CRUD operations</li>
- *   <li>Supplier catalog management</li>
+ *   <li>Supplier price lists and best-supplier ranking</li>
  *   <li>Order processing for suppliers</li>
  *   <li>Payment tracking</li>
  * </ul></p>
@@ -47,6 +47,9 @@
  *   <li>{@link com.sigrap.supplier.PurchaseOrderData} - Input DTO for orders</li>
  *   <li>{@link com.sigrap.supplier.PurchaseOrderInfo} - Output DTO for orders</li>
  *   <li>{@link com.sigrap.supplier.PurchaseOrderItem} - Entity for items in an order</li>
+ *   <li>{@link com.sigrap.supplier.SupplierProduct} - Entity for a line of a supplier's price list</li>
+ *   <li>{@link com.sigrap.supplier.SupplierProductService} - Business logic for price lists</li>
+ *   <li>{@link com.sigrap.supplier.SupplierRanking} - In-memory ranking of the suppliers of each product</li>
  * </ul></p>
  *
  * <p>Domain-specific Enumerations:
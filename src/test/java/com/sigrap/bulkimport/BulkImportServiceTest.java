@@ -0,0 +1,229 @@
+package com.sigrap.bulkimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigrap.supplier.SupplierData;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BulkImportServiceTest {
+
+  private BulkImportService bulkImportService;
+  private RecordingHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    bulkImportService = new BulkImportService(
+      new ObjectMapper(),
+      Validation.buildDefaultValidatorFactory().getValidator(),
+      null,
+      null,
+      null,
+      null
+    );
+    ReflectionTestUtils.setField(bulkImportService, "batchSize", 2);
+    ReflectionTestUtils.setField(bulkImportService, "maxReportedErrors", 10);
+    handler = new RecordingHandler();
+  }
+
+  @Test
+  void importRecords_shouldInsertValidCsvRowsInBatches() {
+    String csv = """
+      name,contactPerson,address,averageDeliveryTime
+      Acme,Ana,"Calle 1, Bogotá",3
+      "Papeles \"\"El Sol\"\"\",,,
+      Tintas SAS,Luis,,5
+      """;
+
+    ImportResultInfo result = bulkImportService.importRecords(
+      input(csv),
+      ImportFormat.CSV,
+      handler
+    );
+
+    assertThat(result.getTotalRows()).isEqualTo(3);
+    assertThat(result.getImported()).isEqualTo(3);
+    assertThat(result.getFailed()).isZero();
+    assertThat(handler.batches).hasSize(2);
+    assertThat(handler.inserted)
+      .extracting(SupplierData::getName)
+      .containsExactly("Acme", "Papeles \"El Sol\"", "Tintas SAS");
+    assertThat(handler.inserted.get(0).getAddress()).isEqualTo(
+      "Calle 1, Bogotá"
+    );
+    assertThat(handler.inserted.get(1).getContactPerson()).isNull();
+    assertThat(handler.afterImportCount).isEqualTo(3);
+  }
+
+  @Test
+  void importRecords_shouldReportInvalidRowsAndContinue() {
+    String jsonLines = """
+      {"name": "Acme", "averageDeliveryTime": 3}
+      {"name": ""}
+      not json
+      {"name": "Tintas", "averageDeliveryTime": "soon"}
+      {"name": "Papeles", "email": "invalid"}
+      {"name": "Sol"}
+      """;
+
+    ImportResultInfo result = bulkImportService.importRecords(
+      input(jsonLines),
+      ImportFormat.JSON_LINES,
+      handler
+    );
+
+    assertThat(result.getTotalRows()).isEqualTo(6);
+    assertThat(result.getImported()).isEqualTo(2);
+    assertThat(result.getFailed()).isEqualTo(4);
+    assertThat(result.getErrors())
+      .extracting(ImportRowErrorInfo::getRowNumber)
+      .containsExactly(2L, 3L, 4L, 5L);
+    assertThat(result.getErrors().get(0).getMessage()).startsWith("name:");
+    assertThat(result.getErrors().get(1).getMessage()).startsWith(
+      "Invalid JSON"
+    );
+    assertThat(result.getErrors().get(2).getMessage()).isEqualTo(
+      "averageDeliveryTime: invalid value"
+    );
+    assertThat(result.getErrors().get(3).getMessage()).startsWith("email:");
+  }
+
+  @Test
+  void importRecords_shouldReportRowsRejectedByHandler() {
+    handler.rejectedName = "Duplicate";
+    String csv = """
+      name
+      Acme
+      Duplicate
+      """;
+
+    ImportResultInfo result = bulkImportService.importRecords(
+      input(csv),
+      ImportFormat.CSV,
+      handler
+    );
+
+    assertThat(result.getImported()).isEqualTo(1);
+    assertThat(result.getErrors()).containsExactly(
+      new ImportRowErrorInfo(2, "Rejected by handler")
+    );
+  }
+
+  @Test
+  void importRecords_shouldRetryRowsIndividually_whenBatchInsertFails() {
+    handler.failingName = "Broken";
+    String csv = """
+      name
+      Acme
+      Broken
+      Sol
+      """;
+
+    ImportResultInfo result = bulkImportService.importRecords(
+      input(csv),
+      ImportFormat.CSV,
+      handler
+    );
+
+    assertThat(result.getImported()).isEqualTo(2);
+    assertThat(result.getFailed()).isEqualTo(1);
+    assertThat(result.getErrors().get(0).getRowNumber()).isEqualTo(2);
+    assertThat(handler.inserted)
+      .extracting(SupplierData::getName)
+      .containsExactly("Acme", "Sol");
+  }
+
+  @Test
+  void importRecords_shouldTruncateErrorList() {
+    ReflectionTestUtils.setField(bulkImportService, "maxReportedErrors", 1);
+    String csv = """
+      name,email
+      A,bad
+      B,bad
+      """;
+
+    ImportResultInfo result = bulkImportService.importRecords(
+      input(csv),
+      ImportFormat.CSV,
+      handler
+    );
+
+    assertThat(result.getFailed()).isEqualTo(2);
+    assertThat(result.getErrors()).hasSize(1);
+    assertThat(result.isErrorsTruncated()).isTrue();
+  }
+
+  @Test
+  void importRecords_shouldRejectCsvWithoutHeader() {
+    assertThrows(IllegalArgumentException.class, () ->
+      bulkImportService.importRecords(input(""), ImportFormat.CSV, handler)
+    );
+  }
+
+  @Test
+  void resolve_shouldDetectFormatFromParameterOrFilename() {
+    assertThat(ImportFormat.resolve("jsonl", "data.csv")).isEqualTo(
+      ImportFormat.JSON_LINES
+    );
+    assertThat(ImportFormat.resolve(null, "data.CSV")).isEqualTo(
+      ImportFormat.CSV
+    );
+    assertThat(ImportFormat.resolve(null, "data.ndjson")).isEqualTo(
+      ImportFormat.JSON_LINES
+    );
+    assertThrows(IllegalArgumentException.class, () ->
+      ImportFormat.resolve(null, "data.xlsx")
+    );
+  }
+
+  private static InputStream input(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class RecordingHandler implements ImportHandler<SupplierData> {
+
+    private final List<List<SupplierData>> batches = new ArrayList<>();
+    private final List<SupplierData> inserted = new ArrayList<>();
+    private String rejectedName;
+    private String failingName;
+    private int afterImportCount;
+
+    @Override
+    public Class<SupplierData> dataType() {
+      return SupplierData.class;
+    }
+
+    @Override
+    public void resolve(List<ImportRow<SupplierData>> rows) {
+      rows
+        .stream()
+        .filter(row -> row.getData().getName().equals(rejectedName))
+        .forEach(row -> row.reject("Rejected by handler"));
+    }
+
+    @Override
+    public void insert(List<ImportRow<SupplierData>> rows) {
+      List<SupplierData> batch = rows.stream().map(ImportRow::getData).toList();
+      if (batch.stream().anyMatch(data -> data.getName().equals(failingName))) {
+        throw new DataIntegrityViolationException("constraint violated");
+      }
+      batches.add(batch);
+      inserted.addAll(batch);
+    }
+
+    @Override
+    public void afterImport(int imported) {
+      afterImportCount = imported;
+    }
+  }
+}
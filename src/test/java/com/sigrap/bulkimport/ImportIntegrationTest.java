@@ -0,0 +1,215 @@
+package com.sigrap.bulkimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sigrap.category.Category;
+import com.sigrap.category.CategoryRepository;
+import com.sigrap.config.BaseIntegrationTest;
+import com.sigrap.customer.Customer;
+import com.sigrap.customer.CustomerRepository;
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductRepository;
+import com.sigrap.supplier.Supplier;
+import com.sigrap.supplier.SupplierProduct;
+import com.sigrap.supplier.SupplierProductRepository;
+import com.sigrap.supplier.SupplierRanking;
+import com.sigrap.supplier.SupplierRepository;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WithMockUser(roles = "ADMIN")
+class ImportIntegrationTest extends BaseIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private CustomerRepository customerRepository;
+
+  @Autowired
+  private SupplierRepository supplierRepository;
+
+  @Autowired
+  private SupplierProductRepository supplierProductRepository;
+
+  @Autowired
+  private SupplierRanking supplierRanking;
+
+  @AfterEach
+  void tearDown() {
+    supplierProductRepository.deleteAll();
+    productRepository.deleteAll();
+    categoryRepository.deleteAll();
+    customerRepository.deleteAll();
+    supplierRepository.deleteAll();
+  }
+
+  @Test
+  void importProducts_shouldResolveCategoriesByName() throws Exception {
+    Category pens = categoryRepository.save(
+      Category.builder().name("Pens").build()
+    );
+    String csv = """
+      name,description,costPrice,salePrice,stock,minimumStockThreshold,categoryName
+      Blue Pen,Ballpoint,0.50,1.20,500,50,Pens
+      Red Pen,Ballpoint,0.50,1.20,300,50,Unknown
+      Pencil,,0.20,0.60,1000,100,
+      """;
+
+    mockMvc
+      .perform(multipart("/api/imports/products").file(file("products.csv", csv)))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRows").value(3))
+      .andExpect(jsonPath("$.imported").value(2))
+      .andExpect(jsonPath("$.failed").value(1))
+      .andExpect(jsonPath("$.errors[0].rowNumber").value(2))
+      .andExpect(
+        jsonPath("$.errors[0].message").value("Category not found: Unknown")
+      );
+
+    assertThat(productRepository.findAll())
+      .extracting(Product::getName)
+      .containsExactlyInAnyOrder("Blue Pen", "Pencil");
+    Product bluePen = productRepository
+      .findAll()
+      .stream()
+      .filter(product -> product.getName().equals("Blue Pen"))
+      .findFirst()
+      .orElseThrow();
+    assertThat(bluePen.getCategory().getId()).isEqualTo(pens.getId());
+  }
+
+  @Test
+  void importCustomers_shouldRejectDuplicateEmails() throws Exception {
+    customerRepository.save(
+      Customer.builder().fullName("Existing").email("taken@example.com").build()
+    );
+    String jsonLines = """
+      {"fullName": "Ana Gómez", "email": "ana@example.com"}
+      {"fullName": "Someone", "email": "taken@example.com"}
+      {"fullName": "Ana Again", "email": "ana@example.com"}
+      """;
+
+    mockMvc
+      .perform(
+        multipart("/api/imports/customers").file(
+          file("customers.jsonl", jsonLines)
+        )
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.imported").value(1))
+      .andExpect(jsonPath("$.failed").value(2));
+
+    assertThat(customerRepository.findAll())
+      .extracting(Customer::getEmail)
+      .containsExactlyInAnyOrder("taken@example.com", "ana@example.com");
+  }
+
+  @Test
+  void importSuppliers_shouldReturnBadRequest_whenFormatIsUnknown()
+    throws Exception {
+    mockMvc
+      .perform(
+        multipart("/api/imports/suppliers").file(file("suppliers.xlsx", "x"))
+      )
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void importSupplierProducts_shouldUpsertLinesAndRankSuppliers()
+    throws Exception {
+    Supplier acme = supplierRepository.save(
+      Supplier.builder().name("Acme").averageDeliveryTime(4).build()
+    );
+    Supplier papeles = supplierRepository.save(
+      Supplier.builder().name("Papeles").build()
+    );
+    Product notebook = productRepository.save(
+      Product.builder()
+        .name("Notebook")
+        .costPrice(new BigDecimal("3.00"))
+        .salePrice(new BigDecimal("5.00"))
+        .stock(0)
+        .minimumStockThreshold(0)
+        .build()
+    );
+    supplierProductRepository.save(
+      SupplierProduct.builder()
+        .supplierId(acme.getId())
+        .productId(notebook.getId())
+        .unitPrice(new BigDecimal("3.10"))
+        .build()
+    );
+    String csv = String.format(
+      """
+      supplierId,productId,supplierSku,unitPrice,packSize,leadTimeDays
+      %1$d,%3$d,AC-1,2.80,,
+      %2$d,%3$d,PA-9,2.80,12,2
+      %2$d,999999,PA-0,1.00,,
+      """,
+      acme.getId(),
+      papeles.getId(),
+      notebook.getId()
+    );
+
+    mockMvc
+      .perform(
+        multipart("/api/imports/supplier-products").file(
+          file("prices.csv", csv)
+        )
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.imported").value(2))
+      .andExpect(jsonPath("$.failed").value(1))
+      .andExpect(
+        jsonPath("$.errors[0].message").value("Product not found: 999999")
+      );
+
+    // The existing Acme line was updated in place rather than duplicated.
+    mockMvc
+      .perform(get("/api/suppliers/" + acme.getId() + "/price-list"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.length()").value(1))
+      .andExpect(jsonPath("$[0].supplierSku").value("AC-1"))
+      .andExpect(jsonPath("$[0].unitPrice").value(2.80))
+      .andExpect(jsonPath("$[0].leadTimeDays").value(4));
+
+    supplierRanking.rebuild();
+    mockMvc
+      .perform(
+        get("/api/suppliers/price-list/best").param(
+          "productIds",
+          notebook.getId().toString()
+        )
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].supplierName").value("Papeles"))
+      .andExpect(jsonPath("$[0].packSize").value(12))
+      .andExpect(jsonPath("$[0].leadTimeDays").value(2));
+  }
+
+  private static MockMultipartFile file(String filename, String content) {
+    return new MockMultipartFile(
+      "file",
+      filename,
+      "application/octet-stream",
+      content.getBytes(StandardCharsets.UTF_8)
+    );
+  }
+}
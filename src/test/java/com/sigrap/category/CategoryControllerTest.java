@@ -16,6 +16,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigrap.common.ResourceVersions;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +49,9 @@ class CategoryControllerTest {
   @BeforeEach
   void setup() {
     categoryService = mock(CategoryService.class);
+    when(categoryService.currentVersion()).thenReturn(
+      new ResourceVersions().current(CategoryService.RESOURCE, () -> null)
+    );
     objectMapper = new ObjectMapper();
     CategoryController categoryController = new CategoryController(
       categoryService
@@ -200,19 +204,30 @@ class CategoryControllerTest {
   @Test
   void delete_shouldDeleteCategory_whenExists() throws Exception {
     Long id = 1L;
-    doNothing().when(categoryService).delete(id);
+    doNothing().when(categoryService).delete(id, null);
 
     mockMvc
       .perform(delete("/api/categories/{id}", id))
       .andExpect(status().isNoContent());
 
-    verify(categoryService).delete(id);
+    verify(categoryService).delete(id, null);
+  }
+
+  @Test
+  void delete_shouldPassReassignmentTarget() throws Exception {
+    mockMvc
+      .perform(delete("/api/categories/{id}", 1L).param("reassignTo", "2"))
+      .andExpect(status().isNoContent());
+
+    verify(categoryService).delete(1L, 2L);
   }
 
   @Test
   void delete_shouldReturnNotFound_whenCategoryDoesNotExist() throws Exception {
     Long id = 1L;
-    doThrow(new EntityNotFoundException()).when(categoryService).delete(id);
+    doThrow(new EntityNotFoundException())
+      .when(categoryService)
+      .delete(id, null);
 
     mockMvc
       .perform(delete("/api/categories/{id}", id))
@@ -222,7 +237,7 @@ class CategoryControllerTest {
   @Test
   void deleteMultiple_shouldDeleteCategories() throws Exception {
     List<Long> ids = List.of(1L, 2L);
-    doNothing().when(categoryService).deleteAllById(ids);
+    doNothing().when(categoryService).deleteAllById(ids, null);
 
     mockMvc
       .perform(
@@ -232,7 +247,7 @@ class CategoryControllerTest {
       )
       .andExpect(status().isNoContent());
 
-    verify(categoryService).deleteAllById(ids);
+    verify(categoryService).deleteAllById(ids, null);
   }
 
   @Test
@@ -241,7 +256,7 @@ class CategoryControllerTest {
     List<Long> ids = List.of(1L, 2L);
     doThrow(new EntityNotFoundException())
       .when(categoryService)
-      .deleteAllById(ids);
+      .deleteAllById(ids, null);
 
     mockMvc
       .perform(
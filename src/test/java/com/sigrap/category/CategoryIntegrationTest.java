@@ -10,6 +10,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductRepository;
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +46,9 @@ class CategoryIntegrationTest {
   @Autowired
   private CategoryRepository categoryRepository;
 
+  @Autowired
+  private ProductRepository productRepository;
+
   @BeforeEach
   void setup() {
     List<SimpleGrantedAuthority> authorities = Arrays.asList(
@@ -200,4 +206,45 @@ class CategoryIntegrationTest {
     assertThat(categoryRepository.findById(category1.getId())).isEmpty();
     assertThat(categoryRepository.findById(category2.getId())).isEmpty();
   }
+
+  @Test
+  void deleteCategoryWithReassignment_shouldMoveProducts() throws Exception {
+    Category old = categoryRepository.save(
+      Category.builder().name("Old Category").build()
+    );
+    Category target = categoryRepository.save(
+      Category.builder().name("Target Category").build()
+    );
+    Product product = productRepository.save(
+      Product.builder()
+        .name("Moved Product")
+        .costPrice(new BigDecimal("1.00"))
+        .salePrice(new BigDecimal("2.00"))
+        .stock(3)
+        .minimumStockThreshold(5)
+        .category(old)
+        .build()
+    );
+
+    mockMvc
+      .perform(
+        delete("/api/categories/{id}", old.getId()).param(
+          "reassignTo",
+          target.getId().toString()
+        )
+      )
+      .andExpect(status().isNoContent());
+
+    assertThat(categoryRepository.findById(old.getId())).isEmpty();
+    assertThat(
+      productRepository.findById(product.getId()).orElseThrow().getCategory()
+        .getId()
+    ).isEqualTo(target.getId());
+    mockMvc
+      .perform(get("/api/categories/{id}", target.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.productCount").value(1))
+      .andExpect(jsonPath("$.totalStock").value(3))
+      .andExpect(jsonPath("$.lowStockCount").value(1));
+  }
 }
@@ -3,12 +3,16 @@ package com.sigrap.category;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sigrap.product.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryServiceTest {
@@ -23,9 +28,15 @@ class CategoryServiceTest {
   @Mock
   private CategoryRepository categoryRepository;
 
+  @Mock
+  private ProductRepository productRepository;
+
   @Mock
   private CategoryMapper categoryMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private CategoryService categoryService;
 
@@ -41,12 +52,18 @@ class CategoryServiceTest {
 
     when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
     when(categoryMapper.toInfo(category)).thenReturn(categoryInfo);
+    List<Object[]> summaries = new ArrayList<>();
+    summaries.add(new Object[] { id, 3L, 40L, 1 });
+    when(productRepository.summarizeByCategory(any())).thenReturn(summaries);
 
     CategoryInfo foundCategoryInfo = categoryService.findById(id);
 
     assertThat(foundCategoryInfo).isNotNull();
     assertThat(foundCategoryInfo.getId()).isEqualTo(id);
     assertThat(foundCategoryInfo.getName()).isEqualTo("Test Category");
+    assertThat(foundCategoryInfo.getProductCount()).isEqualTo(3L);
+    assertThat(foundCategoryInfo.getTotalStock()).isEqualTo(40L);
+    assertThat(foundCategoryInfo.getLowStockCount()).isEqualTo(1L);
   }
 
   @Test
@@ -85,12 +102,19 @@ class CategoryServiceTest {
     when(categoryMapper.toInfo(categories.get(1))).thenReturn(
       categoryInfos.get(1)
     );
+    List<Object[]> summaries = new ArrayList<>();
+    summaries.add(new Object[] { 1L, 2L, 15L, 0 });
+    when(productRepository.summarizeByCategory(null)).thenReturn(summaries);
 
     List<CategoryInfo> allCategoryInfos = categoryService.findAll();
 
     assertThat(allCategoryInfos).hasSize(2);
     assertThat(allCategoryInfos.get(0).getName()).isEqualTo("Category 1");
+    assertThat(allCategoryInfos.get(0).getProductCount()).isEqualTo(2L);
+    assertThat(allCategoryInfos.get(0).getTotalStock()).isEqualTo(15L);
     assertThat(allCategoryInfos.get(1).getName()).isEqualTo("Category 2");
+    assertThat(allCategoryInfos.get(1).getProductCount()).isZero();
+    assertThat(allCategoryInfos.get(1).getLowStockCount()).isZero();
   }
 
   @Test
@@ -190,51 +214,78 @@ class CategoryServiceTest {
   }
 
   @Test
-  void delete_shouldDeleteCategory_whenCategoryExists() {
+  void delete_shouldDeleteCategoryAndProducts_whenCategoryExists() {
     Long id = 1L;
-    Category category = Category.builder().id(id).build();
+    when(categoryRepository.existsById(id)).thenReturn(true);
 
-    when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
+    categoryService.delete(id, null);
+
+    verify(productRepository).deleteByCategoryIds(List.of(id));
+    verify(categoryRepository).deleteByIds(List.of(id));
+  }
+
+  @Test
+  void delete_shouldReassignProducts_whenTargetGiven() {
+    Category target = Category.builder().id(2L).build();
+    when(categoryRepository.existsById(1L)).thenReturn(true);
+    when(categoryRepository.existsById(2L)).thenReturn(true);
+    when(categoryRepository.getReferenceById(2L)).thenReturn(target);
 
-    categoryService.delete(id);
+    categoryService.delete(1L, 2L);
 
-    verify(categoryRepository).delete(category);
+    verify(productRepository).reassignCategory(
+      eq(List.of(1L)),
+      eq(target),
+      any(LocalDateTime.class)
+    );
+    verify(productRepository, never()).deleteByCategoryIds(any());
+    verify(categoryRepository).deleteByIds(List.of(1L));
   }
 
   @Test
   void delete_shouldThrowException_whenCategoryDoesNotExist() {
     Long id = 1L;
-    when(categoryRepository.findById(id)).thenReturn(Optional.empty());
+    when(categoryRepository.existsById(id)).thenReturn(false);
 
     assertThrows(EntityNotFoundException.class, () -> {
-      categoryService.delete(id);
+      categoryService.delete(id, null);
     });
-    verify(categoryRepository, never()).delete(any());
+    verify(categoryRepository, never()).deleteByIds(any());
+  }
+
+  @Test
+  void delete_shouldThrowException_whenReassigningToItself() {
+    when(categoryRepository.existsById(1L)).thenReturn(true);
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      categoryService.delete(1L, 1L);
+    });
+    verify(productRepository, never()).reassignCategory(any(), any(), any());
+    verify(categoryRepository, never()).deleteByIds(any());
   }
 
   @Test
   void deleteAllById_shouldDeleteAllCategories_whenAllExist() {
     List<Long> ids = List.of(1L, 2L);
 
-    when(categoryRepository.existsById(1L)).thenReturn(true);
-    when(categoryRepository.existsById(2L)).thenReturn(true);
-    doNothing().when(categoryRepository).deleteAllById(ids);
+    when(categoryRepository.findExistingIds(ids)).thenReturn(ids);
 
-    categoryService.deleteAllById(ids);
+    categoryService.deleteAllById(ids, null);
 
-    verify(categoryRepository).deleteAllById(ids);
+    verify(productRepository).deleteByCategoryIds(ids);
+    verify(categoryRepository).deleteByIds(ids);
   }
 
   @Test
   void deleteAllById_shouldThrowException_whenAnyCategoryDoesNotExist() {
     List<Long> ids = List.of(1L, 2L);
 
-    when(categoryRepository.existsById(1L)).thenReturn(true);
-    when(categoryRepository.existsById(2L)).thenReturn(false);
+    when(categoryRepository.findExistingIds(ids)).thenReturn(List.of(1L));
 
     assertThrows(EntityNotFoundException.class, () -> {
-      categoryService.deleteAllById(ids);
+      categoryService.deleteAllById(ids, null);
     });
-    verify(categoryRepository, never()).deleteAllById(any());
+    verify(productRepository, never()).deleteByCategoryIds(any());
+    verify(categoryRepository, never()).deleteByIds(any());
   }
 }
@@ -0,0 +1,158 @@
+package com.sigrap.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ConflictRetryAspectTest {
+
+  @Mock
+  private ProceedingJoinPoint joinPoint;
+
+  @Mock
+  private Signature signature;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ConflictRetryAspect aspect;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    aspect = new ConflictRetryAspect(meterRegistry);
+    ReflectionTestUtils.setField(aspect, "maxAttempts", 3);
+    ReflectionTestUtils.setField(aspect, "initialBackoffMs", 0L);
+    ReflectionTestUtils.setField(aspect, "maxBackoffMs", 0L);
+  }
+
+  @Test
+  void retry_shouldRunAgainAfterConflict() throws Throwable {
+    stubSignature();
+    when(joinPoint.proceed())
+      .thenThrow(conflict())
+      .thenReturn("updated");
+
+    Object result = aspect.retry(joinPoint, annotation("defaults"));
+
+    assertThat(result).isEqualTo("updated");
+    verify(joinPoint, times(2)).proceed();
+    assertThat(count("retried")).isEqualTo(1);
+    assertThat(count("exhausted")).isZero();
+  }
+
+  @Test
+  void retry_shouldGiveUpAfterMaxAttempts() throws Throwable {
+    stubSignature();
+    when(joinPoint.proceed()).thenThrow(conflict());
+
+    assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+      aspect.retry(joinPoint, annotation("defaults"))
+    );
+
+    verify(joinPoint, times(3)).proceed();
+    assertThat(count("retried")).isEqualTo(2);
+    assertThat(count("exhausted")).isEqualTo(1);
+  }
+
+  @Test
+  void retry_shouldUseAttemptsOfAnnotation() throws Throwable {
+    stubSignature();
+    when(joinPoint.proceed()).thenThrow(conflict());
+
+    assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+      aspect.retry(joinPoint, annotation("once"))
+    );
+
+    verify(joinPoint).proceed();
+    assertThat(count("exhausted")).isEqualTo(1);
+  }
+
+  @Test
+  void retry_shouldNotRetryStaleVersions() throws Throwable {
+    stubSignature();
+    when(joinPoint.proceed()).thenThrow(
+      new StaleVersionException(Product.class, 5, 1, 2)
+    );
+
+    assertThrows(StaleVersionException.class, () ->
+      aspect.retry(joinPoint, annotation("defaults"))
+    );
+
+    verify(joinPoint).proceed();
+    assertThat(count("stale")).isEqualTo(1);
+  }
+
+  @Test
+  void retry_shouldNotRetryInsideRunningTransaction() throws Throwable {
+    when(joinPoint.proceed()).thenThrow(conflict());
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+        aspect.retry(joinPoint, annotation("defaults"))
+      );
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    verify(joinPoint).proceed();
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+
+  private void stubSignature() {
+    when(joinPoint.getSignature()).thenReturn(signature);
+    when(signature.getDeclaringType()).thenReturn(ProductService.class);
+    when(signature.getName()).thenReturn("update");
+  }
+
+  private double count(String outcome) {
+    Counter counter = meterRegistry
+      .find(ConflictRetryAspect.CONFLICTS_METRIC)
+      .tags(
+        "operation",
+        "ProductService.update",
+        "entity",
+        "Product",
+        "outcome",
+        outcome
+      )
+      .counter();
+    return counter == null ? 0 : counter.count();
+  }
+
+  private static ObjectOptimisticLockingFailureException conflict() {
+    return new ObjectOptimisticLockingFailureException(Product.class, 5);
+  }
+
+  private static RetryOnConflict annotation(String method)
+    throws NoSuchMethodException {
+    return Annotated.class.getDeclaredMethod(method).getAnnotation(
+      RetryOnConflict.class
+    );
+  }
+
+  static class Annotated {
+
+    @RetryOnConflict
+    void defaults() {}
+
+    @RetryOnConflict(maxAttempts = 1)
+    void once() {}
+  }
+}
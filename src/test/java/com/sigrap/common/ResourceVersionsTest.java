@@ -0,0 +1,104 @@
+package com.sigrap.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ResourceVersionsTest {
+
+  private ResourceVersions resourceVersions;
+  private AtomicInteger loads;
+  private Supplier<LocalDateTime> loader;
+
+  @BeforeEach
+  void setUp() {
+    resourceVersions = new ResourceVersions();
+    loads = new AtomicInteger();
+    loader = () -> {
+      loads.incrementAndGet();
+      return LocalDateTime.now().minusDays(1);
+    };
+  }
+
+  @Test
+  void current_shouldLoadLastModifiedOnlyOnce() {
+    ResourceVersion first = resourceVersions.current("products", loader);
+    ResourceVersion second = resourceVersions.current("products", loader);
+
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(second.getETag()).isEqualTo(first.getETag());
+    assertThat(first.getETag()).startsWith("\"products-").endsWith("-0\"");
+    assertThat(first.getLastModified()).isBefore(Instant.now());
+  }
+
+  @Test
+  void bump_shouldChangeETagAndAdvanceLastModified() {
+    ResourceVersion before = resourceVersions.current("products", loader);
+
+    resourceVersions.bump("products");
+    ResourceVersion afterFirst = resourceVersions.current("products", loader);
+    resourceVersions.bump("products");
+    ResourceVersion afterSecond = resourceVersions.current("products", loader);
+
+    assertThat(afterFirst.getETag()).isNotEqualTo(before.getETag());
+    assertThat(afterSecond.getETag()).isNotEqualTo(afterFirst.getETag());
+    assertThat(afterFirst.getLastModified()).isAfter(before.getLastModified());
+    assertThat(afterSecond.getLastModified()).isAfter(
+      afterFirst.getLastModified()
+    );
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void bump_shouldNotAffectOtherResources() {
+    ResourceVersion suppliers = resourceVersions.current("suppliers", loader);
+
+    resourceVersions.onResourceChanged(ResourceChangedEvent.of("categories"));
+
+    assertThat(
+      resourceVersions.current("suppliers", loader).getETag()
+    ).isEqualTo(suppliers.getETag());
+  }
+
+  @Test
+  void checkNotModified_shouldMatchIfNoneMatch() {
+    ResourceVersion version = resourceVersions.current("categories", loader);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+    request.addHeader("If-None-Match", version.getETag());
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    boolean notModified = version.checkNotModified(
+      new ServletWebRequest(request, response)
+    );
+
+    assertThat(notModified).isTrue();
+    assertThat(response.getStatus()).isEqualTo(304);
+    assertThat(response.getHeader("ETag")).isEqualTo(version.getETag());
+  }
+
+  @Test
+  void checkNotModified_shouldReturnFalse_whenNoValidatorsSent() {
+    ResourceVersion version = resourceVersions.current("categories", () ->
+      null
+    );
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    boolean notModified = version.checkNotModified(
+      new ServletWebRequest(new MockHttpServletRequest("GET", "/"), response)
+    );
+
+    assertThat(notModified).isFalse();
+    assertThat(response.getHeader("ETag")).isEqualTo(version.getETag());
+    assertThat(response.getHeader("Cache-Control")).isEqualTo(
+      "private, no-cache"
+    );
+  }
+}
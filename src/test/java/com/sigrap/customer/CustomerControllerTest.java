@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -34,6 +35,15 @@ class CustomerControllerTest {
   @Mock
   private CustomerService customerService;
 
+  @Mock
+  private CustomerStatsService customerStatsService;
+
+  @Mock
+  private CustomerDeduplicationService customerDeduplicationService;
+
+  @Mock
+  private CustomerSegmentationService customerSegmentationService;
+
   @InjectMocks
   private CustomerController customerController;
 
@@ -205,7 +215,7 @@ class CustomerControllerTest {
 
     List<CustomerInfo> customers = List.of(customer1, customer2);
 
-    when(customerService.searchByName(searchTerm)).thenReturn(customers);
+    when(customerService.searchByName(searchTerm, 20)).thenReturn(customers);
 
     mockMvc
       .perform(get("/api/customers/search").param("query", searchTerm))
@@ -215,7 +225,121 @@ class CustomerControllerTest {
       .andExpect(jsonPath("$[1].id").value(2))
       .andExpect(jsonPath("$[1].fullName").value("Johnny Smith"));
 
-    verify(customerService).searchByName(searchTerm);
+    verify(customerService).searchByName(searchTerm, 20);
+  }
+
+  @Test
+  void lookup_shouldReturnMatchingCustomers() throws Exception {
+    when(customerService.lookup("1020304050")).thenReturn(
+      List.of(CustomerInfo.builder().id(3L).documentId("1020304050").build())
+    );
+
+    mockMvc
+      .perform(get("/api/customers/lookup").param("value", "1020304050"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].id").value(3))
+      .andExpect(jsonPath("$[0].documentId").value("1020304050"));
+  }
+
+  @Test
+  void findProfile_shouldReturnTotalsAndPurchasePage() throws Exception {
+    CustomerProfileInfo profile = CustomerProfileInfo.builder()
+      .customer(CustomerInfo.builder().id(1L).fullName("John Doe").build())
+      .visits(3)
+      .lifetimeSpend(new BigDecimal("150.00"))
+      .averageTicket(new BigDecimal("50.00"))
+      .purchases(
+        List.of(
+          CustomerPurchaseInfo.builder()
+            .saleId(9)
+            .finalAmount(new BigDecimal("60.00"))
+            .itemCount(2)
+            .build()
+        )
+      )
+      .nextCursor("next")
+      .build();
+    when(customerStatsService.findProfile(1L, "abc", 1)).thenReturn(profile);
+
+    mockMvc
+      .perform(
+        get("/api/customers/1/profile").param("cursor", "abc").param("size", "1")
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.customer.fullName").value("John Doe"))
+      .andExpect(jsonPath("$.visits").value(3))
+      .andExpect(jsonPath("$.averageTicket").value(50.00))
+      .andExpect(jsonPath("$.purchases[0].saleId").value(9))
+      .andExpect(jsonPath("$.nextCursor").value("next"));
+  }
+
+  @Test
+  void scanDuplicates_shouldReturnScanSummary() throws Exception {
+    when(customerDeduplicationService.scan()).thenReturn(
+      CustomerDeduplicationInfo.builder()
+        .customerCount(10)
+        .comparisonCount(4)
+        .proposalCount(2)
+        .build()
+    );
+
+    mockMvc
+      .perform(post("/api/customers/duplicates/scan"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.comparisonCount").value(4))
+      .andExpect(jsonPath("$.proposalCount").value(2));
+  }
+
+  @Test
+  void approveMerge_shouldReturnSurvivor() throws Exception {
+    when(customerDeduplicationService.approve(7L)).thenReturn(
+      CustomerInfo.builder().id(1L).fullName("John Doe").build()
+    );
+
+    mockMvc
+      .perform(post("/api/customers/duplicates/{id}/approve", 7L))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.id").value(1));
+  }
+
+  @Test
+  void rejectMerge_shouldReturnNoContent() throws Exception {
+    mockMvc
+      .perform(post("/api/customers/duplicates/{id}/reject", 7L))
+      .andExpect(status().isNoContent());
+
+    verify(customerDeduplicationService).reject(7L);
+  }
+
+  @Test
+  void findSegments_shouldReturnSegmentCounts() throws Exception {
+    when(customerSegmentationService.findSegments()).thenReturn(
+      List.of(
+        CustomerSegmentInfo.builder()
+          .segment(RfmSegment.CHAMPIONS)
+          .customerCount(12)
+          .totalSpend(new BigDecimal("900.00"))
+          .build()
+      )
+    );
+
+    mockMvc
+      .perform(get("/api/customers/segments"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].segment").value("CHAMPIONS"))
+      .andExpect(jsonPath("$[0].customerCount").value(12));
+  }
+
+  @Test
+  void recomputeSegments_shouldReturnRunSummary() throws Exception {
+    when(customerSegmentationService.run()).thenReturn(
+      CustomerSegmentationInfo.builder().customerCount(40).durationMs(8).build()
+    );
+
+    mockMvc
+      .perform(post("/api/customers/segments/recompute"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.customerCount").value(40));
   }
 
   @Test
@@ -0,0 +1,202 @@
+package com.sigrap.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.sale.SaleRepository;
+import com.sigrap.sale.SaleReturnRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerDeduplicationServiceTest {
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private CustomerMergeProposalRepository customerMergeProposalRepository;
+
+  @Mock
+  private CustomerStatsService customerStatsService;
+
+  @Mock
+  private CustomerSegmentRepository customerSegmentRepository;
+
+  @Mock
+  private SaleRepository saleRepository;
+
+  @Mock
+  private SaleReturnRepository saleReturnRepository;
+
+  @Mock
+  private CustomerMapper customerMapper;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private CustomerDeduplicationService customerDeduplicationService;
+
+  @Captor
+  private ArgumentCaptor<List<CustomerMergeProposal>> proposalsCaptor;
+
+  private Customer survivor;
+  private Customer duplicate;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(
+      customerDeduplicationService,
+      "maxBlockSize",
+      50
+    );
+    ReflectionTestUtils.setField(customerDeduplicationService, "minScore", 0.6);
+    ReflectionTestUtils.setField(customerDeduplicationService, "chunkSize", 10);
+    ReflectionTestUtils.setField(
+      customerDeduplicationService,
+      "parallelism",
+      2
+    );
+    survivor = Customer.builder()
+      .id(1L)
+      .fullName("Ana Ruiz")
+      .email("ana@example.com")
+      .build();
+    duplicate = Customer.builder()
+      .id(2L)
+      .fullName("Ana Ruiz")
+      .email("ANA@example.com")
+      .documentId("1020304050")
+      .phoneNumber("3001234567")
+      .build();
+  }
+
+  @Test
+  void scan_shouldReplacePendingProposalsSkippingRejectedPairs() {
+    Customer rejectedDuplicate = Customer.builder()
+      .id(3L)
+      .fullName("Ana Ruiz")
+      .email("ana@example.com")
+      .build();
+    when(customerRepository.findAll()).thenReturn(
+      List.of(survivor, duplicate, rejectedDuplicate)
+    );
+    List<Object[]> rejected = new ArrayList<>();
+    rejected.add(new Object[] { 1L, 3L });
+    when(customerMergeProposalRepository.findRejectedPairs()).thenReturn(
+      rejected
+    );
+
+    CustomerDeduplicationInfo info = customerDeduplicationService.scan();
+
+    assertThat(info.getCustomerCount()).isEqualTo(3);
+    assertThat(info.getComparisonCount()).isEqualTo(3);
+    assertThat(info.getProposalCount()).isEqualTo(1);
+    InOrder order = inOrder(customerMergeProposalRepository);
+    order
+      .verify(customerMergeProposalRepository)
+      .deleteByStatus(CustomerMergeStatus.PENDING);
+    order
+      .verify(customerMergeProposalRepository)
+      .saveAll(proposalsCaptor.capture());
+    assertThat(proposalsCaptor.getValue())
+      .singleElement()
+      .satisfies(proposal -> {
+        assertThat(proposal.getSurvivorId()).isEqualTo(1L);
+        assertThat(proposal.getDuplicateId()).isEqualTo(2L);
+      });
+  }
+
+  @Test
+  void approve_shouldMoveHistoryAndDeleteDuplicate() {
+    CustomerMergeProposal proposal = pendingProposal();
+    when(customerMergeProposalRepository.findById(7L)).thenReturn(
+      Optional.of(proposal)
+    );
+    when(customerRepository.findByIdForUpdate(1L)).thenReturn(
+      Optional.of(survivor)
+    );
+    when(customerRepository.findByIdForUpdate(2L)).thenReturn(
+      Optional.of(duplicate)
+    );
+    when(customerRepository.getReferenceById(1L)).thenReturn(survivor);
+    when(customerRepository.getReferenceById(2L)).thenReturn(duplicate);
+    when(customerRepository.save(survivor)).thenReturn(survivor);
+    CustomerInfo survivorInfo = CustomerInfo.builder().id(1L).build();
+    when(customerMapper.toCustomerInfo(survivor)).thenReturn(survivorInfo);
+
+    CustomerInfo result = customerDeduplicationService.approve(7L);
+
+    assertThat(result).isSameAs(survivorInfo);
+    verify(customerStatsService).merge(1L, 2L);
+    verify(saleRepository).reassignCustomer(duplicate, survivor);
+    verify(saleReturnRepository).reassignCustomer(duplicate, survivor);
+    verify(customerRepository).delete(duplicate);
+    verify(customerMergeProposalRepository).deletePendingInvolving(2L, 7L);
+    verify(customerSegmentRepository).deleteByCustomerId(2L);
+    assertThat(survivor.getDocumentId()).isEqualTo("1020304050");
+    assertThat(survivor.getPhoneNumber()).isEqualTo("3001234567");
+    assertThat(survivor.getEmail()).isEqualTo("ana@example.com");
+    assertThat(proposal.getStatus()).isEqualTo(CustomerMergeStatus.APPROVED);
+    assertThat(proposal.getResolvedAt()).isNotNull();
+    verify(eventPublisher).publishEvent(any(CustomerChangedEvent.class));
+  }
+
+  @Test
+  void approve_shouldFail_whenProposalAlreadyReviewed() {
+    CustomerMergeProposal proposal = pendingProposal();
+    proposal.setStatus(CustomerMergeStatus.REJECTED);
+    when(customerMergeProposalRepository.findById(7L)).thenReturn(
+      Optional.of(proposal)
+    );
+
+    assertThatThrownBy(() -> customerDeduplicationService.approve(7L))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("already rejected");
+    verify(saleRepository, never()).reassignCustomer(any(), any());
+  }
+
+  @Test
+  void reject_shouldMarkProposalRejected() {
+    CustomerMergeProposal proposal = pendingProposal();
+    when(customerMergeProposalRepository.findById(7L)).thenReturn(
+      Optional.of(proposal)
+    );
+
+    customerDeduplicationService.reject(7L);
+
+    assertThat(proposal.getStatus()).isEqualTo(CustomerMergeStatus.REJECTED);
+    assertThat(proposal.getResolvedAt()).isNotNull();
+    verify(customerMergeProposalRepository).save(proposal);
+  }
+
+  private static CustomerMergeProposal pendingProposal() {
+    return CustomerMergeProposal.builder()
+      .id(7L)
+      .survivorId(1L)
+      .duplicateId(2L)
+      .score(new BigDecimal("0.700"))
+      .reasons("EMAIL,NAME")
+      .status(CustomerMergeStatus.PENDING)
+      .build();
+  }
+}
@@ -0,0 +1,114 @@
+package com.sigrap.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CustomerDuplicateDetectorTest {
+
+  private final CustomerDuplicateDetector detector =
+    new CustomerDuplicateDetector(50, 0.6, 2, 2);
+
+  @Test
+  void normalize_shouldIgnoreFormatting() {
+    assertThat(
+      CustomerDuplicateDetector.normalizeEmail(" Ana.Ruiz@Example.COM ")
+    ).isEqualTo("ana.ruiz@example.com");
+    assertThat(
+      CustomerDuplicateDetector.normalizePhone("+57 (300) 123-4567")
+    ).isEqualTo("3001234567");
+    assertThat(CustomerDuplicateDetector.normalizePhone("123")).isEmpty();
+    assertThat(
+      CustomerDuplicateDetector.normalizeDocument("1.020 304-50")
+    ).isEqualTo(CustomerDuplicateDetector.normalizeDocument("1.020304-50"));
+    assertThat(
+      CustomerDuplicateDetector.normalizeName("Ruiz  ANA")
+    ).isEqualTo(CustomerDuplicateDetector.normalizeName("Ana Ruíz"));
+  }
+
+  @Test
+  void detect_shouldProposeMatchingCustomers() {
+    CustomerDuplicateDetector.Detection detection = detector.detect(
+      List.of(
+        customer(1L, "Ana Ruiz", "ana@example.com", "3001234567", null),
+        customer(2L, "Ruíz Ana", "ANA@example.com", "+57 300 123 4567", null),
+        customer(3L, "Luis Mora", "luis@example.com", "3109876543", null)
+      )
+    );
+
+    assertThat(detection.comparisons()).isEqualTo(1);
+    assertThat(detection.proposals()).hasSize(1);
+    CustomerMergeProposal proposal = detection.proposals().get(0);
+    assertThat(proposal.getSurvivorId()).isEqualTo(1L);
+    assertThat(proposal.getDuplicateId()).isEqualTo(2L);
+    assertThat(proposal.getScore()).isEqualByComparingTo("0.950");
+    assertThat(proposal.getReasons()).isEqualTo("EMAIL,PHONE,NAME");
+    assertThat(proposal.getStatus()).isEqualTo(CustomerMergeStatus.PENDING);
+  }
+
+  @Test
+  void detect_shouldNotPropose_whenDocumentsDiffer() {
+    CustomerDuplicateDetector.Detection detection = detector.detect(
+      List.of(
+        customer(1L, "Ana Ruiz", "ana@example.com", null, "1020304050"),
+        customer(2L, "Ana Ruiz", "ana.r@example.com", null, "9988776655")
+      )
+    );
+
+    assertThat(detection.comparisons()).isEqualTo(1);
+    assertThat(detection.proposals()).isEmpty();
+  }
+
+  @Test
+  void detect_shouldMergeChainsIntoLowestId() {
+    CustomerDuplicateDetector.Detection detection = detector.detect(
+      List.of(
+        customer(7L, "Ana Ruiz", "ana@example.com", "3001234567", null),
+        customer(3L, "Ana Ruiz", "ana@example.com", null, "1020304050"),
+        customer(5L, "Ana Ruiz", "ana.r@example.com", null, "1020304050")
+      )
+    );
+
+    assertThat(detection.proposals())
+      .extracting(CustomerMergeProposal::getDuplicateId)
+      .containsExactlyInAnyOrder(5L, 7L);
+    assertThat(detection.proposals())
+      .extracting(CustomerMergeProposal::getSurvivorId)
+      .containsOnly(3L);
+  }
+
+  @Test
+  void detect_shouldSkipOversizedBlocks() {
+    List<Customer> customers = new ArrayList<>();
+    for (long id = 1; id <= 60; id++) {
+      customers.add(
+        customer(id, "Customer " + id, id + "@example.com", "0000000", null)
+      );
+    }
+
+    CustomerDuplicateDetector.Detection detection = detector.detect(
+      customers
+    );
+
+    assertThat(detection.comparisons()).isZero();
+    assertThat(detection.proposals()).isEmpty();
+  }
+
+  private static Customer customer(
+    Long id,
+    String fullName,
+    String email,
+    String phoneNumber,
+    String documentId
+  ) {
+    return Customer.builder()
+      .id(id)
+      .fullName(fullName)
+      .email(email)
+      .phoneNumber(phoneNumber)
+      .documentId(documentId)
+      .build();
+  }
+}
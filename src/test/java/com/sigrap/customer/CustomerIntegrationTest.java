@@ -29,6 +29,9 @@ public class CustomerIntegrationTest extends BaseIntegrationTest {
   @Autowired
   private CustomerRepository customerRepository;
 
+  @Autowired
+  private CustomerSearchIndex customerSearchIndex;
+
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -141,6 +144,7 @@ public class CustomerIntegrationTest extends BaseIntegrationTest {
       .build();
 
     customerRepository.saveAll(Arrays.asList(customer1, customer2));
+    customerSearchIndex.rebuild();
 
     mockMvc
       .perform(get("/api/customers/search").param("query", "Johnson"))
@@ -161,6 +165,36 @@ public class CustomerIntegrationTest extends BaseIntegrationTest {
       .andExpect(jsonPath("$").isEmpty());
   }
 
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void lookup() throws Exception {
+    mockMvc
+      .perform(get("/api/customers/lookup").param("value", " DOC123 "))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].id").value(testCustomer.getId()));
+
+    mockMvc
+      .perform(get("/api/customers/lookup").param("value", "5551234567"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].fullName").value("John Doe"));
+
+    mockMvc
+      .perform(
+        get("/api/customers/lookup").param("value", "john.doe@example.com")
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].documentId").value("DOC123"));
+
+    mockMvc
+      .perform(get("/api/customers/lookup").param("value", "DOC999"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$").isEmpty());
+
+    mockMvc
+      .perform(get("/api/customers/lookup").param("value", " "))
+      .andExpect(status().isBadRequest());
+  }
+
   @Test
   @WithMockUser(roles = "ADMIN")
   void findByCreatedDateRange() throws Exception {
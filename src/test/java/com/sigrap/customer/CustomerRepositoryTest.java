@@ -3,6 +3,7 @@ package com.sigrap.customer;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sigrap.config.RepositoryTestConfiguration;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +25,9 @@ class CustomerRepositoryTest {
   @Autowired
   private CustomerRepository customerRepository;
 
+  @Autowired
+  private CustomerStatsRepository customerStatsRepository;
+
   @Test
   void shouldSaveCustomer() {
     Customer customer = Customer.builder()
@@ -115,36 +119,31 @@ class CustomerRepositoryTest {
   }
 
   @Test
-  void shouldFindCustomersByNameContaining() {
+  void shouldFindCustomersByDocumentIdAndPhoneNumber() {
     Customer customer1 = Customer.builder()
       .fullName("John Doe")
+      .documentId("1020304050")
       .email("john@example.com")
-      .phoneNumber("1234567890")
+      .phoneNumber("3001234567")
       .build();
 
     Customer customer2 = Customer.builder()
       .fullName("Jane Doe")
+      .documentId("5040302010")
       .email("jane@example.com")
-      .phoneNumber("0987654321")
-      .build();
-
-    Customer customer3 = Customer.builder()
-      .fullName("Alice Smith")
-      .email("alice@example.com")
-      .phoneNumber("1122334455")
+      .phoneNumber("3001234567")
       .build();
 
     entityManager.persistAndFlush(customer1);
     entityManager.persistAndFlush(customer2);
-    entityManager.persistAndFlush(customer3);
-
-    List<Customer> foundCustomers =
-      customerRepository.findByFullNameContainingIgnoreCase("doe");
 
-    assertThat(foundCustomers).hasSize(2);
-    assertThat(foundCustomers)
+    assertThat(customerRepository.findByDocumentId("1020304050"))
+      .extracting(Customer::getFullName)
+      .containsExactly("John Doe");
+    assertThat(customerRepository.findByPhoneNumber("3001234567"))
       .extracting(Customer::getFullName)
       .containsExactlyInAnyOrder("John Doe", "Jane Doe");
+    assertThat(customerRepository.findByDocumentId("3001234567")).isEmpty();
   }
 
   @Test
@@ -200,4 +199,48 @@ class CustomerRepositoryTest {
       "recent@example.com"
     );
   }
+
+  @Test
+  void addSale_shouldAccumulateTotalsAndWidenPurchaseRange() {
+    Customer customer = entityManager.persistAndFlush(
+      Customer.builder().fullName("Ana Ruiz").email("ana@example.com").build()
+    );
+    LocalDateTime march = LocalDateTime.of(2025, 3, 5, 17, 30);
+    entityManager.persistAndFlush(
+      CustomerStats.builder()
+        .customerId(customer.getId())
+        .visits(1)
+        .lifetimeSpend(new BigDecimal("10.00"))
+        .firstPurchaseAt(march)
+        .lastPurchaseAt(march)
+        .build()
+    );
+
+    LocalDateTime now = LocalDateTime.now();
+    customerStatsRepository.addSale(
+      customer.getId(),
+      new BigDecimal("5.50"),
+      march.minusMonths(2),
+      now
+    );
+    int updated = customerStatsRepository.addSale(
+      customer.getId(),
+      new BigDecimal("4.50"),
+      march.plusMonths(3),
+      now
+    );
+    entityManager.clear();
+
+    assertThat(updated).isEqualTo(1);
+    CustomerStats stats = customerStatsRepository
+      .findById(customer.getId())
+      .orElseThrow();
+    assertThat(stats.getVisits()).isEqualTo(3);
+    assertThat(stats.getLifetimeSpend()).isEqualByComparingTo("20.00");
+    assertThat(stats.getFirstPurchaseAt()).isEqualTo(march.minusMonths(2));
+    assertThat(stats.getLastPurchaseAt()).isEqualTo(march.plusMonths(3));
+    assertThat(
+      customerStatsRepository.addSale(-1L, BigDecimal.ONE, march, now)
+    ).isZero();
+  }
 }
@@ -0,0 +1,71 @@
+package com.sigrap.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class CustomerRfmScoresTest {
+
+  @Test
+  void quintiles_shouldSplitValuesIntoFifths() {
+    long[] values = { 10, 1, 9, 2, 8, 3, 7, 4, 6, 5 };
+    int[] scores = new int[values.length];
+
+    CustomerRfmScores.quintiles(values, scores);
+
+    assertThat(scores).containsExactly(5, 1, 5, 1, 4, 2, 4, 2, 3, 3);
+  }
+
+  @Test
+  void quintiles_shouldGiveEqualValuesTheSameScore() {
+    long[] values = { 1, 1, 1, 1, 1, 1, 2, 3, 4, 5 };
+    int[] scores = new int[values.length];
+
+    CustomerRfmScores.quintiles(values, scores);
+
+    assertThat(scores).containsExactly(1, 1, 1, 1, 1, 1, 4, 4, 5, 5);
+  }
+
+  @Test
+  void segment_shouldMapScoreCombinations() {
+    assertThat(CustomerRfmScores.segment(5, 5, 4)).isEqualTo(
+      RfmSegment.CHAMPIONS
+    );
+    assertThat(CustomerRfmScores.segment(3, 4, 1)).isEqualTo(RfmSegment.LOYAL);
+    assertThat(CustomerRfmScores.segment(5, 1, 2)).isEqualTo(RfmSegment.NEW);
+    assertThat(CustomerRfmScores.segment(3, 2, 5)).isEqualTo(
+      RfmSegment.PROMISING
+    );
+    assertThat(CustomerRfmScores.segment(1, 5, 5)).isEqualTo(
+      RfmSegment.AT_RISK
+    );
+    assertThat(CustomerRfmScores.segment(2, 1, 1)).isEqualTo(
+      RfmSegment.HIBERNATING
+    );
+    assertThat(CustomerRfmScores.segment(1, 2, 3)).isEqualTo(RfmSegment.LOST);
+  }
+
+  @Test
+  void score_shouldFillScoresAndSegments() {
+    CustomerRfmScores scores = new CustomerRfmScores(5);
+    for (int i = 0; i < 5; i++) {
+      scores.customerIds[i] = i + 1;
+      scores.lastPurchases[i] = LocalDateTime.of(2025, 1, 1, 0, 0);
+      scores.recency[i] = i;
+      scores.frequency[i] = i;
+      scores.monetary[i] = i * 1000L;
+    }
+
+    scores.score();
+
+    assertThat(scores.recencyScores).containsExactly(1, 2, 3, 4, 5);
+    assertThat(scores.segments).containsExactly(
+      RfmSegment.LOST,
+      RfmSegment.HIBERNATING,
+      RfmSegment.PROMISING,
+      RfmSegment.CHAMPIONS,
+      RfmSegment.CHAMPIONS
+    );
+  }
+}
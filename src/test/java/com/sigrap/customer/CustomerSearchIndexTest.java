@@ -0,0 +1,129 @@
+package com.sigrap.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CustomerSearchIndexTest {
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private CustomerMapper customerMapper;
+
+  @InjectMocks
+  private CustomerSearchIndex customerSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    when(customerMapper.toCustomerInfo(any(Customer.class))).thenAnswer(
+      invocation -> {
+        Customer customer = invocation.getArgument(0);
+        return CustomerInfo.builder()
+          .id(customer.getId())
+          .fullName(customer.getFullName())
+          .build();
+      }
+    );
+    when(customerRepository.findAll()).thenReturn(
+      List.of(
+        customer(1L, "José Peña"),
+        customer(2L, "Josefina Martínez"),
+        customer(3L, "María José Rodríguez"),
+        customer(4L, "Andrés Gómez")
+      )
+    );
+    customerSearchIndex.rebuild();
+  }
+
+  @Test
+  void search_shouldIgnoreCaseAndAccents() {
+    assertThat(
+      names(customerSearchIndex.search("JOSE PENA", 10))
+    ).containsExactly("José Peña");
+  }
+
+  @Test
+  void search_shouldMatchWordPrefixesRankingExactWordsFirst() {
+    assertThat(
+      names(customerSearchIndex.search("jose", 10))
+    ).containsExactly(
+      "José Peña",
+      "María José Rodríguez",
+      "Josefina Martínez"
+    );
+  }
+
+  @Test
+  void search_shouldTolerateTypos() {
+    assertThat(
+      names(customerSearchIndex.search("rodrigez", 10))
+    ).containsExactly("María José Rodríguez");
+  }
+
+  @Test
+  void search_shouldReturnNothingForBlankOrUnknownNames() {
+    assertThat(customerSearchIndex.search("  ", 10)).isEmpty();
+    assertThat(customerSearchIndex.search("zapata", 10)).isEmpty();
+  }
+
+  @Test
+  void search_shouldApplyLimit() {
+    assertThat(customerSearchIndex.search("jo", 1)).hasSize(1);
+  }
+
+  @Test
+  void refresh_shouldReindexChangedAndDropDeletedCustomers() {
+    when(customerRepository.findAllById(Set.of(1L, 4L))).thenReturn(
+      List.of(customer(1L, "Josué Peña"))
+    );
+
+    customerSearchIndex.refresh(Set.of(1L, 4L));
+
+    assertThat(
+      names(customerSearchIndex.search("josue", 10))
+    ).containsExactly("Josué Peña");
+    assertThat(customerSearchIndex.search("andres", 10)).isEmpty();
+    assertThat(customerSearchIndex.size()).isEqualTo(3);
+  }
+
+  @Test
+  void onCustomerChanged_shouldRebuild_whenAllCustomersChanged() {
+    when(customerRepository.findAll()).thenReturn(
+      List.of(customer(5L, "Lucía Fernández"))
+    );
+
+    customerSearchIndex.onCustomerChanged(CustomerChangedEvent.all());
+
+    assertThat(customerSearchIndex.size()).isEqualTo(1);
+    assertThat(
+      names(customerSearchIndex.search("lucia", 10))
+    ).containsExactly("Lucía Fernández");
+  }
+
+  private static Customer customer(Long id, String fullName) {
+    return Customer.builder()
+      .id(id)
+      .fullName(fullName)
+      .email("customer" + id + "@example.com")
+      .build();
+  }
+
+  private static List<String> names(List<CustomerInfo> customers) {
+    return customers.stream().map(CustomerInfo::getFullName).toList();
+  }
+}
@@ -0,0 +1,129 @@
+package com.sigrap.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSegmentationServiceTest {
+
+  private static final LocalDateTime JAN = LocalDateTime.of(2025, 1, 10, 9, 0);
+  private static final LocalDateTime JUN = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+  @Mock
+  private CustomerSegmentRepository customerSegmentRepository;
+
+  @Mock
+  private CustomerSegmentWriter customerSegmentWriter;
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private CustomerMapper customerMapper;
+
+  @InjectMocks
+  private CustomerSegmentationService customerSegmentationService;
+
+  @Test
+  void run_shouldScoreEverySummarizedCustomer() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[] { 1L, JUN, 8L, new BigDecimal("250.50") });
+    rows.add(new Object[] { 2L, JAN, 1L, new BigDecimal("12.00") });
+    when(customerSegmentRepository.summarizeSales()).thenReturn(rows);
+
+    CustomerSegmentationInfo info = customerSegmentationService.run();
+
+    assertThat(info.getCustomerCount()).isEqualTo(2);
+    ArgumentCaptor<CustomerRfmScores> captor = ArgumentCaptor.forClass(
+      CustomerRfmScores.class
+    );
+    verify(customerSegmentWriter).replaceAll(
+      captor.capture(),
+      any(LocalDateTime.class)
+    );
+    CustomerRfmScores scores = captor.getValue();
+    assertThat(scores.customerIds).containsExactly(1L, 2L);
+    assertThat(scores.lastPurchases).containsExactly(JUN, JAN);
+    assertThat(scores.monetary).containsExactly(25050L, 1200L);
+    assertThat(scores.recencyScores).containsExactly(3, 1);
+    assertThat(scores.segments).containsExactly(
+      RfmSegment.PROMISING,
+      RfmSegment.LOST
+    );
+  }
+
+  @Test
+  void findSegments_shouldIncludeEmptySegments() {
+    List<Object[]> counts = new ArrayList<>();
+    counts.add(
+      new Object[] { RfmSegment.LOYAL, 3L, new BigDecimal("300.00"), JUN }
+    );
+    when(customerSegmentRepository.countBySegment()).thenReturn(counts);
+
+    List<CustomerSegmentInfo> segments =
+      customerSegmentationService.findSegments();
+
+    assertThat(segments)
+      .extracting(CustomerSegmentInfo::getSegment)
+      .containsExactly(RfmSegment.values());
+    CustomerSegmentInfo loyal = segments.get(RfmSegment.LOYAL.ordinal());
+    assertThat(loyal.getCustomerCount()).isEqualTo(3);
+    assertThat(loyal.getTotalSpend()).isEqualByComparingTo("300.00");
+    CustomerSegmentInfo lost = segments.get(RfmSegment.LOST.ordinal());
+    assertThat(lost.getCustomerCount()).isZero();
+    assertThat(lost.getTotalSpend()).isEqualByComparingTo("0");
+  }
+
+  @Test
+  void findMembers_shouldLoadCustomersOfPage() {
+    Pageable pageable = PageRequest.of(0, 20);
+    CustomerSegment member = CustomerSegment.builder()
+      .customerId(1L)
+      .segment(RfmSegment.CHAMPIONS)
+      .recencyScore(5)
+      .frequencyScore(4)
+      .monetaryScore(5)
+      .lastPurchaseAt(JUN)
+      .purchaseCount(12)
+      .totalSpend(new BigDecimal("640.00"))
+      .build();
+    Customer customer = Customer.builder().id(1L).fullName("Ana Ruiz").build();
+    CustomerInfo customerInfo = CustomerInfo.builder().id(1L).build();
+    when(
+      customerSegmentRepository.findBySegment(
+        eq(RfmSegment.CHAMPIONS),
+        eq(pageable)
+      )
+    ).thenReturn(new PageImpl<>(List.of(member), pageable, 1));
+    when(customerRepository.findAllById(List.of(1L))).thenReturn(
+      List.of(customer)
+    );
+    when(customerMapper.toCustomerInfo(customer)).thenReturn(customerInfo);
+
+    List<CustomerSegmentMemberInfo> members = customerSegmentationService
+      .findMembers(RfmSegment.CHAMPIONS, pageable)
+      .getContent();
+
+    assertThat(members).hasSize(1);
+    assertThat(members.get(0).getCustomer()).isSameAs(customerInfo);
+    assertThat(members.get(0).getFrequencyScore()).isEqualTo(4);
+    assertThat(members.get(0).getTotalSpend()).isEqualByComparingTo("640.00");
+  }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -29,6 +30,12 @@ class CustomerServiceTest {
   @Mock
   private CustomerMapper customerMapper;
 
+  @Mock
+  private CustomerSearchIndex customerSearchIndex;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private CustomerService customerService;
 
@@ -150,6 +157,7 @@ class CustomerServiceTest {
 
     assertThat(result).isEqualTo(customerInfo);
     verify(customerRepository).save(customer);
+    verify(eventPublisher).publishEvent(any(CustomerChangedEvent.class));
   }
 
   @Test
@@ -206,7 +214,9 @@ class CustomerServiceTest {
     when(customerRepository.findById(id)).thenReturn(
       Optional.of(existingCustomer)
     );
-    when(customerRepository.save(existingCustomer)).thenReturn(updatedCustomer);
+    when(customerRepository.saveAndFlush(existingCustomer)).thenReturn(
+      updatedCustomer
+    );
     when(customerMapper.toCustomerInfo(updatedCustomer)).thenReturn(
       customerInfo
     );
@@ -218,7 +228,7 @@ class CustomerServiceTest {
       existingCustomer,
       customerData
     );
-    verify(customerRepository).save(existingCustomer);
+    verify(customerRepository).saveAndFlush(existingCustomer);
   }
 
   @Test
@@ -254,7 +264,9 @@ class CustomerServiceTest {
       Optional.of(existingCustomer)
     );
     when(customerRepository.existsByEmail("new@example.com")).thenReturn(false);
-    when(customerRepository.save(existingCustomer)).thenReturn(updatedCustomer);
+    when(customerRepository.saveAndFlush(existingCustomer)).thenReturn(
+      updatedCustomer
+    );
     when(customerMapper.toCustomerInfo(updatedCustomer)).thenReturn(
       customerInfo
     );
@@ -266,7 +278,7 @@ class CustomerServiceTest {
       existingCustomer,
       customerData
     );
-    verify(customerRepository).save(existingCustomer);
+    verify(customerRepository).saveAndFlush(existingCustomer);
   }
 
   @Test
@@ -298,7 +310,7 @@ class CustomerServiceTest {
     assertThat(exception.getMessage()).isEqualTo(
       "Email already in use by another customer: " + customerData.getEmail()
     );
-    verify(customerRepository, never()).save(any());
+    verify(customerRepository, never()).saveAndFlush(any());
   }
 
   @Test
@@ -319,7 +331,7 @@ class CustomerServiceTest {
     assertThat(exception.getMessage()).isEqualTo(
       "Customer not found with ID: " + id
     );
-    verify(customerRepository, never()).save(any());
+    verify(customerRepository, never()).saveAndFlush(any());
   }
 
   @Test
@@ -350,48 +362,65 @@ class CustomerServiceTest {
   }
 
   @Test
-  void searchByName_shouldReturnMatchingCustomers() {
-    String searchTerm = "John";
-
-    Customer customer1 = Customer.builder()
-      .id(1L)
-      .fullName("John Doe")
-      .email("john@example.com")
-      .build();
+  void searchByName_shouldUseNameIndex() {
+    List<CustomerInfo> matches = List.of(
+      CustomerInfo.builder().id(1L).fullName("José Peña").build()
+    );
+    when(customerSearchIndex.search("jose pena", 20)).thenReturn(matches);
 
-    Customer customer2 = Customer.builder()
-      .id(2L)
-      .fullName("Johnny Smith")
-      .email("johnny@example.com")
-      .build();
+    List<CustomerInfo> result = customerService.searchByName("jose pena", 20);
 
-    List<Customer> customers = List.of(customer1, customer2);
+    assertThat(result).isEqualTo(matches);
+  }
 
-    CustomerInfo customerInfo1 = CustomerInfo.builder()
+  @Test
+  void lookup_shouldMatchEmail_whenValueContainsAt() {
+    Customer customer = Customer.builder()
       .id(1L)
-      .fullName("John Doe")
-      .email("john@example.com")
+      .email("ana@example.com")
       .build();
+    CustomerInfo customerInfo = CustomerInfo.builder().id(1L).build();
+    when(customerRepository.findByEmail("ana@example.com")).thenReturn(
+      Optional.of(customer)
+    );
+    when(customerMapper.toCustomerInfoList(List.of(customer))).thenReturn(
+      List.of(customerInfo)
+    );
 
-    CustomerInfo customerInfo2 = CustomerInfo.builder()
-      .id(2L)
-      .fullName("Johnny Smith")
-      .email("johnny@example.com")
-      .build();
+    List<CustomerInfo> result = customerService.lookup(" ana@example.com ");
 
-    List<CustomerInfo> customerInfos = List.of(customerInfo1, customerInfo2);
+    assertThat(result).containsExactly(customerInfo);
+    verify(customerRepository, never()).findByDocumentId(any());
+  }
 
-    when(
-      customerRepository.findByFullNameContainingIgnoreCase(searchTerm)
-    ).thenReturn(customers);
-    when(customerMapper.toCustomerInfoList(customers)).thenReturn(
-      customerInfos
+  @Test
+  void lookup_shouldMatchDocumentIdThenPhone_withoutDuplicates() {
+    Customer byDocument = Customer.builder().id(1L).documentId("3001").build();
+    Customer byPhone = Customer.builder().id(2L).phoneNumber("3001").build();
+    when(customerRepository.findByDocumentId("3001")).thenReturn(
+      List.of(byDocument)
     );
+    when(customerRepository.findByPhoneNumber("3001")).thenReturn(
+      List.of(byPhone, byDocument)
+    );
+    when(customerMapper.toCustomerInfoList(any())).thenAnswer(invocation -> {
+      List<Customer> customers = invocation.getArgument(0);
+      return customers
+        .stream()
+        .map(customer -> CustomerInfo.builder().id(customer.getId()).build())
+        .toList();
+    });
 
-    List<CustomerInfo> result = customerService.searchByName(searchTerm);
+    List<CustomerInfo> result = customerService.lookup("3001");
 
-    assertThat(result).hasSize(2);
-    assertThat(result).containsExactlyInAnyOrderElementsOf(customerInfos);
+    assertThat(result).extracting(CustomerInfo::getId).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void lookup_shouldThrowException_whenValueIsBlank() {
+    assertThrows(IllegalArgumentException.class, () ->
+      customerService.lookup("  ")
+    );
   }
 
   @Test
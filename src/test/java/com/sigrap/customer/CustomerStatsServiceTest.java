@@ -0,0 +1,462 @@
+package com.sigrap.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.sale.Sale;
+import com.sigrap.sale.SaleRepository;
+import com.sigrap.sale.SaleReturn;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerStatsServiceTest {
+
+  private static final LocalDateTime JAN = LocalDateTime.of(2025, 1, 10, 9, 0);
+  private static final LocalDateTime MAR = LocalDateTime.of(2025, 3, 5, 17, 30);
+  private static final LocalDateTime JUN = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+  @Mock
+  private CustomerStatsRepository customerStatsRepository;
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private SaleRepository saleRepository;
+
+  @Mock
+  private CustomerMapper customerMapper;
+
+  @InjectMocks
+  private CustomerStatsService customerStatsService;
+
+  private Customer customer;
+  private Customer otherCustomer;
+
+  @BeforeEach
+  void setUp() {
+    customer = Customer.builder().id(1L).fullName("Ana Ruiz").build();
+    otherCustomer = Customer.builder().id(2L).fullName("Luis Mora").build();
+  }
+
+  @Test
+  void recordSale_shouldCreateStatsOnFirstSale() {
+    when(customerRepository.findByIdForUpdate(1L)).thenReturn(
+      Optional.of(customer)
+    );
+    when(
+      customerStatsRepository.addSale(
+        eq(1L),
+        eq(new BigDecimal("40.00")),
+        eq(MAR),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(0, 1);
+
+    customerStatsService.recordSale(sale(10, customer, "40.00", MAR));
+
+    verify(customerStatsRepository).createEmpty(
+      eq(1L),
+      any(LocalDateTime.class)
+    );
+    verify(customerStatsRepository, times(2)).addSale(
+      eq(1L),
+      eq(new BigDecimal("40.00")),
+      eq(MAR),
+      any(LocalDateTime.class)
+    );
+  }
+
+  @Test
+  void recordSale_shouldUpdateInPlaceWithoutLocking_whenStatsExist() {
+    when(
+      customerStatsRepository.addSale(
+        eq(1L),
+        eq(new BigDecimal("25.50")),
+        eq(JUN),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(1);
+
+    customerStatsService.recordSale(sale(11, customer, "25.50", JUN));
+
+    verify(customerRepository, never()).findByIdForUpdate(any());
+    verify(customerStatsRepository, never()).save(any());
+  }
+
+  @Test
+  void recordSale_shouldNotCreateStats_whenCreatedConcurrently() {
+    when(customerRepository.findByIdForUpdate(1L)).thenReturn(
+      Optional.of(customer)
+    );
+    when(customerStatsRepository.existsById(1L)).thenReturn(true);
+
+    customerStatsService.recordSale(sale(11, customer, "25.50", JUN));
+
+    verify(customerStatsRepository, never()).createEmpty(any(), any());
+    verify(customerStatsRepository, times(2)).addSale(
+      eq(1L),
+      eq(new BigDecimal("25.50")),
+      eq(JUN),
+      any(LocalDateTime.class)
+    );
+  }
+
+  @Test
+  void recordSale_shouldFail_whenCustomerNotFound() {
+    when(customerRepository.findByIdForUpdate(1L)).thenReturn(
+      Optional.empty()
+    );
+
+    assertThatThrownBy(() ->
+      customerStatsService.recordSale(sale(10, customer, "40.00", MAR))
+    ).isInstanceOf(EntityNotFoundException.class);
+  }
+
+  @Test
+  void recordSaleChange_shouldApplyAmountDifference_whenSameCustomer() {
+    when(
+      customerStatsRepository.addSpend(
+        eq(1L),
+        eq(new BigDecimal("15.00")),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(1);
+
+    customerStatsService.recordSaleChange(
+      1L,
+      new BigDecimal("40.00"),
+      sale(10, customer, "55.00", MAR)
+    );
+
+    verify(customerRepository, never()).findByIdForUpdate(any());
+    verify(saleRepository, never()).findPurchaseRange(any(), any());
+  }
+
+  @Test
+  void recordSaleChange_shouldMoveSale_whenCustomerChanged() {
+    CustomerStats previous = stats(customer, 2, "100.00", JAN, MAR);
+    CustomerStats current = stats(otherCustomer, 1, "10.00", JUN, JUN);
+    stubLocked(customer, previous);
+    stubLocked(otherCustomer, current);
+    when(saleRepository.findPurchaseRange(1L, List.of(10))).thenReturn(
+      rangeOf(JAN, JAN)
+    );
+
+    customerStatsService.recordSaleChange(
+      1L,
+      new BigDecimal("40.00"),
+      sale(10, otherCustomer, "45.00", MAR)
+    );
+
+    assertThat(previous.getVisits()).isEqualTo(1);
+    assertThat(previous.getLifetimeSpend()).isEqualByComparingTo("60.00");
+    assertThat(previous.getLastPurchaseAt()).isEqualTo(JAN);
+    assertThat(current.getVisits()).isEqualTo(2);
+    assertThat(current.getLifetimeSpend()).isEqualByComparingTo("55.00");
+    assertThat(current.getFirstPurchaseAt()).isEqualTo(MAR);
+    assertThat(current.getLastPurchaseAt()).isEqualTo(JUN);
+  }
+
+  @Test
+  void removeSales_shouldKeepRange_whenBoundariesAreUnaffected() {
+    CustomerStats stats = stats(customer, 3, "90.00", JAN, JUN);
+    stubLocked(customer, stats);
+
+    customerStatsService.removeSales(List.of(sale(10, customer, "30.00", MAR)));
+
+    assertThat(stats.getVisits()).isEqualTo(2);
+    assertThat(stats.getLifetimeSpend()).isEqualByComparingTo("60.00");
+    assertThat(stats.getFirstPurchaseAt()).isEqualTo(JAN);
+    assertThat(stats.getLastPurchaseAt()).isEqualTo(JUN);
+    verify(saleRepository, never()).findPurchaseRange(any(), any());
+  }
+
+  @Test
+  void removeSales_shouldResetStats_whenNoSaleRemains() {
+    CustomerStats stats = stats(customer, 2, "70.00", MAR, JUN);
+    stubLocked(customer, stats);
+
+    customerStatsService.removeSales(
+      List.of(
+        sale(10, customer, "30.00", MAR),
+        sale(11, customer, "40.00", JUN)
+      )
+    );
+
+    assertThat(stats.getVisits()).isZero();
+    assertThat(stats.getLifetimeSpend()).isEqualByComparingTo("0");
+    assertThat(stats.getFirstPurchaseAt()).isNull();
+    assertThat(stats.getLastPurchaseAt()).isNull();
+  }
+
+  @Test
+  void recordReturn_shouldAddToReturnTotals() {
+    when(
+      customerStatsRepository.addReturns(
+        eq(1L),
+        eq(1),
+        eq(new BigDecimal("12.50")),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(1);
+
+    customerStatsService.recordReturn(saleReturn(customer, "12.50"));
+
+    verify(customerRepository, never()).findByIdForUpdate(any());
+  }
+
+  @Test
+  void recordReturn_shouldFail_whenCustomerNotFound() {
+    when(customerRepository.findByIdForUpdate(1L)).thenReturn(
+      Optional.empty()
+    );
+
+    assertThatThrownBy(() ->
+      customerStatsService.recordReturn(saleReturn(customer, "12.50"))
+    ).isInstanceOf(EntityNotFoundException.class);
+    verify(customerStatsRepository, never()).createEmpty(any(), any());
+  }
+
+  @Test
+  void removeReturns_shouldTakeReturnsOffTotals() {
+    when(
+      customerStatsRepository.addReturns(
+        eq(1L),
+        eq(-2),
+        eq(new BigDecimal("-20.00")),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(1);
+
+    customerStatsService.removeReturns(
+      List.of(saleReturn(customer, "12.50"), saleReturn(customer, "7.50"))
+    );
+
+    verify(customerRepository, never()).findByIdForUpdate(any());
+  }
+
+  @Test
+  void merge_shouldFoldDuplicateTotalsIntoSurvivor() {
+    CustomerStats survivorStats = stats(customer, 2, "70.00", MAR, MAR);
+    CustomerStats duplicateStats = stats(otherCustomer, 1, "30.00", JAN, JUN);
+    duplicateStats.setReturnCount(1);
+    duplicateStats.setReturnsTotal(new BigDecimal("5.00"));
+    stubLocked(customer, survivorStats);
+    stubLocked(otherCustomer, duplicateStats);
+
+    customerStatsService.merge(1L, 2L);
+
+    CustomerStats saved = savedStats();
+    assertThat(saved.getVisits()).isEqualTo(3);
+    assertThat(saved.getLifetimeSpend()).isEqualByComparingTo("100.00");
+    assertThat(saved.getReturnCount()).isEqualTo(1);
+    assertThat(saved.getReturnsTotal()).isEqualByComparingTo("5.00");
+    assertThat(saved.getFirstPurchaseAt()).isEqualTo(JAN);
+    assertThat(saved.getLastPurchaseAt()).isEqualTo(JUN);
+    verify(customerStatsRepository).deleteById(2L);
+  }
+
+  @Test
+  void backfill_shouldCreateStatsFromSalesAndReturns() {
+    List<Object[]> sales = new ArrayList<>();
+    sales.add(new Object[] { 1L, 3L, new BigDecimal("90.00"), JAN, JUN });
+    List<Object[]> returns = new ArrayList<>();
+    returns.add(new Object[] { 1L, 1L, new BigDecimal("15.00") });
+    when(customerStatsRepository.summarizeSalesWithoutStats()).thenReturn(
+      sales
+    );
+    when(customerStatsRepository.summarizeReturnsWithoutStats()).thenReturn(
+      returns
+    );
+
+    int created = customerStatsService.backfill();
+
+    assertThat(created).isEqualTo(1);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Iterable<CustomerStats>> captor = ArgumentCaptor.forClass(
+      Iterable.class
+    );
+    verify(customerStatsRepository).saveAll(captor.capture());
+    CustomerStats stats = captor.getValue().iterator().next();
+    assertThat(stats.getVisits()).isEqualTo(3);
+    assertThat(stats.getLifetimeSpend()).isEqualByComparingTo("90.00");
+    assertThat(stats.getFirstPurchaseAt()).isEqualTo(JAN);
+    assertThat(stats.getLastPurchaseAt()).isEqualTo(JUN);
+    assertThat(stats.getReturnCount()).isEqualTo(1);
+    assertThat(stats.getReturnsTotal()).isEqualByComparingTo("15.00");
+  }
+
+  @Test
+  void findProfile_shouldReturnTotalsAndPageThroughHistory() {
+    CustomerInfo info = CustomerInfo.builder().id(1L).build();
+    when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+    when(customerMapper.toCustomerInfo(customer)).thenReturn(info);
+    when(customerStatsRepository.findById(1L)).thenReturn(
+      Optional.of(stats(customer, 3, "100.00", JAN, JUN))
+    );
+    when(saleRepository.findPurchases(1L, Limit.of(3))).thenReturn(
+      List.of(
+        purchase(12, JUN, "50.00"),
+        purchase(11, MAR, "30.00"),
+        purchase(10, JAN, "20.00")
+      )
+    );
+
+    CustomerProfileInfo first = customerStatsService.findProfile(1L, null, 2);
+
+    assertThat(first.getCustomer()).isSameAs(info);
+    assertThat(first.getVisits()).isEqualTo(3);
+    assertThat(first.getAverageTicket()).isEqualByComparingTo("33.33");
+    assertThat(first.getPurchases())
+      .extracting(CustomerPurchaseInfo::getSaleId)
+      .containsExactly(12, 11);
+    assertThat(first.getNextCursor()).isNotBlank();
+
+    when(saleRepository.findPurchasesBefore(1L, MAR, 11, Limit.of(3)))
+      .thenReturn(List.<Object[]>of(purchase(10, JAN, "20.00")));
+
+    CustomerProfileInfo second = customerStatsService.findProfile(
+      1L,
+      first.getNextCursor(),
+      2
+    );
+
+    assertThat(second.getPurchases())
+      .extracting(CustomerPurchaseInfo::getSaleId)
+      .containsExactly(10);
+    assertThat(second.getNextCursor()).isNull();
+  }
+
+  @Test
+  void findProfile_shouldReturnZeros_whenCustomerHasNoPurchases() {
+    when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+    when(customerStatsRepository.findById(1L)).thenReturn(Optional.empty());
+    when(saleRepository.findPurchases(1L, Limit.of(21))).thenReturn(List.of());
+
+    CustomerProfileInfo profile = customerStatsService.findProfile(
+      1L,
+      null,
+      20
+    );
+
+    assertThat(profile.getVisits()).isZero();
+    assertThat(profile.getLifetimeSpend()).isEqualByComparingTo("0");
+    assertThat(profile.getAverageTicket()).isNull();
+    assertThat(profile.getPurchases()).isEmpty();
+    assertThat(profile.getNextCursor()).isNull();
+  }
+
+  @Test
+  void findProfile_shouldRejectInvalidSizeAndCursor() {
+    assertThatThrownBy(() ->
+      customerStatsService.findProfile(1L, null, 0)
+    ).isInstanceOf(IllegalArgumentException.class);
+
+    when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+    when(customerStatsRepository.findById(1L)).thenReturn(Optional.empty());
+    assertThatThrownBy(() ->
+      customerStatsService.findProfile(1L, "not-a-cursor", 20)
+    )
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Invalid purchase history cursor");
+  }
+
+  @Test
+  void findProfile_shouldFail_whenCustomerNotFound() {
+    when(customerRepository.findById(9L)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() ->
+      customerStatsService.findProfile(9L, null, 20)
+    ).isInstanceOf(EntityNotFoundException.class);
+  }
+
+  private void stubLocked(Customer lockedCustomer, CustomerStats stats) {
+    when(customerRepository.findByIdForUpdate(lockedCustomer.getId()))
+      .thenReturn(Optional.of(lockedCustomer));
+    when(
+      customerStatsRepository.findByIdForUpdate(lockedCustomer.getId())
+    ).thenReturn(Optional.ofNullable(stats));
+  }
+
+  private CustomerStats savedStats() {
+    ArgumentCaptor<CustomerStats> captor = ArgumentCaptor.forClass(
+      CustomerStats.class
+    );
+    verify(customerStatsRepository).save(captor.capture());
+    return captor.getValue();
+  }
+
+  private static CustomerStats stats(
+    Customer owner,
+    int visits,
+    String spend,
+    LocalDateTime first,
+    LocalDateTime last
+  ) {
+    return CustomerStats.builder()
+      .customerId(owner.getId())
+      .visits(visits)
+      .lifetimeSpend(new BigDecimal(spend))
+      .firstPurchaseAt(first)
+      .lastPurchaseAt(last)
+      .build();
+  }
+
+  private static Sale sale(
+    Integer id,
+    Customer owner,
+    String amount,
+    LocalDateTime createdAt
+  ) {
+    return Sale.builder()
+      .id(id)
+      .customer(owner)
+      .finalAmount(new BigDecimal(amount))
+      .createdAt(createdAt)
+      .build();
+  }
+
+  private static SaleReturn saleReturn(Customer owner, String amount) {
+    return SaleReturn.builder()
+      .customer(owner)
+      .totalReturnAmount(new BigDecimal(amount))
+      .build();
+  }
+
+  private static Object[] purchase(
+    Integer id,
+    LocalDateTime createdAt,
+    String amount
+  ) {
+    return new Object[] { id, createdAt, new BigDecimal(amount), 2L, "Ana" };
+  }
+
+  private static List<Object[]> rangeOf(
+    LocalDateTime first,
+    LocalDateTime last
+  ) {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[] { first, last });
+    return rows;
+  }
+}
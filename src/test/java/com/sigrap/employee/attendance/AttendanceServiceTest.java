@@ -145,7 +145,7 @@ class AttendanceServiceTest {
       .when(attendanceRepository.findById(anyLong()))
       .thenReturn(Optional.of(testAttendance));
     lenient()
-      .when(attendanceRepository.save(any(Attendance.class)))
+      .when(attendanceRepository.saveAndFlush(any(Attendance.class)))
       .thenReturn(testAttendance);
     lenient()
       .when(attendanceMapper.toInfo(any(Attendance.class)))
@@ -213,7 +213,9 @@ class AttendanceServiceTest {
     when(attendanceRepository.findById(attendanceId)).thenReturn(
       Optional.of(testAttendance)
     );
-    when(attendanceRepository.save(testAttendance)).thenReturn(testAttendance);
+    when(attendanceRepository.saveAndFlush(testAttendance)).thenReturn(
+      testAttendance
+    );
     when(attendanceMapper.toInfo(testAttendance)).thenReturn(
       testAttendanceInfo
     );
@@ -226,7 +228,7 @@ class AttendanceServiceTest {
     assertNotNull(result);
     assertEquals(testAttendanceInfo.getId(), result.getId());
     verify(attendanceRepository).findById(attendanceId);
-    verify(attendanceRepository).save(testAttendance);
+    verify(attendanceRepository).saveAndFlush(testAttendance);
   }
 
   @Test
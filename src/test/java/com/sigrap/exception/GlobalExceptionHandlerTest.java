@@ -6,6 +6,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
+import com.sigrap.common.StaleVersionException;
+import com.sigrap.product.Product;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
@@ -18,6 +20,7 @@ import lombok.Setter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.web.servlet.MockMvc;
@@ -54,6 +57,16 @@ class GlobalExceptionHandlerTest {
       throw new DataIntegrityViolationException("Data integrity violation");
     }
 
+    @GetMapping("/test/stale-version")
+    public void throwStaleVersionException() {
+      throw new StaleVersionException(Product.class, 7, 2, 3);
+    }
+
+    @GetMapping("/test/optimistic-locking")
+    public void throwOptimisticLockingFailureException() {
+      throw new OptimisticLockingFailureException("Row was updated");
+    }
+
     @GetMapping("/test/bad-credentials")
     public void throwBadCredentialsException() {
       throw new BadCredentialsException("Invalid credentials");
@@ -120,6 +133,35 @@ class GlobalExceptionHandlerTest {
       .andExpect(jsonPath("$.message").value("Data integrity violation"));
   }
 
+  @Test
+  void handleStaleVersionException() throws Exception {
+    mockMvc
+      .perform(
+        get("/test/stale-version").contentType(MediaType.APPLICATION_JSON)
+      )
+      .andExpect(status().isConflict())
+      .andExpect(
+        jsonPath("$.message").value(
+          "Product 7 was modified by someone else (version 3, expected 2)"
+        )
+      );
+  }
+
+  @Test
+  void handleOptimisticLockingFailureException() throws Exception {
+    mockMvc
+      .perform(
+        get("/test/optimistic-locking").contentType(MediaType.APPLICATION_JSON)
+      )
+      .andExpect(status().isConflict())
+      .andExpect(jsonPath("$.status").value(409))
+      .andExpect(
+        jsonPath("$.message").value(
+          "The resource was modified concurrently, please try again"
+        )
+      );
+  }
+
   @Test
   void handleBadCredentialsException() throws Exception {
     mockMvc
@@ -0,0 +1,118 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.product.ProductRepository;
+import com.sigrap.sale.SaleItemRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DemandForecastEngineTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private SaleItemRepository saleItemRepository;
+
+  @Mock
+  private ProductForecastWriter forecastWriter;
+
+  @InjectMocks
+  private DemandForecastEngine demandForecastEngine;
+
+  @Captor
+  private ArgumentCaptor<List<ForecastChunk>> chunksCaptor;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(demandForecastEngine, "historyDays", 28);
+    ReflectionTestUtils.setField(demandForecastEngine, "movingAverageDays", 28);
+    ReflectionTestUtils.setField(demandForecastEngine, "leadTimeDays", 7);
+    ReflectionTestUtils.setField(demandForecastEngine, "reviewDays", 7);
+    ReflectionTestUtils.setField(demandForecastEngine, "serviceLevelZ", 0.0);
+    ReflectionTestUtils.setField(demandForecastEngine, "chunkSize", 2);
+    ReflectionTestUtils.setField(demandForecastEngine, "parallelism", 2);
+  }
+
+  @Test
+  void run_shouldForecastCatalogInChunks() {
+    List<Object[]> products = new ArrayList<>();
+    products.add(new Object[] { 1, "Cuaderno", 5, 10 });
+    products.add(new Object[] { 2, "Lápiz", 100, 10 });
+    products.add(new Object[] { 3, "Borrador", 0, 0 });
+    when(productRepository.findStockLevels()).thenReturn(products);
+
+    LocalDate today = LocalDate.now();
+    LocalDateTime since = today.minusDays(28).atStartOfDay();
+    LocalDateTime until = today.atStartOfDay();
+    List<Object[]> firstChunkSales = new ArrayList<>();
+    firstChunkSales.add(row(1, today.minusDays(1), 28L));
+    firstChunkSales.add(row(2, today.minusDays(28), 14L));
+    when(
+      saleItemRepository.sumDailyQuantityByProduct(
+        eq(since),
+        eq(until),
+        anyCollection()
+      )
+    ).thenAnswer(invocation -> {
+      Collection<?> ids = invocation.getArgument(2);
+      return ids.contains(1) ? firstChunkSales : List.of();
+    });
+
+    int forecast = demandForecastEngine.run();
+
+    assertThat(forecast).isEqualTo(3);
+    verify(forecastWriter).replaceAll(chunksCaptor.capture(), any());
+    List<ForecastChunk> chunks = chunksCaptor.getValue();
+    assertThat(chunks).hasSize(2);
+    ForecastChunk first = chunks.get(0);
+    assertThat(first.productIds).containsExactly(1, 2);
+    assertThat(first.demand[0][27]).isEqualTo(28);
+    assertThat(first.demand[1][0]).isEqualTo(14);
+    assertThat(first.hasSales).containsExactly(true, true);
+    assertThat(first.averageDailyDemand[0]).isEqualTo(1.0);
+    assertThat(first.suggestedOrderQuantities[0]).isPositive();
+    assertThat(first.suggestedOrderQuantities[1]).isZero();
+    ForecastChunk second = chunks.get(1);
+    assertThat(second.productIds).containsExactly(3);
+    assertThat(second.productNames).containsExactly("Borrador");
+    assertThat(second.hasSales).containsExactly(false);
+  }
+
+  @Test
+  void run_shouldWriteNothing_whenCatalogIsEmpty() {
+    when(productRepository.findStockLevels()).thenReturn(List.of());
+
+    assertThat(demandForecastEngine.run()).isZero();
+    verify(forecastWriter).replaceAll(eq(List.of()), any());
+  }
+
+  private static Object[] row(int productId, LocalDate day, long quantity) {
+    return new Object[] {
+      productId,
+      day.getYear(),
+      day.getMonthValue(),
+      day.getDayOfMonth(),
+      quantity,
+    };
+  }
+}
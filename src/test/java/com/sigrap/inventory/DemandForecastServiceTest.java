@@ -0,0 +1,89 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class DemandForecastServiceTest {
+
+  @Mock
+  private ProductForecastRepository productForecastRepository;
+
+  @InjectMocks
+  private DemandForecastService demandForecastService;
+
+  @Test
+  void findAll_shouldReturnOnlyReorderCandidates_whenRequested() {
+    Pageable pageable = PageRequest.of(0, 20);
+    when(productForecastRepository.findByReorderRequiredTrue(pageable)).thenReturn(
+      new PageImpl<>(List.of(forecast()), pageable, 1)
+    );
+
+    Page<ProductForecastInfo> page = demandForecastService.findAll(
+      true,
+      pageable
+    );
+
+    assertThat(page.getContent()).hasSize(1);
+    ProductForecastInfo info = page.getContent().get(0);
+    assertThat(info.getProductId()).isEqualTo(1);
+    assertThat(info.getReorderPoint()).isEqualTo(18);
+    assertThat(info.isReorderRequired()).isTrue();
+    verify(productForecastRepository, never()).findAll(pageable);
+  }
+
+  @Test
+  void findAll_shouldReturnEveryForecast_byDefault() {
+    Pageable pageable = PageRequest.of(0, 20);
+    when(productForecastRepository.findAll(pageable)).thenReturn(
+      new PageImpl<>(List.of(forecast()), pageable, 1)
+    );
+
+    assertThat(
+      demandForecastService.findAll(false, pageable).getTotalElements()
+    ).isEqualTo(1);
+  }
+
+  @Test
+  void findByProductId_shouldThrow_whenNoForecast() {
+    when(productForecastRepository.findById(99)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() ->
+      demandForecastService.findByProductId(99)
+    ).isInstanceOf(EntityNotFoundException.class);
+  }
+
+  private static ProductForecast forecast() {
+    return ProductForecast.builder()
+      .productId(1)
+      .productName("Cuaderno")
+      .currentStock(2)
+      .averageDailyDemand(new BigDecimal("2.50"))
+      .leadTimeDemand(new BigDecimal("17.50"))
+      .demandStdDev(new BigDecimal("0.40"))
+      .daysOfCover(new BigDecimal("0.8"))
+      .reorderPoint(18)
+      .suggestedOrderQuantity(51)
+      .reorderRequired(true)
+      .calculatedAt(LocalDateTime.now())
+      .build();
+  }
+}
@@ -0,0 +1,111 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class DemandForecasterTest {
+
+  private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 6);
+  private static final int DAYS = 28;
+
+  @Test
+  void forecast_shouldUseMovingAverage_whenDemandIsConstant() {
+    DemandForecaster forecaster = new DemandForecaster(DAYS, 14, 7, 14, 1.65);
+    ForecastChunk chunk = chunk(10);
+    Arrays.fill(chunk.demand[0], 3);
+
+    forecaster.forecast(chunk, FIRST_DAY, FIRST_DAY.plusDays(DAYS));
+
+    assertThat(chunk.averageDailyDemand[0]).isEqualTo(3.0);
+    assertThat(chunk.demandStdDev[0]).isEqualTo(0.0);
+    assertThat(chunk.leadTimeDemand[0]).isCloseTo(21.0, within(1e-9));
+    assertThat(chunk.reorderPoints[0]).isEqualTo(21);
+    assertThat(chunk.suggestedOrderQuantities[0]).isEqualTo(53);
+    assertThat(chunk.daysOfCover(0)).isCloseTo(3.33, within(0.01));
+  }
+
+  @Test
+  void forecast_shouldWeightLeadTimeByWeekday() {
+    DemandForecaster forecaster = new DemandForecaster(DAYS, DAYS, 1, 0, 0);
+    ForecastChunk chunk = chunk(0);
+    for (int day = 0; day < DAYS; day++) {
+      DayOfWeek weekday = FIRST_DAY.plusDays(day).getDayOfWeek();
+      chunk.demand[0][day] = weekday == DayOfWeek.SATURDAY ? 14 : 0;
+    }
+    LocalDate saturday = FIRST_DAY.plusDays(DAYS).with(
+      TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY)
+    );
+
+    forecaster.forecast(chunk, FIRST_DAY, saturday);
+    double saturdayDemand = chunk.leadTimeDemand[0];
+    forecaster.forecast(chunk, FIRST_DAY, saturday.plusDays(1));
+    double sundayDemand = chunk.leadTimeDemand[0];
+
+    assertThat(chunk.averageDailyDemand[0]).isEqualTo(2.0);
+    assertThat(saturdayDemand).isCloseTo(14.0, within(1e-9));
+    assertThat(sundayDemand).isZero();
+  }
+
+  @Test
+  void forecast_shouldAddSafetyStockForVariableDemand() {
+    DemandForecaster forecaster = new DemandForecaster(DAYS, DAYS, 4, 0, 2);
+    ForecastChunk chunk = chunk(100);
+    for (int day = 0; day < DAYS; day++) {
+      chunk.demand[0][day] = day % 2 == 0 ? 0 : 4;
+    }
+
+    forecaster.forecast(chunk, FIRST_DAY, FIRST_DAY.plusDays(DAYS));
+
+    assertThat(chunk.demandStdDev[0]).isCloseTo(2.04, within(0.01));
+    assertThat(chunk.reorderPoints[0]).isEqualTo(17);
+    assertThat(chunk.suggestedOrderQuantities[0]).isZero();
+  }
+
+  @Test
+  void forecast_shouldSuggestNothing_whenNoDemand() {
+    DemandForecaster forecaster = new DemandForecaster(DAYS, 14, 7, 14, 1.65);
+    ForecastChunk chunk = chunk(0);
+
+    forecaster.forecast(chunk, FIRST_DAY, FIRST_DAY.plusDays(DAYS));
+
+    assertThat(chunk.reorderPoints[0]).isZero();
+    assertThat(chunk.suggestedOrderQuantities[0]).isZero();
+    assertThat(chunk.daysOfCover(0)).isNaN();
+  }
+
+  @Test
+  void constructor_shouldRejectShortHistory() {
+    assertThatThrownBy(() ->
+      new DemandForecaster(3, 1, 1, 1, 1.65)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void addDemand_shouldIgnoreUnknownProductsAndDays() {
+    ForecastChunk chunk = new ForecastChunk(2, DAYS);
+    chunk.productIds[0] = 5;
+    chunk.productIds[1] = 9;
+
+    chunk.addDemand(9, 3, 2);
+    chunk.addDemand(9, 3, 1);
+    chunk.addDemand(7, 3, 1);
+    chunk.addDemand(5, DAYS, 1);
+
+    assertThat(chunk.demand[1][3]).isEqualTo(3);
+    assertThat(chunk.hasSales).containsExactly(false, true);
+  }
+
+  private static ForecastChunk chunk(int stock) {
+    ForecastChunk chunk = new ForecastChunk(1, DAYS);
+    chunk.productIds[0] = 1;
+    chunk.stock[0] = stock;
+    return chunk;
+  }
+}
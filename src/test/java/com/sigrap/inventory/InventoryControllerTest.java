@@ -0,0 +1,230 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+import com.sigrap.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+
+class InventoryControllerTest {
+
+  private MockMvc mockMvc;
+  private InventoryValuationService inventoryValuationService;
+  private DemandForecastService demandForecastService;
+  private ProductCostService productCostService;
+  private ProductCostBackfill productCostBackfill;
+
+  @BeforeEach
+  void setup() {
+    inventoryValuationService = mock(InventoryValuationService.class);
+    demandForecastService = mock(DemandForecastService.class);
+    productCostService = mock(ProductCostService.class);
+    productCostBackfill = mock(ProductCostBackfill.class);
+    mockMvc = standaloneSetup(
+      new InventoryController(
+        inventoryValuationService,
+        demandForecastService,
+        productCostService,
+        productCostBackfill
+      )
+    )
+      .setControllerAdvice(new GlobalExceptionHandler())
+      .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+      .build();
+  }
+
+  @Test
+  void getValuation_shouldReturnCurrentValuation() throws Exception {
+    when(inventoryValuationService.getCurrent()).thenReturn(
+      InventoryValuationInfo.builder()
+        .productCount(2)
+        .totalUnits(15)
+        .totalCostValue(new BigDecimal("40.00"))
+        .totalRetailValue(new BigDecimal("65.00"))
+        .categories(
+          List.of(
+            CategoryValuationInfo.builder()
+              .categoryId(1L)
+              .categoryName("Cuadernos")
+              .productCount(2)
+              .units(15)
+              .costValue(new BigDecimal("40.00"))
+              .retailValue(new BigDecimal("65.00"))
+              .build()
+          )
+        )
+        .build()
+    );
+
+    mockMvc
+      .perform(get("/api/inventory/valuation"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalUnits").value(15))
+      .andExpect(jsonPath("$.totalCostValue").value(40.00))
+      .andExpect(jsonPath("$.categories[0].categoryName").value("Cuadernos"));
+  }
+
+  @Test
+  void getValuationHistory_shouldPassDateRange() throws Exception {
+    LocalDate from = LocalDate.of(2025, 1, 1);
+    LocalDate to = LocalDate.of(2025, 1, 31);
+    when(inventoryValuationService.getHistory(from, to)).thenReturn(
+      List.of(
+        InventoryValuationInfo.builder()
+          .productCount(2)
+          .totalCostValue(new BigDecimal("40.00"))
+          .totalRetailValue(new BigDecimal("65.00"))
+          .categories(List.of())
+          .build()
+      )
+    );
+
+    mockMvc
+      .perform(
+        get("/api/inventory/valuation/history")
+          .param("from", "2025-01-01")
+          .param("to", "2025-01-31")
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.length()").value(1))
+      .andExpect(jsonPath("$[0].productCount").value(2));
+  }
+
+  @Test
+  void getValuationHistory_shouldReturnBadRequest_whenRangeInverted()
+    throws Exception {
+    LocalDate from = LocalDate.of(2025, 2, 1);
+    LocalDate to = LocalDate.of(2025, 1, 1);
+    when(inventoryValuationService.getHistory(from, to)).thenThrow(
+      new IllegalArgumentException("The start date must not be after the end date")
+    );
+
+    mockMvc
+      .perform(
+        get("/api/inventory/valuation/history")
+          .param("from", "2025-02-01")
+          .param("to", "2025-01-01")
+      )
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void getForecasts_shouldReturnReorderCandidates() throws Exception {
+    ProductForecastInfo forecast = ProductForecastInfo.builder()
+      .productId(1)
+      .productName("Cuaderno")
+      .currentStock(2)
+      .averageDailyDemand(new BigDecimal("2.50"))
+      .reorderPoint(18)
+      .suggestedOrderQuantity(51)
+      .reorderRequired(true)
+      .build();
+    when(
+      demandForecastService.findAll(eq(true), any(Pageable.class))
+    ).thenReturn(new PageImpl<>(List.of(forecast), PageRequest.of(0, 20), 1));
+
+    mockMvc
+      .perform(get("/api/inventory/forecast").param("reorderOnly", "true"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content[0].productId").value(1))
+      .andExpect(jsonPath("$.content[0].suggestedOrderQuantity").value(51));
+
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(demandForecastService).findAll(eq(true), pageable.capture());
+    assertThat(pageable.getValue().getSort()).isEqualTo(
+      Sort.by("daysOfCover")
+    );
+  }
+
+  @Test
+  void getForecast_shouldReturnNotFound_whenNoForecast() throws Exception {
+    when(demandForecastService.findByProductId(99)).thenThrow(
+      new EntityNotFoundException("Forecast not found for product: 99")
+    );
+
+    mockMvc
+      .perform(get("/api/inventory/forecast/99"))
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getCostHistory_shouldReturnLatestChangesFirst() throws Exception {
+    when(
+      productCostService.findHistory(eq(1), any(Pageable.class))
+    ).thenReturn(
+      new PageImpl<>(
+        List.of(
+          ProductCostHistoryInfo.builder()
+            .productId(1)
+            .purchaseOrderId(12)
+            .quantity(50)
+            .unitCost(new BigDecimal("4200.00"))
+            .stockBefore(30)
+            .previousCost(new BigDecimal("4000.00"))
+            .averageCost(new BigDecimal("4125.00"))
+            .build()
+        ),
+        PageRequest.of(0, 20),
+        1
+      )
+    );
+
+    mockMvc
+      .perform(get("/api/inventory/costs/1/history"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content[0].purchaseOrderId").value(12))
+      .andExpect(jsonPath("$.content[0].averageCost").value(4125.00));
+
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(productCostService).findHistory(eq(1), pageable.capture());
+    assertThat(pageable.getValue().getSort()).isEqualTo(
+      Sort.by(Sort.Direction.DESC, "recordedAt", "id")
+    );
+  }
+
+  @Test
+  void getCostHistory_shouldReturnNotFound_whenProductMissing()
+    throws Exception {
+    when(
+      productCostService.findHistory(eq(99), any(Pageable.class))
+    ).thenThrow(new EntityNotFoundException("Product not found with id: 99"));
+
+    mockMvc
+      .perform(get("/api/inventory/costs/99/history"))
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void backfillCosts_shouldReturnSummary() throws Exception {
+    when(productCostBackfill.run()).thenReturn(
+      ProductCostBackfillInfo.builder().productCount(3).receiptCount(8).build()
+    );
+
+    mockMvc
+      .perform(post("/api/inventory/costs/backfill"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.productCount").value(3))
+      .andExpect(jsonPath("$.receiptCount").value(8));
+  }
+}
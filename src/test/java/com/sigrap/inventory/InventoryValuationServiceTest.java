@@ -0,0 +1,177 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryValuationServiceTest {
+
+  @Mock
+  private InventoryValuation inventoryValuation;
+
+  @Mock
+  private InventoryValuationSnapshotRepository snapshotRepository;
+
+  @InjectMocks
+  private InventoryValuationService inventoryValuationService;
+
+  @Captor
+  private ArgumentCaptor<List<InventoryValuationSnapshot>> snapshotsCaptor;
+
+  @Test
+  void getCurrent_shouldReturnLiveValuation() {
+    InventoryValuationInfo valuation = valuation();
+    when(inventoryValuation.current()).thenReturn(valuation);
+
+    assertThat(inventoryValuationService.getCurrent()).isSameAs(valuation);
+  }
+
+  @Test
+  void takeSnapshot_shouldReplaceTodaysRows() {
+    when(inventoryValuation.current()).thenReturn(valuation());
+
+    int stored = inventoryValuationService.takeSnapshot();
+
+    LocalDate today = LocalDate.now();
+    assertThat(stored).isEqualTo(2);
+    verify(snapshotRepository).deleteBySnapshotDate(today);
+    verify(snapshotRepository).saveAll(snapshotsCaptor.capture());
+    assertThat(snapshotsCaptor.getValue())
+      .extracting(
+        InventoryValuationSnapshot::getSnapshotDate,
+        InventoryValuationSnapshot::getCategoryId,
+        InventoryValuationSnapshot::getUnits
+      )
+      .containsExactly(
+        tuple(today, 1L, 10L),
+        tuple(today, null, 3L)
+      );
+  }
+
+  @Test
+  void getHistory_shouldGroupRowsByDay() {
+    LocalDate from = LocalDate.of(2025, 1, 1);
+    LocalDate to = LocalDate.of(2025, 1, 2);
+    when(
+      snapshotRepository.findBySnapshotDateBetweenOrderBySnapshotDateAsc(
+        from,
+        to
+      )
+    ).thenReturn(
+      List.of(
+        snapshot(from, 1L, 10, "20.00", "35.00"),
+        snapshot(from, 2L, 5, "5.00", "8.00"),
+        snapshot(to, 1L, 8, "16.00", "28.00")
+      )
+    );
+
+    List<InventoryValuationInfo> history = inventoryValuationService.getHistory(
+      from,
+      to
+    );
+
+    assertThat(history).hasSize(2);
+    assertThat(history.get(0).getValuationDate()).isEqualTo(from);
+    assertThat(history.get(0).getTotalUnits()).isEqualTo(15);
+    assertThat(history.get(0).getTotalCostValue()).isEqualByComparingTo(
+      "25.00"
+    );
+    assertThat(history.get(0).getCategories()).hasSize(2);
+    assertThat(history.get(1).getValuationDate()).isEqualTo(to);
+    assertThat(history.get(1).getTotalRetailValue()).isEqualByComparingTo(
+      "28.00"
+    );
+  }
+
+  @Test
+  void getHistory_shouldDefaultToLastThirtyDays() {
+    LocalDate today = LocalDate.now();
+    when(
+      snapshotRepository.findBySnapshotDateBetweenOrderBySnapshotDateAsc(
+        today.minusDays(29),
+        today
+      )
+    ).thenReturn(List.of());
+
+    assertThat(inventoryValuationService.getHistory(null, null)).isEmpty();
+  }
+
+  @Test
+  void getHistory_shouldRejectInvertedRange() {
+    LocalDate from = LocalDate.of(2025, 2, 1);
+    LocalDate to = LocalDate.of(2025, 1, 1);
+
+    assertThatThrownBy(() ->
+      inventoryValuationService.getHistory(from, to)
+    ).isInstanceOf(IllegalArgumentException.class);
+    verify(snapshotRepository, never()).findBySnapshotDateBetweenOrderBySnapshotDateAsc(
+      any(),
+      any()
+    );
+  }
+
+  private static InventoryValuationInfo valuation() {
+    return InventoryValuationInfo.builder()
+      .valuationDate(LocalDate.now())
+      .calculatedAt(LocalDateTime.now())
+      .productCount(3)
+      .totalUnits(13)
+      .totalCostValue(new BigDecimal("23.00"))
+      .totalRetailValue(new BigDecimal("41.00"))
+      .categories(
+        List.of(
+          CategoryValuationInfo.builder()
+            .categoryId(1L)
+            .categoryName("Cuadernos")
+            .productCount(2)
+            .units(10)
+            .costValue(new BigDecimal("20.00"))
+            .retailValue(new BigDecimal("35.00"))
+            .build(),
+          CategoryValuationInfo.builder()
+            .productCount(1)
+            .units(3)
+            .costValue(new BigDecimal("3.00"))
+            .retailValue(new BigDecimal("6.00"))
+            .build()
+        )
+      )
+      .build();
+  }
+
+  private static InventoryValuationSnapshot snapshot(
+    LocalDate date,
+    Long categoryId,
+    long units,
+    String costValue,
+    String retailValue
+  ) {
+    return InventoryValuationSnapshot.builder()
+      .snapshotDate(date)
+      .categoryId(categoryId)
+      .categoryName("Category " + categoryId)
+      .productCount(1)
+      .units(units)
+      .costValue(new BigDecimal(costValue))
+      .retailValue(new BigDecimal(retailValue))
+      .createdAt(date.atTime(23, 55))
+      .build();
+  }
+}
@@ -0,0 +1,157 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.product.ProductChangedEvent;
+import com.sigrap.product.ProductRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryValuationTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @InjectMocks
+  private InventoryValuation inventoryValuation;
+
+  @BeforeEach
+  void setUp() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(row(1, 10L, "Cuadernos", 10, "2.00", "3.50"));
+    rows.add(row(2, 10L, "Cuadernos", 5, "4.00", "6.00"));
+    rows.add(row(3, 20L, "Arte", 2, "10.00", "15.00"));
+    rows.add(row(4, null, null, 1, "1.00", "2.00"));
+    when(productRepository.findValuationRows()).thenReturn(rows);
+    inventoryValuation.recompute();
+  }
+
+  @Test
+  void recompute_shouldTotalByCategory() {
+    InventoryValuationInfo valuation = inventoryValuation.current();
+
+    assertThat(valuation.getProductCount()).isEqualTo(4);
+    assertThat(valuation.getTotalUnits()).isEqualTo(18);
+    assertThat(valuation.getTotalCostValue()).isEqualByComparingTo("61.00");
+    assertThat(valuation.getTotalRetailValue()).isEqualByComparingTo("97.00");
+    assertThat(valuation.getCategories())
+      .extracting(CategoryValuationInfo::getCategoryName)
+      .containsExactly("Arte", "Cuadernos", null);
+    CategoryValuationInfo cuadernos = valuation.getCategories().get(1);
+    assertThat(cuadernos.getCategoryId()).isEqualTo(10L);
+    assertThat(cuadernos.getProductCount()).isEqualTo(2);
+    assertThat(cuadernos.getUnits()).isEqualTo(15);
+    assertThat(cuadernos.getCostValue()).isEqualByComparingTo("40.00");
+    assertThat(cuadernos.getRetailValue()).isEqualByComparingTo("65.00");
+  }
+
+  @Test
+  void refresh_shouldApplyStockAndPriceChanges() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(row(1, 10L, "Cuadernos", 4, "2.50", "4.00"));
+    when(productRepository.findValuationRows(Set.of(1))).thenReturn(rows);
+
+    inventoryValuation.refresh(Set.of(1));
+
+    InventoryValuationInfo valuation = inventoryValuation.current();
+    assertThat(valuation.getProductCount()).isEqualTo(4);
+    assertThat(valuation.getTotalUnits()).isEqualTo(12);
+    assertThat(valuation.getTotalCostValue()).isEqualByComparingTo("51.00");
+    assertThat(valuation.getTotalRetailValue()).isEqualByComparingTo("78.00");
+  }
+
+  @Test
+  void refresh_shouldMoveProductBetweenCategories() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(row(3, 10L, "Cuadernos", 2, "10.00", "15.00"));
+    when(productRepository.findValuationRows(Set.of(3))).thenReturn(rows);
+
+    inventoryValuation.refresh(Set.of(3));
+
+    InventoryValuationInfo valuation = inventoryValuation.current();
+    assertThat(valuation.getCategories())
+      .extracting(CategoryValuationInfo::getCategoryName)
+      .containsExactly("Cuadernos", null);
+    assertThat(valuation.getCategories().get(0).getCostValue()).isEqualByComparingTo(
+      "60.00"
+    );
+    assertThat(valuation.getTotalCostValue()).isEqualByComparingTo("61.00");
+  }
+
+  @Test
+  void refresh_shouldRemoveDeletedProducts() {
+    when(productRepository.findValuationRows(Set.of(4))).thenReturn(List.of());
+
+    inventoryValuation.refresh(Set.of(4));
+
+    InventoryValuationInfo valuation = inventoryValuation.current();
+    assertThat(valuation.getProductCount()).isEqualTo(3);
+    assertThat(valuation.getTotalCostValue()).isEqualByComparingTo("60.00");
+    assertThat(valuation.getCategories())
+      .extracting(CategoryValuationInfo::getCategoryName)
+      .containsExactly("Arte", "Cuadernos");
+  }
+
+  @Test
+  void onProductChanged_shouldRecompute_whenCatalogWide() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(row(1, 10L, "Cuadernos", 1, "1.00", "1.00"));
+    when(productRepository.findValuationRows()).thenReturn(rows);
+
+    inventoryValuation.onProductChanged(ProductChangedEvent.catalog());
+
+    assertThat(inventoryValuation.current().getProductCount()).isEqualTo(1);
+  }
+
+  @Test
+  void onProductChanged_shouldIgnoreEmptyChange() {
+    inventoryValuation.onProductChanged(ProductChangedEvent.of(List.of()));
+
+    verify(productRepository, never()).findValuationRows(anyCollection());
+    assertThat(inventoryValuation.current().getProductCount()).isEqualTo(4);
+  }
+
+  @Test
+  void reconcile_shouldCorrectDrift() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(row(1, 10L, "Cuadernos", 100, "2.00", "3.50"));
+    when(productRepository.findValuationRows()).thenReturn(rows);
+
+    inventoryValuation.reconcile();
+
+    InventoryValuationInfo valuation = inventoryValuation.current();
+    assertThat(valuation.getTotalUnits()).isEqualTo(100);
+    assertThat(valuation.getTotalCostValue()).isEqualByComparingTo("200.00");
+  }
+
+  private static Object[] row(
+    Integer productId,
+    Long categoryId,
+    String categoryName,
+    int stock,
+    String costPrice,
+    String salePrice
+  ) {
+    return new Object[] {
+      productId,
+      categoryId,
+      categoryName,
+      stock,
+      new BigDecimal(costPrice),
+      new BigDecimal(salePrice),
+    };
+  }
+}
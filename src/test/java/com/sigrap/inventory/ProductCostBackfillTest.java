@@ -0,0 +1,170 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductRepository;
+import com.sigrap.sale.SaleItemRepository;
+import com.sigrap.supplier.PurchaseOrderItemRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCostBackfillTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+  @Mock
+  private PurchaseOrderItemRepository purchaseOrderItemRepository;
+
+  @Mock
+  private SaleItemRepository saleItemRepository;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ProductCostHistoryRepository productCostHistoryRepository;
+
+  @Mock
+  private ProductCostWriter productCostWriter;
+
+  @InjectMocks
+  private ProductCostBackfill productCostBackfill;
+
+  @Captor
+  private ArgumentCaptor<List<ProductCostHistory>> historyCaptor;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(productCostBackfill, "chunkSize", 1);
+    ReflectionTestUtils.setField(productCostBackfill, "parallelism", 2);
+  }
+
+  @Test
+  void run_shouldReplayReceiptsPerProductInParallelChunks() {
+    when(purchaseOrderItemRepository.findReceivedProductIds()).thenReturn(
+      List.of(2, 1)
+    );
+    // Product 1: two lines of order 11 are merged; five units sold between
+    // the receipts.
+    List<Object[]> firstReceipts = new ArrayList<>();
+    firstReceipts.add(receipt(1, 11, DAY.plusDays(2), 6, "6.00"));
+    firstReceipts.add(receipt(1, 10, DAY, 10, "4.00"));
+    firstReceipts.add(receipt(1, 11, DAY.plusDays(2), 4, "6.00"));
+    List<Object[]> secondReceipts = new ArrayList<>();
+    secondReceipts.add(receipt(2, 12, DAY, 4, "3.00"));
+    when(purchaseOrderItemRepository.findReceipts(anyCollection())).thenAnswer(
+      invocation ->
+        ids(invocation.getArgument(0)).contains(1)
+          ? firstReceipts
+          : secondReceipts
+    );
+    List<Object[]> sales = new ArrayList<>();
+    sales.add(new Object[] { 1, 2025, 3, 4, 5L });
+    when(
+      saleItemRepository.sumDailyQuantityByProduct(
+        any(),
+        any(),
+        anyCollection()
+      )
+    ).thenAnswer(invocation ->
+      ids(invocation.getArgument(2)).contains(1) ? sales : List.of()
+    );
+    when(productRepository.findAllById(anyCollection())).thenAnswer(
+      invocation ->
+        ids(invocation.getArgument(0)).contains(1)
+          ? List.of(product(1, 15, "9.99"))
+          : List.of(product(2, 8, "2.80"))
+    );
+    List<Object[]> openingCosts = new ArrayList<>();
+    openingCosts.add(new Object[] { 2, new BigDecimal("2.00") });
+    when(
+      productCostHistoryRepository.findOpeningCosts(anyCollection())
+    ).thenAnswer(invocation ->
+      ids(invocation.getArgument(0)).contains(2) ? openingCosts : List.of()
+    );
+    when(productCostWriter.replaceAll(any(), any())).thenReturn(2);
+
+    ProductCostBackfillInfo result = productCostBackfill.run();
+
+    verify(productCostWriter).replaceAll(historyCaptor.capture(), any());
+    assertThat(historyCaptor.getValue())
+      .extracting(
+        ProductCostHistory::getProductId,
+        ProductCostHistory::getPurchaseOrderId,
+        ProductCostHistory::getQuantity,
+        ProductCostHistory::getStockBefore,
+        ProductCostHistory::getPreviousCost,
+        ProductCostHistory::getAverageCost
+      )
+      .containsExactly(
+        // Opening stock 15 - 20 received + 5 sold = 0.
+        tuple(1, 10, 10, 0, new BigDecimal("9.99"), new BigDecimal("4.00")),
+        tuple(1, 11, 10, 5, new BigDecimal("4.00"), new BigDecimal("5.33")),
+        // Opening stock 8 - 4 received = 4, valued at the first recorded
+        // previous cost.
+        tuple(2, 12, 4, 4, new BigDecimal("2.00"), new BigDecimal("2.50"))
+      );
+    assertThat(result.getProductCount()).isEqualTo(2);
+    assertThat(result.getReceiptCount()).isEqualTo(3);
+  }
+
+  @Test
+  void run_shouldWriteNothing_whenNothingWasReceived() {
+    when(purchaseOrderItemRepository.findReceivedProductIds()).thenReturn(
+      List.of()
+    );
+
+    ProductCostBackfillInfo result = productCostBackfill.run();
+
+    verify(productCostWriter).replaceAll(eq(List.of()), any());
+    assertThat(result.getReceiptCount()).isZero();
+  }
+
+  private static Collection<?> ids(Object argument) {
+    return (Collection<?>) argument;
+  }
+
+  private static Object[] receipt(
+    int productId,
+    int purchaseOrderId,
+    LocalDate day,
+    int quantity,
+    String unitPrice
+  ) {
+    return new Object[] {
+      productId,
+      purchaseOrderId,
+      day.atTime(9, 0),
+      quantity,
+      new BigDecimal(unitPrice),
+    };
+  }
+
+  private static Product product(int id, int stock, String costPrice) {
+    return Product.builder()
+      .id(id)
+      .stock(stock)
+      .costPrice(new BigDecimal(costPrice))
+      .build();
+  }
+}
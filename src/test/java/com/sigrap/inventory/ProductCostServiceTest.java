@@ -0,0 +1,157 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.product.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCostServiceTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ProductCostHistoryRepository productCostHistoryRepository;
+
+  @Mock
+  private ProductCostWriter productCostWriter;
+
+  @InjectMocks
+  private ProductCostService productCostService;
+
+  @Captor
+  private ArgumentCaptor<List<ProductCostHistory>> historyCaptor;
+
+  @Test
+  void averageCost_shouldWeighStockOnHandAgainstReceivedUnits() {
+    assertThat(
+      ProductCostService.averageCost(
+        30,
+        new BigDecimal("4000.00"),
+        50,
+        new BigDecimal("210000.00")
+      )
+    ).isEqualTo(new BigDecimal("4125.00"));
+    assertThat(
+      ProductCostService.averageCost(
+        2,
+        new BigDecimal("1.00"),
+        1,
+        new BigDecimal("2.00")
+      )
+    ).isEqualTo(new BigDecimal("1.33"));
+  }
+
+  @Test
+  void averageCost_shouldTakePurchasePrice_whenNothingIsOnHand() {
+    assertThat(
+      ProductCostService.averageCost(
+        0,
+        new BigDecimal("9.99"),
+        4,
+        new BigDecimal("10.00")
+      )
+    ).isEqualTo(new BigDecimal("2.50"));
+  }
+
+  @Test
+  void receive_shouldUpdateStockAndCostAndRecordHistory() {
+    LocalDateTime now = LocalDateTime.of(2025, 6, 2, 10, 0);
+    Map<Integer, Integer> quantities = new LinkedHashMap<>();
+    quantities.put(1, 50);
+    quantities.put(2, 4);
+    Map<Integer, BigDecimal> values = Map.of(
+      1,
+      new BigDecimal("210000.00"),
+      2,
+      new BigDecimal("10.00")
+    );
+    when(productRepository.findCostBasisForUpdate(quantities.keySet()))
+      .thenReturn(
+        List.of(
+          new Object[] { 1, 30, new BigDecimal("4000.00") },
+          new Object[] { 2, -3, new BigDecimal("9.99") }
+        )
+      );
+
+    productCostService.receive(7, quantities, values, now);
+
+    verify(productRepository).receiveStock(
+      quantities,
+      Map.of(1, new BigDecimal("4125.00"), 2, new BigDecimal("2.50")),
+      now
+    );
+    verify(productCostWriter).insert(historyCaptor.capture());
+    assertThat(historyCaptor.getValue())
+      .extracting(
+        ProductCostHistory::getProductId,
+        ProductCostHistory::getPurchaseOrderId,
+        ProductCostHistory::getQuantity,
+        ProductCostHistory::getUnitCost,
+        ProductCostHistory::getStockBefore,
+        ProductCostHistory::getPreviousCost,
+        ProductCostHistory::getAverageCost
+      )
+      .containsExactly(
+        tuple(
+          1,
+          7,
+          50,
+          new BigDecimal("4200.00"),
+          30,
+          new BigDecimal("4000.00"),
+          new BigDecimal("4125.00")
+        ),
+        tuple(
+          2,
+          7,
+          4,
+          new BigDecimal("2.50"),
+          0,
+          new BigDecimal("9.99"),
+          new BigDecimal("2.50")
+        )
+      );
+  }
+
+  @Test
+  void receive_shouldDoNothing_whenNothingIsReceived() {
+    productCostService.receive(7, Map.of(), Map.of(), LocalDateTime.now());
+
+    verify(productRepository, never()).findCostBasisForUpdate(any());
+    verify(productCostWriter, never()).insert(any());
+  }
+
+  @Test
+  void findHistory_shouldThrowException_whenProductNotFound() {
+    when(productRepository.existsById(99)).thenReturn(false);
+
+    assertThatThrownBy(() -> productCostService.findHistory(99, null))
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessage("Product not found with id: 99");
+    verify(productCostHistoryRepository, never()).findByProductId(
+      eq(99),
+      any()
+    );
+  }
+}
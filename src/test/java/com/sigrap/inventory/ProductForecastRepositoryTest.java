@@ -0,0 +1,111 @@
+package com.sigrap.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sigrap.config.RepositoryTestConfiguration;
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ RepositoryTestConfiguration.class, ProductForecastWriter.class })
+class ProductForecastRepositoryTest {
+
+  @Autowired
+  private ProductForecastRepository productForecastRepository;
+
+  @Autowired
+  private ProductForecastWriter productForecastWriter;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  void replaceAll_shouldStoreForecastsAndReplacePreviousRun() {
+    LocalDateTime calculatedAt = LocalDateTime.of(2025, 1, 15, 2, 30);
+    productForecastWriter.replaceAll(List.of(chunk(1, 2)), calculatedAt);
+    productForecastWriter.replaceAll(List.of(chunk(2, 3)), calculatedAt);
+
+    assertThat(productForecastRepository.findAll())
+      .extracting(ProductForecast::getProductId)
+      .containsExactlyInAnyOrder(2, 3);
+    ProductForecast low = productForecastRepository.findById(2).orElseThrow();
+    assertThat(low.getAverageDailyDemand()).isEqualByComparingTo("2.50");
+    assertThat(low.getDaysOfCover()).isEqualByComparingTo("0.8");
+    assertThat(low.isReorderRequired()).isTrue();
+    assertThat(low.getCalculatedAt()).isEqualTo(calculatedAt);
+    ProductForecast idle = productForecastRepository.findById(3).orElseThrow();
+    assertThat(idle.getDaysOfCover()).isNull();
+    assertThat(idle.isReorderRequired()).isFalse();
+
+    Page<ProductForecast> reorder =
+      productForecastRepository.findByReorderRequiredTrue(PageRequest.of(0, 10));
+    assertThat(reorder.getContent())
+      .extracting(ProductForecast::getProductId)
+      .containsExactly(2);
+  }
+
+  @Test
+  void replaceAll_shouldUpdateThresholds_whenEnabled() {
+    Product product = productRepository.save(
+      Product.builder()
+        .name("Cuaderno")
+        .costPrice(new BigDecimal("1.00"))
+        .salePrice(new BigDecimal("2.00"))
+        .stock(2)
+        .minimumStockThreshold(1)
+        .build()
+    );
+    ReflectionTestUtils.setField(
+      productForecastWriter,
+      "updateThresholds",
+      true
+    );
+    ForecastChunk chunk = chunk(product.getId(), product.getId() + 1);
+    chunk.minimumStockThresholds[0] = 1;
+
+    int updated = productForecastWriter.replaceAll(
+      List.of(chunk),
+      LocalDateTime.now()
+    );
+
+    entityManager.clear();
+    assertThat(updated).isEqualTo(1);
+    assertThat(
+      productRepository.findById(product.getId()).orElseThrow()
+        .getMinimumStockThreshold()
+    ).isEqualTo(18);
+  }
+
+  private static ForecastChunk chunk(int lowId, int idleId) {
+    ForecastChunk chunk = new ForecastChunk(2, 28);
+    chunk.productIds[0] = lowId;
+    chunk.productNames[0] = "Product " + lowId;
+    chunk.stock[0] = 2;
+    chunk.hasSales[0] = true;
+    chunk.averageDailyDemand[0] = 2.5;
+    chunk.leadTimeDemand[0] = 17.5;
+    chunk.demandStdDev[0] = 0.4;
+    chunk.reorderPoints[0] = 18;
+    chunk.suggestedOrderQuantities[0] = 51;
+    chunk.productIds[1] = idleId;
+    chunk.productNames[1] = "Product " + idleId;
+    chunk.stock[1] = 0;
+    return chunk;
+  }
+}
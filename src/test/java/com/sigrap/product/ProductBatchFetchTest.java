@@ -0,0 +1,159 @@
+package com.sigrap.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sigrap.category.Category;
+import com.sigrap.config.RepositoryTestConfiguration;
+import com.sigrap.customer.Customer;
+import com.sigrap.sale.Sale;
+import com.sigrap.sale.SaleItem;
+import com.sigrap.sale.SaleItemRepository;
+import com.sigrap.user.User;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Counts the SQL statements issued when products and their categories are
+ * read, to guard the lazy category association and its batch fetching.
+ */
+@DataJpaTest(
+  properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@ActiveProfiles("test")
+@Import(RepositoryTestConfiguration.class)
+class ProductBatchFetchTest {
+
+  private static final int CATEGORIES = 10;
+  private static final int PRODUCTS_PER_CATEGORY = 3;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private SaleItemRepository saleItemRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Statistics statistics;
+  private List<Product> products;
+
+  @BeforeEach
+  void setUp() {
+    products = new ArrayList<>();
+    for (int c = 0; c < CATEGORIES; c++) {
+      Category category = entityManager.persist(
+        Category.builder().name("Category " + c).build()
+      );
+      for (int p = 0; p < PRODUCTS_PER_CATEGORY; p++) {
+        products.add(
+          entityManager.persist(
+            Product.builder()
+              .name("Product " + c + "-" + p)
+              .costPrice(new BigDecimal("1.00"))
+              .salePrice(new BigDecimal("2.00"))
+              .stock(10)
+              .minimumStockThreshold(1)
+              .category(category)
+              .build()
+          )
+        );
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManager
+      .getEntityManager()
+      .getEntityManagerFactory()
+      .unwrap(SessionFactory.class)
+      .getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void productPage_shouldLoadCategoriesInOneBatch() {
+    List<String> categoryNames = productRepository
+      .findAll(PageRequest.of(0, 50, Sort.by("id")))
+      .map(product -> product.getCategory().getName())
+      .getContent();
+
+    assertThat(categoryNames).hasSize(CATEGORIES * PRODUCTS_PER_CATEGORY);
+    // One select for the page and one for all ten categories; with an eager
+    // association every distinct category was selected on its own.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  void productPage_shouldNotLoadCategories_whenOnlyIdIsRead() {
+    List<Long> categoryIds = productRepository
+      .findAll(PageRequest.of(0, 50, Sort.by("id")))
+      .map(product -> product.getCategory().getId())
+      .getContent();
+
+    assertThat(categoryIds).doesNotContainNull();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void saleItems_shouldLoadProductsAndCategoriesInBatches() {
+    Customer customer = entityManager.persist(
+      Customer.builder().fullName("Customer").email("c@test.com").build()
+    );
+    User employee = entityManager.persist(
+      User.builder()
+        .name("Employee")
+        .email("e@test.com")
+        .password("password123")
+        .build()
+    );
+    Sale sale = Sale.builder()
+      .customer(customer)
+      .employee(employee)
+      .totalAmount(new BigDecimal("60.00"))
+      .taxAmount(BigDecimal.ZERO)
+      .finalAmount(new BigDecimal("60.00"))
+      .build();
+    for (Product product : products) {
+      sale.getItems().add(
+        SaleItem.builder()
+          .sale(sale)
+          .product(entityManager.find(Product.class, product.getId()))
+          .quantity(1)
+          .unitPrice(new BigDecimal("2.00"))
+          .subtotal(new BigDecimal("2.00"))
+          .build()
+      );
+    }
+    entityManager.persist(sale);
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    List<String> lines = saleItemRepository
+      .findAll()
+      .stream()
+      .map(item ->
+        item.getProduct().getName() +
+        " / " +
+        item.getProduct().getCategory().getName()
+      )
+      .toList();
+
+    assertThat(lines).hasSize(CATEGORIES * PRODUCTS_PER_CATEGORY);
+    // Items, then one batch of thirty products, then one batch of categories.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+}
@@ -0,0 +1,63 @@
+package com.sigrap.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sigrap.common.ResourceVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class ProductCatalogCacheTest {
+
+  private ConcurrentMapCacheManager cacheManager;
+  private ProductCatalogCache productCatalogCache;
+  private Cache byId;
+  private ResourceVersions resourceVersions;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager = new ConcurrentMapCacheManager(
+      ProductCatalogCache.PRODUCTS_BY_ID
+    );
+    resourceVersions = new ResourceVersions();
+    productCatalogCache = new ProductCatalogCache(
+      cacheManager,
+      resourceVersions
+    );
+    byId = cacheManager.getCache(ProductCatalogCache.PRODUCTS_BY_ID);
+
+    byId.put(1, ProductInfo.builder().id(1).name("Product 1").build());
+    byId.put(2, ProductInfo.builder().id(2).name("Product 2").build());
+  }
+
+  @Test
+  void onProductChanged_shouldEvictOnlyAffectedProducts() {
+    productCatalogCache.onProductChanged(ProductChangedEvent.of(1));
+
+    assertThat(byId.get(1)).isNull();
+    assertThat(byId.get(2)).isNotNull();
+  }
+
+  @Test
+  void onProductChanged_shouldClearAllProducts_whenCatalogWide() {
+    productCatalogCache.onProductChanged(ProductChangedEvent.catalog());
+
+    assertThat(byId.get(1)).isNull();
+    assertThat(byId.get(2)).isNull();
+  }
+
+  @Test
+  void onProductChanged_shouldBumpProductVersion() {
+    String before = resourceVersions
+      .current(ProductCatalogCache.RESOURCE, () -> null)
+      .getETag();
+
+    productCatalogCache.onProductChanged(ProductChangedEvent.of(1));
+
+    String after = resourceVersions
+      .current(ProductCatalogCache.RESOURCE, () -> null)
+      .getETag();
+    assertThat(after).isNotEqualTo(before);
+  }
+}
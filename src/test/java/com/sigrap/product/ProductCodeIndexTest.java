@@ -0,0 +1,137 @@
+package com.sigrap.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductCodeIndexTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private ProductMapper productMapper;
+
+  @InjectMocks
+  private ProductCodeIndex productCodeIndex;
+
+  @BeforeEach
+  void setUp() {
+    when(productMapper.toInfo(any(Product.class))).thenAnswer(invocation -> {
+      Product product = invocation.getArgument(0);
+      return ProductInfo.builder()
+        .id(product.getId())
+        .name(product.getName())
+        .sku(product.getSku())
+        .barcode(product.getBarcode())
+        .build();
+    });
+    when(productRepository.findAll()).thenReturn(
+      List.of(
+        product(1, "Blue Pen", "PEN-BLU", "7702011000014"),
+        product(2, "Red Pen", "PEN-RED", null),
+        product(3, "Eraser", "7702011000021", "7702011000038")
+      )
+    );
+
+    productCodeIndex.rebuild();
+  }
+
+  @Test
+  void find_shouldMatchBarcodeAndSku() {
+    assertThat(productCodeIndex.find("7702011000014"))
+      .map(ProductInfo::getId)
+      .contains(1);
+    assertThat(productCodeIndex.find("PEN-RED"))
+      .map(ProductInfo::getId)
+      .contains(2);
+  }
+
+  @Test
+  void find_shouldIgnoreSurroundingWhitespace() {
+    assertThat(productCodeIndex.find(" PEN-BLU\n"))
+      .map(ProductInfo::getId)
+      .contains(1);
+  }
+
+  @Test
+  void find_shouldReturnEmpty_whenCodeIsUnknownOrBlank() {
+    assertThat(productCodeIndex.find("pen-blu")).isEmpty();
+    assertThat(productCodeIndex.find(" ")).isEmpty();
+    assertThat(productCodeIndex.find(null)).isEmpty();
+  }
+
+  @Test
+  void find_shouldPreferBarcodeOverSku() {
+    when(productRepository.findAllById(anyCollection())).thenReturn(
+      List.of(product(2, "Red Pen", "PEN-RED", "7702011000021"))
+    );
+    productCodeIndex.refresh(List.of(2));
+
+    assertThat(productCodeIndex.find("7702011000021"))
+      .map(ProductInfo::getId)
+      .contains(2);
+    assertThat(productCodeIndex.find("7702011000038"))
+      .map(ProductInfo::getId)
+      .contains(3);
+  }
+
+  @Test
+  void refresh_shouldReplaceChangedCodesAndDropDeletedProducts() {
+    when(productRepository.findAllById(anyCollection())).thenReturn(
+      List.of(product(1, "Blue Pen", "PEN-AZUL", "7702011000014"))
+    );
+
+    productCodeIndex.refresh(List.of(1, 2));
+
+    assertThat(productCodeIndex.find("PEN-BLU")).isEmpty();
+    assertThat(productCodeIndex.find("PEN-AZUL"))
+      .map(ProductInfo::getId)
+      .contains(1);
+    assertThat(productCodeIndex.find("PEN-RED")).isEmpty();
+    assertThat(productCodeIndex.size()).isEqualTo(2);
+  }
+
+  @Test
+  void refresh_shouldKeepCodeTakenOverByAnotherProduct() {
+    when(productRepository.findAllById(anyCollection())).thenReturn(
+      List.of(
+        product(2, "Red Pen", "PEN-BLU", null),
+        product(1, "Blue Pen", "PEN-AZUL", "7702011000014")
+      )
+    );
+
+    productCodeIndex.refresh(List.of(1, 2));
+
+    assertThat(productCodeIndex.find("PEN-BLU"))
+      .map(ProductInfo::getId)
+      .contains(2);
+  }
+
+  private static Product product(
+    int id,
+    String name,
+    String sku,
+    String barcode
+  ) {
+    return Product.builder()
+      .id(id)
+      .name(name)
+      .sku(sku)
+      .barcode(barcode)
+      .build();
+  }
+}
@@ -1,26 +1,39 @@
 package com.sigrap.product;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigrap.common.ResourceVersion;
+import com.sigrap.common.ResourceVersions;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,6 +46,7 @@ class ProductControllerTest {
   private MockMvc mockMvc;
   private ProductService productService;
   private ObjectMapper objectMapper;
+  private ResourceVersion catalogVersion;
 
   @ControllerAdvice
   public static class TestExceptionHandler
@@ -50,15 +64,21 @@ class ProductControllerTest {
   void setup() {
     productService = mock(ProductService.class);
     objectMapper = new ObjectMapper();
+    catalogVersion = new ResourceVersions().current(
+      ProductCatalogCache.RESOURCE,
+      () -> LocalDateTime.of(2025, 1, 15, 10, 0)
+    );
+    when(productService.currentVersion()).thenReturn(catalogVersion);
     ProductController controller = new ProductController(productService);
 
     mockMvc = standaloneSetup(controller)
       .setControllerAdvice(new TestExceptionHandler())
+      .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
       .build();
   }
 
   @Test
-  void findAll_shouldReturnAllProducts() throws Exception {
+  void findAll_shouldReturnPageOfProducts() throws Exception {
     ProductInfo product1 = ProductInfo.builder()
       .id(1)
       .name("Product 1")
@@ -74,17 +94,98 @@ class ProductControllerTest {
       .build();
 
     List<ProductInfo> products = List.of(product1, product2);
-    when(productService.findAll()).thenReturn(products);
+    when(
+      productService.findAll(any(ProductFilter.class), any(Pageable.class))
+    ).thenReturn(new PageImpl<>(products, PageRequest.of(0, 20), 2));
 
     mockMvc
       .perform(get("/api/products"))
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$[0].id").value(1))
-      .andExpect(jsonPath("$[0].name").value("Product 1"))
-      .andExpect(jsonPath("$[0].costPrice").value(10.00))
-      .andExpect(jsonPath("$[1].id").value(2))
-      .andExpect(jsonPath("$[1].name").value("Product 2"))
-      .andExpect(jsonPath("$[1].costPrice").value(20.00));
+      .andExpect(jsonPath("$.content[0].id").value(1))
+      .andExpect(jsonPath("$.content[0].name").value("Product 1"))
+      .andExpect(jsonPath("$.content[0].costPrice").value(10.00))
+      .andExpect(jsonPath("$.content[1].id").value(2))
+      .andExpect(jsonPath("$.content[1].name").value("Product 2"))
+      .andExpect(jsonPath("$.content[1].costPrice").value(20.00))
+      .andExpect(jsonPath("$.totalElements").value(2));
+  }
+
+  @Test
+  void findAll_shouldPassFiltersAndPaging() throws Exception {
+    when(
+      productService.findAll(any(ProductFilter.class), any(Pageable.class))
+    ).thenReturn(new PageImpl<>(List.of(), PageRequest.of(2, 50), 0));
+
+    mockMvc
+      .perform(
+        get("/api/products")
+          .param("categoryId", "3")
+          .param("minPrice", "5.00")
+          .param("maxPrice", "20.00")
+          .param("lowStock", "true")
+          .param("page", "2")
+          .param("size", "50")
+          .param("sort", "salePrice,desc")
+      )
+      .andExpect(status().isOk());
+
+    ArgumentCaptor<ProductFilter> filterCaptor = ArgumentCaptor.forClass(
+      ProductFilter.class
+    );
+    ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(
+      Pageable.class
+    );
+    verify(productService).findAll(
+      filterCaptor.capture(),
+      pageableCaptor.capture()
+    );
+    ProductFilter filter = filterCaptor.getValue();
+    assertThat(filter.getCategoryId()).isEqualTo(3L);
+    assertThat(filter.getMinPrice()).isEqualByComparingTo("5.00");
+    assertThat(filter.getMaxPrice()).isEqualByComparingTo("20.00");
+    assertThat(filter.getLowStock()).isTrue();
+    assertThat(filter.getOutOfStock()).isNull();
+    Pageable pageable = pageableCaptor.getValue();
+    assertThat(pageable.getPageNumber()).isEqualTo(2);
+    assertThat(pageable.getPageSize()).isEqualTo(50);
+    assertThat(pageable.getSort().getOrderFor("salePrice").isDescending())
+      .isTrue();
+  }
+
+  @Test
+  void findAll_shouldReturnNotModified_whenETagMatches() throws Exception {
+    mockMvc
+      .perform(
+        get("/api/products").header(
+          HttpHeaders.IF_NONE_MATCH,
+          catalogVersion.getETag()
+        )
+      )
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, catalogVersion.getETag()));
+
+    verify(productService, never()).findAll(
+      any(ProductFilter.class),
+      any(Pageable.class)
+    );
+  }
+
+  @Test
+  void findAll_shouldReturnValidators_whenETagIsStale() throws Exception {
+    when(
+      productService.findAll(any(ProductFilter.class), any(Pageable.class))
+    ).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+    mockMvc
+      .perform(
+        get("/api/products").header(HttpHeaders.IF_NONE_MATCH, "\"old\"")
+      )
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, catalogVersion.getETag()))
+      .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+      .andExpect(
+        header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+      );
   }
 
   @Test
@@ -108,6 +209,33 @@ class ProductControllerTest {
       .andExpect(jsonPath("$.salePrice").value(15.00));
   }
 
+  @Test
+  void findByCode_shouldReturnProduct_whenCodeIsKnown() throws Exception {
+    ProductInfo product = ProductInfo.builder()
+      .id(7)
+      .name("Blue Pen")
+      .barcode("7702011000014")
+      .build();
+    when(productService.findByCode("7702011000014")).thenReturn(product);
+
+    mockMvc
+      .perform(get("/api/products/by-code/{code}", "7702011000014"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.id").value(7))
+      .andExpect(jsonPath("$.barcode").value("7702011000014"));
+  }
+
+  @Test
+  void findByCode_shouldReturnNotFound_whenCodeIsUnknown() throws Exception {
+    when(productService.findByCode("UNKNOWN")).thenThrow(
+      new EntityNotFoundException()
+    );
+
+    mockMvc
+      .perform(get("/api/products/by-code/{code}", "UNKNOWN"))
+      .andExpect(status().isNotFound());
+  }
+
   @Test
   void findById_shouldReturnNotFound_whenProductDoesNotExist()
     throws Exception {
@@ -280,4 +408,45 @@ class ProductControllerTest {
       )
       .andExpect(status().isNotFound());
   }
+
+  @Test
+  void updatePrices_shouldReturnSummary() throws Exception {
+    ProductPriceUpdateData priceUpdateData = ProductPriceUpdateData.builder()
+      .categoryId(1L)
+      .field(PriceField.SALE_PRICE)
+      .adjustmentType(PriceAdjustmentType.PERCENTAGE)
+      .amount(new BigDecimal("5"))
+      .build();
+    when(
+      productService.updatePrices(any(ProductPriceUpdateData.class))
+    ).thenReturn(
+      ProductPriceUpdateInfo.builder()
+        .field(PriceField.SALE_PRICE)
+        .adjustmentType(PriceAdjustmentType.PERCENTAGE)
+        .amount(new BigDecimal("5"))
+        .updatedCount(2)
+        .build()
+    );
+
+    mockMvc
+      .perform(
+        patch("/api/products/prices")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(priceUpdateData))
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.updatedCount").value(2));
+  }
+
+  @Test
+  void updatePrices_shouldReturnBadRequest_whenAdjustmentIsMissing()
+    throws Exception {
+    mockMvc
+      .perform(
+        patch("/api/products/prices")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"categoryId\": 1, \"field\": \"SALE_PRICE\"}")
+      )
+      .andExpect(status().isBadRequest());
+  }
 }
@@ -250,4 +250,38 @@ class ProductMapperTest {
     assertThat(category.getId()).isEqualTo(Long.valueOf(categoryId));
     assertThat(category.getName()).isNull();
   }
+
+  @Test
+  void toSummary_shouldFlattenCategory() {
+    Category category = Category.builder().id(3L).name("Bolígrafos").build();
+    Product product = Product.builder()
+      .id(7)
+      .name("Blue Pen")
+      .description("Not part of the summary")
+      .costPrice(new BigDecimal("1.50"))
+      .salePrice(new BigDecimal("2.50"))
+      .category(category)
+      .stock(40)
+      .minimumStockThreshold(5)
+      .build();
+
+    ProductSummaryInfo summary = productMapper.toSummary(product);
+
+    assertThat(summary.getId()).isEqualTo(7);
+    assertThat(summary.getName()).isEqualTo("Blue Pen");
+    assertThat(summary.getSalePrice()).isEqualByComparingTo("2.50");
+    assertThat(summary.getStock()).isEqualTo(40);
+    assertThat(summary.getCategoryId()).isEqualTo(3L);
+    assertThat(summary.getCategoryName()).isEqualTo("Bolígrafos");
+  }
+
+  @Test
+  void toSummary_shouldLeaveCategoryEmpty_whenProductHasNone() {
+    Product product = Product.builder().id(7).name("Blue Pen").build();
+
+    ProductSummaryInfo summary = productMapper.toSummary(product);
+
+    assertThat(summary.getCategoryId()).isNull();
+    assertThat(summary.getCategoryName()).isNull();
+  }
 }
@@ -2,13 +2,24 @@ package com.sigrap.product;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sigrap.category.Category;
 import com.sigrap.config.RepositoryTestConfiguration;
+import com.sigrap.supplier.PurchaseOrder;
+import com.sigrap.supplier.PurchaseOrderItem;
+import com.sigrap.supplier.Supplier;
+import com.sigrap.supplier.SupplierProduct;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -20,6 +31,9 @@ class ProductRepositoryTest {
   @Autowired
   private ProductRepository productRepository;
 
+  @Autowired
+  private TestEntityManager entityManager;
+
   @Test
   void shouldSaveProduct() {
     Product product = Product.builder()
@@ -118,4 +132,267 @@ class ProductRepositoryTest {
 
     assertThat(deletedProduct).isEmpty();
   }
+
+  @Test
+  void shouldFilterProductsBySpecification() {
+    productRepository.save(product("Cheap", "5.00", 0, 5));
+    productRepository.save(product("Low", "12.00", 3, 10));
+    productRepository.save(product("Stocked", "18.00", 50, 10));
+    productRepository.save(product("Expensive", "40.00", 50, 10));
+
+    ProductFilter priceRange = ProductFilter.builder()
+      .minPrice(new BigDecimal("10.00"))
+      .maxPrice(new BigDecimal("20.00"))
+      .build();
+    ProductFilter lowStock = ProductFilter.builder().lowStock(true).build();
+    ProductFilter outOfStock = ProductFilter.builder().outOfStock(true).build();
+
+    assertThat(
+      productRepository.findAll(ProductSpecifications.matching(priceRange))
+    )
+      .extracting(Product::getName)
+      .containsExactlyInAnyOrder("Low", "Stocked");
+    assertThat(
+      productRepository.findAll(ProductSpecifications.matching(lowStock))
+    )
+      .extracting(Product::getName)
+      .containsExactlyInAnyOrder("Cheap", "Low");
+    assertThat(
+      productRepository.findAll(ProductSpecifications.matching(outOfStock))
+    )
+      .extracting(Product::getName)
+      .containsExactly("Cheap");
+  }
+
+  @Test
+  void shouldPageAndSortFilteredProducts() {
+    productRepository.save(product("A", "5.00", 10, 1));
+    productRepository.save(product("B", "15.00", 10, 1));
+    productRepository.save(product("C", "25.00", 10, 1));
+
+    Page<Product> page = productRepository.findAll(
+      ProductSpecifications.matching(new ProductFilter()),
+      PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "salePrice"))
+    );
+
+    assertThat(page.getTotalElements()).isEqualTo(3);
+    assertThat(page.getTotalPages()).isEqualTo(2);
+    assertThat(page.getContent())
+      .extracting(Product::getName)
+      .containsExactly("C", "B");
+  }
+
+  @Test
+  void shouldAdjustPricesOfProductsOnSupplierPriceList() {
+    Product pen = productRepository.save(product("Pen", "2.00", 10, 1));
+    Product pencil = productRepository.save(product("Pencil", "1.00", 10, 1));
+    Product eraser = productRepository.save(product("Eraser", "0.50", 10, 1));
+    Supplier supplier = entityManager.persist(
+      Supplier.builder().name("Acme").build()
+    );
+    for (Product offered : List.of(pen, pencil)) {
+      entityManager.persist(
+        SupplierProduct.builder()
+          .supplierId(supplier.getId())
+          .productId(offered.getId())
+          .unitPrice(BigDecimal.ONE)
+          .build()
+      );
+    }
+    PurchaseOrder order = PurchaseOrder.builder().supplier(supplier).build();
+    order.addItem(
+      PurchaseOrderItem.builder()
+        .product(eraser)
+        .quantity(5)
+        .unitPrice(BigDecimal.ONE)
+        .build()
+    );
+    entityManager.persist(order);
+
+    int updated = productRepository.adjustPrices(
+      ProductSpecifications.suppliedBy(supplier.getId()).and(
+        ProductSpecifications.withIds(List.of(pencil.getId(), eraser.getId()))
+      ),
+      PriceField.SALE_PRICE,
+      1,
+      1,
+      BigDecimal.ONE,
+      LocalDateTime.now()
+    );
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(
+      productRepository.findById(pen.getId()).orElseThrow().getSalePrice()
+    ).isEqualByComparingTo("2.00");
+    assertThat(
+      productRepository.findById(pencil.getId()).orElseThrow().getSalePrice()
+    ).isEqualByComparingTo("2.00");
+    assertThat(
+      productRepository.findById(eraser.getId()).orElseThrow().getSalePrice()
+    ).isEqualByComparingTo("0.50");
+  }
+
+  @Test
+  void shouldAdjustPricesInSingleStatement() {
+    Product pen = productRepository.save(product("Pen", "2.00", 10, 1));
+    Product pencil = productRepository.save(product("Pencil", "0.99", 10, 1));
+    Product eraser = productRepository.save(product("Eraser", "5.00", 10, 1));
+
+    long version = eraser.getVersion();
+    int updated = productRepository.adjustPrices(
+      ProductSpecifications.withIds(List.of(pen.getId(), pencil.getId())),
+      PriceField.SALE_PRICE,
+      1105,
+      1000,
+      BigDecimal.ZERO,
+      LocalDateTime.now()
+    );
+    productRepository.adjustPrices(
+      ProductSpecifications.withIds(List.of(eraser.getId())),
+      PriceField.COST_PRICE,
+      1,
+      1,
+      new BigDecimal("-3.00"),
+      LocalDateTime.now()
+    );
+
+    assertThat(updated).isEqualTo(2);
+    assertThat(
+      productRepository.findById(pen.getId()).orElseThrow().getSalePrice()
+    ).isEqualByComparingTo("2.21");
+    assertThat(
+      productRepository.findById(pencil.getId()).orElseThrow().getSalePrice()
+    ).isEqualByComparingTo("1.09");
+    Product updatedEraser = productRepository
+      .findById(eraser.getId())
+      .orElseThrow();
+    assertThat(updatedEraser.getSalePrice()).isEqualByComparingTo("5.00");
+    assertThat(updatedEraser.getCostPrice()).isEqualByComparingTo("0");
+    assertThat(updatedEraser.getVersion()).isEqualTo(version + 1);
+  }
+
+  @Test
+  void shouldSummarizeProductsByCategory() {
+    Category pens = entityManager.persist(
+      Category.builder().name("Pens").build()
+    );
+    Category paper = entityManager.persist(
+      Category.builder().name("Paper").build()
+    );
+    Product blue = product("Blue pen", "2.00", 10, 5);
+    blue.setCategory(pens);
+    Product red = product("Red pen", "2.00", 3, 5);
+    red.setCategory(pens);
+    Product sheet = product("Sheet", "0.10", 200, 50);
+    sheet.setCategory(paper);
+    productRepository.saveAll(List.of(blue, red, sheet));
+    productRepository.save(product("Loose", "1.00", 1, 5));
+
+    List<Object[]> all = productRepository.summarizeByCategory(null);
+    List<Object[]> onlyPens = productRepository.summarizeByCategory(
+      ProductSpecifications.inCategory(pens.getId())
+    );
+
+    assertThat(all).hasSize(2);
+    Object[] pensRow = all
+      .stream()
+      .filter(row -> pens.getId().equals(row[0]))
+      .findFirst()
+      .orElseThrow();
+    assertThat(((Number) pensRow[1]).longValue()).isEqualTo(2);
+    assertThat(((Number) pensRow[2]).longValue()).isEqualTo(13);
+    assertThat(((Number) pensRow[3]).longValue()).isEqualTo(1);
+    assertThat(onlyPens).hasSize(1);
+    assertThat(onlyPens.get(0)[0]).isEqualTo(pens.getId());
+  }
+
+  @Test
+  void shouldReassignAndDeleteProductsOfCategoriesInBulk() {
+    Category old = entityManager.persist(Category.builder().name("Old").build());
+    Category gone = entityManager.persist(
+      Category.builder().name("Gone").build()
+    );
+    Category target = entityManager.persist(
+      Category.builder().name("Target").build()
+    );
+    Product moved = product("Moved", "1.00", 1, 1);
+    moved.setCategory(old);
+    Product deleted = product("Deleted", "1.00", 1, 1);
+    deleted.setCategory(gone);
+    productRepository.saveAll(List.of(moved, deleted));
+
+    int reassigned = productRepository.reassignCategory(
+      List.of(old.getId()),
+      target,
+      LocalDateTime.now()
+    );
+    int removed = productRepository.deleteByCategoryIds(
+      List.of(gone.getId())
+    );
+
+    assertThat(reassigned).isEqualTo(1);
+    assertThat(removed).isEqualTo(1);
+    assertThat(
+      productRepository.findById(moved.getId()).orElseThrow().getCategory()
+        .getId()
+    ).isEqualTo(target.getId());
+    assertThat(productRepository.findById(deleted.getId())).isEmpty();
+  }
+
+  @Test
+  void shouldFindProductsAtOrBelowThreshold() {
+    Product below = product("Below", "1.00", 2, 5);
+    Product at = product("At", "1.00", 5, 5);
+    Product above = product("Above", "1.00", 6, 5);
+    Product untracked = product("Untracked", "1.00", 0, 0);
+    productRepository.saveAll(List.of(below, at, above, untracked));
+
+    List<Object[]> rows = productRepository.findReplenishmentCandidates();
+
+    assertThat(rows)
+      .extracting(row -> row[0])
+      .containsExactly(below.getId(), at.getId());
+    assertThat(rows.get(0)[1]).isEqualTo(2);
+    assertThat(rows.get(0)[2]).isEqualTo(5);
+  }
+
+  @Test
+  void shouldIncrementStockInBatch() {
+    Product first = product("First", "1.00", 5, 1);
+    Product second = product("Second", "1.00", 0, 1);
+    productRepository.saveAll(List.of(first, second));
+    // A pending change is flushed before the batch and not overwritten.
+    first.setName("First renamed");
+
+    List<Integer> updated = productRepository.incrementStock(
+      Map.of(first.getId(), 3, second.getId(), 7, -1, 2),
+      LocalDateTime.now()
+    );
+
+    assertThat(updated).containsExactlyInAnyOrder(
+      first.getId(),
+      second.getId()
+    );
+    Product reloaded = productRepository.findById(first.getId()).orElseThrow();
+    assertThat(reloaded.getStock()).isEqualTo(8);
+    assertThat(reloaded.getName()).isEqualTo("First renamed");
+    assertThat(
+      productRepository.findById(second.getId()).orElseThrow().getStock()
+    ).isEqualTo(7);
+  }
+
+  private static Product product(
+    String name,
+    String salePrice,
+    int stock,
+    int minimumStockThreshold
+  ) {
+    return Product.builder()
+      .name(name)
+      .costPrice(new BigDecimal("1.00"))
+      .salePrice(new BigDecimal(salePrice))
+      .stock(stock)
+      .minimumStockThreshold(minimumStockThreshold)
+      .build();
+  }
 }
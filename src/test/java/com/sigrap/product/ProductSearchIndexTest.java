@@ -0,0 +1,163 @@
+package com.sigrap.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.category.Category;
+import com.sigrap.sale.SaleItemRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductSearchIndexTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private SaleItemRepository saleItemRepository;
+
+  @Mock
+  private ProductMapper productMapper;
+
+  @InjectMocks
+  private ProductSearchIndex productSearchIndex;
+
+  private Category notebooks;
+  private Category pens;
+
+  @BeforeEach
+  void setUp() {
+    notebooks = Category.builder().id(1L).name("Cuadernos").build();
+    pens = Category.builder().id(2L).name("Bolígrafos").build();
+
+    when(productMapper.toInfo(any(Product.class))).thenAnswer(invocation -> {
+      Product product = invocation.getArgument(0);
+      return ProductInfo.builder()
+        .id(product.getId())
+        .name(product.getName())
+        .description(product.getDescription())
+        .stock(product.getStock())
+        .build();
+    });
+    when(productRepository.findAll()).thenReturn(
+      List.of(
+        product(1, "Cuaderno Pequeño", "Cuaderno de 50 hojas", notebooks),
+        product(2, "Cuaderno Argollado", "Cuaderno de 100 hojas", notebooks),
+        product(3, "Bolígrafo Azul", "Tinta azul de secado rápido", pens)
+      )
+    );
+    when(
+      saleItemRepository.sumQuantityByProductSince(any(LocalDateTime.class))
+    ).thenReturn(rows(new Object[] { 2, 50L }));
+
+    productSearchIndex.rebuild();
+  }
+
+  @Test
+  void search_shouldIgnoreCaseAndAccents() {
+    List<ProductInfo> results = productSearchIndex.search("PEQUENO", 10);
+
+    assertThat(results).extracting(ProductInfo::getId).containsExactly(1);
+  }
+
+  @Test
+  void search_shouldMatchCategoryAndDescription() {
+    assertThat(productSearchIndex.search("boligrafos", 10))
+      .extracting(ProductInfo::getId)
+      .containsExactly(3);
+    assertThat(productSearchIndex.search("rapido", 10))
+      .extracting(ProductInfo::getId)
+      .containsExactly(3);
+  }
+
+  @Test
+  void search_shouldTolerateTypos() {
+    List<ProductInfo> results = productSearchIndex.search("cuadreno", 10);
+
+    assertThat(results).extracting(ProductInfo::getId).contains(1, 2);
+  }
+
+  @Test
+  void search_shouldRankPopularProductsFirst_whenMatchQualityIsEqual() {
+    List<ProductInfo> results = productSearchIndex.search("cuaderno", 10);
+
+    assertThat(results).extracting(ProductInfo::getId).containsExactly(2, 1);
+  }
+
+  @Test
+  void search_shouldReturnEmpty_whenQueryIsBlank() {
+    assertThat(productSearchIndex.search("  ", 10)).isEmpty();
+  }
+
+  @Test
+  void autocomplete_shouldMatchNameWordPrefixes() {
+    List<ProductSuggestionInfo> suggestions = productSearchIndex.autocomplete(
+      "cua peq",
+      10
+    );
+
+    assertThat(suggestions)
+      .extracting(ProductSuggestionInfo::getId)
+      .containsExactly(1);
+    assertThat(suggestions.get(0).getCategoryName()).isEqualTo("Cuadernos");
+  }
+
+  @Test
+  void autocomplete_shouldNotMatchDescriptionOnly() {
+    assertThat(productSearchIndex.autocomplete("tinta", 10)).isEmpty();
+  }
+
+  @Test
+  void refresh_shouldReindexChangedAndRemoveDeletedProducts() {
+    when(productRepository.findAllById(anyCollection())).thenReturn(
+      List.of(product(1, "Libreta Pequeña", "Libreta de bolsillo", notebooks))
+    );
+    when(
+      saleItemRepository.sumQuantityByProductSince(
+        any(LocalDateTime.class),
+        anyCollection()
+      )
+    ).thenReturn(List.of());
+
+    productSearchIndex.refresh(Set.of(1, 3));
+
+    assertThat(productSearchIndex.search("libreta", 10))
+      .extracting(ProductInfo::getId)
+      .containsExactly(1);
+    assertThat(productSearchIndex.search("boligrafo", 10)).isEmpty();
+    assertThat(productSearchIndex.size()).isEqualTo(2);
+  }
+
+  private static Product product(
+    Integer id,
+    String name,
+    String description,
+    Category category
+  ) {
+    return Product.builder()
+      .id(id)
+      .name(name)
+      .description(description)
+      .stock(10)
+      .category(category)
+      .build();
+  }
+
+  private static List<Object[]> rows(Object[]... rows) {
+    return new ArrayList<>(List.of(rows));
+  }
+}
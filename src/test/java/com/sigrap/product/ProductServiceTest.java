@@ -3,6 +3,7 @@ package com.sigrap.product;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -11,15 +12,24 @@ import static org.mockito.Mockito.when;
 import com.sigrap.category.Category;
 import com.sigrap.category.CategoryInfo;
 import com.sigrap.category.CategoryRepository;
+import com.sigrap.common.StaleVersionException;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -33,9 +43,92 @@ class ProductServiceTest {
   @Mock
   private ProductMapper productMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private ProductSearchIndex productSearchIndex;
+
+  @Mock
+  private ProductCodeIndex productCodeIndex;
+
   @InjectMocks
   private ProductService productService;
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void findAll_shouldReturnPageOfMatchingProducts() {
+    Pageable pageable = PageRequest.of(0, 20);
+    Product product = Product.builder().id(1).name("Low Stock").build();
+    ProductInfo productInfo = ProductInfo.builder()
+      .id(1)
+      .name("Low Stock")
+      .build();
+    when(
+      productRepository.findAll(any(Specification.class), any(Pageable.class))
+    ).thenReturn(new PageImpl<>(List.of(product), pageable, 1));
+    when(productMapper.toInfo(product)).thenReturn(productInfo);
+
+    Page<ProductInfo> page = productService.findAll(
+      ProductFilter.builder().lowStock(true).build(),
+      pageable
+    );
+
+    assertThat(page.getContent()).containsExactly(productInfo);
+    assertThat(page.getTotalElements()).isEqualTo(1);
+  }
+
+  @Test
+  void search_shouldDelegateToSearchIndex() {
+    List<ProductInfo> results = List.of(
+      ProductInfo.builder().id(1).name("Cuaderno").build()
+    );
+    when(productSearchIndex.search("cuaderno", 20)).thenReturn(results);
+
+    List<ProductInfo> found = productService.search("cuaderno", 20);
+
+    assertThat(found).isEqualTo(results);
+  }
+
+  @Test
+  void findByCode_shouldServeProductFromCodeIndex() {
+    ProductInfo productInfo = ProductInfo.builder().id(1).sku("PEN-01").build();
+    when(productCodeIndex.find("PEN-01")).thenReturn(Optional.of(productInfo));
+
+    assertThat(productService.findByCode("PEN-01")).isEqualTo(productInfo);
+  }
+
+  @Test
+  void findByCode_shouldThrowException_whenCodeIsUnknown() {
+    when(productCodeIndex.find("UNKNOWN")).thenReturn(Optional.empty());
+
+    assertThrows(EntityNotFoundException.class, () ->
+      productService.findByCode("UNKNOWN")
+    );
+  }
+
+  @Test
+  void create_shouldStoreBlankCodesAsNull() {
+    ProductData productData = ProductData.builder()
+      .name("Eraser")
+      .sku("  ")
+      .barcode(" 7702011000014 ")
+      .build();
+    Product product = Product.builder()
+      .id(5)
+      .name("Eraser")
+      .sku("  ")
+      .barcode(" 7702011000014 ")
+      .build();
+    when(productMapper.toEntity(productData)).thenReturn(product);
+    when(productRepository.save(product)).thenReturn(product);
+
+    productService.create(productData);
+
+    assertThat(product.getSku()).isNull();
+    assertThat(product.getBarcode()).isEqualTo("7702011000014");
+  }
+
   @Test
   void findById_shouldReturnProductInfo_whenProductExists() {
     Integer id = 1;
@@ -83,59 +176,6 @@ class ProductServiceTest {
     verify(productMapper, never()).toInfo(any());
   }
 
-  @Test
-  void findAll_shouldReturnAllProductInfos() {
-    Product product1 = Product.builder()
-      .id(1)
-      .name("Product 1")
-      .costPrice(new BigDecimal("10.00"))
-      .salePrice(new BigDecimal("15.00"))
-      .stock(100)
-      .minimumStockThreshold(10)
-      .build();
-
-    Product product2 = Product.builder()
-      .id(2)
-      .name("Product 2")
-      .costPrice(new BigDecimal("20.00"))
-      .salePrice(new BigDecimal("30.00"))
-      .stock(100)
-      .minimumStockThreshold(10)
-      .build();
-
-    List<Product> products = List.of(product1, product2);
-
-    ProductInfo productInfo1 = ProductInfo.builder()
-      .id(1)
-      .name("Product 1")
-      .costPrice(new BigDecimal("10.00"))
-      .salePrice(new BigDecimal("15.00"))
-      .stock(100)
-      .minimumStockThreshold(10)
-      .build();
-
-    ProductInfo productInfo2 = ProductInfo.builder()
-      .id(2)
-      .name("Product 2")
-      .costPrice(new BigDecimal("20.00"))
-      .salePrice(new BigDecimal("30.00"))
-      .stock(100)
-      .minimumStockThreshold(10)
-      .build();
-
-    List<ProductInfo> productInfos = List.of(productInfo1, productInfo2);
-
-    when(productRepository.findAll()).thenReturn(products);
-    when(productMapper.toInfo(products.get(0))).thenReturn(productInfos.get(0));
-    when(productMapper.toInfo(products.get(1))).thenReturn(productInfos.get(1));
-
-    List<ProductInfo> allProductInfos = productService.findAll();
-
-    assertThat(allProductInfos).hasSize(2);
-    assertThat(allProductInfos.get(0).getName()).isEqualTo("Product 1");
-    assertThat(allProductInfos.get(1).getName()).isEqualTo("Product 2");
-  }
-
   @Test
   void create_shouldCreateProduct_withoutCategory() {
     ProductData productData = ProductData.builder()
@@ -326,7 +366,9 @@ class ProductServiceTest {
     when(productRepository.findById(id)).thenReturn(
       Optional.of(existingProduct)
     );
-    when(productRepository.save(existingProduct)).thenReturn(updatedProduct);
+    when(productRepository.saveAndFlush(existingProduct)).thenReturn(
+      updatedProduct
+    );
     when(productMapper.toInfo(updatedProduct)).thenReturn(productInfo);
 
     ProductInfo updatedProductInfo = productService.update(id, productData);
@@ -343,7 +385,7 @@ class ProductServiceTest {
     assertThat(updatedProductInfo.getSalePrice()).isEqualByComparingTo(
       new BigDecimal("30.00")
     );
-    verify(productRepository).save(existingProduct);
+    verify(productRepository).saveAndFlush(existingProduct);
   }
 
   @Test
@@ -405,7 +447,9 @@ class ProductServiceTest {
     when(categoryRepository.findById(categoryId)).thenReturn(
       Optional.of(category)
     );
-    when(productRepository.save(existingProduct)).thenReturn(updatedProduct);
+    when(productRepository.saveAndFlush(existingProduct)).thenReturn(
+      updatedProduct
+    );
     when(productMapper.toInfo(updatedProduct)).thenReturn(productInfo);
 
     ProductInfo updatedProductInfo = productService.update(id, productData);
@@ -417,7 +461,7 @@ class ProductServiceTest {
     assertThat(updatedProductInfo.getCategory().getName()).isEqualTo(
       "Test Category"
     );
-    verify(productRepository).save(existingProduct);
+    verify(productRepository).saveAndFlush(existingProduct);
   }
 
   @Test
@@ -472,7 +516,9 @@ class ProductServiceTest {
     when(productRepository.findById(id)).thenReturn(
       Optional.of(existingProduct)
     );
-    when(productRepository.save(existingProduct)).thenReturn(updatedProduct);
+    when(productRepository.saveAndFlush(existingProduct)).thenReturn(
+      updatedProduct
+    );
     when(productMapper.toInfo(updatedProduct)).thenReturn(productInfo);
 
     ProductInfo updatedProductInfo = productService.update(id, productData);
@@ -481,7 +527,34 @@ class ProductServiceTest {
     assertThat(updatedProductInfo.getId()).isEqualTo(id);
     assertThat(updatedProductInfo.getName()).isEqualTo("Updated Product");
     assertThat(updatedProductInfo.getCategory()).isNull();
-    verify(productRepository).save(existingProduct);
+    verify(productRepository).saveAndFlush(existingProduct);
+  }
+
+  @Test
+  void update_shouldThrowException_whenVersionIsStale() {
+    Product existingProduct = Product.builder()
+      .id(1)
+      .name("Original Product")
+      .version(4)
+      .build();
+    ProductData productData = ProductData.builder()
+      .name("Updated Product")
+      .version(3L)
+      .build();
+    when(productRepository.findById(1)).thenReturn(
+      Optional.of(existingProduct)
+    );
+
+    StaleVersionException exception = assertThrows(
+      StaleVersionException.class,
+      () -> productService.update(1, productData)
+    );
+
+    assertThat(exception.getMessage()).isEqualTo(
+      "Product 1 was modified by someone else (version 4, expected 3)"
+    );
+    assertThat(existingProduct.getName()).isEqualTo("Original Product");
+    verify(productRepository, never()).saveAndFlush(any());
   }
 
   @Test
@@ -502,7 +575,7 @@ class ProductServiceTest {
       () -> productService.update(id, productData)
     );
     assertThat(exception).hasMessage("Product not found with id: " + id);
-    verify(productRepository, never()).save(any());
+    verify(productRepository, never()).saveAndFlush(any());
   }
 
   @Test
@@ -534,7 +607,7 @@ class ProductServiceTest {
       () -> productService.update(id, productData)
     );
     assertThat(exception).hasMessage("Category not found: " + categoryId);
-    verify(productRepository, never()).save(any());
+    verify(productRepository, never()).saveAndFlush(any());
   }
 
   @Test
@@ -548,6 +621,7 @@ class ProductServiceTest {
     productService.delete(id);
 
     verify(productRepository).delete(product);
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
   }
 
   @Test
@@ -560,7 +634,7 @@ class ProductServiceTest {
       () -> productService.delete(id)
     );
     assertThat(exception).hasMessage("Product not found with id: " + id);
-    verify(productRepository, never()).delete(any());
+    verify(productRepository, never()).delete(any(Product.class));
   }
 
   @Test
@@ -574,6 +648,7 @@ class ProductServiceTest {
     productService.deleteAllById(ids);
 
     verify(productRepository).deleteAllById(ids);
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
   }
 
   @Test
@@ -589,4 +664,117 @@ class ProductServiceTest {
     assertThat(exception).hasMessage("Product with id 1 not found");
     verify(productRepository, never()).deleteAllById(any());
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void updatePrices_shouldApplyPercentageToScopedProducts() {
+    when(categoryRepository.existsById(1L)).thenReturn(true);
+    when(
+      productRepository.adjustPrices(
+        any(Specification.class),
+        eq(PriceField.SALE_PRICE),
+        eq(105L),
+        eq(100L),
+        eq(BigDecimal.ZERO),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(2);
+
+    ProductPriceUpdateInfo result = productService.updatePrices(
+      ProductPriceUpdateData.builder()
+        .categoryId(1L)
+        .field(PriceField.SALE_PRICE)
+        .adjustmentType(PriceAdjustmentType.PERCENTAGE)
+        .amount(new BigDecimal("5"))
+        .build()
+    );
+
+    assertThat(result.getUpdatedCount()).isEqualTo(2);
+    ArgumentCaptor<ProductChangedEvent> eventCaptor = ArgumentCaptor.forClass(
+      ProductChangedEvent.class
+    );
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    assertThat(eventCaptor.getValue().isCatalogWide()).isTrue();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void updatePrices_shouldApplyAbsoluteChangeToCostPrice() {
+    productService.updatePrices(
+      ProductPriceUpdateData.builder()
+        .productIds(List.of(7))
+        .field(PriceField.COST_PRICE)
+        .adjustmentType(PriceAdjustmentType.ABSOLUTE)
+        .amount(new BigDecimal("-0.50"))
+        .build()
+    );
+
+    verify(productRepository).adjustPrices(
+      any(Specification.class),
+      eq(PriceField.COST_PRICE),
+      eq(1L),
+      eq(1L),
+      eq(new BigDecimal("-0.50")),
+      any(LocalDateTime.class)
+    );
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void updatePrices_shouldNotPublishEvent_whenNoProductMatches() {
+    ProductPriceUpdateInfo result = productService.updatePrices(
+      ProductPriceUpdateData.builder()
+        .supplierId(9L)
+        .field(PriceField.SALE_PRICE)
+        .adjustmentType(PriceAdjustmentType.ABSOLUTE)
+        .amount(BigDecimal.ONE)
+        .build()
+    );
+
+    assertThat(result.getUpdatedCount()).isZero();
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void updatePrices_shouldThrowException_whenScopeIsMissing() {
+    ProductPriceUpdateData data = ProductPriceUpdateData.builder()
+      .productIds(List.of())
+      .field(PriceField.SALE_PRICE)
+      .adjustmentType(PriceAdjustmentType.PERCENTAGE)
+      .amount(BigDecimal.TEN)
+      .build();
+
+    assertThrows(IllegalArgumentException.class, () ->
+      productService.updatePrices(data)
+    );
+  }
+
+  @Test
+  void updatePrices_shouldThrowException_whenPercentageExceedsFullPrice() {
+    ProductPriceUpdateData data = ProductPriceUpdateData.builder()
+      .productIds(List.of(1))
+      .field(PriceField.SALE_PRICE)
+      .adjustmentType(PriceAdjustmentType.PERCENTAGE)
+      .amount(new BigDecimal("-150"))
+      .build();
+
+    assertThrows(IllegalArgumentException.class, () ->
+      productService.updatePrices(data)
+    );
+  }
+
+  @Test
+  void updatePrices_shouldThrowException_whenCategoryDoesNotExist() {
+    when(categoryRepository.existsById(5L)).thenReturn(false);
+    ProductPriceUpdateData data = ProductPriceUpdateData.builder()
+      .categoryId(5L)
+      .field(PriceField.SALE_PRICE)
+      .adjustmentType(PriceAdjustmentType.PERCENTAGE)
+      .amount(BigDecimal.TEN)
+      .build();
+
+    assertThrows(EntityNotFoundException.class, () ->
+      productService.updatePrices(data)
+    );
+  }
 }
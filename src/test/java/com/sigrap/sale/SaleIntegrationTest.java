@@ -1,5 +1,6 @@
 package com.sigrap.sale;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -12,13 +13,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sigrap.config.BaseIntegrationTest;
 import com.sigrap.customer.Customer;
+import com.sigrap.customer.CustomerMergeProposal;
+import com.sigrap.customer.CustomerMergeProposalRepository;
+import com.sigrap.customer.CustomerMergeStatus;
 import com.sigrap.customer.CustomerRepository;
+import com.sigrap.customer.CustomerSegmentRepository;
+import com.sigrap.customer.RfmSegment;
 import com.sigrap.product.Product;
 import com.sigrap.product.ProductRepository;
 import com.sigrap.user.User;
 import com.sigrap.user.UserRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +35,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -43,6 +51,12 @@ public class SaleIntegrationTest extends BaseIntegrationTest {
   @Autowired
   private CustomerRepository customerRepository;
 
+  @Autowired
+  private CustomerMergeProposalRepository customerMergeProposalRepository;
+
+  @Autowired
+  private CustomerSegmentRepository customerSegmentRepository;
+
   @Autowired
   private UserRepository userRepository;
 
@@ -52,6 +66,9 @@ public class SaleIntegrationTest extends BaseIntegrationTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
   private User testEmployee;
   private Customer testCustomer;
   private List<Product> testProducts;
@@ -359,6 +376,236 @@ public class SaleIntegrationTest extends BaseIntegrationTest {
       .andExpect(status().isNotFound());
   }
 
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void customerProfile() throws Exception {
+    Integer firstId = createSale(new BigDecimal("30.00"));
+    Integer secondId = createSale(new BigDecimal("50.00"));
+
+    MvcResult firstPage = mockMvc
+      .perform(
+        get("/api/customers/{id}/profile", testCustomer.getId()).param(
+          "size",
+          "2"
+        )
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.customer.id").value(testCustomer.getId()))
+      .andExpect(jsonPath("$.visits").value(2))
+      .andExpect(jsonPath("$.lifetimeSpend").value(is(closeTo(80.00, 0.001))))
+      .andExpect(jsonPath("$.averageTicket").value(is(closeTo(40.00, 0.001))))
+      .andExpect(jsonPath("$.purchases.length()").value(2))
+      .andExpect(jsonPath("$.purchases[0].saleId").value(secondId))
+      .andExpect(jsonPath("$.purchases[0].itemCount").value(1))
+      .andExpect(jsonPath("$.purchases[1].saleId").value(firstId))
+      .andReturn();
+    String cursor = objectMapper
+      .readTree(firstPage.getResponse().getContentAsString())
+      .get("nextCursor")
+      .asText();
+
+    mockMvc
+      .perform(
+        get("/api/customers/{id}/profile", testCustomer.getId())
+          .param("size", "2")
+          .param("cursor", cursor)
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.purchases.length()").value(1))
+      .andExpect(jsonPath("$.purchases[0].saleId").value(testSale.getId()))
+      .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+    mockMvc
+      .perform(delete("/api/sales/{id}", secondId))
+      .andExpect(status().isNoContent());
+
+    mockMvc
+      .perform(get("/api/customers/{id}/profile", testCustomer.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.visits").value(1))
+      .andExpect(jsonPath("$.lifetimeSpend").value(is(closeTo(30.00, 0.001))))
+      .andExpect(jsonPath("$.purchases.length()").value(2));
+
+    mockMvc
+      .perform(
+        get("/api/customers/{id}/profile", testCustomer.getId()).param(
+          "cursor",
+          "%%%"
+        )
+      )
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void mergeDuplicateCustomer() throws Exception {
+    Customer duplicate = customerRepository.save(
+      Customer.builder()
+        .fullName("TEST CUSTOMER")
+        .email("Customer@Example.com")
+        .phoneNumber("(555) 123-4567")
+        .build()
+    );
+    Integer movedSaleId = createSale(
+      duplicate.getId(),
+      new BigDecimal("40.00")
+    );
+
+    mockMvc
+      .perform(post("/api/customers/duplicates/scan"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.proposalCount").value(1));
+    MvcResult proposals = mockMvc
+      .perform(get("/api/customers/duplicates"))
+      .andExpect(status().isOk())
+      .andExpect(
+        jsonPath("$.content[0].survivor.id").value(testCustomer.getId())
+      )
+      .andExpect(
+        jsonPath("$.content[0].duplicate.id").value(duplicate.getId())
+      )
+      .andReturn();
+    long proposalId = objectMapper
+      .readTree(proposals.getResponse().getContentAsString())
+      .at("/content/0/id")
+      .asLong();
+    Customer other = customerRepository.save(
+      Customer.builder()
+        .fullName("Other Customer")
+        .email("other@example.com")
+        .build()
+    );
+    customerMergeProposalRepository.save(
+      CustomerMergeProposal.builder()
+        .survivorId(duplicate.getId())
+        .duplicateId(other.getId())
+        .score(new BigDecimal("0.600"))
+        .reasons("PHONE")
+        .status(CustomerMergeStatus.PENDING)
+        .createdAt(LocalDateTime.now())
+        .build()
+    );
+    mockMvc
+      .perform(post("/api/customers/segments/recompute"))
+      .andExpect(status().isOk());
+    assertThat(
+      customerSegmentRepository.existsById(duplicate.getId())
+    ).isTrue();
+
+    mockMvc
+      .perform(post("/api/customers/duplicates/{id}/approve", proposalId))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.id").value(testCustomer.getId()));
+
+    assertThat(customerRepository.existsById(duplicate.getId())).isFalse();
+    assertThat(
+      customerSegmentRepository.existsById(duplicate.getId())
+    ).isFalse();
+    assertThat(
+      saleRepository.findById(movedSaleId).orElseThrow().getCustomer().getId()
+    ).isEqualTo(testCustomer.getId());
+    mockMvc
+      .perform(get("/api/customers/{id}/profile", testCustomer.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.visits").value(1))
+      .andExpect(jsonPath("$.lifetimeSpend").value(is(closeTo(40.00, 0.001))))
+      .andExpect(jsonPath("$.purchases.length()").value(2));
+    mockMvc
+      .perform(post("/api/customers/duplicates/{id}/approve", proposalId))
+      .andExpect(status().isBadRequest());
+    mockMvc
+      .perform(get("/api/customers/duplicates"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content.length()").value(0));
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void customerSegments() throws Exception {
+    Customer occasional = customerRepository.save(
+      Customer.builder()
+        .fullName("Occasional Customer")
+        .email("occasional@example.com")
+        .build()
+    );
+    Integer occasionalSaleId = createSale(
+      occasional.getId(),
+      new BigDecimal("5.00")
+    );
+    jdbcTemplate.update(
+      "UPDATE sales SET created_at = ? WHERE id = ?",
+      LocalDateTime.now().minusDays(30),
+      occasionalSaleId
+    );
+    createSale(new BigDecimal("30.00"));
+    createSale(new BigDecimal("50.00"));
+
+    mockMvc
+      .perform(post("/api/customers/segments/recompute"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.customerCount").value(2));
+
+    mockMvc
+      .perform(get("/api/customers/segments"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.length()").value(RfmSegment.values().length))
+      .andExpect(
+        jsonPath("$[?(@.segment == 'PROMISING')].customerCount").value(1)
+      )
+      .andExpect(
+        jsonPath("$[?(@.segment == 'LOST')].customerCount").value(1)
+      );
+    mockMvc
+      .perform(get("/api/customers/segments/{segment}", "PROMISING"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content.length()").value(1))
+      .andExpect(
+        jsonPath("$.content[0].customer.id").value(testCustomer.getId())
+      )
+      .andExpect(jsonPath("$.content[0].purchaseCount").value(3))
+      .andExpect(jsonPath("$.content[0].recencyScore").value(3));
+    mockMvc
+      .perform(get("/api/customers/segments/{segment}", "UNKNOWN"))
+      .andExpect(status().isBadRequest());
+  }
+
+  private Integer createSale(BigDecimal finalAmount) throws Exception {
+    return createSale(testCustomer.getId(), finalAmount);
+  }
+
+  private Integer createSale(Long customerId, BigDecimal finalAmount)
+    throws Exception {
+    SaleData saleData = SaleData.builder()
+      .customerId(customerId)
+      .employeeId(testEmployee.getId())
+      .totalAmount(finalAmount)
+      .taxAmount(BigDecimal.ZERO)
+      .discountAmount(BigDecimal.ZERO)
+      .finalAmount(finalAmount)
+      .items(
+        List.of(
+          SaleItemData.builder()
+            .productId(testProducts.get(0).getId())
+            .quantity(1)
+            .unitPrice(finalAmount)
+            .subtotal(finalAmount)
+            .build()
+        )
+      )
+      .build();
+    MvcResult result = mockMvc
+      .perform(
+        post("/api/sales")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(saleData))
+      )
+      .andExpect(status().isCreated())
+      .andReturn();
+    return objectMapper
+      .readValue(result.getResponse().getContentAsString(), SaleInfo.class)
+      .getId();
+  }
+
   @Test
   @WithMockUser(roles = "ADMIN")
   void validationConstraints() throws Exception {
@@ -0,0 +1,119 @@
+package com.sigrap.sale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sigrap.config.RepositoryTestConfiguration;
+import com.sigrap.customer.Customer;
+import com.sigrap.product.Product;
+import com.sigrap.user.User;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryTestConfiguration.class)
+class SaleItemRepositoryTest {
+
+  @Autowired
+  private SaleItemRepository saleItemRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Customer customer;
+  private User employee;
+  private Product notebook;
+  private Product pencil;
+
+  @BeforeEach
+  void setUp() {
+    customer = entityManager.persist(
+      Customer.builder().fullName("Test Customer").email("c@test.com").build()
+    );
+    employee = entityManager.persist(
+      User.builder()
+        .name("Test User")
+        .email("u@test.com")
+        .password("password123")
+        .build()
+    );
+    notebook = entityManager.persist(product("Cuaderno"));
+    pencil = entityManager.persist(product("Lápiz"));
+  }
+
+  @Test
+  void sumDailyQuantityByProduct_shouldGroupByProductAndDay() {
+    LocalDate day = LocalDate.of(2025, 3, 10);
+    sale(day.atTime(9, 0), notebook, 2);
+    sale(day.atTime(16, 30), notebook, 3);
+    sale(day.plusDays(1).atTime(10, 0), notebook, 1);
+    sale(day.atTime(11, 0), pencil, 4);
+    sale(day.minusDays(1).atTime(12, 0), notebook, 7);
+
+    List<Object[]> rows = saleItemRepository.sumDailyQuantityByProduct(
+      day.atStartOfDay(),
+      day.plusDays(2).atStartOfDay(),
+      List.of(notebook.getId())
+    );
+
+    rows.sort(Comparator.comparing(row -> ((Number) row[3]).intValue()));
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0)[0]).isEqualTo(notebook.getId());
+    assertThat(((Number) rows.get(0)[1]).intValue()).isEqualTo(2025);
+    assertThat(((Number) rows.get(0)[2]).intValue()).isEqualTo(3);
+    assertThat(((Number) rows.get(0)[3]).intValue()).isEqualTo(10);
+    assertThat(((Number) rows.get(0)[4]).intValue()).isEqualTo(5);
+    assertThat(((Number) rows.get(1)[3]).intValue()).isEqualTo(11);
+    assertThat(((Number) rows.get(1)[4]).intValue()).isEqualTo(1);
+  }
+
+  private void sale(LocalDateTime createdAt, Product product, int quantity) {
+    BigDecimal amount = product.getSalePrice().multiply(
+      BigDecimal.valueOf(quantity)
+    );
+    Sale sale = Sale.builder()
+      .customer(customer)
+      .employee(employee)
+      .totalAmount(amount)
+      .taxAmount(BigDecimal.ZERO)
+      .finalAmount(amount)
+      .build();
+    sale.getItems().add(
+      SaleItem.builder()
+        .sale(sale)
+        .product(product)
+        .quantity(quantity)
+        .unitPrice(product.getSalePrice())
+        .subtotal(amount)
+        .build()
+    );
+    entityManager.persistAndFlush(sale);
+    entityManager
+      .getEntityManager()
+      .createNativeQuery("UPDATE sales SET created_at = ?1 WHERE id = ?2")
+      .setParameter(1, createdAt)
+      .setParameter(2, sale.getId())
+      .executeUpdate();
+    entityManager.clear();
+  }
+
+  private static Product product(String name) {
+    return Product.builder()
+      .name(name)
+      .costPrice(new BigDecimal("1.00"))
+      .salePrice(new BigDecimal("2.00"))
+      .stock(10)
+      .minimumStockThreshold(1)
+      .build();
+  }
+}
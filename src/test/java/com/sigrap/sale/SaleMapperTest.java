@@ -11,7 +11,7 @@ import com.sigrap.customer.Customer;
 import com.sigrap.customer.CustomerInfo;
 import com.sigrap.customer.CustomerMapper;
 import com.sigrap.product.Product;
-import com.sigrap.product.ProductInfo;
+import com.sigrap.product.ProductSummaryInfo;
 import com.sigrap.product.ProductMapper;
 import com.sigrap.user.User;
 import com.sigrap.user.UserInfo;
@@ -52,7 +52,7 @@ class SaleMapperTest {
   private Product testProduct;
   private CustomerInfo testCustomerInfo;
   private UserInfo testUserInfo;
-  private ProductInfo testProductInfo;
+  private ProductSummaryInfo testProductInfo;
   private SaleData testSaleData;
   private SaleItemData testSaleItemData;
   private LocalDateTime testDateTime;
@@ -63,7 +63,10 @@ class SaleMapperTest {
 
     testProduct = Product.builder().id(1).name("Test Product").build();
 
-    testProductInfo = ProductInfo.builder().id(1).name("Test Product").build();
+    testProductInfo = ProductSummaryInfo.builder()
+      .id(1)
+      .name("Test Product")
+      .build();
 
     testEmployee = User.builder().id(1L).name("Test Employee").build();
 
@@ -122,7 +125,7 @@ class SaleMapperTest {
       testCustomerInfo
     );
     when(userMapper.toInfo(testEmployee)).thenReturn(testUserInfo);
-    when(productMapper.toInfo(testProduct)).thenReturn(testProductInfo);
+    when(productMapper.toSummary(testProduct)).thenReturn(testProductInfo);
 
     SaleInfo result = saleMapper.toInfo(testSale);
 
@@ -154,7 +157,7 @@ class SaleMapperTest {
       testCustomerInfo
     );
     when(userMapper.toInfo(any(User.class))).thenReturn(testUserInfo);
-    when(productMapper.toInfo(any(Product.class))).thenReturn(testProductInfo);
+    when(productMapper.toSummary(any(Product.class))).thenReturn(testProductInfo);
 
     List<SaleInfo> result = saleMapper.toInfoList(sales);
 
@@ -172,7 +175,7 @@ class SaleMapperTest {
 
   @Test
   void toSaleItemInfo_shouldMapSaleItemToSaleItemInfo() {
-    when(productMapper.toInfo(testProduct)).thenReturn(testProductInfo);
+    when(productMapper.toSummary(testProduct)).thenReturn(testProductInfo);
 
     SaleItemInfo result = saleMapper.toSaleItemInfo(testSaleItem);
 
@@ -195,7 +198,7 @@ class SaleMapperTest {
   void toSaleItemInfoList_shouldMapSaleItemListToSaleItemInfoList() {
     List<SaleItem> saleItems = Arrays.asList(testSaleItem, testSaleItem);
 
-    when(productMapper.toInfo(any(Product.class))).thenReturn(testProductInfo);
+    when(productMapper.toSummary(any(Product.class))).thenReturn(testProductInfo);
 
     List<SaleItemInfo> result = saleMapper.toSaleItemInfoList(saleItems);
 
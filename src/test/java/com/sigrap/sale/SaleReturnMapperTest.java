@@ -11,7 +11,7 @@ import com.sigrap.customer.Customer;
 import com.sigrap.customer.CustomerInfo;
 import com.sigrap.customer.CustomerMapper;
 import com.sigrap.product.Product;
-import com.sigrap.product.ProductInfo;
+import com.sigrap.product.ProductSummaryInfo;
 import com.sigrap.product.ProductMapper;
 import com.sigrap.user.User;
 import com.sigrap.user.UserInfo;
@@ -53,7 +53,7 @@ class SaleReturnMapperTest {
   private Product testProduct;
   private CustomerInfo testCustomerInfo;
   private UserInfo testUserInfo;
-  private ProductInfo testProductInfo;
+  private ProductSummaryInfo testProductInfo;
   private SaleReturnData testSaleReturnData;
   private SaleReturnItemData testSaleReturnItemData;
   private LocalDateTime testDateTime;
@@ -64,7 +64,10 @@ class SaleReturnMapperTest {
 
     testProduct = Product.builder().id(1).name("Test Product").build();
 
-    testProductInfo = ProductInfo.builder().id(1).name("Test Product").build();
+    testProductInfo = ProductSummaryInfo.builder()
+      .id(1)
+      .name("Test Product")
+      .build();
 
     testEmployee = User.builder().id(1L).name("Test Employee").build();
 
@@ -123,7 +126,7 @@ class SaleReturnMapperTest {
       testCustomerInfo
     );
     when(userMapper.toInfo(testEmployee)).thenReturn(testUserInfo);
-    when(productMapper.toInfo(testProduct)).thenReturn(testProductInfo);
+    when(productMapper.toSummary(testProduct)).thenReturn(testProductInfo);
 
     SaleReturnInfo result = saleReturnMapper.toInfo(testSaleReturn);
 
@@ -156,7 +159,7 @@ class SaleReturnMapperTest {
       testCustomerInfo
     );
     when(userMapper.toInfo(testEmployee)).thenReturn(testUserInfo);
-    when(productMapper.toInfo(testProduct)).thenReturn(testProductInfo);
+    when(productMapper.toSummary(testProduct)).thenReturn(testProductInfo);
 
     SaleReturnInfo result = saleReturnMapper.toInfo(testSaleReturn);
 
@@ -175,7 +178,7 @@ class SaleReturnMapperTest {
       testCustomerInfo
     );
     when(userMapper.toInfo(any(User.class))).thenReturn(testUserInfo);
-    when(productMapper.toInfo(any(Product.class))).thenReturn(testProductInfo);
+    when(productMapper.toSummary(any(Product.class))).thenReturn(testProductInfo);
 
     List<SaleReturnInfo> result = saleReturnMapper.toInfoList(saleReturns);
 
@@ -193,7 +196,7 @@ class SaleReturnMapperTest {
 
   @Test
   void toSaleReturnItemInfo_shouldMapSaleReturnItemToSaleReturnItemInfo() {
-    when(productMapper.toInfo(testProduct)).thenReturn(testProductInfo);
+    when(productMapper.toSummary(testProduct)).thenReturn(testProductInfo);
 
     SaleReturnItemInfo result = saleReturnMapper.toSaleReturnItemInfo(
       testSaleReturnItem
@@ -221,7 +224,7 @@ class SaleReturnMapperTest {
       testSaleReturnItem
     );
 
-    when(productMapper.toInfo(any(Product.class))).thenReturn(testProductInfo);
+    when(productMapper.toSummary(any(Product.class))).thenReturn(testProductInfo);
 
     List<SaleReturnItemInfo> result = saleReturnMapper.toSaleReturnItemInfoList(
       saleReturnItems
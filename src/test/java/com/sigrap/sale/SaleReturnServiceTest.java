@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 
 import com.sigrap.customer.Customer;
 import com.sigrap.customer.CustomerRepository;
+import com.sigrap.customer.CustomerStatsService;
 import com.sigrap.product.Product;
 import com.sigrap.product.ProductRepository;
 import com.sigrap.user.User;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class SaleReturnServiceTest {
@@ -53,6 +55,12 @@ class SaleReturnServiceTest {
   @Mock
   private SaleReturnMapper saleReturnMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private CustomerStatsService customerStatsService;
+
   @InjectMocks
   private SaleReturnService saleReturnService;
 
@@ -231,6 +239,7 @@ class SaleReturnServiceTest {
     verify(productRepository, times(1)).save(testProduct);
     assertEquals(95, testProduct.getStock());
     verify(saleReturnRepository, times(1)).delete(testSaleReturn);
+    verify(customerStatsService).removeReturns(List.of(testSaleReturn));
   }
 
   @Test
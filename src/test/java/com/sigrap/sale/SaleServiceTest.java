@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -15,6 +16,7 @@ import static org.mockito.Mockito.when;
 import com.sigrap.customer.Customer;
 import com.sigrap.customer.CustomerInfo;
 import com.sigrap.customer.CustomerRepository;
+import com.sigrap.customer.CustomerStatsService;
 import com.sigrap.product.Product;
 import com.sigrap.product.ProductRepository;
 import com.sigrap.user.User;
@@ -40,6 +42,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -63,6 +66,15 @@ class SaleServiceTest {
   @Mock
   private SaleMapper saleMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private StockReservationService stockReservationService;
+
+  @Mock
+  private CustomerStatsService customerStatsService;
+
   @InjectMocks
   private SaleService saleService;
 
@@ -295,6 +307,77 @@ class SaleServiceTest {
     );
     verify(productRepository).save(testProduct);
     assertEquals(98, testProduct.getStock());
+    verify(customerStatsService).recordSale(testSale);
+  }
+
+  @Test
+  void create_shouldRejectSale_whenStockIsHeldByReservations() {
+    when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+    when(userRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+    when(saleMapper.toEntity(testSaleData)).thenReturn(testSale);
+    when(saleRepository.save(testSale)).thenReturn(testSale);
+    when(productRepository.findById(1)).thenReturn(Optional.of(testProduct));
+    doThrow(
+      new IllegalArgumentException(
+        "Insufficient stock for product: Test Product"
+      )
+    )
+      .when(stockReservationService)
+      .holdForSale(testProduct, 2, null);
+
+    IllegalArgumentException exception = assertThrows(
+      IllegalArgumentException.class,
+      () -> saleService.create(testSaleData)
+    );
+
+    assertEquals(
+      "Insufficient stock for product: Test Product",
+      exception.getMessage()
+    );
+    verify(productRepository, never()).save(any(Product.class));
+  }
+
+  @Test
+  void create_shouldUseReservedStock_whenCreatedFromReservation() {
+    testSaleData.setReservationId("reservation-1");
+    when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+    when(userRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+    when(saleMapper.toEntity(testSaleData)).thenReturn(testSale);
+    when(saleRepository.save(testSale)).thenReturn(testSale);
+    when(saleRepository.findById(testSale.getId())).thenReturn(
+      Optional.of(testSale)
+    );
+    when(productRepository.findById(1)).thenReturn(Optional.of(testProduct));
+    when(saleMapper.toInfo(testSale)).thenReturn(testSaleInfo);
+
+    SaleInfo result = saleService.create(testSaleData);
+
+    assertEquals(testSaleInfo, result);
+    assertEquals(98, testProduct.getStock());
+    verify(stockReservationService).requireActive("reservation-1");
+    verify(stockReservationService).holdForSale(
+      testProduct,
+      2,
+      "reservation-1"
+    );
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+    StockReservationConvertedEvent converted =
+      (StockReservationConvertedEvent) eventCaptor.getAllValues().get(1);
+    assertEquals("reservation-1", converted.getReservationId());
+  }
+
+  @Test
+  void create_shouldFail_whenReservationHasExpired() {
+    testSaleData.setReservationId("expired");
+    doThrow(new EntityNotFoundException("Reservation not found or expired"))
+      .when(stockReservationService)
+      .requireActive("expired");
+
+    assertThrows(EntityNotFoundException.class, () ->
+      saleService.create(testSaleData)
+    );
+    verify(saleRepository, never()).save(any(Sale.class));
   }
 
   @Test
@@ -388,6 +471,7 @@ class SaleServiceTest {
     verify(productRepository).save(testProduct);
     assertEquals(102, testProduct.getStock());
     verify(saleRepository).delete(testSale);
+    verify(customerStatsService).removeSales(List.of(testSale));
   }
 
   @Test
@@ -421,6 +505,7 @@ class SaleServiceTest {
     assertEquals(ids, idsCaptor.getValue());
     verify(productRepository, times(2)).save(testProduct);
     assertEquals(105, testProduct.getStock());
+    verify(customerStatsService).removeSales(List.of(testSale, sale2));
   }
 
   @Test
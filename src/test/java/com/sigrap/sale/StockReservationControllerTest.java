@@ -0,0 +1,164 @@
+package com.sigrap.sale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+import com.sigrap.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+class StockReservationControllerTest {
+
+  private MockMvc mockMvc;
+  private StockReservationService stockReservationService;
+  private SaleService saleService;
+
+  @BeforeEach
+  void setup() {
+    stockReservationService = mock(StockReservationService.class);
+    saleService = mock(SaleService.class);
+    mockMvc = standaloneSetup(
+      new StockReservationController(stockReservationService, saleService)
+    )
+      .setControllerAdvice(new GlobalExceptionHandler())
+      .build();
+  }
+
+  @Test
+  void create_shouldReturnCreatedReservation() throws Exception {
+    LocalDateTime now = LocalDateTime.of(2025, 6, 2, 10, 0);
+    when(stockReservationService.create(any(StockReservationData.class)))
+      .thenReturn(
+        StockReservationInfo.builder()
+          .id("reservation-1")
+          .items(
+            List.of(
+              StockReservationItemInfo.builder()
+                .productId(1)
+                .quantity(2)
+                .build()
+            )
+          )
+          .createdAt(now)
+          .expiresAt(now.plusMinutes(15))
+          .build()
+      );
+
+    mockMvc
+      .perform(
+        post("/api/reservations")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"items\":[{\"productId\":1,\"quantity\":2}]}")
+      )
+      .andExpect(status().isCreated())
+      .andExpect(jsonPath("$.id").value("reservation-1"))
+      .andExpect(jsonPath("$.items[0].quantity").value(2));
+  }
+
+  @Test
+  void create_shouldReturnBadRequest_whenItemsAreMissing() throws Exception {
+    mockMvc
+      .perform(
+        post("/api/reservations")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"items\":[]}")
+      )
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void findAvailability_shouldReturnAvailableStock() throws Exception {
+    when(stockReservationService.findAvailability(List.of(1, 2))).thenReturn(
+      List.of(
+        StockAvailabilityInfo.builder()
+          .productId(1)
+          .productName("Notebook")
+          .stock(10)
+          .reserved(4)
+          .available(6)
+          .build()
+      )
+    );
+
+    mockMvc
+      .perform(get("/api/reservations/availability").param("productIds", "1,2"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].reserved").value(4))
+      .andExpect(jsonPath("$[0].available").value(6));
+  }
+
+  @Test
+  void findById_shouldReturnNotFound_whenReservationExpired()
+    throws Exception {
+    when(stockReservationService.findById("expired")).thenThrow(
+      new EntityNotFoundException("Reservation not found or expired: expired")
+    );
+
+    mockMvc
+      .perform(get("/api/reservations/expired"))
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void release_shouldReturnNoContent() throws Exception {
+    mockMvc
+      .perform(delete("/api/reservations/reservation-1"))
+      .andExpect(status().isNoContent());
+
+    verify(stockReservationService).release("reservation-1");
+  }
+
+  @Test
+  void extend_shouldReturnBadRequest_whenTtlIsInvalid() throws Exception {
+    doThrow(new IllegalArgumentException("Reservation TTL must be between"))
+      .when(stockReservationService)
+      .extend("reservation-1", 0);
+
+    mockMvc
+      .perform(
+        post("/api/reservations/reservation-1/extend").param("ttlSeconds", "0")
+      )
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void convert_shouldCreateSaleFromReservation() throws Exception {
+    when(saleService.create(any(SaleData.class))).thenReturn(
+      SaleInfo.builder().id(7).build()
+    );
+
+    mockMvc
+      .perform(
+        post("/api/reservations/reservation-1/sale")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(
+            "{\"customerId\":1,\"employeeId\":1,\"totalAmount\":100," +
+            "\"taxAmount\":19,\"finalAmount\":119," +
+            "\"items\":[{\"productId\":1,\"quantity\":2," +
+            "\"unitPrice\":50,\"subtotal\":100}]}"
+          )
+      )
+      .andExpect(status().isCreated())
+      .andExpect(jsonPath("$.id").value(7));
+
+    ArgumentCaptor<SaleData> captor = ArgumentCaptor.forClass(SaleData.class);
+    verify(saleService).create(captor.capture());
+    assertThat(captor.getValue().getReservationId()).isEqualTo("reservation-1");
+  }
+}
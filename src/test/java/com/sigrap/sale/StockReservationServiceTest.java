@@ -0,0 +1,427 @@
+package com.sigrap.sale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StockReservationServiceTest {
+
+  private static final Instant START = Instant.parse("2025-06-02T10:00:00Z");
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @InjectMocks
+  private StockReservationService stockReservationService;
+
+  private Map<Integer, Product> products;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(
+      stockReservationService,
+      "defaultTtlSeconds",
+      900
+    );
+    ReflectionTestUtils.setField(
+      stockReservationService,
+      "maxTtlSeconds",
+      3600
+    );
+    setTime(START);
+
+    products = List.of(
+      Product.builder().id(1).name("Notebook").stock(10).build(),
+      Product.builder().id(2).name("Pen").stock(3).build()
+    )
+      .stream()
+      .collect(Collectors.toMap(Product::getId, Function.identity()));
+    when(productRepository.findAllById(anyCollection())).thenAnswer(
+      invocation -> {
+        Collection<Integer> ids = invocation.getArgument(0);
+        return ids
+          .stream()
+          .map(products::get)
+          .filter(product -> product != null)
+          .toList();
+      }
+    );
+  }
+
+  @Test
+  void create_shouldHoldStockAndMergeRepeatedProducts() {
+    StockReservationInfo result = stockReservationService.create(
+      reservation(null, item(1, 2), item(2, 1), item(1, 3))
+    );
+
+    assertThat(result.getId()).isNotBlank();
+    assertThat(result.getItems())
+      .extracting(
+        StockReservationItemInfo::getProductId,
+        StockReservationItemInfo::getQuantity
+      )
+      .containsExactly(tuple(1, 5), tuple(2, 1));
+    assertEquals(
+      result.getCreatedAt().plusSeconds(900),
+      result.getExpiresAt()
+    );
+    assertThat(availability()).containsEntry(1, 5).containsEntry(2, 2);
+  }
+
+  @Test
+  void create_shouldRollBackHolds_whenLaterProductIsShort() {
+    IllegalArgumentException exception = assertThrows(
+      IllegalArgumentException.class,
+      () ->
+        stockReservationService.create(
+          reservation(null, item(1, 4), item(2, 4))
+        )
+    );
+
+    assertEquals("Insufficient stock for product: Pen", exception.getMessage());
+    assertThat(availability()).containsEntry(1, 10).containsEntry(2, 3);
+  }
+
+  @Test
+  void create_shouldNotOversellAcrossReservations() {
+    stockReservationService.create(reservation(null, item(2, 2)));
+
+    assertThrows(IllegalArgumentException.class, () ->
+      stockReservationService.create(reservation(null, item(2, 2)))
+    );
+    stockReservationService.create(reservation(null, item(2, 1)));
+    assertThat(availability()).containsEntry(2, 0);
+  }
+
+  @Test
+  void create_shouldThrowException_whenProductNotFound() {
+    EntityNotFoundException exception = assertThrows(
+      EntityNotFoundException.class,
+      () ->
+        stockReservationService.create(
+          reservation(null, item(1, 1), item(99, 1))
+        )
+    );
+
+    assertEquals("Product not found with ID: 99", exception.getMessage());
+    assertThat(availability()).containsEntry(1, 10);
+  }
+
+  @Test
+  void create_shouldRejectTtlAboveMaximum() {
+    assertThrows(IllegalArgumentException.class, () ->
+      stockReservationService.create(reservation(3601, item(1, 1)))
+    );
+  }
+
+  @Test
+  void expireDue_shouldReleaseOnlyDueReservations() {
+    StockReservationInfo shortLived = stockReservationService.create(
+      reservation(60, item(1, 4))
+    );
+    StockReservationInfo longLived = stockReservationService.create(
+      reservation(600, item(1, 3))
+    );
+
+    setTime(START.plusSeconds(60));
+
+    assertEquals(1, stockReservationService.expireDue());
+    assertThat(availability()).containsEntry(1, 7);
+    assertThrows(EntityNotFoundException.class, () ->
+      stockReservationService.findById(shortLived.getId())
+    );
+    assertEquals(
+      longLived.getId(),
+      stockReservationService.findById(longLived.getId()).getId()
+    );
+    assertEquals(0, stockReservationService.expireDue());
+  }
+
+  @Test
+  void extend_shouldPostponeExpiry() {
+    StockReservationInfo created = stockReservationService.create(
+      reservation(60, item(1, 4))
+    );
+
+    setTime(START.plusSeconds(50));
+    StockReservationInfo extended = stockReservationService.extend(
+      created.getId(),
+      120
+    );
+    setTime(START.plusSeconds(100));
+
+    assertEquals(
+      created.getExpiresAt().plusSeconds(110),
+      extended.getExpiresAt()
+    );
+    assertEquals(0, stockReservationService.expireDue());
+    assertThat(availability()).containsEntry(1, 6);
+
+    setTime(START.plusSeconds(170));
+    assertEquals(1, stockReservationService.expireDue());
+    assertThat(availability()).containsEntry(1, 10);
+  }
+
+  @Test
+  void extend_shouldThrowException_whenReservationExpired() {
+    StockReservationInfo created = stockReservationService.create(
+      reservation(60, item(1, 4))
+    );
+
+    setTime(START.plusSeconds(61));
+
+    assertThrows(EntityNotFoundException.class, () ->
+      stockReservationService.extend(created.getId(), 60)
+    );
+  }
+
+  @Test
+  void release_shouldFreeHeldStock() {
+    StockReservationInfo created = stockReservationService.create(
+      reservation(null, item(1, 4), item(2, 3))
+    );
+
+    stockReservationService.release(created.getId());
+
+    assertThat(availability()).containsEntry(1, 10).containsEntry(2, 3);
+    assertThrows(EntityNotFoundException.class, () ->
+      stockReservationService.release(created.getId())
+    );
+  }
+
+  @Test
+  void holdForSale_shouldNotCountOwnReservation() {
+    StockReservationInfo own = stockReservationService.create(
+      reservation(null, item(1, 4))
+    );
+    stockReservationService.create(reservation(null, item(1, 2)));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      stockReservationService.holdForSale(products.get(1), 8, own.getId());
+      assertThrows(IllegalArgumentException.class, () ->
+        stockReservationService.holdForSale(products.get(1), 1, null)
+      );
+      assertThat(availability()).containsEntry(1, 0);
+    } finally {
+      completeSynchronizations();
+    }
+
+    assertThat(availability()).containsEntry(1, 4);
+  }
+
+  @Test
+  void holdForSale_shouldFail_withoutTransaction() {
+    assertThrows(IllegalStateException.class, () ->
+      stockReservationService.holdForSale(products.get(1), 1, null)
+    );
+    assertThat(availability()).containsEntry(1, 10);
+  }
+
+  @Test
+  void create_shouldRefuse_whenSaleCommittedSinceStockWasRead() {
+    Product stale = Product.builder().id(1).name("Notebook").stock(10).build();
+    when(productRepository.findAllById(anyCollection()))
+      .thenReturn(List.of(stale))
+      .thenReturn(List.of(products.get(1)));
+    products.get(1).setStock(4);
+
+    assertThrows(IllegalArgumentException.class, () ->
+      stockReservationService.create(reservation(null, item(1, 5)))
+    );
+    assertThat(availability()).containsEntry(1, 4);
+  }
+
+  @Test
+  void onReservationConverted_shouldReleaseReservation() {
+    StockReservationInfo created = stockReservationService.create(
+      reservation(null, item(1, 4))
+    );
+
+    stockReservationService.onReservationConverted(
+      StockReservationConvertedEvent.of(created.getId())
+    );
+
+    assertThat(availability()).containsEntry(1, 10);
+    assertThrows(EntityNotFoundException.class, () ->
+      stockReservationService.requireActive(created.getId())
+    );
+  }
+
+  @Test
+  void create_shouldGrantExactlyTheStock_whenReservingConcurrently()
+    throws Exception {
+    int threads = 8;
+    int attempts = 40;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Boolean>> results = IntStream.range(
+        0,
+        attempts
+      )
+        .mapToObj(i ->
+          executor.submit(() -> {
+            start.await();
+            try {
+              stockReservationService.create(reservation(null, item(1, 1)));
+              return true;
+            } catch (IllegalArgumentException e) {
+              return false;
+            }
+          })
+        )
+        .toList();
+      start.countDown();
+
+      int granted = 0;
+      for (Future<Boolean> result : results) {
+        if (result.get(10, TimeUnit.SECONDS)) {
+          granted++;
+        }
+      }
+
+      assertEquals(10, granted);
+      assertThat(availability()).containsEntry(1, 0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void holdForSale_shouldNotOversell_whenRacingReservations()
+    throws Exception {
+    int threads = 8;
+    int attempts = 40;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Boolean>> results = IntStream.range(0, attempts)
+        .mapToObj(i ->
+          executor.submit(() -> {
+            start.await();
+            if (i % 2 == 0) {
+              return reserveOne();
+            }
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+              stockReservationService.holdForSale(products.get(1), 1, null);
+              return true;
+            } catch (IllegalArgumentException e) {
+              return false;
+            } finally {
+              TransactionSynchronizationManager.clearSynchronization();
+            }
+          })
+        )
+        .toList();
+      start.countDown();
+
+      int granted = 0;
+      for (Future<Boolean> result : results) {
+        if (result.get(10, TimeUnit.SECONDS)) {
+          granted++;
+        }
+      }
+
+      assertEquals(10, granted);
+      assertThat(availability()).containsEntry(1, 0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private boolean reserveOne() {
+    try {
+      stockReservationService.create(reservation(null, item(1, 1)));
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static void completeSynchronizations() {
+    List<TransactionSynchronization> synchronizations =
+      TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(synchronization ->
+      synchronization.afterCompletion(
+        TransactionSynchronization.STATUS_COMMITTED
+      )
+    );
+  }
+
+  private Map<Integer, Integer> availability() {
+    return stockReservationService
+      .findAvailability(List.of(1, 2))
+      .stream()
+      .collect(
+        Collectors.toMap(
+          StockAvailabilityInfo::getProductId,
+          StockAvailabilityInfo::getAvailable
+        )
+      );
+  }
+
+  private void setTime(Instant instant) {
+    ReflectionTestUtils.setField(
+      stockReservationService,
+      "clock",
+      Clock.fixed(instant, ZoneOffset.UTC)
+    );
+  }
+
+  private static StockReservationData reservation(
+    Integer ttlSeconds,
+    StockReservationItemData... items
+  ) {
+    return StockReservationData.builder()
+      .items(List.of(items))
+      .ttlSeconds(ttlSeconds)
+      .build();
+  }
+
+  private static StockReservationItemData item(
+    Integer productId,
+    int quantity
+  ) {
+    return StockReservationItemData.builder()
+      .productId(productId)
+      .quantity(quantity)
+      .build();
+  }
+}
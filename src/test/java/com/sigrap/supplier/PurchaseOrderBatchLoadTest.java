@@ -0,0 +1,206 @@
+package com.sigrap.supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sigrap.category.CategoryMapperImpl;
+import com.sigrap.config.RepositoryTestConfiguration;
+import com.sigrap.inventory.ProductCostService;
+import com.sigrap.inventory.ProductCostWriter;
+import com.sigrap.product.Product;
+import com.sigrap.product.ProductMapperImpl;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Counts the SQL statements issued when purchase orders with many lines are
+ * created, updated and listed, to guard against loading products, items or
+ * suppliers one row at a time.
+ */
+@DataJpaTest(
+  properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@ActiveProfiles("test")
+@Import(
+  {
+    RepositoryTestConfiguration.class,
+    PurchaseOrderService.class,
+    SupplierMetricsService.class,
+    ProductCostService.class,
+    ProductCostWriter.class,
+    PurchaseOrderMapperImpl.class,
+    PurchaseOrderItemMapperImpl.class,
+    SupplierMapperImpl.class,
+    ProductMapperImpl.class,
+    CategoryMapperImpl.class,
+  }
+)
+class PurchaseOrderBatchLoadTest {
+
+  private static final int LINES = 30;
+
+  @Autowired
+  private PurchaseOrderService purchaseOrderService;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Statistics statistics;
+  private Supplier supplier;
+  private List<Product> products;
+
+  @BeforeEach
+  void setUp() {
+    supplier = entityManager.persist(
+      Supplier.builder().name("Supplier").email("s@test.com").build()
+    );
+    products = new ArrayList<>();
+    for (int i = 0; i <= LINES; i++) {
+      products.add(
+        entityManager.persist(
+          Product.builder()
+            .name("Product " + i)
+            .costPrice(new BigDecimal("1.00"))
+            .salePrice(new BigDecimal("2.00"))
+            .stock(10)
+            .minimumStockThreshold(1)
+            .build()
+        )
+      );
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManager
+      .getEntityManager()
+      .getEntityManagerFactory()
+      .unwrap(SessionFactory.class)
+      .getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void create_shouldLoadAllProductsInOneQuery() {
+    PurchaseOrderInfo created = purchaseOrderService.create(
+      PurchaseOrderData.builder()
+        .supplierId(supplier.getId())
+        .items(lines(1))
+        .build()
+    );
+    entityManager.flush();
+
+    assertThat(created.getItems()).hasSize(LINES);
+    // Supplier and products selects, the order insert, one insert per line
+    // and the update of the order total; no select per line.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(LINES + 4);
+  }
+
+  @Test
+  void update_shouldLoadAllProductsInOneQuery() {
+    PurchaseOrder order = PurchaseOrder.builder()
+      .supplier(entityManager.find(Supplier.class, supplier.getId()))
+      .build();
+    order.addItem(
+      PurchaseOrderItem.builder()
+        .product(entityManager.find(Product.class, products.get(0).getId()))
+        .quantity(1)
+        .unitPrice(new BigDecimal("1.00"))
+        .totalPrice(new BigDecimal("1.00"))
+        .build()
+    );
+    Integer orderId = entityManager.persistAndFlush(order).getId();
+    entityManager.clear();
+    statistics.clear();
+
+    PurchaseOrderInfo updated = purchaseOrderService.update(
+      orderId,
+      PurchaseOrderData.builder()
+        .supplierId(supplier.getId())
+        .items(lines(1))
+        .build()
+    );
+    entityManager.flush();
+
+    assertThat(updated.getItems()).hasSize(LINES);
+    long inserts = statistics.getEntityInsertCount();
+    assertThat(inserts).isEqualTo(LINES);
+    // Besides the writes: the order, its items and the products, each in a
+    // single select.
+    assertThat(
+      statistics.getPrepareStatementCount() -
+      inserts -
+      statistics.getEntityDeleteCount() -
+      statistics.getEntityUpdateCount()
+    ).isEqualTo(3);
+  }
+
+  @Test
+  void findAllPaged_shouldLoadItemsAndSuppliersInFixedQueries() {
+    for (int i = 0; i < 4; i++) {
+      PurchaseOrder order = PurchaseOrder.builder()
+        .supplier(
+          entityManager.persist(
+            Supplier.builder()
+              .name("Supplier " + i)
+              .email("s" + i + "@test.com")
+              .build()
+          )
+        )
+        .build();
+      for (int j = 0; j < 5; j++) {
+        order.addItem(
+          PurchaseOrderItem.builder()
+            .product(
+              entityManager.find(Product.class, products.get(j).getId())
+            )
+            .quantity(1)
+            .unitPrice(new BigDecimal("1.00"))
+            .totalPrice(new BigDecimal("1.00"))
+            .build()
+        );
+      }
+      entityManager.persist(order);
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    Page<PurchaseOrderInfo> page = purchaseOrderService.findAll(
+      new PurchaseOrderFilter(),
+      PageRequest.of(0, 3)
+    );
+
+    assertThat(page.getContent())
+      .hasSize(3)
+      .allSatisfy(order -> assertThat(order.getItems()).hasSize(5));
+    assertThat(page.getTotalElements()).isEqualTo(4);
+    // The page, its count, the suppliers in one batch and the items with
+    // their products in one fetch join.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+  }
+
+  private List<PurchaseOrderItemData> lines(int firstProduct) {
+    List<PurchaseOrderItemData> lines = new ArrayList<>();
+    for (int i = firstProduct; i < firstProduct + LINES; i++) {
+      lines.add(
+        PurchaseOrderItemData.builder()
+          .productId(products.get(i).getId())
+          .quantity(2)
+          .unitPrice(new BigDecimal("1.00"))
+          .build()
+      );
+    }
+    return lines;
+  }
+}
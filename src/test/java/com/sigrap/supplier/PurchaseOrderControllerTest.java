@@ -1,9 +1,11 @@
 package com.sigrap.supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -21,9 +23,15 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,6 +52,9 @@ class PurchaseOrderControllerTest {
   @Mock
   private PurchaseOrderService purchaseOrderService;
 
+  @Mock
+  private ReplenishmentService replenishmentService;
+
   @InjectMocks
   private PurchaseOrderController purchaseOrderController;
 
@@ -57,6 +68,7 @@ class PurchaseOrderControllerTest {
 
     mockMvc = MockMvcBuilders.standaloneSetup(purchaseOrderController)
       .setControllerAdvice(new GlobalExceptionHandler())
+      .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
       .setMessageConverters(new MappingJackson2HttpMessageConverter())
       .setViewResolvers((viewName, locale) -> new MappingJackson2JsonView())
       .build();
@@ -86,21 +98,93 @@ class PurchaseOrderControllerTest {
   }
 
   @Test
-  void findAll_shouldReturnAllPurchaseOrders() throws Exception {
-    when(purchaseOrderService.findAll()).thenReturn(List.of(purchaseOrderInfo));
+  void findAll_shouldReturnPageOfPurchaseOrders() throws Exception {
+    when(
+      purchaseOrderService.findAll(
+        any(PurchaseOrderFilter.class),
+        any(Pageable.class)
+      )
+    ).thenReturn(
+      new PageImpl<>(List.of(purchaseOrderInfo), PageRequest.of(0, 20), 1)
+    );
 
     mockMvc
       .perform(
         get("/api/purchase-orders").contentType(MediaType.APPLICATION_JSON)
       )
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$[0].id").value(purchaseOrderInfo.getId()))
+      .andExpect(jsonPath("$.content[0].id").value(purchaseOrderInfo.getId()))
       .andExpect(
-        jsonPath("$[0].supplier.id").value(
+        jsonPath("$.content[0].supplier.id").value(
           purchaseOrderInfo.getSupplier().getId()
         )
       )
-      .andExpect(jsonPath("$[0].status").value(purchaseOrderInfo.getStatus()));
+      .andExpect(
+        jsonPath("$.content[0].status").value(purchaseOrderInfo.getStatus())
+      )
+      .andExpect(jsonPath("$.totalElements").value(1));
+
+    ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(
+      Pageable.class
+    );
+    verify(purchaseOrderService).findAll(
+      any(PurchaseOrderFilter.class),
+      pageableCaptor.capture()
+    );
+    assertThat(pageableCaptor.getValue()).isEqualTo(
+      PageRequest.of(0, 20, Sort.by("id"))
+    );
+  }
+
+  @Test
+  void findAll_shouldPassFiltersToService() throws Exception {
+    when(
+      purchaseOrderService.findAll(
+        any(PurchaseOrderFilter.class),
+        any(Pageable.class)
+      )
+    ).thenReturn(new PageImpl<>(List.of(), PageRequest.of(2, 5), 0));
+
+    mockMvc
+      .perform(
+        get("/api/purchase-orders")
+          .param("status", "SUBMITTED", "CONFIRMED")
+          .param("supplierId", "1")
+          .param("createdFrom", "2025-01-01")
+          .param("createdTo", "2025-01-31")
+          .param("deliveryTo", "2025-02-15")
+          .param("minAmount", "100")
+          .param("page", "2")
+          .param("size", "5")
+          .param("sort", "createdAt,desc")
+      )
+      .andExpect(status().isOk());
+
+    ArgumentCaptor<PurchaseOrderFilter> filterCaptor = ArgumentCaptor.forClass(
+      PurchaseOrderFilter.class
+    );
+    ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(
+      Pageable.class
+    );
+    verify(purchaseOrderService).findAll(
+      filterCaptor.capture(),
+      pageableCaptor.capture()
+    );
+    PurchaseOrderFilter filter = filterCaptor.getValue();
+    assertThat(filter.getStatuses()).containsExactlyInAnyOrder(
+      PurchaseOrderStatus.SUBMITTED,
+      PurchaseOrderStatus.CONFIRMED
+    );
+    assertThat(filter.getSupplierId()).isEqualTo(1L);
+    assertThat(filter.getCreatedFrom()).isEqualTo(LocalDate.of(2025, 1, 1));
+    assertThat(filter.getCreatedTo()).isEqualTo(LocalDate.of(2025, 1, 31));
+    assertThat(filter.getDeliveryFrom()).isNull();
+    assertThat(filter.getDeliveryTo()).isEqualTo(LocalDate.of(2025, 2, 15));
+    assertThat(filter.getMinAmount()).isEqualByComparingTo("100");
+    assertThat(filter.getMaxAmount()).isNull();
+    assertThat(pageableCaptor.getValue()).isEqualTo(
+      PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "createdAt"))
+    );
   }
 
   @Test
@@ -132,44 +216,6 @@ class PurchaseOrderControllerTest {
       .andExpect(status().isNotFound());
   }
 
-  @Test
-  void findBySupplierId_shouldReturnPurchaseOrders() throws Exception {
-    when(purchaseOrderService.findBySupplierId(1)).thenReturn(
-      List.of(purchaseOrderInfo)
-    );
-
-    mockMvc
-      .perform(
-        get("/api/purchase-orders/by-supplier/1").contentType(
-          MediaType.APPLICATION_JSON
-        )
-      )
-      .andExpect(status().isOk())
-      .andExpect(jsonPath("$[0].id").value(purchaseOrderInfo.getId()))
-      .andExpect(
-        jsonPath("$[0].supplier.id").value(
-          purchaseOrderInfo.getSupplier().getId()
-        )
-      );
-  }
-
-  @Test
-  void findByStatus_shouldReturnPurchaseOrders() throws Exception {
-    when(
-      purchaseOrderService.findByStatus(PurchaseOrderStatus.DRAFT)
-    ).thenReturn(List.of(purchaseOrderInfo));
-
-    mockMvc
-      .perform(
-        get("/api/purchase-orders/by-status/DRAFT").contentType(
-          MediaType.APPLICATION_JSON
-        )
-      )
-      .andExpect(status().isOk())
-      .andExpect(jsonPath("$[0].id").value(purchaseOrderInfo.getId()))
-      .andExpect(jsonPath("$[0].status").value(purchaseOrderInfo.getStatus()));
-  }
-
   @Test
   void create_shouldCreatePurchaseOrder() throws Exception {
     when(purchaseOrderService.create(any(PurchaseOrderData.class))).thenReturn(
@@ -355,6 +401,108 @@ class PurchaseOrderControllerTest {
       .andExpect(jsonPath("$.status").value(deliveredOrder.getStatus()));
   }
 
+  @Test
+  void replenish_shouldReturnRunSummary() throws Exception {
+    when(replenishmentService.run()).thenReturn(
+      ReplenishmentInfo.builder()
+        .lowStockCount(3)
+        .itemCount(2)
+        .purchaseOrderIds(List.of(7))
+        .build()
+    );
+
+    mockMvc
+      .perform(post("/api/purchase-orders/replenish"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.lowStockCount").value(3))
+      .andExpect(jsonPath("$.purchaseOrderIds[0]").value(7));
+  }
+
+  @Test
+  void transitionAll_shouldReturnResultPerOrder() throws Exception {
+    when(
+      purchaseOrderService.transitionAll(any(PurchaseOrderTransitionData.class))
+    ).thenReturn(
+      PurchaseOrderTransitionInfo.builder()
+        .status(PurchaseOrderStatus.PAID)
+        .updatedCount(1)
+        .results(
+          List.of(
+            PurchaseOrderTransitionResultInfo.builder()
+              .id(1)
+              .previousStatus(PurchaseOrderStatus.DELIVERED)
+              .success(true)
+              .build(),
+            PurchaseOrderTransitionResultInfo.builder()
+              .id(2)
+              .previousStatus(PurchaseOrderStatus.DRAFT)
+              .message("Cannot change order in DRAFT status to PAID")
+              .build()
+          )
+        )
+        .build()
+    );
+
+    mockMvc
+      .perform(
+        patch("/api/purchase-orders/status")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"ids\":[1,2],\"status\":\"PAID\"}")
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.updatedCount").value(1))
+      .andExpect(jsonPath("$.results[0].success").value(true))
+      .andExpect(jsonPath("$.results[1].success").value(false));
+  }
+
+  @Test
+  void transitionAll_shouldReturnBadRequest_whenIdsAreMissing()
+    throws Exception {
+    mockMvc
+      .perform(
+        patch("/api/purchase-orders/status")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"ids\":[],\"status\":\"PAID\"}")
+      )
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void receive_shouldReceiveDelivery() throws Exception {
+    PurchaseOrderReceiptData receiptData = PurchaseOrderReceiptData.builder()
+      .items(
+        List.of(
+          PurchaseOrderReceiptItemData.builder().itemId(1).quantity(5).build()
+        )
+      )
+      .build();
+
+    when(
+      purchaseOrderService.receive(eq(1), any(PurchaseOrderReceiptData.class))
+    ).thenReturn(purchaseOrderInfo);
+
+    mockMvc
+      .perform(
+        post("/api/purchase-orders/1/receive")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(receiptData))
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.id").value(purchaseOrderInfo.getId()));
+  }
+
+  @Test
+  void receive_shouldReturnBadRequest_whenQuantityIsNotPositive()
+    throws Exception {
+    mockMvc
+      .perform(
+        post("/api/purchase-orders/1/receive")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"items\":[{\"itemId\":1,\"quantity\":0}]}")
+      )
+      .andExpect(status().isBadRequest());
+  }
+
   @Test
   void cancelOrder_shouldCancelPurchaseOrder() throws Exception {
     PurchaseOrderInfo cancelledOrder = PurchaseOrderInfo.builder()
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,12 @@ class PurchaseOrderIntegrationTest extends BaseIntegrationTest {
   @Autowired
   private ProductRepository productRepository;
 
+  @Autowired
+  private SupplierProductRepository supplierProductRepository;
+
+  @Autowired
+  private SupplierRanking supplierRanking;
+
   private Supplier testSupplier;
   private Product testProduct;
   private Integer purchaseOrderId;
@@ -123,22 +130,28 @@ class PurchaseOrderIntegrationTest extends BaseIntegrationTest {
     mockMvc
       .perform(get("/api/purchase-orders"))
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$", hasSize(1)))
-      .andExpect(jsonPath("$[0].id").value(purchaseOrderId));
+      .andExpect(jsonPath("$.content", hasSize(1)))
+      .andExpect(jsonPath("$.content[0].id").value(purchaseOrderId))
+      .andExpect(jsonPath("$.totalElements").value(1));
 
     mockMvc
       .perform(
-        get("/api/purchase-orders/by-supplier/{id}", testSupplier.getId())
+        get("/api/purchase-orders")
+          .param("supplierId", testSupplier.getId().toString())
+          .param("status", "SUBMITTED")
       )
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$", hasSize(1)))
-      .andExpect(jsonPath("$[0].id").value(purchaseOrderId));
+      .andExpect(jsonPath("$.content", hasSize(0)));
 
     mockMvc
-      .perform(get("/api/purchase-orders/by-status/{status}", "DRAFT"))
+      .perform(
+        get("/api/purchase-orders")
+          .param("supplierId", testSupplier.getId().toString())
+          .param("status", "DRAFT")
+      )
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$", hasSize(1)))
-      .andExpect(jsonPath("$[0].id").value(purchaseOrderId));
+      .andExpect(jsonPath("$.content", hasSize(1)))
+      .andExpect(jsonPath("$.content[0].id").value(purchaseOrderId));
 
     LocalDate newDeliveryDate = LocalDate.now().plusDays(15);
     PurchaseOrderItemData newItemData = PurchaseOrderItemData.builder()
@@ -338,4 +351,257 @@ class PurchaseOrderIntegrationTest extends BaseIntegrationTest {
       )
       .andExpect(status().isInternalServerError());
   }
+
+  @Test
+  void receivingInPartialDeliveries() throws Exception {
+    PurchaseOrderData createData = PurchaseOrderData.builder()
+      .supplierId(testSupplier.getId())
+      .deliveryDate(LocalDate.now().plusDays(10))
+      .items(
+        List.of(
+          PurchaseOrderItemData.builder()
+            .productId(testProduct.getId())
+            .quantity(10)
+            .unitPrice(new BigDecimal("10.00"))
+            .build()
+        )
+      )
+      .build();
+
+    MvcResult createResult = mockMvc
+      .perform(
+        post("/api/purchase-orders")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(createData))
+      )
+      .andExpect(status().isCreated())
+      .andReturn();
+    PurchaseOrderInfo createdOrder = objectMapper.readValue(
+      createResult.getResponse().getContentAsString(),
+      PurchaseOrderInfo.class
+    );
+    purchaseOrderId = createdOrder.getId();
+    Integer itemId = createdOrder.getItems().get(0).getId();
+
+    mockMvc
+      .perform(patch("/api/purchase-orders/{id}/submit", purchaseOrderId))
+      .andExpect(status().isOk());
+    mockMvc
+      .perform(patch("/api/purchase-orders/{id}/confirm", purchaseOrderId))
+      .andExpect(status().isOk());
+
+    mockMvc
+      .perform(
+        post("/api/purchase-orders/{id}/receive", purchaseOrderId)
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(receipt(itemId, 4))
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("CONFIRMED"))
+      .andExpect(jsonPath("$.items[0].receivedQuantity").value(4))
+      .andExpect(jsonPath("$.items[0].product.stock").value(104));
+
+    mockMvc
+      .perform(
+        post("/api/purchase-orders/{id}/receive", purchaseOrderId)
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(receipt(itemId, 7))
+      )
+      .andExpect(status().isBadRequest());
+
+    mockMvc
+      .perform(
+        post("/api/purchase-orders/{id}/receive", purchaseOrderId)
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(receipt(itemId, 6))
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("DELIVERED"))
+      .andExpect(jsonPath("$.items[0].receivedQuantity").value(10));
+
+    mockMvc
+      .perform(get("/api/products/{id}", testProduct.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.stock").value(110));
+
+    mockMvc
+      .perform(get("/api/suppliers/{id}/metrics", testSupplier.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.submittedOrders").value(1))
+      .andExpect(jsonPath("$.deliveredOrders").value(1))
+      .andExpect(jsonPath("$.onTimeRate").value(100.0))
+      .andExpect(jsonPath("$.fillRate").value(100.0))
+      .andExpect(jsonPath("$.totalSpend").value(100.0))
+      .andExpect(jsonPath("$.monthlySpend", hasSize(12)))
+      .andExpect(jsonPath("$.monthlySpend[11].amount").value(100.0));
+  }
+
+  @Test
+  void receivingUpdatesWeightedAverageCost() throws Exception {
+    PurchaseOrderData createData = PurchaseOrderData.builder()
+      .supplierId(testSupplier.getId())
+      .items(
+        List.of(
+          PurchaseOrderItemData.builder()
+            .productId(testProduct.getId())
+            .quantity(100)
+            .unitPrice(new BigDecimal("13.00"))
+            .build()
+        )
+      )
+      .build();
+    MvcResult createResult = mockMvc
+      .perform(
+        post("/api/purchase-orders")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(createData))
+      )
+      .andExpect(status().isCreated())
+      .andReturn();
+    purchaseOrderId = objectMapper
+      .readValue(
+        createResult.getResponse().getContentAsString(),
+        PurchaseOrderInfo.class
+      )
+      .getId();
+
+    mockMvc
+      .perform(patch("/api/purchase-orders/{id}/submit", purchaseOrderId))
+      .andExpect(status().isOk());
+    mockMvc
+      .perform(patch("/api/purchase-orders/{id}/confirm", purchaseOrderId))
+      .andExpect(status().isOk());
+    mockMvc
+      .perform(patch("/api/purchase-orders/{id}/ship", purchaseOrderId))
+      .andExpect(status().isOk());
+    mockMvc
+      .perform(patch("/api/purchase-orders/{id}/deliver", purchaseOrderId))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.items[0].product.stock").value(200))
+      .andExpect(jsonPath("$.items[0].product.costPrice").value(11.5));
+
+    mockMvc
+      .perform(
+        get("/api/inventory/costs/{id}/history", testProduct.getId())
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content", hasSize(1)))
+      .andExpect(jsonPath("$.content[0].purchaseOrderId").value(purchaseOrderId))
+      .andExpect(jsonPath("$.content[0].stockBefore").value(100))
+      .andExpect(jsonPath("$.content[0].previousCost").value(10.0))
+      .andExpect(jsonPath("$.content[0].averageCost").value(11.5));
+    mockMvc
+      .perform(get("/api/products/{id}", testProduct.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.costPrice").value(11.5));
+  }
+
+  @Test
+  void replenishingAtRankedOfferPrice() throws Exception {
+    testProduct.setStock(4);
+    productRepository.save(testProduct);
+    supplierProductRepository.save(
+      SupplierProduct.builder()
+        .supplierId(testSupplier.getId())
+        .productId(testProduct.getId())
+        .unitPrice(new BigDecimal("8.00"))
+        .packSize(5)
+        .build()
+    );
+    supplierRanking.rebuild();
+
+    MvcResult result = mockMvc
+      .perform(post("/api/purchase-orders/replenish"))
+      .andExpect(status().isOk())
+      .andReturn();
+    List<Integer> orderIds = objectMapper
+      .readValue(
+        result.getResponse().getContentAsString(),
+        ReplenishmentInfo.class
+      )
+      .getPurchaseOrderIds();
+
+    PurchaseOrder order = purchaseOrderRepository
+      .findAllById(orderIds)
+      .stream()
+      .filter(o -> o.getSupplier().getId().equals(testSupplier.getId()))
+      .findFirst()
+      .orElseThrow();
+    PurchaseOrderItem item = order.getItems().get(0);
+    assertThat(item.getUnitPrice()).isEqualByComparingTo("8.00");
+    assertThat(item.getQuantity() % 5).isZero();
+    BigDecimal expected = new BigDecimal("8.00").multiply(
+      new BigDecimal(item.getQuantity())
+    );
+    assertThat(item.getTotalPrice()).isEqualByComparingTo(expected);
+    assertThat(order.getTotalAmount()).isEqualByComparingTo(expected);
+  }
+
+  @Test
+  void changingStatusInBulk() throws Exception {
+    Integer first = purchaseOrderRepository
+      .save(
+        PurchaseOrder.builder()
+          .supplier(testSupplier)
+          .status(PurchaseOrderStatus.DRAFT)
+          .build()
+      )
+      .getId();
+    Integer second = purchaseOrderRepository
+      .save(
+        PurchaseOrder.builder()
+          .supplier(testSupplier)
+          .status(PurchaseOrderStatus.DRAFT)
+          .build()
+      )
+      .getId();
+    mockMvc
+      .perform(patch("/api/purchase-orders/{id}/submit", second))
+      .andExpect(status().isOk());
+
+    mockMvc
+      .perform(
+        patch("/api/purchase-orders/status")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(
+            objectMapper.writeValueAsString(
+              PurchaseOrderTransitionData.builder()
+                .ids(List.of(first, second))
+                .status(PurchaseOrderStatus.SUBMITTED)
+                .build()
+            )
+          )
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.updatedCount").value(1))
+      .andExpect(jsonPath("$.results[0].success").value(true))
+      .andExpect(jsonPath("$.results[1].success").value(false))
+      .andExpect(jsonPath("$.results[1].previousStatus").value("SUBMITTED"));
+
+    mockMvc
+      .perform(get("/api/purchase-orders/{id}", first))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("SUBMITTED"))
+      .andExpect(jsonPath("$.submittedAt").isNotEmpty())
+      .andExpect(jsonPath("$.confirmedAt").isEmpty());
+    mockMvc
+      .perform(get("/api/suppliers/{id}/metrics", testSupplier.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.submittedOrders").value(2));
+  }
+
+  private String receipt(Integer itemId, int quantity) throws Exception {
+    return objectMapper.writeValueAsString(
+      PurchaseOrderReceiptData.builder()
+        .items(
+          List.of(
+            PurchaseOrderReceiptItemData.builder()
+              .itemId(itemId)
+              .quantity(quantity)
+              .build()
+          )
+        )
+        .build()
+    );
+  }
 }
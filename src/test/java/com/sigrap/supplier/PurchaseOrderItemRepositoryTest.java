@@ -1,6 +1,7 @@
 package com.sigrap.supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.sigrap.config.RepositoryTestConfiguration;
 import com.sigrap.product.Product;
@@ -8,6 +9,7 @@ import com.sigrap.product.ProductRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -163,6 +165,152 @@ class PurchaseOrderItemRepositoryTest {
     assertThat(retrievedItem.get().getId()).isEqualTo(savedItem.getId());
   }
 
+  @Test
+  void findAwaitedProductIds_shouldSkipReceivedItemsAndOtherStatuses() {
+    Product received = productRepository.save(
+      Product.builder()
+        .name("Received Product")
+        .costPrice(new BigDecimal("1.00"))
+        .salePrice(new BigDecimal("2.00"))
+        .stock(0)
+        .minimumStockThreshold(1)
+        .build()
+    );
+    purchaseOrderItemRepository.save(
+      PurchaseOrderItem.builder()
+        .purchaseOrder(savedPurchaseOrder)
+        .product(received)
+        .quantity(5)
+        .receivedQuantity(5)
+        .unitPrice(new BigDecimal("1.00"))
+        .totalPrice(new BigDecimal("5.00"))
+        .build()
+    );
+
+    assertThat(
+      purchaseOrderItemRepository.findAwaitedProductIds(
+        EnumSet.of(PurchaseOrderStatus.DRAFT, PurchaseOrderStatus.SHIPPED)
+      )
+    ).containsExactly(savedProduct.getId());
+    assertThat(
+      purchaseOrderItemRepository.findAwaitedProductIds(
+        EnumSet.of(PurchaseOrderStatus.SHIPPED)
+      )
+    ).isEmpty();
+  }
+
+  @Test
+  void findLatestSuppliers_shouldReturnSupplierOfLatestNonCancelledOrder() {
+    Supplier latest = supplierRepository.save(
+      Supplier.builder()
+        .name("Latest Supplier")
+        .email("latest@test.com")
+        .build()
+    );
+    Supplier other = supplierRepository.save(
+      Supplier.builder().name("Other Supplier").email("other@test.com").build()
+    );
+    PurchaseOrder latestOrder = purchaseOrderRepository.save(
+      PurchaseOrder.builder()
+        .supplier(latest)
+        .status(PurchaseOrderStatus.SUBMITTED)
+        .build()
+    );
+    purchaseOrderItemRepository.save(
+      PurchaseOrderItem.builder()
+        .purchaseOrder(latestOrder)
+        .product(savedProduct)
+        .quantity(1)
+        .unitPrice(new BigDecimal("10.00"))
+        .totalPrice(new BigDecimal("10.00"))
+        .build()
+    );
+    PurchaseOrder cancelled = purchaseOrderRepository.save(
+      PurchaseOrder.builder()
+        .supplier(other)
+        .status(PurchaseOrderStatus.CANCELLED)
+        .build()
+    );
+    purchaseOrderItemRepository.save(
+      PurchaseOrderItem.builder()
+        .purchaseOrder(cancelled)
+        .product(savedProduct)
+        .quantity(1)
+        .unitPrice(new BigDecimal("10.00"))
+        .totalPrice(new BigDecimal("10.00"))
+        .build()
+    );
+
+    List<Object[]> rows = purchaseOrderItemRepository.findLatestSuppliers(
+      List.of(savedProduct.getId())
+    );
+
+    assertThat(rows)
+      .extracting(row -> row[0], row -> row[1])
+      .containsExactly(tuple(savedProduct.getId(), latest.getId()));
+    assertThat(
+      purchaseOrderItemRepository.findLatestSuppliers(
+        List.of(savedProduct.getId() + 1)
+      )
+    ).isEmpty();
+  }
+
+  @Test
+  void findReceipts_shouldCountDeliveredOrdersInFullAndPartialReceipts() {
+    LocalDateTime deliveredAt = LocalDateTime.of(2025, 3, 3, 9, 0);
+    PurchaseOrder delivered = purchaseOrderRepository.save(
+      PurchaseOrder.builder()
+        .supplier(savedSupplier)
+        .status(PurchaseOrderStatus.DELIVERED)
+        .deliveredAt(deliveredAt)
+        .build()
+    );
+    purchaseOrderItemRepository.save(
+      PurchaseOrderItem.builder()
+        .purchaseOrder(delivered)
+        .product(savedProduct)
+        .quantity(3)
+        .unitPrice(new BigDecimal("2.00"))
+        .totalPrice(new BigDecimal("6.00"))
+        .build()
+    );
+    PurchaseOrder shipped = purchaseOrderRepository.save(
+      PurchaseOrder.builder()
+        .supplier(savedSupplier)
+        .status(PurchaseOrderStatus.SHIPPED)
+        .build()
+    );
+    purchaseOrderItemRepository.save(
+      PurchaseOrderItem.builder()
+        .purchaseOrder(shipped)
+        .product(savedProduct)
+        .quantity(5)
+        .receivedQuantity(2)
+        .unitPrice(new BigDecimal("4.00"))
+        .totalPrice(new BigDecimal("20.00"))
+        .build()
+    );
+
+    assertThat(purchaseOrderItemRepository.findReceivedProductIds())
+      .containsExactly(savedProduct.getId());
+    List<Object[]> rows = purchaseOrderItemRepository.findReceipts(
+      List.of(savedProduct.getId())
+    );
+    assertThat(rows)
+      .extracting(row -> row[1], row -> ((Number) row[3]).intValue())
+      .containsExactlyInAnyOrder(
+        tuple(delivered.getId(), 3),
+        tuple(shipped.getId(), 2)
+      );
+    assertThat(
+      rows
+        .stream()
+        .filter(row -> row[1].equals(delivered.getId()))
+        .findFirst()
+        .orElseThrow()[2]
+    ).isEqualTo(deliveredAt);
+  }
+
   @Test
   void delete_shouldDeletePurchaseOrderItem() {
     purchaseOrderItemRepository.delete(savedPurchaseOrderItem);
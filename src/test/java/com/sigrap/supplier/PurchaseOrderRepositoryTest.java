@@ -10,12 +10,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -36,6 +41,9 @@ class PurchaseOrderRepositoryTest {
   @Autowired
   private ProductRepository productRepository;
 
+  @Autowired
+  private TestEntityManager entityManager;
+
   private PurchaseOrder savedPurchaseOrder;
   private Supplier savedSupplier;
   private Product savedProduct;
@@ -108,39 +116,95 @@ class PurchaseOrderRepositoryTest {
   }
 
   @Test
-  void findBySupplier_Id_shouldReturnPurchaseOrders() {
-    List<PurchaseOrder> purchaseOrders =
-      purchaseOrderRepository.findBySupplier_Id(
-        savedSupplier.getId().intValue()
-      );
-
-    assertThat(purchaseOrders).hasSize(1);
-    assertThat(purchaseOrders.get(0).getId()).isEqualTo(
-      savedPurchaseOrder.getId()
-    );
-    assertThat(purchaseOrders.get(0).getSupplier().getId()).isEqualTo(
-      savedSupplier.getId()
-    );
+  void findByCreatedAtBetween_shouldMatchTimesWithinRange() {
+    LocalDateTime createdAt = purchaseOrderRepository
+      .findById(savedPurchaseOrder.getId())
+      .orElseThrow()
+      .getCreatedAt();
+
+    assertThat(
+      purchaseOrderRepository.findByCreatedAtBetween(
+        createdAt.minusHours(1),
+        createdAt.plusHours(1)
+      )
+    )
+      .extracting(PurchaseOrder::getId)
+      .containsExactly(savedPurchaseOrder.getId());
+    assertThat(
+      purchaseOrderRepository.findByCreatedAtBetween(
+        createdAt.plusSeconds(1),
+        createdAt.plusHours(1)
+      )
+    ).isEmpty();
   }
 
   @Test
-  void findByStatus_shouldReturnPurchaseOrders() {
-    List<PurchaseOrder> draftOrders = purchaseOrderRepository.findByStatus(
-      PurchaseOrderStatus.DRAFT
+  void findAllWithSpecification_shouldCombineFilters() {
+    PurchaseOrder submitted = purchaseOrderRepository.save(
+      PurchaseOrder.builder()
+        .supplier(savedSupplier)
+        .deliveryDate(LocalDate.now().plusDays(30))
+        .status(PurchaseOrderStatus.SUBMITTED)
+        .totalAmount(new BigDecimal("500.00"))
+        .build()
     );
+    LocalDate today = LocalDate.now();
 
-    assertThat(draftOrders).hasSize(1);
-    assertThat(draftOrders.get(0).getId()).isEqualTo(
-      savedPurchaseOrder.getId()
-    );
-    assertThat(draftOrders.get(0).getStatus()).isEqualTo(
-      PurchaseOrderStatus.DRAFT
-    );
+    assertThat(
+      findMatching(
+        PurchaseOrderFilter.builder()
+          .statuses(
+            Set.of(PurchaseOrderStatus.DRAFT, PurchaseOrderStatus.SUBMITTED)
+          )
+          .supplierId(savedSupplier.getId())
+          .createdFrom(today)
+          .createdTo(today)
+          .build()
+      )
+    ).containsExactly(savedPurchaseOrder.getId(), submitted.getId());
+    assertThat(
+      findMatching(
+        PurchaseOrderFilter.builder()
+          .deliveryFrom(today.plusDays(11))
+          .minAmount(new BigDecimal("500.00"))
+          .build()
+      )
+    ).containsExactly(submitted.getId());
+    assertThat(
+      findMatching(
+        PurchaseOrderFilter.builder()
+          .deliveryTo(today.plusDays(10))
+          .maxAmount(new BigDecimal("100.00"))
+          .build()
+      )
+    ).containsExactly(savedPurchaseOrder.getId());
+    assertThat(
+      findMatching(
+        PurchaseOrderFilter.builder().createdTo(today.minusDays(1)).build()
+      )
+    ).isEmpty();
+    assertThat(
+      findMatching(
+        PurchaseOrderFilter.builder()
+          .supplierId(savedSupplier.getId() + 1)
+          .build()
+      )
+    ).isEmpty();
+  }
+
+  @Test
+  void findWithItemsByIdIn_shouldInitializeItemsAndProducts() {
+    entityManager.flush();
+    entityManager.clear();
 
-    List<PurchaseOrder> submittedOrders = purchaseOrderRepository.findByStatus(
-      PurchaseOrderStatus.SUBMITTED
+    List<PurchaseOrder> orders = purchaseOrderRepository.findWithItemsByIdIn(
+      List.of(savedPurchaseOrder.getId())
     );
-    assertThat(submittedOrders).isEmpty();
+
+    assertThat(orders).hasSize(1);
+    assertThat(orders.get(0).getItems())
+      .extracting(item -> item.getProduct().getName())
+      .containsExactly("Test Product");
   }
 
   @Test
@@ -186,4 +250,12 @@ class PurchaseOrderRepositoryTest {
       purchaseOrderRepository.findById(savedPurchaseOrder.getId());
     assertThat(deletedPurchaseOrder).isEmpty();
   }
+
+  private List<Integer> findMatching(PurchaseOrderFilter filter) {
+    Page<PurchaseOrder> page = purchaseOrderRepository.findAll(
+      PurchaseOrderSpecifications.matching(filter),
+      PageRequest.of(0, 10, Sort.by("id"))
+    );
+    return page.map(PurchaseOrder::getId).getContent();
+  }
 }
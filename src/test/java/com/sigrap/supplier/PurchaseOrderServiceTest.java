@@ -2,14 +2,20 @@ package com.sigrap.supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sigrap.inventory.ProductCostService;
 import com.sigrap.product.Product;
+import com.sigrap.product.ProductChangedEvent;
 import com.sigrap.product.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
@@ -17,13 +23,21 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 class PurchaseOrderServiceTest {
@@ -46,6 +60,15 @@ class PurchaseOrderServiceTest {
   @Mock
   private PurchaseOrderItemMapper purchaseOrderItemMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private SupplierMetricsService supplierMetricsService;
+
+  @Mock
+  private ProductCostService productCostService;
+
   @InjectMocks
   private PurchaseOrderService purchaseOrderService;
 
@@ -141,20 +164,43 @@ class PurchaseOrderServiceTest {
   }
 
   @Test
-  void findAll_shouldReturnAllPurchaseOrders() {
-    when(purchaseOrderRepository.findAll()).thenReturn(
-      List.of(testPurchaseOrder)
-    );
+  void findAllPaged_shouldLoadItemsOfPageInOneQuery() {
+    Pageable pageable = PageRequest.of(0, 20);
+    when(
+      purchaseOrderRepository.findAll(any(Specification.class), eq(pageable))
+    ).thenReturn(new PageImpl<>(List.of(testPurchaseOrder), pageable, 21));
     when(purchaseOrderMapper.toInfo(testPurchaseOrder)).thenReturn(
       testPurchaseOrderInfo
     );
 
-    List<PurchaseOrderInfo> result = purchaseOrderService.findAll();
+    Page<PurchaseOrderInfo> result = purchaseOrderService.findAll(
+      PurchaseOrderFilter.builder()
+        .statuses(Set.of(PurchaseOrderStatus.DRAFT))
+        .build(),
+      pageable
+    );
 
-    assertThat(result).hasSize(1);
-    assertThat(result.get(0).getId()).isEqualTo(testPurchaseOrderInfo.getId());
-    verify(purchaseOrderRepository).findAll();
-    verify(purchaseOrderMapper).toInfo(testPurchaseOrder);
+    assertThat(result.getContent()).containsExactly(testPurchaseOrderInfo);
+    assertThat(result.getTotalElements()).isEqualTo(21);
+    verify(purchaseOrderRepository).findWithItemsByIdIn(
+      List.of(testPurchaseOrder.getId())
+    );
+  }
+
+  @Test
+  void findAllPaged_shouldSkipItemQuery_whenPageIsEmpty() {
+    Pageable pageable = PageRequest.of(3, 20);
+    when(
+      purchaseOrderRepository.findAll(any(Specification.class), eq(pageable))
+    ).thenReturn(new PageImpl<>(List.of(), pageable, 21));
+
+    Page<PurchaseOrderInfo> result = purchaseOrderService.findAll(
+      new PurchaseOrderFilter(),
+      pageable
+    );
+
+    assertThat(result.getContent()).isEmpty();
+    verify(purchaseOrderRepository, never()).findWithItemsByIdIn(any());
   }
 
   @Test
@@ -185,42 +231,6 @@ class PurchaseOrderServiceTest {
     verify(purchaseOrderRepository).findById(999);
   }
 
-  @Test
-  void findBySupplierId_shouldReturnPurchaseOrders() {
-    when(purchaseOrderRepository.findBySupplier_Id(1)).thenReturn(
-      List.of(testPurchaseOrder)
-    );
-    when(purchaseOrderMapper.toInfoList(List.of(testPurchaseOrder))).thenReturn(
-      List.of(testPurchaseOrderInfo)
-    );
-
-    List<PurchaseOrderInfo> result = purchaseOrderService.findBySupplierId(1);
-
-    assertThat(result).hasSize(1);
-    assertThat(result.get(0).getId()).isEqualTo(testPurchaseOrderInfo.getId());
-    verify(purchaseOrderRepository).findBySupplier_Id(1);
-    verify(purchaseOrderMapper).toInfoList(List.of(testPurchaseOrder));
-  }
-
-  @Test
-  void findByStatus_shouldReturnPurchaseOrders() {
-    when(
-      purchaseOrderRepository.findByStatus(PurchaseOrderStatus.DRAFT)
-    ).thenReturn(List.of(testPurchaseOrder));
-    when(purchaseOrderMapper.toInfoList(List.of(testPurchaseOrder))).thenReturn(
-      List.of(testPurchaseOrderInfo)
-    );
-
-    List<PurchaseOrderInfo> result = purchaseOrderService.findByStatus(
-      PurchaseOrderStatus.DRAFT
-    );
-
-    assertThat(result).hasSize(1);
-    assertThat(result.get(0).getId()).isEqualTo(testPurchaseOrderInfo.getId());
-    verify(purchaseOrderRepository).findByStatus(PurchaseOrderStatus.DRAFT);
-    verify(purchaseOrderMapper).toInfoList(List.of(testPurchaseOrder));
-  }
-
   @Test
   void create_shouldCreatePurchaseOrder() {
     PurchaseOrder newOrder = PurchaseOrder.builder()
@@ -238,7 +248,9 @@ class PurchaseOrderServiceTest {
     when(purchaseOrderRepository.save(any(PurchaseOrder.class))).thenReturn(
       newOrder
     );
-    when(productRepository.findById(1)).thenReturn(Optional.of(testProduct));
+    when(productRepository.findAllById(Set.of(1))).thenReturn(
+      List.of(testProduct)
+    );
     when(
       purchaseOrderItemMapper.toEntity(any(PurchaseOrderItemData.class))
     ).thenReturn(testPurchaseOrderItem);
@@ -258,7 +270,8 @@ class PurchaseOrderServiceTest {
     verify(supplierRepository).findById(1L);
     verify(purchaseOrderMapper).toEntity(testPurchaseOrderData);
     verify(purchaseOrderRepository, times(2)).save(any(PurchaseOrder.class));
-    verify(productRepository).findById(1);
+    verify(productRepository).findAllById(Set.of(1));
+    verify(productRepository, never()).findById(any());
     verify(purchaseOrderItemMapper).toEntity(any(PurchaseOrderItemData.class));
     verify(purchaseOrderItemRepository).saveAll(any());
     verify(purchaseOrderMapper).toInfo(any(PurchaseOrder.class));
@@ -307,8 +320,10 @@ class PurchaseOrderServiceTest {
       Optional.of(testPurchaseOrder)
     );
     when(supplierRepository.findById(1L)).thenReturn(Optional.of(testSupplier));
-    when(purchaseOrderRepository.save(any())).thenReturn(updatedOrder);
-    when(productRepository.findById(1)).thenReturn(Optional.of(testProduct));
+    when(purchaseOrderRepository.saveAndFlush(any())).thenReturn(updatedOrder);
+    when(productRepository.findAllById(Set.of(1))).thenReturn(
+      List.of(testProduct)
+    );
     when(purchaseOrderItemMapper.toEntity(any())).thenReturn(
       testPurchaseOrderItem
     );
@@ -325,7 +340,75 @@ class PurchaseOrderServiceTest {
     verify(purchaseOrderRepository).findById(1);
     verify(purchaseOrderMapper).updateEntityFromData(any(), any());
     verify(purchaseOrderItemMapper).toEntity(any());
-    verify(purchaseOrderRepository, atLeastOnce()).save(any());
+    verify(purchaseOrderRepository, atLeastOnce()).saveAndFlush(any());
+  }
+
+  @Test
+  void update_shouldKeepUpdateAndRemoveItemsById() {
+    Product otherProduct = Product.builder()
+      .id(2)
+      .name("Other Product")
+      .costPrice(new BigDecimal("2.50"))
+      .build();
+    PurchaseOrderItem removedItem = PurchaseOrderItem.builder()
+      .id(2)
+      .product(otherProduct)
+      .quantity(1)
+      .unitPrice(new BigDecimal("2.50"))
+      .build();
+    testPurchaseOrder.addItem(removedItem);
+    testPurchaseOrderData.setItems(
+      List.of(
+        PurchaseOrderItemData.builder()
+          .id(1)
+          .productId(2)
+          .quantity(4)
+          .unitPrice(new BigDecimal("3.00"))
+          .build()
+      )
+    );
+
+    when(purchaseOrderRepository.findById(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+    when(supplierRepository.findById(1L)).thenReturn(Optional.of(testSupplier));
+    when(productRepository.findAllById(Set.of(2))).thenReturn(
+      List.of(otherProduct)
+    );
+    when(purchaseOrderRepository.saveAndFlush(testPurchaseOrder)).thenReturn(
+      testPurchaseOrder
+    );
+
+    purchaseOrderService.update(1, testPurchaseOrderData);
+
+    assertThat(testPurchaseOrder.getItems()).containsExactly(
+      testPurchaseOrderItem
+    );
+    assertThat(removedItem.getPurchaseOrder()).isNull();
+    assertThat(testPurchaseOrderItem.getProduct()).isEqualTo(otherProduct);
+    assertThat(testPurchaseOrderItem.getTotalPrice()).isEqualByComparingTo(
+      "12.00"
+    );
+    assertThat(testPurchaseOrder.getTotalAmount()).isEqualByComparingTo(
+      "12.00"
+    );
+    verify(productRepository, never()).findById(any());
+  }
+
+  @Test
+  void update_shouldThrowException_whenProductNotFound() {
+    testPurchaseOrderData.setItems(List.of(testPurchaseOrderItemData));
+    when(purchaseOrderRepository.findById(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+    when(supplierRepository.findById(1L)).thenReturn(Optional.of(testSupplier));
+    when(productRepository.findAllById(any())).thenReturn(List.of());
+
+    assertThatThrownBy(() ->
+      purchaseOrderService.update(1, testPurchaseOrderData)
+    )
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessageContaining("Product not found with id: 1");
   }
 
   @Test
@@ -420,9 +503,9 @@ class PurchaseOrderServiceTest {
     when(purchaseOrderRepository.findById(1)).thenReturn(
       Optional.of(testPurchaseOrder)
     );
-    when(purchaseOrderRepository.save(any(PurchaseOrder.class))).thenReturn(
-      testPurchaseOrder
-    );
+    when(
+      purchaseOrderRepository.saveAndFlush(any(PurchaseOrder.class))
+    ).thenReturn(testPurchaseOrder);
     when(purchaseOrderMapper.toInfo(testPurchaseOrder)).thenReturn(
       testPurchaseOrderInfo
     );
@@ -434,9 +517,11 @@ class PurchaseOrderServiceTest {
     assertThat(testPurchaseOrder.getStatus()).isEqualTo(
       PurchaseOrderStatus.SUBMITTED
     );
+    assertThat(testPurchaseOrder.getSubmittedAt()).isNotNull();
     verify(purchaseOrderRepository).findById(1);
-    verify(purchaseOrderRepository).save(testPurchaseOrder);
+    verify(purchaseOrderRepository).saveAndFlush(testPurchaseOrder);
     verify(purchaseOrderMapper).toInfo(testPurchaseOrder);
+    verify(supplierMetricsService).recordSubmitted(testPurchaseOrder);
   }
 
   @Test
@@ -488,9 +573,9 @@ class PurchaseOrderServiceTest {
     when(purchaseOrderRepository.findById(1)).thenReturn(
       Optional.of(submittedOrder)
     );
-    when(purchaseOrderRepository.save(any(PurchaseOrder.class))).thenReturn(
-      submittedOrder
-    );
+    when(
+      purchaseOrderRepository.saveAndFlush(any(PurchaseOrder.class))
+    ).thenReturn(submittedOrder);
     when(purchaseOrderMapper.toInfo(submittedOrder)).thenReturn(
       testPurchaseOrderInfo
     );
@@ -503,7 +588,437 @@ class PurchaseOrderServiceTest {
       PurchaseOrderStatus.CONFIRMED
     );
     verify(purchaseOrderRepository).findById(1);
-    verify(purchaseOrderRepository).save(submittedOrder);
+    verify(purchaseOrderRepository).saveAndFlush(submittedOrder);
     verify(purchaseOrderMapper).toInfo(submittedOrder);
   }
+
+  @Test
+  void receive_shouldRecordPartialDeliveryAndIncrementStock() {
+    testPurchaseOrder.setStatus(PurchaseOrderStatus.SHIPPED);
+    stubReceiving();
+
+    purchaseOrderService.receive(1, receipt(Map.of(1, 4)));
+
+    assertThat(testPurchaseOrderItem.getReceivedQuantity()).isEqualTo(4);
+    assertThat(testPurchaseOrder.getStatus()).isEqualTo(
+      PurchaseOrderStatus.SHIPPED
+    );
+    verify(productCostService).receive(
+      eq(1),
+      eq(Map.of(1, 4)),
+      eq(Map.of(1, new BigDecimal("40.00"))),
+      any(LocalDateTime.class)
+    );
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+    verify(supplierMetricsService).recordReceipt(
+      testPurchaseOrder,
+      new BigDecimal("40.00")
+    );
+    verify(supplierMetricsService, never()).recordDelivered(any());
+  }
+
+  @Test
+  void receive_shouldMarkDelivered_whenEverythingHasArrived() {
+    testPurchaseOrder.setStatus(PurchaseOrderStatus.CONFIRMED);
+    testPurchaseOrderItem.setReceivedQuantity(4);
+    stubReceiving();
+
+    purchaseOrderService.receive(
+      1,
+      PurchaseOrderReceiptData.builder()
+        .items(
+          List.of(
+            PurchaseOrderReceiptItemData.builder()
+              .itemId(1)
+              .quantity(2)
+              .build(),
+            PurchaseOrderReceiptItemData.builder()
+              .itemId(1)
+              .quantity(4)
+              .build()
+          )
+        )
+        .build()
+    );
+
+    assertThat(testPurchaseOrderItem.getReceivedQuantity()).isEqualTo(10);
+    assertThat(testPurchaseOrder.getStatus()).isEqualTo(
+      PurchaseOrderStatus.DELIVERED
+    );
+    assertThat(testPurchaseOrder.getDeliveredAt()).isNotNull();
+    verify(supplierMetricsService).recordDelivered(testPurchaseOrder);
+    verify(productCostService).receive(
+      eq(1),
+      eq(Map.of(1, 6)),
+      eq(Map.of(1, new BigDecimal("60.00"))),
+      any(LocalDateTime.class)
+    );
+  }
+
+  @Test
+  void receive_shouldThrowException_whenMoreThanOrderedIsReceived() {
+    testPurchaseOrder.setStatus(PurchaseOrderStatus.SHIPPED);
+    testPurchaseOrderItem.setReceivedQuantity(8);
+    when(purchaseOrderRepository.findByIdForUpdate(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+
+    assertThatThrownBy(() ->
+      purchaseOrderService.receive(1, receipt(Map.of(1, 3)))
+    )
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("exceeds ordered quantity for item: 1");
+
+    verify(productCostService, never()).receive(
+      any(),
+      anyMap(),
+      anyMap(),
+      any()
+    );
+  }
+
+  @Test
+  void receive_shouldThrowException_whenItemIsNotInOrder() {
+    testPurchaseOrder.setStatus(PurchaseOrderStatus.SHIPPED);
+    when(purchaseOrderRepository.findByIdForUpdate(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+
+    assertThatThrownBy(() ->
+      purchaseOrderService.receive(1, receipt(Map.of(99, 1)))
+    )
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessageContaining("Purchase order item not found with id: 99");
+  }
+
+  @Test
+  void receive_shouldThrowException_whenOrderIsDraft() {
+    when(purchaseOrderRepository.findByIdForUpdate(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+
+    assertThatThrownBy(() ->
+      purchaseOrderService.receive(1, receipt(Map.of(1, 1)))
+    )
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Cannot receive items of order in DRAFT status");
+  }
+
+  @Test
+  void markAsDelivered_shouldReceiveOutstandingQuantities() {
+    testPurchaseOrder.setStatus(PurchaseOrderStatus.SHIPPED);
+    testPurchaseOrderItem.setReceivedQuantity(3);
+    stubReceiving();
+
+    purchaseOrderService.markAsDelivered(1);
+
+    assertThat(testPurchaseOrderItem.getReceivedQuantity()).isEqualTo(10);
+    assertThat(testPurchaseOrder.getStatus()).isEqualTo(
+      PurchaseOrderStatus.DELIVERED
+    );
+    verify(productCostService).receive(
+      eq(1),
+      eq(Map.of(1, 7)),
+      eq(Map.of(1, new BigDecimal("70.00"))),
+      any(LocalDateTime.class)
+    );
+  }
+
+  @Test
+  void transitionAll_shouldChangeEligibleOrdersInOneUpdate() {
+    PurchaseOrder deliveredOrder = PurchaseOrder.builder()
+      .id(2)
+      .supplier(testSupplier)
+      .status(PurchaseOrderStatus.DELIVERED)
+      .build();
+    when(purchaseOrderRepository.findAllByIdForUpdate(Set.of(1, 2, 3)))
+      .thenReturn(List.of(testPurchaseOrder, deliveredOrder));
+    when(
+      purchaseOrderRepository.updateStatus(
+        eq(List.of(1)),
+        eq(Set.of(PurchaseOrderStatus.DRAFT)),
+        eq(PurchaseOrderStatus.SUBMITTED),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(1);
+
+    PurchaseOrderTransitionInfo result = purchaseOrderService.transitionAll(
+      PurchaseOrderTransitionData.builder()
+        .ids(List.of(1, 2, 3, 1))
+        .status(PurchaseOrderStatus.SUBMITTED)
+        .build()
+    );
+
+    assertThat(result.getUpdatedCount()).isEqualTo(1);
+    assertThat(result.getResults())
+      .extracting(
+        PurchaseOrderTransitionResultInfo::getId,
+        PurchaseOrderTransitionResultInfo::getPreviousStatus,
+        PurchaseOrderTransitionResultInfo::isSuccess
+      )
+      .containsExactly(
+        tuple(1, PurchaseOrderStatus.DRAFT, true),
+        tuple(2, PurchaseOrderStatus.DELIVERED, false),
+        tuple(3, null, false)
+      );
+    assertThat(result.getResults().get(1).getMessage()).isEqualTo(
+      "Cannot change order in DELIVERED status to SUBMITTED"
+    );
+    verify(supplierMetricsService).recordSubmitted(List.of(testPurchaseOrder));
+    verify(purchaseOrderRepository, never()).save(any());
+  }
+
+  @Test
+  void transitionAll_shouldRecordCancellationsInOneBatch() {
+    PurchaseOrder submittedOrder = PurchaseOrder.builder()
+      .id(2)
+      .supplier(testSupplier)
+      .status(PurchaseOrderStatus.SUBMITTED)
+      .build();
+    when(purchaseOrderRepository.findAllByIdForUpdate(Set.of(1, 2)))
+      .thenReturn(List.of(testPurchaseOrder, submittedOrder));
+    when(
+      purchaseOrderRepository.updateStatus(
+        eq(List.of(1, 2)),
+        any(),
+        eq(PurchaseOrderStatus.CANCELLED),
+        any(LocalDateTime.class)
+      )
+    ).thenReturn(2);
+
+    PurchaseOrderTransitionInfo result = purchaseOrderService.transitionAll(
+      PurchaseOrderTransitionData.builder()
+        .ids(List.of(1, 2))
+        .status(PurchaseOrderStatus.CANCELLED)
+        .build()
+    );
+
+    assertThat(result.getUpdatedCount()).isEqualTo(2);
+    verify(purchaseOrderRepository).findWithItemsByIdIn(List.of(1, 2));
+    verify(supplierMetricsService).recordCancelled(
+      List.of(testPurchaseOrder, submittedOrder)
+    );
+  }
+
+  @Test
+  void transitionAll_shouldNotUpdate_whenNoOrderIsEligible() {
+    when(purchaseOrderRepository.findAllByIdForUpdate(Set.of(1))).thenReturn(
+      List.of(testPurchaseOrder)
+    );
+
+    PurchaseOrderTransitionInfo result = purchaseOrderService.transitionAll(
+      PurchaseOrderTransitionData.builder()
+        .ids(List.of(1))
+        .status(PurchaseOrderStatus.PAID)
+        .build()
+    );
+
+    assertThat(result.getUpdatedCount()).isZero();
+    verify(purchaseOrderRepository, never()).updateStatus(
+      any(),
+      any(),
+      any(),
+      any()
+    );
+  }
+
+  @Test
+  void transitionAll_shouldRejectDeliveredTarget() {
+    assertThatThrownBy(() ->
+      purchaseOrderService.transitionAll(
+        PurchaseOrderTransitionData.builder()
+          .ids(List.of(1))
+          .status(PurchaseOrderStatus.DELIVERED)
+          .build()
+      )
+    )
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("cannot be changed to DELIVERED in bulk");
+  }
+
+  @Test
+  void cancelOrder_shouldTimestampAndRecordCancellation() {
+    testPurchaseOrder.setStatus(PurchaseOrderStatus.CONFIRMED);
+    when(purchaseOrderRepository.findById(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+    when(purchaseOrderRepository.saveAndFlush(testPurchaseOrder)).thenReturn(
+      testPurchaseOrder
+    );
+
+    purchaseOrderService.cancelOrder(1);
+
+    assertThat(testPurchaseOrder.getStatus()).isEqualTo(
+      PurchaseOrderStatus.CANCELLED
+    );
+    assertThat(testPurchaseOrder.getCancelledAt()).isNotNull();
+    verify(supplierMetricsService).recordCancelled(testPurchaseOrder);
+  }
+
+  @Test
+  void createAll_shouldLoadSuppliersAndProductsOnce() {
+    Product otherProduct = Product.builder()
+      .id(2)
+      .name("Other Product")
+      .costPrice(new BigDecimal("2.50"))
+      .build();
+    PurchaseOrderData first = PurchaseOrderData.builder()
+      .supplierId(1L)
+      .items(
+        List.of(
+          PurchaseOrderItemData.builder()
+            .productId(1)
+            .quantity(3)
+            .unitPrice(new BigDecimal("10.00"))
+            .build(),
+          PurchaseOrderItemData.builder()
+            .productId(2)
+            .quantity(4)
+            .unitPrice(new BigDecimal("2.50"))
+            .build()
+        )
+      )
+      .build();
+    PurchaseOrder firstOrder = new PurchaseOrder();
+
+    when(supplierRepository.findAllById(any())).thenReturn(
+      List.of(testSupplier)
+    );
+    when(productRepository.findAllById(any())).thenReturn(
+      List.of(testProduct, otherProduct)
+    );
+    when(purchaseOrderMapper.toEntity(first)).thenReturn(firstOrder);
+    when(purchaseOrderItemMapper.toEntity(any(PurchaseOrderItemData.class)))
+      .thenAnswer(invocation -> {
+        PurchaseOrderItemData itemData = invocation.getArgument(0);
+        return PurchaseOrderItem.builder()
+          .quantity(itemData.getQuantity())
+          .unitPrice(itemData.getUnitPrice())
+          .build();
+      });
+    when(purchaseOrderRepository.saveAll(List.of(firstOrder))).thenReturn(
+      List.of(firstOrder)
+    );
+    when(purchaseOrderMapper.toInfo(firstOrder)).thenReturn(
+      testPurchaseOrderInfo
+    );
+
+    List<PurchaseOrderInfo> result = purchaseOrderService.createAll(
+      List.of(first)
+    );
+
+    assertThat(result).containsExactly(testPurchaseOrderInfo);
+    assertThat(firstOrder.getSupplier()).isEqualTo(testSupplier);
+    assertThat(firstOrder.getItems()).hasSize(2);
+    assertThat(firstOrder.getTotalAmount()).isEqualByComparingTo(
+      new BigDecimal("40.00")
+    );
+    verify(supplierRepository).findAllById(any());
+    verify(productRepository).findAllById(any());
+    verify(productRepository, never()).findById(any());
+  }
+
+  @Test
+  void createAll_shouldTotalItemsAtTheirUnitPrice() {
+    PurchaseOrderData orderData = PurchaseOrderData.builder()
+      .supplierId(1L)
+      .items(
+        List.of(
+          PurchaseOrderItemData.builder()
+            .productId(1)
+            .quantity(5)
+            .unitPrice(new BigDecimal("8.00"))
+            .build()
+        )
+      )
+      .build();
+    PurchaseOrder order = new PurchaseOrder();
+
+    when(supplierRepository.findAllById(any())).thenReturn(
+      List.of(testSupplier)
+    );
+    when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
+    when(purchaseOrderMapper.toEntity(orderData)).thenReturn(order);
+    when(purchaseOrderItemMapper.toEntity(any(PurchaseOrderItemData.class)))
+      .thenAnswer(invocation -> {
+        PurchaseOrderItemData itemData = invocation.getArgument(0);
+        return PurchaseOrderItem.builder()
+          .quantity(itemData.getQuantity())
+          .unitPrice(itemData.getUnitPrice())
+          .build();
+      });
+    when(purchaseOrderRepository.saveAll(List.of(order))).thenReturn(
+      List.of(order)
+    );
+
+    purchaseOrderService.createAll(List.of(orderData));
+
+    assertThat(order.getItems().get(0).getTotalPrice()).isEqualByComparingTo(
+      "40.00"
+    );
+    assertThat(order.getTotalAmount()).isEqualByComparingTo("40.00");
+  }
+
+  @Test
+  void createAll_shouldThrowException_whenProductNotFound() {
+    PurchaseOrderData orderData = PurchaseOrderData.builder()
+      .supplierId(1L)
+      .items(
+        List.of(
+          PurchaseOrderItemData.builder()
+            .productId(99)
+            .quantity(1)
+            .unitPrice(BigDecimal.ONE)
+            .build()
+        )
+      )
+      .build();
+
+    when(supplierRepository.findAllById(any())).thenReturn(
+      List.of(testSupplier)
+    );
+    when(productRepository.findAllById(any())).thenReturn(List.of());
+    when(purchaseOrderMapper.toEntity(orderData)).thenReturn(
+      new PurchaseOrder()
+    );
+
+    assertThatThrownBy(() ->
+      purchaseOrderService.createAll(List.of(orderData))
+    )
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessageContaining("Product not found with id: 99");
+
+    verify(purchaseOrderRepository, never()).saveAll(any());
+  }
+
+  private void stubReceiving() {
+    when(purchaseOrderRepository.findByIdForUpdate(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+    when(purchaseOrderRepository.findById(1)).thenReturn(
+      Optional.of(testPurchaseOrder)
+    );
+    when(purchaseOrderMapper.toInfo(testPurchaseOrder)).thenReturn(
+      testPurchaseOrderInfo
+    );
+  }
+
+  private static PurchaseOrderReceiptData receipt(
+    Map<Integer, Integer> quantities
+  ) {
+    return PurchaseOrderReceiptData.builder()
+      .items(
+        quantities
+          .entrySet()
+          .stream()
+          .map(line ->
+            PurchaseOrderReceiptItemData.builder()
+              .itemId(line.getKey())
+              .quantity(line.getValue())
+              .build()
+          )
+          .toList()
+      )
+      .build();
+  }
 }
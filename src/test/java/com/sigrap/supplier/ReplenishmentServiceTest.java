@@ -0,0 +1,193 @@
+package com.sigrap.supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.inventory.ProductForecastRepository;
+import com.sigrap.product.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ReplenishmentServiceTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private PurchaseOrderItemRepository purchaseOrderItemRepository;
+
+  @Mock
+  private ProductForecastRepository productForecastRepository;
+
+  @Mock
+  private PurchaseOrderService purchaseOrderService;
+
+  @Mock
+  private SupplierRanking supplierRanking;
+
+  @InjectMocks
+  private ReplenishmentService replenishmentService;
+
+  @Captor
+  private ArgumentCaptor<List<PurchaseOrderData>> ordersCaptor;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(replenishmentService, "targetMultiplier", 2);
+    ReflectionTestUtils.setField(replenishmentService, "leadTimeDays", 7);
+  }
+
+  @Test
+  void run_shouldCreateOneDraftOrderPerPreferredSupplier() {
+    when(productRepository.findReplenishmentCandidates()).thenReturn(
+      List.of(
+        row(1, 2, 10, "3.00"),
+        row(2, 0, 4, "1.50"),
+        row(3, 5, 5, "2.00"),
+        row(4, 1, 3, "4.00"),
+        row(5, 0, 2, "9.00")
+      )
+    );
+    when(
+      purchaseOrderItemRepository.findAwaitedProductIds(anyCollection())
+    ).thenReturn(List.of(4));
+    when(
+      purchaseOrderItemRepository.findLatestSuppliers(List.of(1, 2, 3, 5))
+    ).thenReturn(
+      List.of(
+        new Object[] { 1, 10L },
+        new Object[] { 2, 20L },
+        new Object[] { 3, 20L }
+      )
+    );
+    when(productForecastRepository.findSuggestedOrderQuantities()).thenReturn(
+      List.<Object[]>of(new Object[] { 2, 12 })
+    );
+    when(purchaseOrderService.createAll(anyList())).thenReturn(
+      List.of(
+        PurchaseOrderInfo.builder().id(100).build(),
+        PurchaseOrderInfo.builder().id(101).build()
+      )
+    );
+
+    ReplenishmentInfo result = replenishmentService.run();
+
+    verify(purchaseOrderService).createAll(ordersCaptor.capture());
+    List<PurchaseOrderData> orders = ordersCaptor.getValue();
+    assertThat(orders)
+      .extracting(PurchaseOrderData::getSupplierId)
+      .containsExactly(10L, 20L);
+    // Product 1 was last ordered from supplier 10; no forecast, so stock is
+    // topped up to twice the threshold.
+    assertThat(orders.get(0).getItems())
+      .extracting(
+        PurchaseOrderItemData::getProductId,
+        PurchaseOrderItemData::getQuantity
+      )
+      .containsExactly(tuple(1, 18));
+    assertThat(orders.get(0).getItems().get(0).getUnitPrice()).isEqualTo(
+      new BigDecimal("3.00")
+    );
+    // Product 2 uses the forecast suggestion.
+    assertThat(orders.get(1).getItems())
+      .extracting(
+        PurchaseOrderItemData::getProductId,
+        PurchaseOrderItemData::getQuantity
+      )
+      .containsExactly(tuple(2, 12), tuple(3, 5));
+    assertThat(orders.get(0).getDeliveryDate()).isNotNull();
+
+    assertThat(result.getLowStockCount()).isEqualTo(5);
+    assertThat(result.getAwaitedCount()).isEqualTo(1);
+    assertThat(result.getWithoutSupplierCount()).isEqualTo(1);
+    assertThat(result.getItemCount()).isEqualTo(3);
+    assertThat(result.getPurchaseOrderIds()).containsExactly(100, 101);
+  }
+
+  @Test
+  void run_shouldPreferBestPriceListOffer() {
+    when(productRepository.findReplenishmentCandidates()).thenReturn(
+      List.of(row(1, 2, 10, "3.00"), row(2, 0, 4, "1.50"))
+    );
+    when(
+      purchaseOrderItemRepository.findLatestSuppliers(List.of(2))
+    ).thenReturn(List.<Object[]>of(new Object[] { 2, 10L }));
+    when(supplierRanking.best(1)).thenReturn(
+      Optional.of(
+        SupplierProductInfo.builder()
+          .supplierId(30L)
+          .productId(1)
+          .unitPrice(new BigDecimal("2.50"))
+          .packSize(12)
+          .leadTimeDays(3)
+          .build()
+      )
+    );
+    when(purchaseOrderService.createAll(anyList())).thenReturn(List.of());
+
+    replenishmentService.run();
+
+    verify(purchaseOrderService).createAll(ordersCaptor.capture());
+    List<PurchaseOrderData> orders = ordersCaptor.getValue();
+    assertThat(orders)
+      .extracting(PurchaseOrderData::getSupplierId)
+      .containsExactly(10L, 30L);
+    // Product 2 has no price list line and falls back to its last supplier.
+    assertThat(orders.get(0).getItems())
+      .extracting(PurchaseOrderItemData::getProductId)
+      .containsExactly(2);
+    assertThat(orders.get(0).getDeliveryDate()).isEqualTo(
+      LocalDate.now().plusDays(7)
+    );
+    // 18 units are needed, rounded up to two packs of 12.
+    PurchaseOrderItemData item = orders.get(1).getItems().get(0);
+    assertThat(item.getQuantity()).isEqualTo(24);
+    assertThat(item.getUnitPrice()).isEqualTo(new BigDecimal("2.50"));
+    assertThat(orders.get(1).getDeliveryDate()).isEqualTo(
+      LocalDate.now().plusDays(3)
+    );
+  }
+
+  @Test
+  void run_shouldCreateNothing_whenNoProductIsLow() {
+    when(productRepository.findReplenishmentCandidates()).thenReturn(
+      List.of()
+    );
+    when(purchaseOrderService.createAll(List.of())).thenReturn(List.of());
+
+    ReplenishmentInfo result = replenishmentService.run();
+
+    assertThat(result.getLowStockCount()).isZero();
+    assertThat(result.getPurchaseOrderIds()).isEmpty();
+  }
+
+  private static Object[] row(
+    int productId,
+    int stock,
+    int threshold,
+    String costPrice
+  ) {
+    return new Object[] {
+      productId,
+      stock,
+      threshold,
+      new BigDecimal(costPrice),
+    };
+  }
+}
@@ -14,6 +14,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigrap.common.ResourceVersions;
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,9 @@ class SupplierControllerTest {
   @Mock
   private SupplierService supplierService;
 
+  @Mock
+  private SupplierMetricsService supplierMetricsService;
+
   @InjectMocks
   private SupplierController supplierController;
 
@@ -60,6 +65,9 @@ class SupplierControllerTest {
 
     List<SupplierInfo> suppliers = List.of(supplier1, supplier2);
 
+    when(supplierService.currentVersion()).thenReturn(
+      new ResourceVersions().current(SupplierService.RESOURCE, () -> null)
+    );
     when(supplierService.findAll()).thenReturn(suppliers);
 
     mockMvc
@@ -99,6 +107,24 @@ class SupplierControllerTest {
       .andExpect(jsonPath("$.email").value("supplier@example.com"));
   }
 
+  @Test
+  void findMetrics_shouldReturnSupplierMetrics() throws Exception {
+    when(supplierMetricsService.findBySupplierId(1L, 6)).thenReturn(
+      SupplierMetricsInfo.builder()
+        .supplierId(1L)
+        .deliveredOrders(4)
+        .onTimeRate(new BigDecimal("75.00"))
+        .monthlySpend(List.of())
+        .build()
+    );
+
+    mockMvc
+      .perform(get("/api/suppliers/{id}/metrics", 1L).param("months", "6"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.deliveredOrders").value(4))
+      .andExpect(jsonPath("$.onTimeRate").value(75.0));
+  }
+
   @Test
   void create_shouldCreateSupplier() throws Exception {
     SupplierData supplierData = SupplierData.builder()
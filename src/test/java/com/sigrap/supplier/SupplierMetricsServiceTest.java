@@ -0,0 +1,346 @@
+package com.sigrap.supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.common.ResourceVersions;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SupplierMetricsServiceTest {
+
+  @Mock
+  private SupplierMetricsRepository supplierMetricsRepository;
+
+  @Mock
+  private SupplierMonthlySpendRepository supplierMonthlySpendRepository;
+
+  @Mock
+  private SupplierRepository supplierRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private SupplierMetricsService supplierMetricsService;
+
+  private Supplier supplier;
+  private PurchaseOrder purchaseOrder;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(
+      supplierMetricsService,
+      "clock",
+      Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC)
+    );
+    supplier = Supplier.builder().id(1L).name("Papeles S.A.").build();
+    purchaseOrder = PurchaseOrder.builder()
+      .id(10)
+      .supplier(supplier)
+      .items(
+        List.of(
+          PurchaseOrderItem.builder().quantity(10).receivedQuantity(10).build(),
+          PurchaseOrderItem.builder().quantity(5).receivedQuantity(3).build()
+        )
+      )
+      .build();
+  }
+
+  @Test
+  void recordSubmitted_shouldCreateMetricsOnFirstOrder() {
+    stubLockedSupplier();
+    when(supplierMetricsRepository.findById(1L)).thenReturn(Optional.empty());
+
+    supplierMetricsService.recordSubmitted(purchaseOrder);
+
+    SupplierMetrics saved = savedMetrics();
+    assertThat(saved.getSupplierId()).isEqualTo(1L);
+    assertThat(saved.getSubmittedOrders()).isEqualTo(1);
+  }
+
+  @Test
+  void recordReceipt_shouldAddToTotalAndCurrentMonth() {
+    SupplierMetrics metrics = SupplierMetrics.builder()
+      .supplierId(1L)
+      .totalSpend(new BigDecimal("100.00"))
+      .build();
+    SupplierMonthlySpend spend = SupplierMonthlySpend.builder()
+      .supplierId(1L)
+      .month(LocalDate.of(2025, 6, 1))
+      .amount(new BigDecimal("60.00"))
+      .build();
+    stubLockedSupplier();
+    when(supplierMetricsRepository.findById(1L)).thenReturn(
+      Optional.of(metrics)
+    );
+    when(
+      supplierMonthlySpendRepository.findBySupplierIdAndMonth(
+        1L,
+        LocalDate.of(2025, 6, 1)
+      )
+    ).thenReturn(Optional.of(spend));
+
+    supplierMetricsService.recordReceipt(
+      purchaseOrder,
+      new BigDecimal("25.50")
+    );
+
+    assertThat(metrics.getTotalSpend()).isEqualByComparingTo("125.50");
+    assertThat(spend.getAmount()).isEqualByComparingTo("85.50");
+    verify(supplierMonthlySpendRepository).save(spend);
+  }
+
+  @Test
+  void recordReceipt_shouldIgnoreZeroAmounts() {
+    supplierMetricsService.recordReceipt(purchaseOrder, BigDecimal.ZERO);
+
+    verify(supplierRepository, never()).findByIdForUpdate(any());
+  }
+
+  @Test
+  void recordDelivered_shouldMeasureLeadTimeAndUpdateAverageDeliveryTime() {
+    SupplierMetrics metrics = SupplierMetrics.builder()
+      .supplierId(1L)
+      .deliveredOrders(1)
+      .scheduledDeliveries(1)
+      .onTimeDeliveries(1)
+      .leadTimeSamples(1)
+      .totalLeadTimeMinutes(2 * 24 * 60)
+      .build();
+    stubLockedSupplier();
+    when(supplierMetricsRepository.findById(1L)).thenReturn(
+      Optional.of(metrics)
+    );
+    purchaseOrder.setSubmittedAt(LocalDateTime.of(2025, 6, 1, 9, 0));
+    purchaseOrder.setDeliveryDate(LocalDate.of(2025, 6, 5));
+    purchaseOrder.setDeliveredAt(LocalDateTime.of(2025, 6, 7, 9, 0));
+
+    supplierMetricsService.recordDelivered(purchaseOrder);
+
+    assertThat(metrics.getDeliveredOrders()).isEqualTo(2);
+    assertThat(metrics.getScheduledDeliveries()).isEqualTo(2);
+    assertThat(metrics.getOnTimeDeliveries()).isEqualTo(1);
+    assertThat(metrics.getLeadTimeSamples()).isEqualTo(2);
+    assertThat(metrics.getTotalLeadTimeMinutes()).isEqualTo(8 * 24 * 60);
+    assertThat(metrics.getOrderedUnits()).isEqualTo(15);
+    assertThat(metrics.getReceivedUnits()).isEqualTo(13);
+    assertThat(metrics.getLastDeliveredAt()).isEqualTo(
+      purchaseOrder.getDeliveredAt()
+    );
+    assertThat(supplier.getAverageDeliveryTime()).isEqualTo(4);
+    verify(eventPublisher).publishEvent(any(ResourceChangedEvent.class));
+  }
+
+  @Test
+  void recordDelivered_shouldChangeSupplierETag_whenDeliveryTimeChanges() {
+    ResourceVersions resourceVersions = new ResourceVersions();
+    String before = resourceVersions
+      .current(SupplierService.RESOURCE, () -> null)
+      .getETag();
+    stubLockedSupplier();
+    when(supplierMetricsRepository.findById(1L)).thenReturn(Optional.empty());
+    purchaseOrder.setSubmittedAt(LocalDateTime.of(2025, 6, 1, 9, 0));
+    purchaseOrder.setDeliveredAt(LocalDateTime.of(2025, 6, 4, 9, 0));
+
+    supplierMetricsService.recordDelivered(purchaseOrder);
+
+    ArgumentCaptor<ResourceChangedEvent> captor = ArgumentCaptor.forClass(
+      ResourceChangedEvent.class
+    );
+    verify(eventPublisher).publishEvent(captor.capture());
+    resourceVersions.onResourceChanged(captor.getValue());
+    String after = resourceVersions
+      .current(SupplierService.RESOURCE, () -> null)
+      .getETag();
+    assertThat(supplier.getAverageDeliveryTime()).isEqualTo(3);
+    assertThat(after).isNotEqualTo(before);
+  }
+
+  @Test
+  void recordDelivered_shouldNotPublish_whenDeliveryTimeIsUnchanged() {
+    supplier.setAverageDeliveryTime(3);
+    stubLockedSupplier();
+    when(supplierMetricsRepository.findById(1L)).thenReturn(Optional.empty());
+    purchaseOrder.setSubmittedAt(LocalDateTime.of(2025, 6, 1, 9, 0));
+    purchaseOrder.setDeliveredAt(LocalDateTime.of(2025, 6, 4, 9, 0));
+
+    supplierMetricsService.recordDelivered(purchaseOrder);
+
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  void recordCancelled_shouldSkipOrdersNeverSubmitted() {
+    supplierMetricsService.recordCancelled(purchaseOrder);
+
+    verify(supplierMetricsRepository, never()).save(any());
+  }
+
+  @Test
+  void recordCancelled_shouldLockEachSupplierOnceInIdOrder() {
+    Supplier other = Supplier.builder().id(2L).name("Tintas Ltda.").build();
+    PurchaseOrder otherOrder = PurchaseOrder.builder()
+      .id(11)
+      .supplier(other)
+      .submittedAt(LocalDateTime.of(2025, 6, 2, 9, 0))
+      .items(List.of(PurchaseOrderItem.builder().quantity(4).build()))
+      .build();
+    PurchaseOrder draft = PurchaseOrder.builder()
+      .id(12)
+      .supplier(supplier)
+      .items(List.of(PurchaseOrderItem.builder().quantity(7).build()))
+      .build();
+    purchaseOrder.setSubmittedAt(LocalDateTime.of(2025, 6, 1, 9, 0));
+    stubLockedSupplier();
+    when(supplierRepository.findByIdForUpdate(2L)).thenReturn(
+      Optional.of(other)
+    );
+    when(supplierMetricsRepository.findById(any())).thenReturn(
+      Optional.empty()
+    );
+
+    supplierMetricsService.recordCancelled(
+      List.of(otherOrder, purchaseOrder, draft)
+    );
+
+    InOrder locks = inOrder(supplierRepository);
+    locks.verify(supplierRepository).findByIdForUpdate(1L);
+    locks.verify(supplierRepository).findByIdForUpdate(2L);
+    ArgumentCaptor<SupplierMetrics> captor = ArgumentCaptor.forClass(
+      SupplierMetrics.class
+    );
+    verify(supplierMetricsRepository, times(2)).save(captor.capture());
+    assertThat(captor.getAllValues())
+      .extracting(
+        SupplierMetrics::getSupplierId,
+        SupplierMetrics::getCancelledOrders,
+        SupplierMetrics::getOrderedUnits,
+        SupplierMetrics::getReceivedUnits
+      )
+      .containsExactly(tuple(1L, 1, 15L, 13L), tuple(2L, 1, 4L, 0L));
+  }
+
+  @Test
+  void findBySupplierId_shouldComputeRatesAndFillEmptyMonths() {
+    when(supplierRepository.existsById(1L)).thenReturn(true);
+    when(supplierMetricsRepository.findById(1L)).thenReturn(
+      Optional.of(
+        SupplierMetrics.builder()
+          .supplierId(1L)
+          .submittedOrders(8)
+          .deliveredOrders(6)
+          .cancelledOrders(1)
+          .scheduledDeliveries(6)
+          .onTimeDeliveries(5)
+          .leadTimeSamples(4)
+          .totalLeadTimeMinutes(18 * 24 * 60)
+          .orderedUnits(200)
+          .receivedUnits(190)
+          .totalSpend(new BigDecimal("900.00"))
+          .build()
+      )
+    );
+    when(
+      supplierMonthlySpendRepository.findBySupplierIdAndMonthGreaterThanEqualOrderByMonth(
+        1L,
+        LocalDate.of(2025, 4, 1)
+      )
+    ).thenReturn(
+      List.of(
+        SupplierMonthlySpend.builder()
+          .supplierId(1L)
+          .month(LocalDate.of(2025, 5, 1))
+          .amount(new BigDecimal("300.00"))
+          .build()
+      )
+    );
+
+    SupplierMetricsInfo result = supplierMetricsService.findBySupplierId(1L, 3);
+
+    assertThat(result.getOnTimeRate()).isEqualByComparingTo("83.33");
+    assertThat(result.getAverageLeadTimeDays()).isEqualByComparingTo("4.5");
+    assertThat(result.getFillRate()).isEqualByComparingTo("95.00");
+    assertThat(result.getCancellationRate()).isEqualByComparingTo("12.50");
+    assertThat(result.getMonthlySpend())
+      .extracting(
+        SupplierMonthlySpendInfo::getMonth,
+        SupplierMonthlySpendInfo::getAmount
+      )
+      .containsExactly(
+        tuple(LocalDate.of(2025, 4, 1), BigDecimal.ZERO),
+        tuple(LocalDate.of(2025, 5, 1), new BigDecimal("300.00")),
+        tuple(LocalDate.of(2025, 6, 1), BigDecimal.ZERO)
+      );
+  }
+
+  @Test
+  void findBySupplierId_shouldReturnEmptyRates_whenSupplierHasNoOrders() {
+    when(supplierRepository.existsById(1L)).thenReturn(true);
+    when(supplierMetricsRepository.findById(1L)).thenReturn(Optional.empty());
+
+    SupplierMetricsInfo result = supplierMetricsService.findBySupplierId(1L, 1);
+
+    assertThat(result.getSubmittedOrders()).isZero();
+    assertThat(result.getOnTimeRate()).isNull();
+    assertThat(result.getAverageLeadTimeDays()).isNull();
+    assertThat(result.getTotalSpend()).isEqualByComparingTo("0");
+    assertThat(result.getMonthlySpend()).hasSize(1);
+  }
+
+  @Test
+  void findBySupplierId_shouldThrowException_whenSupplierNotFound() {
+    when(supplierRepository.existsById(99L)).thenReturn(false);
+
+    assertThatThrownBy(() -> supplierMetricsService.findBySupplierId(99L, 12))
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessageContaining("Supplier not found with id: 99");
+  }
+
+  @Test
+  void findBySupplierId_shouldRejectOutOfRangeMonths() {
+    assertThatThrownBy(() -> supplierMetricsService.findBySupplierId(1L, 0))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void stubLockedSupplier() {
+    when(supplierRepository.findByIdForUpdate(1L)).thenReturn(
+      Optional.of(supplier)
+    );
+  }
+
+  private SupplierMetrics savedMetrics() {
+    ArgumentCaptor<SupplierMetrics> captor = ArgumentCaptor.forClass(
+      SupplierMetrics.class
+    );
+    verify(supplierMetricsRepository).save(captor.capture());
+    return captor.getValue();
+  }
+}
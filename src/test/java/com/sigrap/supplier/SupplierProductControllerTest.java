@@ -0,0 +1,138 @@
+package com.sigrap.supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+import com.sigrap.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ExtendWith(MockitoExtension.class)
+class SupplierProductControllerTest {
+
+  @Mock
+  private SupplierProductService supplierProductService;
+
+  @InjectMocks
+  private SupplierProductController supplierProductController;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = standaloneSetup(supplierProductController)
+      .setControllerAdvice(new GlobalExceptionHandler())
+      .build();
+  }
+
+  @Test
+  void findPriceList_shouldReturnSupplierOffers() throws Exception {
+    when(supplierProductService.findBySupplierId(1L)).thenReturn(
+      List.of(
+        SupplierProductInfo.builder()
+          .supplierId(1L)
+          .productId(7)
+          .supplierSku("AC-7")
+          .unitPrice(new BigDecimal("2.35"))
+          .packSize(12)
+          .build()
+      )
+    );
+
+    mockMvc
+      .perform(get("/api/suppliers/1/price-list"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$[0].supplierSku").value("AC-7"))
+      .andExpect(jsonPath("$[0].packSize").value(12));
+  }
+
+  @Test
+  void findPriceList_shouldReturnNotFound_whenSupplierNotFound()
+    throws Exception {
+    when(supplierProductService.findBySupplierId(99L)).thenThrow(
+      new EntityNotFoundException("Supplier not found with id: 99")
+    );
+
+    mockMvc
+      .perform(get("/api/suppliers/99/price-list"))
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void findBest_shouldReturnBestOffers() throws Exception {
+    when(supplierProductService.findBest(List.of(7, 8))).thenReturn(
+      List.of(
+        SupplierProductInfo.builder()
+          .supplierId(2L)
+          .supplierName("Papeles")
+          .productId(7)
+          .unitPrice(new BigDecimal("2.10"))
+          .build()
+      )
+    );
+
+    mockMvc
+      .perform(get("/api/suppliers/price-list/best").param("productIds", "7,8"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.length()").value(1))
+      .andExpect(jsonPath("$[0].supplierName").value("Papeles"));
+  }
+
+  @Test
+  void save_shouldReturnBadRequest_whenUnitPriceIsMissing() throws Exception {
+    mockMvc
+      .perform(
+        put("/api/suppliers/price-list")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"supplierId\":1,\"productId\":7}")
+      )
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void save_shouldReturnSavedLine() throws Exception {
+    when(supplierProductService.save(any(SupplierProductData.class))).thenReturn(
+      SupplierProductInfo.builder()
+        .id(5L)
+        .supplierId(1L)
+        .productId(7)
+        .unitPrice(new BigDecimal("2.35"))
+        .packSize(1)
+        .build()
+    );
+
+    mockMvc
+      .perform(
+        put("/api/suppliers/price-list")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"supplierId\":1,\"productId\":7,\"unitPrice\":2.35}")
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.id").value(5));
+  }
+
+  @Test
+  void delete_shouldReturnNoContent() throws Exception {
+    mockMvc
+      .perform(delete("/api/suppliers/price-list/5"))
+      .andExpect(status().isNoContent());
+
+    verify(supplierProductService).delete(5L);
+  }
+}
@@ -0,0 +1,123 @@
+package com.sigrap.supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.sigrap.config.RepositoryTestConfiguration;
+import com.sigrap.product.Product;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryTestConfiguration.class)
+class SupplierProductRepositoryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private SupplierProductRepository supplierProductRepository;
+
+  private Supplier acme;
+  private Supplier papeles;
+  private Product notebook;
+  private Product pencil;
+
+  @BeforeEach
+  void setUp() {
+    acme = entityManager.persist(
+      Supplier.builder().name("Acme").averageDeliveryTime(4).build()
+    );
+    papeles = entityManager.persist(Supplier.builder().name("Papeles").build());
+    notebook = entityManager.persist(product("Notebook"));
+    pencil = entityManager.persist(product("Pencil"));
+  }
+
+  @Test
+  void findOffers_shouldFallBackToSupplierDeliveryTime() {
+    line(acme, notebook, "2.50", null);
+    line(papeles, notebook, "2.40", 2);
+    entityManager.flush();
+
+    List<SupplierProductInfo> offers = supplierProductRepository
+      .findOffers()
+      .stream()
+      .map(SupplierRanking::toInfo)
+      .toList();
+
+    assertThat(offers)
+      .extracting(
+        SupplierProductInfo::getSupplierName,
+        SupplierProductInfo::getLeadTimeDays
+      )
+      .containsExactlyInAnyOrder(
+        tuple("Acme", 4),
+        tuple("Papeles", 2)
+      );
+  }
+
+  @Test
+  void findOffersBySupplierId_shouldOrderByProductName() {
+    line(acme, pencil, "0.30", 1);
+    line(acme, notebook, "2.50", 1);
+    line(papeles, notebook, "2.40", 2);
+    entityManager.flush();
+
+    assertThat(supplierProductRepository.findOffersBySupplierId(acme.getId()))
+      .extracting(row -> row[3])
+      .containsExactly(notebook.getId(), pencil.getId());
+  }
+
+  @Test
+  void deleteBySupplierIdIn_shouldRemoveOnlyThoseSuppliersLines() {
+    line(acme, notebook, "2.50", 1);
+    line(papeles, notebook, "2.40", 2);
+    entityManager.flush();
+
+    int deleted = supplierProductRepository.deleteBySupplierIdIn(
+      List.of(acme.getId())
+    );
+    entityManager.clear();
+
+    assertThat(deleted).isEqualTo(1);
+    assertThat(
+      supplierProductRepository.findByProductIdIn(List.of(notebook.getId()))
+    )
+      .extracting(SupplierProduct::getSupplierId)
+      .containsExactly(papeles.getId());
+  }
+
+  private void line(
+    Supplier supplier,
+    Product product,
+    String unitPrice,
+    Integer leadTimeDays
+  ) {
+    entityManager.persist(
+      SupplierProduct.builder()
+        .supplierId(supplier.getId())
+        .productId(product.getId())
+        .unitPrice(new BigDecimal(unitPrice))
+        .leadTimeDays(leadTimeDays)
+        .build()
+    );
+  }
+
+  private static Product product(String name) {
+    return Product.builder()
+      .name(name)
+      .costPrice(BigDecimal.ONE)
+      .salePrice(BigDecimal.TEN)
+      .stock(0)
+      .minimumStockThreshold(0)
+      .build();
+  }
+}
@@ -0,0 +1,179 @@
+package com.sigrap.supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.product.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class SupplierProductServiceTest {
+
+  @Mock
+  private SupplierProductRepository supplierProductRepository;
+
+  @Mock
+  private SupplierRepository supplierRepository;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private SupplierRanking supplierRanking;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private SupplierProductService supplierProductService;
+
+  @Test
+  void findBySupplierId_shouldMapOfferRows() {
+    when(supplierRepository.existsById(1L)).thenReturn(true);
+    when(supplierProductRepository.findOffersBySupplierId(1L)).thenReturn(
+      List.<Object[]>of(
+        new Object[] {
+          5L,
+          1L,
+          "Acme",
+          7,
+          "AC-7",
+          new BigDecimal("2.35"),
+          12,
+          4,
+          LocalDateTime.of(2025, 6, 2, 10, 0),
+        }
+      )
+    );
+
+    List<SupplierProductInfo> result = supplierProductService.findBySupplierId(
+      1L
+    );
+
+    assertThat(result).hasSize(1);
+    assertEquals("Acme", result.get(0).getSupplierName());
+    assertEquals(7, result.get(0).getProductId());
+    assertEquals(12, result.get(0).getPackSize());
+    assertEquals(4, result.get(0).getLeadTimeDays());
+  }
+
+  @Test
+  void findBySupplierId_shouldThrowException_whenSupplierNotFound() {
+    when(supplierRepository.existsById(99L)).thenReturn(false);
+
+    assertThrows(EntityNotFoundException.class, () ->
+      supplierProductService.findBySupplierId(99L)
+    );
+  }
+
+  @Test
+  void findBest_shouldReturnRankingBestOffers() {
+    SupplierProductInfo offer = SupplierProductInfo.builder()
+      .supplierId(1L)
+      .productId(7)
+      .build();
+    when(supplierRanking.best(List.of(7, 8))).thenReturn(Map.of(7, offer));
+
+    assertThat(supplierProductService.findBest(List.of(7, 8))).containsExactly(
+      offer
+    );
+  }
+
+  @Test
+  void save_shouldUpdateExistingLine() {
+    Supplier supplier = Supplier.builder()
+      .id(1L)
+      .name("Acme")
+      .averageDeliveryTime(6)
+      .build();
+    SupplierProduct existing = SupplierProduct.builder()
+      .id(5L)
+      .supplierId(1L)
+      .productId(7)
+      .unitPrice(new BigDecimal("3.00"))
+      .packSize(6)
+      .build();
+    when(supplierRepository.findById(1L)).thenReturn(Optional.of(supplier));
+    when(productRepository.existsById(7)).thenReturn(true);
+    when(
+      supplierProductRepository.findBySupplierIdAndProductId(1L, 7)
+    ).thenReturn(Optional.of(existing));
+    when(supplierProductRepository.save(any(SupplierProduct.class))).then(
+      invocation -> invocation.getArgument(0)
+    );
+
+    SupplierProductInfo result = supplierProductService.save(
+      SupplierProductData.builder()
+        .supplierId(1L)
+        .productId(7)
+        .supplierSku("AC-7")
+        .unitPrice(new BigDecimal("2.75"))
+        .build()
+    );
+
+    assertEquals(5L, result.getId());
+    assertEquals(new BigDecimal("2.75"), result.getUnitPrice());
+    assertEquals(1, result.getPackSize());
+    assertEquals(6, result.getLeadTimeDays());
+    assertEquals("Acme", result.getSupplierName());
+    ArgumentCaptor<ResourceChangedEvent> captor = ArgumentCaptor.forClass(
+      ResourceChangedEvent.class
+    );
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertEquals(
+      SupplierProductService.RESOURCE,
+      captor.getValue().getResource()
+    );
+  }
+
+  @Test
+  void save_shouldThrowException_whenProductNotFound() {
+    when(supplierRepository.findById(1L)).thenReturn(
+      Optional.of(Supplier.builder().id(1L).build())
+    );
+    when(productRepository.existsById(99)).thenReturn(false);
+
+    EntityNotFoundException exception = assertThrows(
+      EntityNotFoundException.class,
+      () ->
+        supplierProductService.save(
+          SupplierProductData.builder()
+            .supplierId(1L)
+            .productId(99)
+            .unitPrice(BigDecimal.ONE)
+            .build()
+        )
+    );
+
+    assertEquals("Product not found with id: 99", exception.getMessage());
+    verify(supplierProductRepository, never()).save(any());
+  }
+
+  @Test
+  void delete_shouldThrowException_whenLineNotFound() {
+    when(supplierProductRepository.findById(99L)).thenReturn(Optional.empty());
+
+    assertThrows(EntityNotFoundException.class, () ->
+      supplierProductService.delete(99L)
+    );
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+}
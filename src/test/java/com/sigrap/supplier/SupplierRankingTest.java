@@ -0,0 +1,112 @@
+package com.sigrap.supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sigrap.common.ResourceChangedEvent;
+import com.sigrap.product.ProductChangedEvent;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SupplierRankingTest {
+
+  @Mock
+  private SupplierProductRepository supplierProductRepository;
+
+  @InjectMocks
+  private SupplierRanking supplierRanking;
+
+  @Test
+  void rebuild_shouldRankByPriceThenLeadTimeThenSupplier() {
+    when(supplierProductRepository.findOffers()).thenReturn(
+      List.of(
+        offer(1L, 10L, 1, "2.50", 5),
+        offer(2L, 20L, 1, "2.40", null),
+        offer(3L, 30L, 1, "2.40", 7),
+        offer(4L, 40L, 1, "2.40", 7),
+        offer(5L, 10L, 2, "9.00", 1)
+      )
+    );
+
+    supplierRanking.rebuild();
+
+    assertThat(supplierRanking.rank(1))
+      .extracting(SupplierProductInfo::getSupplierId)
+      .containsExactly(30L, 40L, 20L, 10L);
+    assertThat(supplierRanking.best(2))
+      .get()
+      .extracting(SupplierProductInfo::getUnitPrice)
+      .isEqualTo(new BigDecimal("9.00"));
+    assertThat(supplierRanking.rank(3)).isEmpty();
+    assertThat(supplierRanking.best(3)).isEmpty();
+    assertThat(supplierRanking.size()).isEqualTo(2);
+  }
+
+  @Test
+  void best_shouldReturnBestOfferPerListedProductInOrder() {
+    when(supplierProductRepository.findOffers()).thenReturn(
+      List.of(
+        offer(1L, 10L, 1, "2.50", 5),
+        offer(2L, 20L, 1, "2.00", 5),
+        offer(3L, 10L, 2, "9.00", 1)
+      )
+    );
+    supplierRanking.rebuild();
+
+    assertThat(supplierRanking.best(List.of(2, 3, 1)))
+      .containsOnlyKeys(2, 1)
+      .extractingFromEntries(entry -> entry.getValue().getSupplierId())
+      .containsExactly(10L, 20L);
+  }
+
+  @Test
+  void onResourceChanged_shouldRebuildOnlyForPriceListsAndSuppliers() {
+    when(supplierProductRepository.findOffers()).thenReturn(
+      List.<Object[]>of(offer(1L, 10L, 1, "2.50", 5))
+    );
+
+    supplierRanking.onResourceChanged(ResourceChangedEvent.of("customers"));
+    assertThat(supplierRanking.size()).isZero();
+
+    supplierRanking.onResourceChanged(
+      ResourceChangedEvent.of(SupplierProductService.RESOURCE)
+    );
+    assertThat(supplierRanking.size()).isEqualTo(1);
+  }
+
+  @Test
+  void onProductChanged_shouldIgnoreSingleProductChanges() {
+    supplierRanking.onProductChanged(ProductChangedEvent.of(1));
+
+    verify(supplierProductRepository, never()).findOffers();
+  }
+
+  private static Object[] offer(
+    Long id,
+    Long supplierId,
+    Integer productId,
+    String unitPrice,
+    Integer leadTimeDays
+  ) {
+    return new Object[] {
+      id,
+      supplierId,
+      "Supplier " + supplierId,
+      productId,
+      "SKU-" + id,
+      new BigDecimal(unitPrice),
+      1,
+      leadTimeDays,
+      LocalDateTime.of(2025, 6, 2, 10, 0),
+    };
+  }
+}
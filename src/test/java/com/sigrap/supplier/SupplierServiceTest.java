@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class SupplierServiceTest {
@@ -27,6 +28,12 @@ class SupplierServiceTest {
   @Mock
   private SupplierMapper supplierMapper;
 
+  @Mock
+  private SupplierProductRepository supplierProductRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private SupplierService supplierService;
 